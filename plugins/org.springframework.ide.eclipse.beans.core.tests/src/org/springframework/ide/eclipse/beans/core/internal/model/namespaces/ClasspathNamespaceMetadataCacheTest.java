@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.namespaces;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.ClasspathNamespaceMetadataCache.JarMetadata;
+
+/**
+ * Test case for the {@link ClasspathNamespaceMetadataCache}.
+ * @author agent
+ * @since 3.9.8
+ */
+public class ClasspathNamespaceMetadataCacheTest {
+
+	private static final String SCHEMA_LOCATION = "http://www.example.org/schema/test/test.xsd";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testJarMetadata() throws Exception {
+		File jar = createJar("test.jar", "http://www.example.org/schema/abcd");
+		ClasspathNamespaceMetadataCache cache = new ClasspathNamespaceMetadataCache(new File(folder.getRoot(), "state"));
+
+		JarMetadata metadata = cache.getJarMetadata(jar);
+		assertNotNull(metadata);
+		assertEquals("org/example/test.xsd", metadata.getProperties(
+				ProjectClasspathNamespaceDefinitionResolver.DEFAULT_SCHEMA_MAPPINGS_LOCATION).getProperty(SCHEMA_LOCATION));
+		assertEquals("org.example.TestNamespaceHandler", metadata.getProperties(
+				ProjectClasspathNamespaceDefinitionResolver.DEFAULT_HANDLER_MAPPINGS_LOCATION).getProperty(
+				"http://www.example.org/schema/abcd"));
+		assertNull(metadata.getProperties(ProjectClasspathNamespaceDefinitionResolver.DEFAULT_TOOLING_MAPPINGS_LOCATION));
+		assertTrue(metadata.containsXsd("org/example/test.xsd"));
+		assertFalse(metadata.containsXsd("org/example/other.xsd"));
+		assertEquals("http://www.example.org/schema/abcd", metadata.getTargetNamespace("org/example/test.xsd"));
+
+		assertSame(metadata, cache.getJarMetadata(jar));
+	}
+
+	@Test
+	public void testMetadataIsPersisted() throws Exception {
+		File state = new File(folder.getRoot(), "state");
+		File jar = createJar("test.jar", "http://www.example.org/schema/abcd");
+		long lastModified = jar.lastModified();
+
+		ClasspathNamespaceMetadataCache cache = new ClasspathNamespaceMetadataCache(state);
+		cache.getJarMetadata(jar);
+		cache.save();
+		assertTrue(state.isFile());
+
+		// Same size and modification time, so the jar is not scanned again
+		jar = createJar("test.jar", "http://www.example.org/schema/wxyz");
+		assertTrue(jar.setLastModified(lastModified));
+		cache = new ClasspathNamespaceMetadataCache(state);
+		assertEquals("http://www.example.org/schema/abcd", cache.getJarMetadata(jar).getTargetNamespace(
+				"org/example/test.xsd"));
+	}
+
+	@Test
+	public void testChangedJarIsScannedAgain() throws Exception {
+		File jar = createJar("test.jar", "http://www.example.org/schema/abcd");
+		ClasspathNamespaceMetadataCache cache = new ClasspathNamespaceMetadataCache(new File(folder.getRoot(), "state"));
+		assertEquals("http://www.example.org/schema/abcd", cache.getJarMetadata(jar).getTargetNamespace(
+				"org/example/test.xsd"));
+
+		long lastModified = jar.lastModified();
+		jar = createJar("test.jar", "http://www.example.org/schema/wxyz");
+		assertTrue(jar.setLastModified(lastModified + 10000));
+		assertEquals("http://www.example.org/schema/wxyz", cache.getJarMetadata(jar).getTargetNamespace(
+				"org/example/test.xsd"));
+	}
+
+	/**
+	 * Creates a jar with uncompressed entries, so that jars with namespaces of the same length have the same size.
+	 */
+	private File createJar(String name, String namespace) throws Exception {
+		File jar = new File(folder.getRoot(), name);
+		ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar));
+		try {
+			addEntry(out, "META-INF/spring.schemas", SCHEMA_LOCATION.replace(":", "\\:") + "=org/example/test.xsd\n");
+			addEntry(out, "META-INF/spring.handlers", namespace.replace(":", "\\:")
+					+ "=org.example.TestNamespaceHandler\n");
+			addEntry(out, "org/example/test.xsd", "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+					+ "<xsd:schema xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"" + namespace
+					+ "\"/>\n");
+		}
+		finally {
+			out.close();
+		}
+		return jar;
+	}
+
+	private void addEntry(ZipOutputStream out, String name, String content) throws Exception {
+		byte[] bytes = content.getBytes("UTF-8");
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		ZipEntry entry = new ZipEntry(name);
+		entry.setMethod(ZipEntry.STORED);
+		entry.setSize(bytes.length);
+		entry.setCompressedSize(bytes.length);
+		entry.setCrc(crc.getValue());
+		// fixed entry time keeps the jar contents independent of when it was written
+		entry.setTime(0);
+		out.putNextEntry(entry);
+		out.write(bytes);
+		out.closeEntry();
+	}
+
+}
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.beans.core.tests.BeansCoreTestCase;
+import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinition;
+import org.springframework.ide.eclipse.core.model.validation.AbstractValidator;
+import org.springframework.ide.eclipse.core.model.validation.IValidationProblemMarker;
+import org.springframework.ide.eclipse.core.model.validation.IValidationRule;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+/**
+ * Test case for running the thread-safe validation rules of the {@link AbstractValidator} concurrently. The markers
+ * of the concurrent runs are compared with the ones of a sequential run of the same rules.
+ * @author agent
+ * @since 3.9.8
+ */
+public class ConcurrentValidationTest extends BeansCoreTestCase {
+
+	private static final String VALIDATOR_ID = BeansCorePlugin.PLUGIN_ID + ".beansvalidator";
+
+	private static final String MARKER_ID = BeansCorePlugin.PLUGIN_ID + ".problemmarker";
+
+	private IProject project;
+
+	@Before
+	public void setUp() throws Exception {
+		// the concurrent path is only taken with more than one processor
+		Assume.assumeTrue(Runtime.getRuntime().availableProcessors() > 1);
+		project = createPredefinedProject("validation");
+		for (IBeansConfig config : BeansCorePlugin.getModel().getProject(project).getConfigs()) {
+			StsTestUtil.waitForResource(config.getElementResource());
+		}
+	}
+
+	@Test
+	public void testConcurrentMarkersMatchSequentialMarkers() throws Exception {
+		List<String> sequential = validate(new TestValidator(false), new NullProgressMonitor());
+		assertFalse(sequential.isEmpty());
+
+		// with only thread-safe rules the problems of each element are reported in the same order
+		assertEquals(sequential, validate(new TestValidator(true), new NullProgressMonitor()));
+		assertEquals(sequential, validate(new TestValidator(true), new NullProgressMonitor()));
+
+		// with the declared rules the problems of the other rules come first for each element
+		List<String> mixed = validate(new TestValidator(null), new NullProgressMonitor());
+		assertEquals(new HashSet<String>(sequential), new HashSet<String>(mixed));
+		assertEquals(mixed, validate(new TestValidator(null), new NullProgressMonitor()));
+	}
+
+	@Test
+	public void testCancellation() throws Exception {
+		List<String> expected = validate(new TestValidator(null), new NullProgressMonitor());
+
+		IProgressMonitor monitor = new NullProgressMonitor() {
+
+			@Override
+			public void subTask(String name) {
+				if (name.contains("Validating element")) {
+					setCanceled(true);
+				}
+			}
+		};
+		try {
+			validate(new TestValidator(null), monitor);
+			fail("Validation not canceled");
+		}
+		catch (OperationCanceledException e) {
+			// expected
+		}
+
+		// the pool is not left busy with the canceled validation
+		assertEquals(expected, validate(new TestValidator(null), new NullProgressMonitor()));
+	}
+
+	/**
+	 * Validates all configs of the project with the given validator and returns the created markers in the order of
+	 * their creation.
+	 */
+	private List<String> validate(TestValidator validator, IProgressMonitor monitor) throws CoreException {
+		Set<IResource> resources = new LinkedHashSet<IResource>();
+		for (IBeansConfig config : BeansCorePlugin.getModel().getProject(project).getConfigs()) {
+			resources.addAll(validator.getAffectedResources(config.getElementResource(),
+					IncrementalProjectBuilder.FULL_BUILD, IResourceDelta.CHANGED));
+		}
+		assertTrue(resources.size() > 1);
+		validator.validate(resources, IncrementalProjectBuilder.FULL_BUILD, monitor);
+
+		List<String> markers = new ArrayList<String>();
+		for (IResource resource : resources) {
+			IMarker[] resourceMarkers = resource.findMarkers(MARKER_ID, false, IResource.DEPTH_ZERO);
+			Arrays.sort(resourceMarkers, new Comparator<IMarker>() {
+
+				public int compare(IMarker marker, IMarker otherMarker) {
+					return Long.valueOf(marker.getId()).compareTo(otherMarker.getId());
+				}
+			});
+			for (IMarker marker : resourceMarkers) {
+				markers.add(resource.getName() + ":" + marker.getAttribute(IMarker.LINE_NUMBER, -1) + ":"
+						+ marker.getAttribute(IMarker.SEVERITY, -1) + ":"
+						+ marker.getAttribute(IValidationProblemMarker.RULE_ID, "") + ":"
+						+ marker.getAttribute(IMarker.MESSAGE, ""));
+			}
+		}
+		return markers;
+	}
+
+	/**
+	 * Validates with the enabled rules of the beans validator, treating them as thread-safe or not as requested.
+	 */
+	private static class TestValidator extends BeansConfigValidator {
+
+		private final Boolean threadSafe;
+
+		/**
+		 * @param threadSafe whether to run all rules as thread-safe rules, or <code>null</code> to use their
+		 * declarations
+		 */
+		public TestValidator(Boolean threadSafe) {
+			this.threadSafe = threadSafe;
+			setValidatorId(VALIDATOR_ID);
+			setMarkerId(MARKER_ID);
+		}
+
+		@Override
+		protected Set<ValidationRuleDefinition> getRuleDefinitions(IResource resource) {
+			Set<ValidationRuleDefinition> ruleDefinitions = new LinkedHashSet<ValidationRuleDefinition>();
+			for (ValidationRuleDefinition ruleDefinition : super.getRuleDefinitions(resource)) {
+				ruleDefinitions.add(new DelegatingRuleDefinition(ruleDefinition,
+						threadSafe != null ? threadSafe : ruleDefinition.isThreadSafe()));
+			}
+			return ruleDefinitions;
+		}
+	}
+
+	private static class DelegatingRuleDefinition extends ValidationRuleDefinition {
+
+		private final ValidationRuleDefinition delegate;
+
+		private final boolean threadSafe;
+
+		public DelegatingRuleDefinition(ValidationRuleDefinition delegate, boolean threadSafe) {
+			super(delegate.getValidatorId(), delegate.getId(), delegate.getName(), delegate.getDescription());
+			this.delegate = delegate;
+			this.threadSafe = threadSafe;
+		}
+
+		@Override
+		public boolean isThreadSafe() {
+			return threadSafe;
+		}
+
+		@Override
+		public synchronized IValidationRule getRule() {
+			return delegate.getRule();
+		}
+
+		@Override
+		public Map<String, String> getDefaultPropertyValues() {
+			return delegate.getDefaultPropertyValues();
+		}
+
+		@Override
+		public Map<String, Integer> getDefaultMessageSeverities() {
+			return delegate.getDefaultMessageSeverities();
+		}
+
+		@Override
+		public synchronized Map<String, String> getPropertyValues() {
+			return delegate.getPropertyValues();
+		}
+
+		@Override
+		public synchronized Map<String, Integer> getMessageSeverities() {
+			return delegate.getMessageSeverities();
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+	}
+
+}
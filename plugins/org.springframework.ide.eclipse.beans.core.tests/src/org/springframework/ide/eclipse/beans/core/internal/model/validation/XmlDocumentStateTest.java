@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.beans.core.tests.BeansCoreTestCase;
+import org.springframework.ide.eclipse.core.io.xml.LineNumberPreservingDOMParser;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Test case for the {@link XmlDocumentState}.
+ * @author agent
+ * @since 3.9.8
+ */
+public class XmlDocumentStateTest extends BeansCoreTestCase {
+
+	private IResource resource;
+
+	@Before
+	public void setUp() throws Exception {
+		resource = createPredefinedProjectAndGetResource("validation", "src/sts-385.xml");
+		StsTestUtil.waitForResource(resource);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		resource.getProject().delete(true, null);
+	}
+
+	@Test
+	public void testDocumentIsParsedOnce() throws Exception {
+		XmlDocumentState state = new XmlDocumentState();
+		Document document = state.getDocument((IFile) resource);
+		assertNotNull(document);
+		assertSame(document, state.getDocument((IFile) resource));
+	}
+
+	@Test
+	public void testOnlyCurrentDocumentIsKept() throws Exception {
+		XmlDocumentState state = new XmlDocumentState();
+		Document document = state.getDocument((IFile) resource);
+		IFile other = resource.getProject().getFile("src/ide-771.xml");
+		assertEquals("beans", state.getDocument(other).getDocumentElement().getLocalName());
+		assertNotSame(document, state.getDocument((IFile) resource));
+	}
+
+	@Test
+	public void testNamespacesAndLineNumbers() throws Exception {
+		Document document = new XmlDocumentState().getDocument((IFile) resource);
+		Element root = document.getDocumentElement();
+		assertEquals("http://www.springframework.org/schema/beans", root.getNamespaceURI());
+		assertEquals("beans", root.getLocalName());
+
+		Element bean = (Element) root.getElementsByTagNameNS("http://www.springframework.org/schema/beans", "bean").item(0);
+		assertEquals("target1", bean.getAttribute("id"));
+		assertEquals(11, LineNumberPreservingDOMParser.getStartLineNumber(bean));
+
+		Element list = (Element) root.getElementsByTagNameNS("http://www.springframework.org/schema/util", "list").item(1);
+		assertEquals("test2", list.getAttribute("id"));
+		assertEquals(14, LineNumberPreservingDOMParser.getStartLineNumber(list));
+	}
+
+	@Test
+	public void testLineNumbersFromOtherThread() throws Exception {
+		Document document = new XmlDocumentState().getDocument((IFile) resource);
+		final Element bean = (Element) document.getElementsByTagNameNS("http://www.springframework.org/schema/beans", "bean").item(0);
+		final int[] line = { -1 };
+		Thread thread = new Thread() {
+			@Override
+			public void run() {
+				line[0] = LineNumberPreservingDOMParser.getStartLineNumber(bean);
+			}
+		};
+		thread.start();
+		thread.join();
+		assertEquals(11, line[0]);
+	}
+
+}
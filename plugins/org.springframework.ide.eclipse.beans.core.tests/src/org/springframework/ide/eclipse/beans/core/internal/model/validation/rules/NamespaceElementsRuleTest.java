@@ -10,14 +10,17 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.beans.core.internal.model.validation.rules;
 
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Set;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.wst.sse.core.StructuredModelManager;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -88,4 +91,15 @@ public class NamespaceElementsRuleTest extends BeansCoreTestCase {
 		assertTrue(markers.length >= 8);
 		MarkerAssertion.assertMarker(markers, assertions);
 	}
+
+	@Test
+	public void testToolAnnotationRefInClosedFile() throws Exception {
+		// Tool annotations need the content model which the parsed dom of closed files doesn't have
+		assertNull(StructuredModelManager.getModelManager().getExistingModelForRead((IFile) resource));
+
+		IMarker[] markers = resource.findMarkers(BeansCorePlugin.PLUGIN_ID + ".problemmarker", false,
+				IResource.DEPTH_ZERO);
+		MarkerAssertion.assertMarker(markers, new MarkerAssertion[] {
+				new MarkerAssertion("Referenced bean 'target2' not found", 21, IMarker.SEVERITY_WARNING) });
+	}
 }
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.model.locate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.Test;
+
+/**
+ * Test case for the {@link XmlRootNamespaceScanner}.
+ * @author agent
+ * @since 3.9.8
+ */
+public class XmlRootNamespaceScannerTest {
+
+	@Test
+	public void testNamespacedRootElement() throws Exception {
+		assertEquals("http://www.springframework.org/schema/beans", scan("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<beans xmlns=\"http://www.springframework.org/schema/beans\"><bean id=\"a\"/></beans>"));
+	}
+
+	@Test
+	public void testPrefixedRootElement() throws Exception {
+		assertEquals("http://www.springframework.org/schema/beans", scan(
+				"<b:beans xmlns:b=\"http://www.springframework.org/schema/beans\"/>"));
+	}
+
+	@Test
+	public void testRootElementWithoutNamespace() throws Exception {
+		assertEquals(XmlRootNamespaceScanner.NO_NAMESPACE, scan("<web-app><display-name>test</display-name></web-app>"));
+	}
+
+	@Test
+	public void testDtdIsNotLoaded() throws Exception {
+		assertEquals(XmlRootNamespaceScanner.NO_NAMESPACE, scan("<?xml version=\"1.0\"?>\n"
+				+ "<!DOCTYPE beans PUBLIC \"-//SPRING//DTD BEAN 2.0//EN\" \"http://localhost:1/spring-beans-2.0.dtd\">\n"
+				+ "<beans/>"));
+	}
+
+	@Test
+	public void testOnlyHeadIsRead() throws Exception {
+		StringBuilder content = new StringBuilder("<beans xmlns=\"http://www.springframework.org/schema/beans\">");
+		while (content.length() < 2 * XmlRootNamespaceScanner.MAX_SCANNED_BYTES) {
+			content.append("<bean id=\"a\"/>");
+		}
+		// the truncated rest of the document does not matter
+		assertEquals("http://www.springframework.org/schema/beans", scan(content.toString()));
+	}
+
+	@Test
+	public void testRootElementBeyondHead() throws Exception {
+		StringBuilder content = new StringBuilder("<!--");
+		while (content.length() < 2 * XmlRootNamespaceScanner.MAX_SCANNED_BYTES) {
+			content.append(" comment");
+		}
+		content.append(" --><beans xmlns=\"http://www.springframework.org/schema/beans\"/>");
+		assertNull(scan(content.toString()));
+	}
+
+	@Test
+	public void testNoXml() throws Exception {
+		assertNull(scan("key=value"));
+	}
+
+	private String scan(String content) throws Exception {
+		return XmlRootNamespaceScanner.getRootNamespace(new ByteArrayInputStream(content.getBytes("UTF-8")));
+	}
+
+}
@@ -18,7 +18,10 @@ import org.springframework.ide.core.classreading.tests.JdtBasedAnnotationMetadat
 import org.springframework.ide.core.classreading.tests.JdtClassMetadataTest;
 import org.springframework.ide.eclipse.beans.core.autowire.AutowireDependencyProviderTest;
 import org.springframework.ide.eclipse.beans.core.autowire.CommonAnnotationInjectionMetadataProviderTests;
+import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.ClasspathNamespaceMetadataCacheTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.resources.tests.ResourceChangeEventHandlerTest;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.ConcurrentValidationTest;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.XmlDocumentStateTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanClassRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanConstructorArgumentRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanConstructorArgumentRulesAutowireTest;
@@ -30,6 +33,7 @@ import org.springframework.ide.eclipse.beans.core.internal.model.validation.rule
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.BeanReferenceRuleWithConfigSetTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.NamespaceElementsRuleTest;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.rules.RequiredPropertyRuleTest;
+import org.springframework.ide.eclipse.beans.core.model.locate.XmlRootNamespaceScannerTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansProjectAutoConfigTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansProjectDescriptionWriterTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansConfigFactoryTest;
@@ -38,8 +42,10 @@ import org.springframework.ide.eclipse.beans.core.model.tests.BeansJavaConfigTes
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansModelUtilsTest;
 import org.springframework.ide.eclipse.beans.core.model.tests.BeansProjectTest;
 import org.springframework.ide.eclipse.beans.ui.refactoring.tests.BeansJavaConfigRenameTypeRefactoringParticipantTest;
+import org.springframework.ide.eclipse.core.io.xml.SharedSchemaGrammarPoolTest;
 import org.springframework.ide.eclipse.core.java.IntrospectorTest;
 import org.springframework.ide.eclipse.core.java.JdtUtilsTest;
+import org.springframework.ide.eclipse.core.java.LineOffsetCacheTest;
 import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
 
 /**
@@ -64,8 +70,13 @@ import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
 	BeanReferenceRuleWithConfigSetTest.class,
 	BeanReferenceRuleWithConfigSetAndProfileTest.class,
 	NamespaceElementsRuleTest.class,
+	XmlDocumentStateTest.class,
+	ConcurrentValidationTest.class,
+	SharedSchemaGrammarPoolTest.class,
+	ClasspathNamespaceMetadataCacheTest.class,
 	IntrospectorTest.class,
 	JdtUtilsTest.class,
+	LineOffsetCacheTest.class,
 	AutowireDependencyProviderTest.class,
 	CommonAnnotationInjectionMetadataProviderTests.class,
 	JdtAnnotationMetadataTest.class,
@@ -76,6 +87,7 @@ import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
 	BeansConfigFactoryTest.class,
 	BeansProjectTest.class,
 	BeansProjectAutoConfigTest.class,
+	XmlRootNamespaceScannerTest.class,
 	BeansProjectDescriptionWriterTest.class,
 	BeansJavaConfigRenameTypeRefactoringParticipantTest.class,
 	ResourceChangeEventHandlerTest.class,
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.io.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.w3c.dom.Document;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Test case for the {@link SharedSchemaGrammarPool}.
+ * @author agent
+ * @since 3.9.8
+ */
+public class SharedSchemaGrammarPoolTest {
+
+	private static final String SCHEMA_LOCATION = "http://www.example.org/schema/test/test.xsd";
+
+	private static final String DOCUMENT = "<root xmlns=\"urn:test\" "
+			+ "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" "
+			+ "xsi:schemaLocation=\"urn:test " + SCHEMA_LOCATION + "\"/>";
+
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	@Before
+	public void setUp() {
+		SharedSchemaGrammarPool.clearAll();
+	}
+
+	@Test
+	public void testSchemaIsCompiledOnce() throws Exception {
+		CountingEntityResolver resolver = new CountingEntityResolver("first");
+
+		assertEquals("first", parse(resolver));
+		// The pool resolves the schema once to compute its key, Xerces resolves it for compilation
+		assertEquals(2, resolver.count);
+
+		resolver.count = 0;
+		assertEquals("first", parse(resolver));
+		assertEquals(1, resolver.count);
+	}
+
+	@Test
+	public void testDifferentSchemaContentIsNotShared() throws Exception {
+		assertEquals("first", parse(new CountingEntityResolver("first")));
+		assertEquals("second", parse(new CountingEntityResolver("second")));
+		assertEquals("first", parse(new CountingEntityResolver("first")));
+	}
+
+	@Test
+	public void testChecksumOfFileIsCached() throws Exception {
+		File xsd = tmp.newFile("test.xsd");
+		write(xsd, schema("first"));
+		FileEntityResolver resolver = new FileEntityResolver(xsd);
+
+		assertEquals("first", parse(resolver));
+		assertTrue(resolver.read > 0);
+
+		// A new pool reuses the checksum and the grammar, so the XSD isn't read at all
+		resolver.read = 0;
+		assertEquals("first", parse(resolver));
+		assertEquals(0, resolver.read);
+
+		write(xsd, schema("second"));
+		assertTrue(xsd.setLastModified(xsd.lastModified() + 2000));
+		assertEquals("second", parse(resolver));
+	}
+
+	private String parse(EntityResolver resolver) throws Exception {
+		Document document = new XercesDocumentLoader().loadDocument(new InputSource(new StringReader(DOCUMENT)),
+				resolver, new FailingErrorHandler(), XmlBeanDefinitionReader.VALIDATION_XSD, true);
+		return document.getDocumentElement().getAttribute("value");
+	}
+
+	/**
+	 * Resolves the test schema to an XSD that declares the given default value for the <code>value</code>
+	 * attribute.
+	 */
+	private static class CountingEntityResolver implements EntityResolver {
+
+		private final String defaultValue;
+
+		private int count = 0;
+
+		public CountingEntityResolver(String defaultValue) {
+			this.defaultValue = defaultValue;
+		}
+
+		public InputSource resolveEntity(String publicId, String systemId) {
+			if (!SCHEMA_LOCATION.equals(systemId)) {
+				return null;
+			}
+			count++;
+			InputSource inputSource = new InputSource(new StringReader(schema(defaultValue)));
+			inputSource.setSystemId(systemId);
+			return inputSource;
+		}
+	}
+
+	/**
+	 * Resolves the test schema to an XSD file and counts the bytes read from it.
+	 */
+	private static class FileEntityResolver implements EntityResolver {
+
+		private final File file;
+
+		private int read = 0;
+
+		public FileEntityResolver(File file) {
+			this.file = file;
+		}
+
+		public InputSource resolveEntity(String publicId, String systemId) throws IOException {
+			if (!SCHEMA_LOCATION.equals(systemId)) {
+				return null;
+			}
+			InputStream stream = new FilterInputStream(new FileInputStream(file)) {
+
+				@Override
+				public int read() throws IOException {
+					int b = super.read();
+					if (b != -1) {
+						read++;
+					}
+					return b;
+				}
+
+				@Override
+				public int read(byte[] buffer, int offset, int length) throws IOException {
+					int count = super.read(buffer, offset, length);
+					if (count > 0) {
+						read += count;
+					}
+					return count;
+				}
+			};
+			InputSource inputSource = new InputSource(stream);
+			inputSource.setSystemId(file.toURI().toString());
+			return inputSource;
+		}
+	}
+
+	private static void write(File file, String content) throws IOException {
+		OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(content.getBytes("UTF-8"));
+		}
+		finally {
+			stream.close();
+		}
+	}
+
+	/**
+	 * Returns an XSD that declares the given default value for the <code>value</code> attribute.
+	 */
+	private static String schema(String defaultValue) {
+		return "<xsd:schema xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"urn:test\">"
+				+ "<xsd:element name=\"root\"><xsd:complexType>"
+				+ "<xsd:attribute name=\"value\" default=\"" + defaultValue + "\"/>"
+				+ "</xsd:complexType></xsd:element></xsd:schema>";
+	}
+
+	private static class FailingErrorHandler implements ErrorHandler {
+
+		public void warning(SAXParseException exception) throws SAXException {
+		}
+
+		public void error(SAXParseException exception) throws SAXException {
+			throw exception;
+		}
+
+		public void fatalError(SAXParseException exception) throws SAXException {
+			throw exception;
+		}
+	}
+
+}
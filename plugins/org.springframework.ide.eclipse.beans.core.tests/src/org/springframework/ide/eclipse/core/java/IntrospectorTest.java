@@ -191,6 +191,21 @@ public class IntrospectorTest {
 		checkResult(methods, 20);
 	}
 
+	@Test
+	public void testMethodTablesAreCached() throws CoreException, IOException {
+		project = StsTestUtil.createPredefinedProject("validation", "org.springframework.ide.eclipse.beans.core.tests");
+		IType foo = JdtUtils.getJavaType(project, "org.springframework.SubClass");
+		MemberTableCache.clear();
+		MemberTableCache.resetStatistics();
+
+		checkResult(Introspector.getAllMethods(foo), 24);
+		assertEquals(1, MemberTableCache.getMissCount());
+		checkResult(Introspector.findAllMethods(foo, "set", 1, Public.YES, Static.NO), 2);
+		checkResult(Introspector.findAllMethods(foo, "", -1, Public.NO, Static.YES), 4);
+		assertEquals(1, MemberTableCache.getMissCount());
+		assertEquals(2, MemberTableCache.getHitCount());
+	}
+
 	@Test
 	public void testFindSpecificMethod() throws CoreException, IOException {
 		project = StsTestUtil.createPredefinedProject("validation", "org.springframework.ide.eclipse.beans.core.tests");
@@ -12,6 +12,7 @@ package org.springframework.ide.eclipse.core.java;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.core.resources.IProject;
@@ -60,6 +61,32 @@ public class JdtUtilsTest {
 		assertEquals("find.type.tests.SourceLevelType", type.getFullyQualifiedName());
 	}
 
+	@Test
+	public void testGetJavaTypeIsCached() {
+		IType type = JdtUtils.getJavaType(project, "find.type.tests.SourceLevelType");
+		assertNotNull(type);
+		assertNull(JdtUtils.getJavaType(project, "find.type.tests.DoesNotExist"));
+
+		long hits = JavaTypeCache.getHitCount();
+		long negativeHits = JavaTypeCache.getNegativeHitCount();
+		long misses = JavaTypeCache.getMissCount();
+		assertEquals(type, JdtUtils.getJavaType(project, "find.type.tests.SourceLevelType"));
+		assertNull(JdtUtils.getJavaType(project, "find.type.tests.DoesNotExist"));
+		assertEquals(hits + 1, JavaTypeCache.getHitCount());
+		assertEquals(negativeHits + 1, JavaTypeCache.getNegativeHitCount());
+		assertEquals(misses, JavaTypeCache.getMissCount());
+	}
+
+	@Test
+	public void testGetLineNumber() throws Exception {
+		IType type = JdtUtils.getJavaType(project, "find.type.tests.SourceLevelType");
+		assertEquals(6, JdtUtils.getLineNumber(type));
+		assertEquals(8, JdtUtils.getLineNumber(type.getType("SourceLevelInnerType")));
+		assertEquals(11, JdtUtils.getLineNumber(type.getMethod("foo", new String[0])));
+		// answered from the cached line offsets
+		assertEquals(11, JdtUtils.getLineNumber(type.getMethod("foo", new String[0])));
+	}
+
 	@Test
 	public void testGetJavaSourceNamedInnerType() {
 		IType type = JdtUtils.getJavaType(project, "find.type.tests.SourceLevelType$SourceLevelInnerType");
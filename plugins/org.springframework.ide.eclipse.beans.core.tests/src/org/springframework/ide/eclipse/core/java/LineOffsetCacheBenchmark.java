@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Benchmark for looking up the line numbers of 2,000 offsets in a class with 5,000 lines, through the line offsets of
+ * the {@link LineOffsetCache} and by counting the newlines up to each offset, as
+ * {@link JdtUtils#getLineNumber(org.eclipse.jdt.core.IJavaElement)} did before. The timings are printed to the
+ * console; that output is the result of the benchmark, the assertions only check that both ways agree. Not part of
+ * {@link org.springframework.ide.eclipse.beans.core.tests.AllBeansCoreTests}; run it on its own.
+ * @author agent
+ * @since 3.9.8
+ */
+public class LineOffsetCacheBenchmark {
+
+	@Test
+	public void benchmarkLargeClass() {
+		StringBuilder builder = new StringBuilder("public class Large {\n");
+		for (int i = 0; i < 4998; i++) {
+			builder.append("\tpublic void method").append(i).append("() {}\n");
+		}
+		String source = builder.append("}\n").toString();
+
+		Random random = new Random(42);
+		int[] offsets = new int[2000];
+		for (int i = 0; i < offsets.length; i++) {
+			offsets[i] = random.nextInt(source.length());
+		}
+
+		long start = System.nanoTime();
+		long countedLines = 0;
+		for (int offset : offsets) {
+			countedLines += LineOffsetCacheTest.countLines(source, offset);
+		}
+		long countingNanos = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		long lookedUpLines = 0;
+		int[] lineOffsets = LineOffsetCache.computeLineOffsets(source);
+		for (int offset : offsets) {
+			lookedUpLines += LineOffsetCache.getLineNumber(lineOffsets, offset);
+		}
+		long lookupNanos = System.nanoTime() - start;
+
+		assertEquals(5001, lineOffsets.length);
+		assertEquals(countedLines, lookedUpLines);
+		System.out.println(String.format("Line numbers of %,d offsets in a 5,000 line class: counting %,d us, "
+				+ "line offsets %,d us", offsets.length, countingNanos / 1000, lookupNanos / 1000));
+	}
+
+}
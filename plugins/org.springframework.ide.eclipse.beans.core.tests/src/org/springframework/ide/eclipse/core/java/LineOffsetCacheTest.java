@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test case for the line offsets of the {@link LineOffsetCache}.
+ * @author agent
+ * @since 3.9.8
+ */
+public class LineOffsetCacheTest {
+
+	@Test
+	public void testLineOffsets() {
+		assertArrayEquals(new int[] { 0 }, LineOffsetCache.computeLineOffsets(""));
+		assertArrayEquals(new int[] { 0, 1 }, LineOffsetCache.computeLineOffsets("\n"));
+		assertArrayEquals(new int[] { 0, 4, 5 }, LineOffsetCache.computeLineOffsets("abc\n\nd"));
+		assertArrayEquals(new int[] { 0, 5 }, LineOffsetCache.computeLineOffsets("abc\r\nd"));
+	}
+
+	@Test
+	public void testLineNumbersMatchCountedNewlines() {
+		String[] sources = { "", "\n", "a\nb", "\n\n\nx\n", "class A {\r\n\tvoid a() {}\r\n}\r\n" };
+		for (String source : sources) {
+			int[] lineOffsets = LineOffsetCache.computeLineOffsets(source);
+			for (int offset = 0; offset <= source.length(); offset++) {
+				assertEquals(source + "@" + offset, countLines(source, offset),
+						LineOffsetCache.getLineNumber(lineOffsets, offset));
+			}
+		}
+	}
+
+	/**
+	 * Compares the lookup through the offsets with counting the newlines of the source up to the offset, as
+	 * {@link JdtUtils#getLineNumber(org.eclipse.jdt.core.IJavaElement)} did before, on a class with 5,000 lines.
+	 */
+	@Test
+	public void testLargeClass() {
+		StringBuilder builder = new StringBuilder("public class Large {\n");
+		for (int i = 0; i < 4998; i++) {
+			builder.append("\tpublic void method").append(i).append("() {}\n");
+		}
+		String source = builder.append("}\n").toString();
+		int[] lineOffsets = LineOffsetCache.computeLineOffsets(source);
+
+		assertEquals(5001, lineOffsets.length);
+		assertEquals(1, LineOffsetCache.getLineNumber(lineOffsets, 0));
+		assertEquals(5000, LineOffsetCache.getLineNumber(lineOffsets, source.length() - 1));
+		assertEquals(5001, LineOffsetCache.getLineNumber(lineOffsets, source.length()));
+
+		Random random = new Random(42);
+		for (int i = 0; i < 2000; i++) {
+			int offset = random.nextInt(source.length());
+			assertEquals("@" + offset, countLines(source, offset), LineOffsetCache.getLineNumber(lineOffsets, offset));
+		}
+	}
+
+	/**
+	 * The former implementation of {@link JdtUtils#getLineNumber(org.eclipse.jdt.core.IJavaElement)}.
+	 */
+	static int countLines(String source, int offset) {
+		String sourceUpToOffset = source.substring(0, offset);
+		char[] chars = new char[sourceUpToOffset.length()];
+		sourceUpToOffset.getChars(0, sourceUpToOffset.length(), chars, 0);
+		int lines = 0;
+		for (char c : chars) {
+			if (c == '\n') {
+				lines++;
+			}
+		}
+		return lines + 1;
+	}
+
+}
@@ -46,11 +46,13 @@ import org.osgi.service.url.URLConstants;
 import org.osgi.service.url.URLStreamHandlerService;
 import org.springframework.beans.factory.xml.NamespaceHandlerResolver;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModel;
+import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.ClasspathNamespaceMetadataCache;
 import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.NamespaceManager;
 import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.ProjectClasspathNamespaceDefinitionResolverCache;
 import org.springframework.ide.eclipse.beans.core.model.IBeansModel;
 import org.springframework.ide.eclipse.beans.core.model.INamespaceDefinitionListener;
 import org.springframework.ide.eclipse.beans.core.model.INamespaceDefinitionResolver;
+import org.springframework.ide.eclipse.beans.core.model.locate.XmlRootNamespaceScanner;
 import org.springframework.ide.eclipse.core.MessageUtils;
 
 /**
@@ -211,6 +213,8 @@ public class BeansCorePlugin extends AbstractUIPlugin {
 			isClosed = true;
 		}
 		model.stop();
+		ClasspathNamespaceMetadataCache.shutdown();
+		XmlRootNamespaceScanner.clearCache();
 		if (projectAwareUrlService != null) {
 			projectAwareUrlService.unregister();
 		}
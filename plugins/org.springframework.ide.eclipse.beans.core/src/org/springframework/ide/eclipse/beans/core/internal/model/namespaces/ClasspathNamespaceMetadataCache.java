@@ -0,0 +1,516 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.namespaces;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.resources.IProject;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.java.ProjectClassLoaderCache;
+
+/**
+ * Workspace-wide cache of the namespace metadata contained in the jars on project classpaths: the contents of the
+ * <code>META-INF/spring.schemas</code>, <code>META-INF/spring.handlers</code> and
+ * <code>META-INF/spring.tooling</code> files and the target namespaces of the XSDs that are mapped in the
+ * <code>spring.schemas</code> file of a jar.
+ * <p>
+ * Entries are keyed by the location of a jar and are only valid as long as its size and modification time don't
+ * change. Projects that share jars (e.g. from the local maven repository) therefore open every jar only once. The
+ * cache is persisted in the state location of the beans core plugin so that jars are not scanned again after a
+ * restart. Folders on the classpath (source and output folders) change frequently and are always read directly.
+ * @author agent
+ * @since 3.9.8
+ */
+public class ClasspathNamespaceMetadataCache {
+
+	private static final String STATE_FILE_NAME = "namespace-metadata.dat";
+
+	private static ClasspathNamespaceMetadataCache instance;
+
+	/**
+	 * Returns the shared instance, loading the persisted metadata on first access.
+	 */
+	public static synchronized ClasspathNamespaceMetadataCache getInstance() {
+		if (instance == null) {
+			instance = new ClasspathNamespaceMetadataCache(BeansCorePlugin.getDefault().getStateLocation()
+					.append(STATE_FILE_NAME).toFile());
+		}
+		return instance;
+	}
+
+	/**
+	 * Persists the shared instance (if it was ever used) and releases it.
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			instance.save();
+			instance = null;
+		}
+	}
+
+	private final File stateFile;
+
+	/** Metadata per absolute jar path */
+	private final Map<String, JarMetadata> jars = new ConcurrentHashMap<String, JarMetadata>();
+
+	private volatile boolean dirty = false;
+
+	/**
+	 * Creates a cache that is persisted in the given file.
+	 */
+	public ClasspathNamespaceMetadataCache(File stateFile) {
+		this.stateFile = stateFile;
+		load();
+	}
+
+	/**
+	 * Returns the merged namespace metadata of the classpath of the given project.
+	 */
+	public ClasspathMetadata getMetadata(IProject project) {
+		List<URL> urls = ProjectClassLoaderCache.getClassPathUrls(project, null);
+
+		// Same lookup order as the project classloader: jars are loaded by the parent of the loader for folders
+		List<ClasspathEntryMetadata> jarEntries = new ArrayList<ClasspathEntryMetadata>();
+		List<ClasspathEntryMetadata> folderEntries = new ArrayList<ClasspathEntryMetadata>();
+		for (URL url : urls) {
+			File file = toFile(url);
+			if (file == null) {
+				continue;
+			}
+			if (file.isFile()) {
+				JarMetadata jar = getJarMetadata(file);
+				if (jar != null) {
+					jarEntries.add(jar);
+				}
+			}
+			else if (file.isDirectory()) {
+				folderEntries.add(new FolderMetadata(file));
+			}
+		}
+
+		List<ClasspathEntryMetadata> entries = new ArrayList<ClasspathEntryMetadata>();
+		entries.add(new ClassLoaderMetadata(JdtUtils.getClassLoader(null, null)));
+		entries.addAll(jarEntries);
+		entries.addAll(folderEntries);
+		return new ClasspathMetadata(project, entries);
+	}
+
+	/**
+	 * Returns the metadata of the given jar, scanning the jar only if it is not cached or has changed since it was
+	 * scanned.
+	 * @return the metadata or <code>null</code> if the jar can't be read
+	 */
+	public JarMetadata getJarMetadata(File jar) {
+		String key = jar.getAbsolutePath();
+		long length = jar.length();
+		long lastModified = jar.lastModified();
+
+		JarMetadata metadata = jars.get(key);
+		if (metadata != null && metadata.matches(length, lastModified)) {
+			return metadata;
+		}
+
+		try {
+			metadata = JarMetadata.scan(jar, length, lastModified);
+			jars.put(key, metadata);
+			dirty = true;
+			return metadata;
+		}
+		catch (IOException e) {
+			BeansCorePlugin.logAsWarning(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Discards all cached metadata.
+	 */
+	public void clear() {
+		jars.clear();
+		dirty = true;
+	}
+
+	/**
+	 * Writes the cached metadata to the state file if it has changed. Entries of jars that no longer exist are
+	 * dropped.
+	 */
+	public synchronized void save() {
+		if (!dirty) {
+			return;
+		}
+		for (Iterator<Map.Entry<String, JarMetadata>> iterator = jars.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<String, JarMetadata> entry = iterator.next();
+			File jar = new File(entry.getKey());
+			if (!entry.getValue().matches(jar.length(), jar.lastModified())) {
+				iterator.remove();
+			}
+		}
+
+		ObjectOutputStream out = null;
+		try {
+			stateFile.getParentFile().mkdirs();
+			out = new ObjectOutputStream(new FileOutputStream(stateFile));
+			out.writeObject(new HashMap<String, JarMetadata>(jars));
+			dirty = false;
+		}
+		catch (IOException e) {
+			BeansCorePlugin.log("Cannot save namespace metadata cache", e);
+		}
+		finally {
+			close(out);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void load() {
+		if (!stateFile.isFile()) {
+			return;
+		}
+		ObjectInputStream in = null;
+		try {
+			in = new ObjectInputStream(new FileInputStream(stateFile));
+			jars.putAll((Map<String, JarMetadata>) in.readObject());
+		}
+		catch (Exception e) {
+			// Unreadable or written by an incompatible version; start over
+			jars.clear();
+			stateFile.delete();
+		}
+		finally {
+			close(in);
+		}
+	}
+
+	private static File toFile(URL url) {
+		if (!"file".equalsIgnoreCase(url.getProtocol())) {
+			return null;
+		}
+		try {
+			return new File(url.toURI());
+		}
+		catch (Exception e) {
+			return new File(url.getPath());
+		}
+	}
+
+	private static Properties loadProperties(InputStream is) throws IOException {
+		Properties properties = new Properties();
+		try {
+			properties.load(is);
+		}
+		finally {
+			close(is);
+		}
+		return properties;
+	}
+
+	private static void close(Closeable closeable) {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			}
+			catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * Namespace metadata of a single classpath entry.
+	 */
+	private interface ClasspathEntryMetadata {
+
+		/**
+		 * Returns the properties that are stored at the given location or <code>null</code> if there are none.
+		 */
+		Properties getProperties(String location);
+
+		/**
+		 * Returns <code>true</code> if the XSD with the given path can be loaded from this entry.
+		 */
+		boolean containsXsd(String path);
+
+		/**
+		 * Returns the target namespace of the XSD with the given path.
+		 */
+		String getTargetNamespace(String path);
+
+	}
+
+	/**
+	 * Namespace metadata of a jar, identified by its location, size and modification time.
+	 */
+	public static class JarMetadata implements ClasspathEntryMetadata, Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long length;
+
+		private final long lastModified;
+
+		private final Map<String, Properties> properties = new HashMap<String, Properties>();
+
+		/** Target namespaces per XSD path; only contains XSDs that are mapped in the jar's spring.schemas */
+		private final Map<String, String> targetNamespaces = new HashMap<String, String>();
+
+		private JarMetadata(long length, long lastModified) {
+			this.length = length;
+			this.lastModified = lastModified;
+		}
+
+		private static JarMetadata scan(File file, long length, long lastModified) throws IOException {
+			JarMetadata metadata = new JarMetadata(length, lastModified);
+			ZipFile zip = new ZipFile(file);
+			try {
+				metadata.read(zip, ProjectClasspathNamespaceDefinitionResolver.DEFAULT_HANDLER_MAPPINGS_LOCATION);
+				metadata.read(zip, ProjectClasspathNamespaceDefinitionResolver.DEFAULT_TOOLING_MAPPINGS_LOCATION);
+				Properties schemaMappings = metadata.read(zip,
+						ProjectClasspathNamespaceDefinitionResolver.DEFAULT_SCHEMA_MAPPINGS_LOCATION);
+				if (schemaMappings != null) {
+					for (String systemId : schemaMappings.stringPropertyNames()) {
+						String path = schemaMappings.getProperty(systemId);
+						ZipEntry entry = zip.getEntry(path);
+						if (entry == null && path.startsWith("/")) {
+							path = path.substring(1);
+							entry = zip.getEntry(path);
+						}
+						if (entry != null && !metadata.targetNamespaces.containsKey(path)) {
+							metadata.targetNamespaces.put(path,
+									TargetNamespaceScanner.getTargetNamespace(zip.getInputStream(entry)));
+						}
+					}
+				}
+			}
+			finally {
+				zip.close();
+			}
+			return metadata;
+		}
+
+		private Properties read(ZipFile zip, String location) throws IOException {
+			ZipEntry entry = zip.getEntry(location);
+			if (entry == null) {
+				return null;
+			}
+			Properties result = loadProperties(zip.getInputStream(entry));
+			properties.put(location, result);
+			return result;
+		}
+
+		private boolean matches(long length, long lastModified) {
+			return this.length == length && this.lastModified == lastModified;
+		}
+
+		public Properties getProperties(String location) {
+			return properties.get(location);
+		}
+
+		public boolean containsXsd(String path) {
+			return targetNamespaces.containsKey(path);
+		}
+
+		public String getTargetNamespace(String path) {
+			return targetNamespaces.get(path);
+		}
+
+	}
+
+	/**
+	 * Namespace metadata of a source or output folder; read directly from the file system.
+	 */
+	private static class FolderMetadata implements ClasspathEntryMetadata {
+
+		private final File folder;
+
+		public FolderMetadata(File folder) {
+			this.folder = folder;
+		}
+
+		public Properties getProperties(String location) {
+			File file = new File(folder, location);
+			if (file.isFile()) {
+				try {
+					return loadProperties(new FileInputStream(file));
+				}
+				catch (IOException e) {
+					// We can ignore this as we simply don't find the mappings then.
+				}
+			}
+			return null;
+		}
+
+		public boolean containsXsd(String path) {
+			return !path.startsWith("/") && new File(folder, path).isFile();
+		}
+
+		public String getTargetNamespace(String path) {
+			try {
+				return TargetNamespaceScanner.getTargetNamespace(new FileInputStream(new File(folder, path)));
+			}
+			catch (IOException e) {
+				BeansCorePlugin.logAsWarning(e);
+				return null;
+			}
+		}
+
+	}
+
+	/**
+	 * Namespace metadata of the shared parent classloader of all project classloaders.
+	 */
+	private static class ClassLoaderMetadata implements ClasspathEntryMetadata {
+
+		private final ClassLoader classLoader;
+
+		public ClassLoaderMetadata(ClassLoader classLoader) {
+			this.classLoader = classLoader;
+		}
+
+		public Properties getProperties(String location) {
+			try {
+				Properties properties = PropertiesLoaderUtils.loadAllProperties(location, classLoader);
+				return properties.isEmpty() ? null : properties;
+			}
+			catch (IOException e) {
+				return null;
+			}
+		}
+
+		public boolean containsXsd(String path) {
+			return classLoader.getResource(path) != null;
+		}
+
+		public String getTargetNamespace(String path) {
+			return TargetNamespaceScanner.getTargetNamespace(classLoader.getResource(path));
+		}
+
+	}
+
+	/**
+	 * The merged namespace metadata of the classpath of a single project.
+	 */
+	public static class ClasspathMetadata {
+
+		private final IProject project;
+
+		private final List<ClasspathEntryMetadata> entries;
+
+		private ClasspathMetadata(IProject project, List<ClasspathEntryMetadata> entries) {
+			this.project = project;
+			this.entries = entries;
+		}
+
+		/**
+		 * Returns the merged <code>spring.schemas</code> mappings; entries later on the classpath win.
+		 */
+		public Properties getSchemaMappings() {
+			return getMergedProperties(ProjectClasspathNamespaceDefinitionResolver.DEFAULT_SCHEMA_MAPPINGS_LOCATION);
+		}
+
+		/**
+		 * Returns the merged <code>spring.handlers</code> mappings; entries later on the classpath win.
+		 */
+		public Properties getHandlerMappings() {
+			return getMergedProperties(ProjectClasspathNamespaceDefinitionResolver.DEFAULT_HANDLER_MAPPINGS_LOCATION);
+		}
+
+		/**
+		 * Returns the merged <code>spring.tooling</code> mappings; entries later on the classpath win.
+		 */
+		public Properties getToolingMappings() {
+			return getMergedProperties(ProjectClasspathNamespaceDefinitionResolver.DEFAULT_TOOLING_MAPPINGS_LOCATION);
+		}
+
+		/**
+		 * Returns the path under which the given XSD path can be loaded from the classpath or <code>null</code> if
+		 * it can't be found. Like the classloader based lookup, a leading <code>/</code> is removed if the path
+		 * can't be found otherwise.
+		 */
+		public String resolveXsdPath(String xsdPath) {
+			if (xsdPath == null) {
+				return null;
+			}
+			if (findEntry(xsdPath) != null) {
+				return xsdPath;
+			}
+			if (xsdPath.startsWith("/") && findEntry(xsdPath.substring(1)) != null) {
+				return xsdPath.substring(1);
+			}
+
+			// XSDs that are mapped in a spring.schemas of another jar are not indexed
+			ClassLoader classLoader = JdtUtils.getClassLoader(project, null);
+			if (classLoader.getResource(xsdPath) != null) {
+				return xsdPath;
+			}
+			if (xsdPath.startsWith("/") && classLoader.getResource(xsdPath.substring(1)) != null) {
+				return xsdPath.substring(1);
+			}
+			return null;
+		}
+
+		/**
+		 * Returns the target namespace of the XSD with the given (resolved) path.
+		 */
+		public String getTargetNamespace(String resolvedXsdPath) {
+			if (resolvedXsdPath == null) {
+				return null;
+			}
+			ClasspathEntryMetadata entry = findEntry(resolvedXsdPath);
+			if (entry != null) {
+				return entry.getTargetNamespace(resolvedXsdPath);
+			}
+			return TargetNamespaceScanner.getTargetNamespace(JdtUtils.getClassLoader(project, null).getResource(
+					resolvedXsdPath));
+		}
+
+		private ClasspathEntryMetadata findEntry(String path) {
+			for (ClasspathEntryMetadata entry : entries) {
+				if (entry.containsXsd(path)) {
+					return entry;
+				}
+			}
+			return null;
+		}
+
+		private Properties getMergedProperties(String location) {
+			Properties merged = new Properties();
+			for (ClasspathEntryMetadata entry : entries) {
+				Properties properties = entry.getProperties(location);
+				if (properties != null) {
+					merged.putAll(properties);
+				}
+			}
+			return merged;
+		}
+
+	}
+
+}
@@ -14,9 +14,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -28,8 +26,8 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.Preferences.IPropertyChangeListener;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
-import org.springframework.core.io.support.PropertiesLoaderUtils;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.ClasspathNamespaceMetadataCache.ClasspathMetadata;
 import org.springframework.ide.eclipse.beans.core.model.INamespaceDefinition;
 import org.springframework.ide.eclipse.beans.core.model.INamespaceDefinitionListener;
 import org.springframework.ide.eclipse.beans.core.model.INamespaceDefinitionResolver;
@@ -109,39 +107,22 @@ public class ProjectClasspathNamespaceDefinitionResolver implements INamespaceDe
 		// Add in namespace definitions from the classpath
 		if (NamespaceUtils.useNamespacesFromClasspath(project)) {
 
-			ClassLoader cls = JdtUtils.getClassLoader(project, null);
+			// jar contents are cached workspace-wide, so this doesn't need to open the jars again
+			ClasspathMetadata metadata = ClasspathNamespaceMetadataCache.getInstance().getMetadata(project);
 
-			Map<String, String> handlerMappings = new HashMap<String, String>();
 			Map<String, String> toolingMappings = new HashMap<String, String>();
-			Properties schemaMappings = new Properties();
-
-			try {
-				Properties mappings = PropertiesLoaderUtils.loadAllProperties(DEFAULT_HANDLER_MAPPINGS_LOCATION, cls);
-				CollectionUtils.mergePropertiesIntoMap(mappings, handlerMappings);
-				schemaMappings = PropertiesLoaderUtils.loadAllProperties(DEFAULT_SCHEMA_MAPPINGS_LOCATION, cls);
-				mappings = PropertiesLoaderUtils.loadAllProperties(DEFAULT_TOOLING_MAPPINGS_LOCATION, cls);
-				CollectionUtils.mergePropertiesIntoMap(mappings, toolingMappings);
-			}
-			catch (IOException e) {
-			}
+			Properties schemaMappings = metadata.getSchemaMappings();
+			CollectionUtils.mergePropertiesIntoMap(metadata.getToolingMappings(), toolingMappings);
 
 			for (Object xsd : schemaMappings.keySet()) {
 				String key = xsd.toString();
 
-				String schemaUri = schemaMappings.getProperty(key);
-				URL url = cls.getResource(schemaUri);
-
-				// fallback, if schema location starts with / and therefore fails to be found by classloader
-				if (url == null && schemaUri.startsWith("/")) {
-					schemaUri = schemaUri.substring(1);
-					url = cls.getResource(schemaUri);
-				}
-				
-				if (url == null) {
+				String schemaUri = metadata.resolveXsdPath(schemaMappings.getProperty(key));
+				if (schemaUri == null) {
 					continue;
 				}
 
-				String namespaceUri = TargetNamespaceScanner.getTargetNamespace(url);
+				String namespaceUri = metadata.getTargetNamespace(schemaUri);
 				
 				if (StringUtils.hasText(namespaceUri)) {
 				
@@ -154,7 +135,7 @@ public class ProjectClasspathNamespaceDefinitionResolver implements INamespaceDe
 						namespaceDefinitionRegistry.get(namespaceUri).addUri(schemaUri);
 					}
 					else {
-						File iconFile = extractIcon(namespaceUri, icon, cls);
+						File iconFile = extractIcon(namespaceUri, icon);
 
 						NamespaceDefinition namespaceDefinition = new ExternalImageNamespaceDefinition(schemaMappings,
 								iconFile);
@@ -181,9 +162,9 @@ public class ProjectClasspathNamespaceDefinitionResolver implements INamespaceDe
 	}
 
 	/**
-	 * Extract icon files from the given classloader and store it on the filesystem for later use.
+	 * Extract icon files from the project classpath and store it on the filesystem for later use.
 	 */
-	private File extractIcon(String namespaceUri, String icon, ClassLoader cls) {
+	private File extractIcon(String namespaceUri, String icon) {
 		if (StringUtils.hasLength(icon)) {
 			try {
 				File iconDir = BeansCorePlugin.getDefault().getStateLocation().append("images").toFile();
@@ -205,6 +186,7 @@ public class ProjectClasspathNamespaceDefinitionResolver implements INamespaceDe
 					return iconFile;
 				}
 
+				ClassLoader cls = JdtUtils.getClassLoader(project, null);
 				FileCopyUtils.copy(cls.getResourceAsStream(icon), new FileOutputStream(iconFile));
 				return iconFile;
 			}
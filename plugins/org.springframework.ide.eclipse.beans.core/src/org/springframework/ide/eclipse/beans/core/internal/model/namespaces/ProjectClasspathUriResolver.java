@@ -11,8 +11,6 @@
 package org.springframework.ide.eclipse.beans.core.internal.model.namespaces;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,8 +19,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IProject;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
-import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
-import org.springframework.ide.eclipse.beans.core.ProjectAwareUrlStreamHandlerService;
+import org.springframework.ide.eclipse.beans.core.internal.model.namespaces.ClasspathNamespaceMetadataCache.ClasspathMetadata;
 import org.springframework.ide.eclipse.beans.core.namespaces.NamespaceUtils;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
 import org.springframework.util.CollectionUtils;
@@ -94,75 +91,53 @@ public class ProjectClasspathUriResolver {
 		this.typeUri = new ConcurrentHashMap<String, String>();
 
 		Map<String, NamespaceDefinition> namespaceDefinitionRegistry = new HashMap<String, NamespaceDefinition>();
-		ClassLoader classLoader = JdtUtils.getClassLoader(project, null);
 
-		schemaMappings = getSchemaMappings(classLoader);
-		if (schemaMappings != null) {
-			for (String key : schemaMappings.keySet()) {
-				String path = schemaMappings.get(key);
-
-				// add the resolved path to the list of uris
-				String resolvedPath = resolveXsdPathOnClasspath(path,
-						classLoader);
-				if (resolvedPath != null) {
-					typeUri.put(key, resolvedPath);
-
-					// collect base information to later extract the default uri
-					String namespaceUri = getTargetNamespace(resolvedPath);
-
-					if (namespaceDefinitionRegistry.containsKey(namespaceUri)) {
-						namespaceDefinitionRegistry.get(namespaceUri)
-								.addSchemaLocation(key);
-						namespaceDefinitionRegistry.get(namespaceUri).addUri(
-								path);
-					} else {
-						NamespaceDefinition namespaceDefinition = new NamespaceDefinition(
-								null);
-						namespaceDefinition.addSchemaLocation(key);
-						namespaceDefinition.setNamespaceUri(namespaceUri);
-						namespaceDefinition.addUri(path);
-						namespaceDefinitionRegistry.put(namespaceUri,
-								namespaceDefinition);
-					}
+		// the jar contents are shared with all other projects and don't need
+		// to be scanned again
+		ClasspathMetadata metadata = ClasspathNamespaceMetadataCache
+				.getInstance().getMetadata(project);
+
+		schemaMappings = new ConcurrentHashMap<String, String>();
+		CollectionUtils.mergePropertiesIntoMap(metadata.getSchemaMappings(),
+				schemaMappings);
+		for (String key : schemaMappings.keySet()) {
+			String path = schemaMappings.get(key);
+
+			// add the resolved path to the list of uris
+			String resolvedPath = metadata.resolveXsdPath(path);
+			if (resolvedPath != null) {
+				typeUri.put(key, resolvedPath);
+
+				// collect base information to later extract the default uri
+				String namespaceUri = metadata.getTargetNamespace(resolvedPath);
+
+				if (namespaceDefinitionRegistry.containsKey(namespaceUri)) {
+					namespaceDefinitionRegistry.get(namespaceUri)
+							.addSchemaLocation(key);
+					namespaceDefinitionRegistry.get(namespaceUri).addUri(path);
+				} else {
+					NamespaceDefinition namespaceDefinition = new NamespaceDefinition(
+							null);
+					namespaceDefinition.addSchemaLocation(key);
+					namespaceDefinition.setNamespaceUri(namespaceUri);
+					namespaceDefinition.addUri(path);
+					namespaceDefinitionRegistry.put(namespaceUri,
+							namespaceDefinition);
 				}
 			}
-
-			// Add catalog entry to namespace uri
-			for (NamespaceDefinition definition : namespaceDefinitionRegistry
-					.values()) {
-				String namespaceKey = definition.getNamespaceUri();
-				String defaultUri = definition.getDefaultUri();
-
-				String resolvedPath = resolveXsdPathOnClasspath(defaultUri,
-						classLoader);
-				if (resolvedPath != null) {
-					typePublic.put(namespaceKey, resolvedPath);
-				}
-			}
-
 		}
-	}
 
-	/**
-	 * Returns the target namespace URI of the XSD identified by the given
-	 * <code>resolvedPath</code>.
-	 */
-	private String getTargetNamespace(String resolvedPath) {
-		if (resolvedPath == null) {
-			return null;
-		}
+		// Add catalog entry to namespace uri
+		for (NamespaceDefinition definition : namespaceDefinitionRegistry
+				.values()) {
+			String namespaceKey = definition.getNamespaceUri();
+			String defaultUri = definition.getDefaultUri();
 
-		try {
-			URL url = new URI(
-					ProjectAwareUrlStreamHandlerService.createProjectAwareUrl(
-							project.getName(), resolvedPath)).toURL();
-			return TargetNamespaceScanner.getTargetNamespace(url);
-		} catch (IOException e) {
-			BeansCorePlugin.log(e);
-		} catch (URISyntaxException e) {
-			BeansCorePlugin.log(e);
+			String resolvedPath = metadata.resolveXsdPath(defaultUri);
+			if (resolvedPath != null) {
+				typePublic.put(namespaceKey, resolvedPath);
+			}
 		}
-		return null;
 	}
 
 	/**
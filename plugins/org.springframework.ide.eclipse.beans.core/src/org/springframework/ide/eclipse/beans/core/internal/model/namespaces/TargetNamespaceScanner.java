@@ -11,6 +11,7 @@
 package org.springframework.ide.eclipse.beans.core.internal.model.namespaces;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -38,6 +39,20 @@ public class TargetNamespaceScanner {
 			return null;
 		}
 
+		try {
+			return getTargetNamespace(url.openStream());
+		} catch (IOException e) {
+			BeansCorePlugin.logAsWarning(e);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the target namespace URI of the XSD read from the given
+	 * <code>stream</code>. The stream is closed afterwards.
+	 * @since 3.9.8
+	 */
+	public static String getTargetNamespace(InputStream stream) {
 		ClassLoader ccl = Thread.currentThread().getContextClassLoader();
 		try {
 			Thread.currentThread().setContextClassLoader(TargetNamespaceScanner.class.getClassLoader());
@@ -51,7 +66,7 @@ public class TargetNamespaceScanner {
 			factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
 			
 			DocumentBuilder docBuilder = factory.newDocumentBuilder();
-			Document doc = docBuilder.parse(url.openStream());
+			Document doc = docBuilder.parse(stream);
 			
 			return doc.getDocumentElement().getAttribute("targetNamespace");
 		} catch (SAXException e) {
@@ -63,6 +78,11 @@ public class TargetNamespaceScanner {
 		}
 		finally {
 			Thread.currentThread().setContextClassLoader(ccl);
+			try {
+				stream.close();
+			} catch (IOException e) {
+				// ignore
+			}
 		}
 		return null;
 	}
@@ -40,6 +40,7 @@ import org.springframework.ide.eclipse.core.model.validation.IValidationProblemM
 import org.springframework.ide.eclipse.core.model.validation.IValidationRule;
 import org.springframework.ide.eclipse.core.model.validation.ValidationProblem;
 import org.springframework.ide.eclipse.core.model.validation.ValidationProblemAttribute;
+import org.springframework.ide.eclipse.core.project.IProjectContributorState;
 import org.springframework.ide.eclipse.core.type.asm.CachingClassReaderFactory;
 import org.springframework.ide.eclipse.core.type.asm.ClassReaderFactory;
 import org.springframework.util.Assert;
@@ -71,16 +72,42 @@ public class BeansValidationContext extends AbstractValidationContext implements
 
 	private final Map<AttributeDescriptor, List<ToolAnnotationData>> toolAnnotationLookupCache;
 
+	private XmlDocumentState xmlDocumentState;
+
 	public BeansValidationContext(IBeansConfig config, IResourceModelElement contextElement) {
+		this(config, contextElement, null, null);
+	}
+
+	/**
+	 * Creates a context that uses the given complete registry and class reader factory instead of creating its own.
+	 * This allows callers that validate over and over against the same state of the beans model (e.g. an editor) to
+	 * reuse them. The complete registry is only read by the validation rules.
+	 * @param completeRegistry the complete registry or <code>null</code> to create one
+	 * @param classReaderFactory the class reader factory or <code>null</code> to create one on demand
+	 * @since 3.9.8
+	 */
+	protected BeansValidationContext(IBeansConfig config, IResourceModelElement contextElement,
+			BeanDefinitionRegistry completeRegistry, ClassReaderFactory classReaderFactory) {
 		super(config, contextElement);
 
 		this.incompleteRegistry = createRegistry(config, contextElement, false);
-		this.completeRegistry = createRegistry(config, contextElement, true);
+		this.completeRegistry = completeRegistry != null ? completeRegistry : createRegistry(config, contextElement,
+				true);
+		this.classReaderFactory = classReaderFactory;
 
 		this.beanLookupCache = new HashMap<String, Set<BeanDefinition>>();
 		this.toolAnnotationLookupCache = new HashMap<AttributeDescriptor, List<ToolAnnotationData>>();
 	}
 
+	/**
+	 * Creates a registry that contains all bean definitions visible to the given config in the given context.
+	 * @since 3.9.8
+	 */
+	public static BeanDefinitionRegistry createCompleteRegistry(IBeansConfig config,
+			IResourceModelElement contextElement) {
+		return createRegistry(config, contextElement, true);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -92,6 +119,28 @@ public class BeansValidationContext extends AbstractValidationContext implements
 		return this.classReaderFactory;
 	}
 
+	/**
+	 * Returns the {@link XmlDocumentState} that is shared by all XML validation rules of the current validation run.
+	 * If this context is not part of a validation run, the state is only shared by the rules using this context.
+	 */
+	public synchronized XmlDocumentState getXmlDocumentState() {
+		IProjectContributorState state = getProjectContributorState();
+		if (state != null) {
+			synchronized (state) {
+				XmlDocumentState documentState = state.get(XmlDocumentState.class);
+				if (documentState == null) {
+					documentState = new XmlDocumentState();
+					state.hold(documentState);
+				}
+				return documentState;
+			}
+		}
+		if (this.xmlDocumentState == null) {
+			this.xmlDocumentState = new XmlDocumentState();
+		}
+		return this.xmlDocumentState;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -124,12 +173,17 @@ public class BeansValidationContext extends AbstractValidationContext implements
 		Assert.notNull(beanClass);
 
 		String key = beanClass + KEY_SEPARATOR_CHAR + beanName;
-		if (beanLookupCache.containsKey(key)) {
-			return beanLookupCache.get(key);
+		synchronized (beanLookupCache) {
+			if (beanLookupCache.containsKey(key)) {
+				return beanLookupCache.get(key);
+			}
 		}
+		// thread-safe validation rules may call this concurrently; don't hold the lock during the lookup
 		Set<BeanDefinition> bds = ValidationRuleUtils.getBeanDefinitions(beanName, beanClass, this);
-		// as we don't use a Hashtable we can insert null values
-		beanLookupCache.put(key, bds);
+		synchronized (beanLookupCache) {
+			// as we don't use a Hashtable we can insert null values
+			beanLookupCache.put(key, bds);
+		}
 		return bds;
 	}
 
@@ -187,7 +241,7 @@ public class BeansValidationContext extends AbstractValidationContext implements
 		return bds != null && bds.size() > 0;
 	}
 
-	private BeanDefinitionRegistry createRegistry(IBeansConfig config, IResourceModelElement contextElement,
+	private static BeanDefinitionRegistry createRegistry(IBeansConfig config, IResourceModelElement contextElement,
 			boolean fillCompletely) {
 		DefaultBeanDefinitionRegistry registry = new DefaultBeanDefinitionRegistry();
 		if (contextElement instanceof BeansConfigSet) {
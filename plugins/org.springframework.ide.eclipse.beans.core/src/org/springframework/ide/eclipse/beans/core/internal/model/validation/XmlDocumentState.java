@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model.validation;
+
+import java.io.InputStream;
+
+import org.eclipse.core.resources.IFile;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.core.io.xml.LineNumberPreservingDOMParser;
+import org.springframework.ide.eclipse.core.project.IProjectContributor;
+import org.springframework.ide.eclipse.core.project.IProjectContributorState;
+import org.w3c.dom.Document;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * State object that is registered in the {@link IProjectContributorState} and therefore shared by all the
+ * XML validation rules of a single {@link IProjectContributor} execution. It holds a snapshot of the DOM of
+ * the XML configuration file that is currently validated, so that a file is only parsed once instead of once
+ * per rule.
+ * <p>
+ * Files are parsed with the {@link LineNumberPreservingDOMParser} which is a lot cheaper than building a
+ * WST structured model. All rules of a configuration file are executed one after another, so only the DOM of
+ * the last requested file is kept; requesting another file drops it.
+ *
+ * @author agent
+ * @since 3.9.8
+ */
+public class XmlDocumentState {
+
+	private static final String NAMESPACES_FEATURE = "http://xml.org/sax/features/namespaces";
+
+	private static final String LOAD_EXTERNAL_DTD_FEATURE = "http://apache.org/xml/features/nonvalidating/load-external-dtd";
+
+	private static final String EXTERNAL_GENERAL_ENTITIES_FEATURE = "http://xml.org/sax/features/external-general-entities";
+
+	private static final String EXTERNAL_PARAMETER_ENTITIES_FEATURE = "http://xml.org/sax/features/external-parameter-entities";
+
+	private IFile file;
+
+	/** Parsed document of {@link #file}; <code>null</code> if the file couldn't be parsed */
+	private Document document;
+
+	/**
+	 * Returns the DOM snapshot of the given file, parsing it on the first request.
+	 * @param file the xml file
+	 * @return the document or <code>null</code> if the file can't be read or is malformed; the WST structured
+	 * model which is tolerant to errors should be used instead
+	 */
+	public synchronized Document getDocument(IFile file) {
+		if (!file.equals(this.file)) {
+			this.file = file;
+			this.document = parseDocument(file);
+		}
+		return document;
+	}
+
+	private Document parseDocument(IFile file) {
+		InputStream contents = null;
+		try {
+			LineNumberPreservingDOMParser parser = new LineNumberPreservingDOMParser();
+			parser.setFeature(NAMESPACES_FEATURE, true);
+			// Never go out to the network (or file system) for DTDs and external entities
+			parser.setFeature(LOAD_EXTERNAL_DTD_FEATURE, false);
+			parser.setFeature(EXTERNAL_GENERAL_ENTITIES_FEATURE, false);
+			parser.setFeature(EXTERNAL_PARAMETER_ENTITIES_FEATURE, false);
+			parser.setErrorHandler(new ErrorHandler() {
+
+				public void warning(SAXParseException exception) throws SAXException {
+				}
+
+				public void error(SAXParseException exception) throws SAXException {
+				}
+
+				public void fatalError(SAXParseException exception) throws SAXException {
+					throw exception;
+				}
+			});
+
+			contents = file.getContents(true);
+			InputSource inputSource = new InputSource(contents);
+			inputSource.setEncoding(file.getCharset());
+			inputSource.setSystemId(file.getLocationURI() != null ? file.getLocationURI().toString() : null);
+			parser.parse(inputSource);
+
+			Document document = parser.getDocument();
+			if (document != null && document.getDocumentElement() != null) {
+				return document;
+			}
+		}
+		catch (SAXException e) {
+			// Malformed file; the rules fall back to the structured model
+		}
+		catch (Exception e) {
+			BeansCorePlugin.log(e);
+		}
+		finally {
+			if (contents != null) {
+				try {
+					contents.close();
+				}
+				catch (Exception e) {
+					// ignore
+				}
+			}
+		}
+		return null;
+	}
+
+}
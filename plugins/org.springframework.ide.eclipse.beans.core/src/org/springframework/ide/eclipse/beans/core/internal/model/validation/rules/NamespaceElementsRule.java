@@ -105,6 +105,14 @@ public class NamespaceElementsRule extends AbstractXmlValidationRule {
 				!NamespaceUtils.DEFAULT_NAMESPACE_URI.equals(n.getNamespaceURI());
 	}
 
+	/**
+	 * Tool annotations are looked up in the XSDs through the content model.
+	 */
+	@Override
+	protected boolean requiresContentModel() {
+		return true;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -11,12 +11,17 @@
 package org.springframework.ide.eclipse.beans.core.model.locate;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -42,7 +47,9 @@ import org.springsource.ide.eclipse.commons.core.SpringCoreUtils;
  * {@link IProject} or {@link IJavaProject} for Spring XML configuration files.
  * <p>
  * Only those XML files that have any known namespace uri at the root element
- * level are being considered to be a suitable candidate.
+ * level are being considered to be a suitable candidate. The namespace is
+ * sniffed from the head of each file by the {@link XmlRootNamespaceScanner};
+ * a structured model is only built if that fails.
  * 
  * @author Christian Dupuis
  * @since 2.0.5
@@ -153,7 +160,7 @@ public class ProjectScanningBeansConfigLocator extends
 			}
 		}
 
-		Set<IFile> detectedFiles = new LinkedHashSet<IFile>();
+		Set<IFile> candidates = new LinkedHashSet<IFile>();
 		for (IFile file : files) {
 			boolean skip = false;
 			// first check if the file sits in an output directory
@@ -163,46 +170,117 @@ public class ProjectScanningBeansConfigLocator extends
 					skip = true;
 				}
 			}
-			if (skip) {
-				continue;
+			if (!skip) {
+				candidates.add(file);
+			}
+		}
+
+		// sniff the root element namespaces of all candidates in parallel
+		Map<IFile, String> namespaces = scanRootNamespaces(candidates);
+
+		Set<IFile> detectedFiles = new LinkedHashSet<IFile>();
+		for (IFile file : candidates) {
+			String namespaceUri = namespaces.get(file);
+			if (namespaceUri == null) {
+				// root element not found in the head of the file, so ask the structured model
+				namespaceUri = getRootNamespaceFromModel(file);
+			}
+			else if (XmlRootNamespaceScanner.NO_NAMESPACE.equals(namespaceUri)) {
+				namespaceUri = null;
+			}
+			if (applyNamespaceFilter(file, namespaceUri)) {
+				detectedFiles.add(file);
 			}
+		}
+		return detectedFiles;
+	}
 
-			// check if the file is known Spring xml file
+	/**
+	 * Returns the root element namespaces of the given files as found by the {@link XmlRootNamespaceScanner}. Files
+	 * that are open in an editor are taken from their structured model instead, as their content might not be saved
+	 * yet. The files are split into one batch per processor and scanned concurrently.
+	 */
+	private Map<IFile, String> scanRootNamespaces(Set<IFile> files) {
+		final Map<IFile, String> namespaces = new ConcurrentHashMap<IFile, String>();
+		final List<IFile> filesToScan = new ArrayList<IFile>();
+		for (IFile file : files) {
 			IStructuredModel model = null;
 			try {
+				model = StructuredModelManager.getModelManager().getExistingModelForRead(file);
+			} catch (RuntimeException e) {
+				// sometimes WTP throws a NPE in concurrency situations
+			}
+			if (model != null) {
 				try {
-					model = StructuredModelManager.getModelManager()
-							.getExistingModelForRead(file);
-				} catch (RuntimeException e) {
-					// sometimes WTP throws a NPE in concurrency situations
-				}
-				if (model == null) {
-					model = StructuredModelManager.getModelManager()
-							.getModelForRead(file);
+					String namespaceUri = getRootNamespace(model);
+					namespaces.put(file, namespaceUri != null ? namespaceUri : XmlRootNamespaceScanner.NO_NAMESPACE);
+				} finally {
+					model.releaseFromRead();
 				}
-				if (model != null) {
-					IDOMDocument document = ((DOMModelImpl) model)
-							.getDocument();
-					if (document != null
-							&& document.getDocumentElement() != null) {
-						String namespaceUri = document.getDocumentElement()
-								.getNamespaceURI();
-						if (applyNamespaceFilter(file, namespaceUri)) {
-							detectedFiles.add(file);
+			} else {
+				filesToScan.add(file);
+			}
+		}
+
+		int batchCount = Math.min(Runtime.getRuntime().availableProcessors(), filesToScan.size());
+		List<Future<?>> batches = new ArrayList<Future<?>>();
+		for (int i = 0; i < batchCount; i++) {
+			final int batch = i;
+			final int stride = batchCount;
+			batches.add(BeansCorePlugin.getExecutorService().submit(new Runnable() {
+
+				public void run() {
+					for (int j = batch; j < filesToScan.size(); j += stride) {
+						IFile file = filesToScan.get(j);
+						String namespaceUri = XmlRootNamespaceScanner.getRootNamespace(file);
+						if (namespaceUri != null) {
+							namespaces.put(file, namespaceUri);
 						}
 					}
 				}
-			} catch (IOException e) {
-				BeansCorePlugin.log(e);
-			} catch (CoreException e) {
-				BeansCorePlugin.log(e);
-			} finally {
-				if (model != null) {
-					model.releaseFromRead();
-				}
+			}));
+		}
+		for (Future<?> batch : batches) {
+			try {
+				batch.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (ExecutionException e) {
+				BeansCorePlugin.log(e.getCause());
 			}
 		}
-		return detectedFiles;
+		return namespaces;
+	}
+
+	/**
+	 * Returns the root element namespace of the given file from its structured model.
+	 */
+	private String getRootNamespaceFromModel(IFile file) {
+		IStructuredModel model = null;
+		try {
+			model = StructuredModelManager.getModelManager().getModelForRead(file);
+			if (model != null) {
+				return getRootNamespace(model);
+			}
+		} catch (IOException e) {
+			BeansCorePlugin.log(e);
+		} catch (CoreException e) {
+			BeansCorePlugin.log(e);
+		} finally {
+			if (model != null) {
+				model.releaseFromRead();
+			}
+		}
+		return null;
+	}
+
+	private String getRootNamespace(IStructuredModel model) {
+		IDOMDocument document = ((DOMModelImpl) model).getDocument();
+		if (document != null && document.getDocumentElement() != null) {
+			return document.getDocumentElement().getNamespaceURI();
+		}
+		return null;
 	}
 
 	protected boolean applyNamespaceFilter(IFile file, String namespaceUri) {
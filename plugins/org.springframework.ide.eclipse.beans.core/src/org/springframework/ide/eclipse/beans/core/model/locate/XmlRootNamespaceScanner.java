@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.model.locate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.parsers.SAXParser;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.core.SpringCoreUtils;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Scanner to quickly identify the namespace of the root element of an XML file without building a DOM for it.
+ * <p>
+ * Only the first {@link #MAX_SCANNED_BYTES} bytes of a file are read. Results are cached per file and modification
+ * stamp, so unchanged files are not read again by later scans. The results of removed files and of closed or removed
+ * projects are dropped.
+ * @author agent
+ * @since 3.9.8
+ */
+public class XmlRootNamespaceScanner {
+
+	/** Number of bytes read at most to find the root element */
+	public static final int MAX_SCANNED_BYTES = 8 * 1024;
+
+	/** Returned for root elements without a namespace */
+	public static final String NO_NAMESPACE = "";
+
+	private static final Map<IFile, ScanResult> RESULTS = new ConcurrentHashMap<IFile, ScanResult>();
+
+	private static IResourceChangeListener resourceListener;
+
+	/**
+	 * Returns the namespace URI of the root element of the given file, {@link #NO_NAMESPACE} if the root element
+	 * has no namespace or <code>null</code> if the root element could not be found in the first
+	 * {@link #MAX_SCANNED_BYTES} bytes of the file.
+	 */
+	public static String getRootNamespace(IFile file) {
+		installListener();
+		long modificationStamp = file.getModificationStamp();
+		ScanResult result = RESULTS.get(file);
+		if (result != null && result.modificationStamp == modificationStamp) {
+			return result.namespace;
+		}
+
+		String namespace = null;
+		try {
+			namespace = getRootNamespace(file.getContents(true));
+		}
+		catch (CoreException e) {
+			// file is out of sync or gone; let the caller decide
+		}
+		if (namespace != null) {
+			RESULTS.put(file, new ScanResult(modificationStamp, namespace));
+		}
+		else {
+			RESULTS.remove(file);
+		}
+		return namespace;
+	}
+
+	/**
+	 * Returns the namespace URI of the root element of the XML read from the given <code>stream</code>, see
+	 * {@link #getRootNamespace(IFile)}. The stream is closed afterwards.
+	 */
+	public static String getRootNamespace(InputStream stream) {
+		try {
+			SAXParser parser = SpringCoreUtils.getSaxParser();
+			if (parser == null) {
+				return null;
+			}
+			RootElementHandler handler = new RootElementHandler();
+			try {
+				parser.parse(new InputSource(readHead(stream)), handler);
+			}
+			catch (RootElementFoundException e) {
+				return handler.namespace;
+			}
+		}
+		catch (SAXException e) {
+			// root element not found in the scanned bytes
+		}
+		catch (IOException e) {
+			// unreadable
+		}
+		finally {
+			try {
+				stream.close();
+			}
+			catch (IOException e) {
+				// ignore
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes all cached results and stops listening for resource changes until the next scan of a file.
+	 */
+	public static synchronized void clearCache() {
+		if (resourceListener != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(resourceListener);
+			resourceListener = null;
+		}
+		RESULTS.clear();
+	}
+
+	private static synchronized void installListener() {
+		if (resourceListener == null) {
+			resourceListener = new ScanResultRemovingResourceChangeListener();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(resourceListener,
+					IResourceChangeEvent.POST_CHANGE | IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_DELETE);
+		}
+	}
+
+	private static void removeResults(IProject project) {
+		Iterator<IFile> files = RESULTS.keySet().iterator();
+		while (files.hasNext()) {
+			if (project.equals(files.next().getProject())) {
+				files.remove();
+			}
+		}
+	}
+
+	private static InputStream readHead(InputStream stream) throws IOException {
+		byte[] buffer = new byte[MAX_SCANNED_BYTES];
+		int length = 0;
+		int read;
+		while (length < buffer.length && (read = stream.read(buffer, length, buffer.length - length)) != -1) {
+			length += read;
+		}
+		return new ByteArrayInputStream(buffer, 0, length);
+	}
+
+	private static class ScanResult {
+
+		private final long modificationStamp;
+
+		private final String namespace;
+
+		public ScanResult(long modificationStamp, String namespace) {
+			this.modificationStamp = modificationStamp;
+			this.namespace = namespace;
+		}
+	}
+
+	/**
+	 * Drops the results of removed files and of closed or removed projects.
+	 */
+	private static class ScanResultRemovingResourceChangeListener implements IResourceChangeListener {
+
+		public void resourceChanged(IResourceChangeEvent event) {
+			if (event.getType() != IResourceChangeEvent.POST_CHANGE) {
+				if (event.getResource() instanceof IProject) {
+					removeResults((IProject) event.getResource());
+				}
+				return;
+			}
+			if (event.getDelta() == null || RESULTS.isEmpty()) {
+				return;
+			}
+			try {
+				event.getDelta().accept(new IResourceDeltaVisitor() {
+
+					public boolean visit(IResourceDelta delta) {
+						IResource resource = delta.getResource();
+						if (resource instanceof IFile) {
+							if (delta.getKind() == IResourceDelta.REMOVED) {
+								RESULTS.remove(resource);
+							}
+							return false;
+						}
+						if (resource instanceof IProject && (delta.getKind() == IResourceDelta.REMOVED
+								|| (delta.getFlags() & IResourceDelta.OPEN) != 0)) {
+							removeResults((IProject) resource);
+							return false;
+						}
+						return true;
+					}
+				});
+			}
+			catch (CoreException e) {
+				BeansCorePlugin.log(e);
+			}
+		}
+	}
+
+	/**
+	 * Records the namespace of the first element and stops the parser.
+	 */
+	private static class RootElementHandler extends DefaultHandler {
+
+		private String namespace;
+
+		@Override
+		public InputSource resolveEntity(String publicId, String systemId) {
+			// never load DTDs or other external entities
+			return new InputSource(new ByteArrayInputStream(new byte[0]));
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes)
+				throws SAXException {
+			namespace = (uri != null ? uri : NO_NAMESPACE);
+			throw new RootElementFoundException();
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class RootElementFoundException extends SAXException {
+	}
+
+}
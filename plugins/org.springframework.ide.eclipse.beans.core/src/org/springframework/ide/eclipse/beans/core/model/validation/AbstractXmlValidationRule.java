@@ -21,19 +21,21 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.wst.sse.core.StructuredModelManager;
 import org.eclipse.wst.sse.core.internal.provisional.IStructuredModel;
-import org.eclipse.wst.xml.core.internal.document.DOMModelImpl;
+import org.eclipse.wst.xml.core.internal.provisional.document.IDOMModel;
 import org.eclipse.wst.xml.core.internal.provisional.document.IDOMNode;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.BeansValidationContext;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.XmlDocumentState;
 import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
 import org.springframework.ide.eclipse.beans.core.model.IBeansImport;
 import org.springframework.ide.eclipse.beans.core.model.IBeansModelElement;
 import org.springframework.ide.eclipse.beans.core.model.IImportedBeansConfig;
 import org.springframework.ide.eclipse.beans.core.namespaces.ToolAnnotationUtils.ToolAnnotationData;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinition;
+import org.springframework.ide.eclipse.core.io.xml.LineNumberPreservingDOMParser;
 import org.springframework.ide.eclipse.core.java.IProjectClassLoaderSupport;
 import org.springframework.ide.eclipse.core.model.IModelElement;
 import org.springframework.ide.eclipse.core.model.IResourceModelElement;
@@ -42,6 +44,7 @@ import org.springframework.ide.eclipse.core.model.validation.IValidationRule;
 import org.springframework.ide.eclipse.core.model.validation.ValidationProblem;
 import org.springframework.ide.eclipse.core.model.validation.ValidationProblemAttribute;
 import org.springframework.ide.eclipse.core.type.asm.ClassReaderFactory;
+import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
@@ -86,7 +89,9 @@ public abstract class AbstractXmlValidationRule implements IValidationRule<IBean
 	}
 
 	/**
-	 * Validates the {@link IBeansConfig} by creating a {@link DomVisitor} and visiting the entire dom model.
+	 * Validates the {@link IBeansConfig} by creating a {@link DomVisitor} and visiting the entire dom model. Unless
+	 * the rule {@link #requiresContentModel() requires the content model} or an editor has the file open, the dom
+	 * model is obtained from the {@link XmlDocumentState} so that it is only parsed once per validation run.
 	 * <p>
 	 * Every element will be visited and depending on the return of {@link #supports(Node)} the
 	 * {@link #validate(Node, IBeansValidationContext)} will be called for the node.
@@ -103,31 +108,43 @@ public abstract class AbstractXmlValidationRule implements IValidationRule<IBean
 		if (!(context instanceof BeansValidationContext)) {
 			return;
 		}
-		
+
+		IFile file = (IFile) element.getElementResource();
 		IStructuredModel model = null;
 		try {
-			model = StructuredModelManager.getModelManager().getModelForRead((IFile) element.getElementResource());
-			if (model != null) {
-				Document document = ((DOMModelImpl) model).getDocument();
-				if (document != null && document.getDocumentElement() != null) {
-					DomVisitor visitor = new DomVisitor() {
+			Document document = null;
+			if (!requiresContentModel()) {
+				// Validate what the editor shows if the file is open
+				model = StructuredModelManager.getModelManager().getExistingModelForRead(file);
+				if (model == null) {
+					document = ((BeansValidationContext) context).getXmlDocumentState().getDocument(file);
+				}
+			}
+			if (document == null && model == null) {
+				model = StructuredModelManager.getModelManager().getModelForRead(file);
+			}
+			if (model instanceof IDOMModel) {
+				document = ((IDOMModel) model).getDocument();
+			}
 
-						private IXmlValidationContext xmlContext = new XmlValidationContext(
-								(BeansValidationContext) context, element);
+			if (document != null && document.getDocumentElement() != null) {
+				DomVisitor visitor = new DomVisitor() {
 
-						@Override
-						public void validateNode(Node n) {
-							validate(n, xmlContext);
-						}
+					private IXmlValidationContext xmlContext = new XmlValidationContext(
+							(BeansValidationContext) context, element);
 
-						@Override
-						public boolean supportsNode(Node n) {
-							return supports(n);
-						}
+					@Override
+					public void validateNode(Node n) {
+						validate(n, xmlContext);
+					}
 
-					};
-					visitor.visit(document);
-				}
+					@Override
+					public boolean supportsNode(Node n) {
+						return supports(n);
+					}
+
+				};
+				visitor.visit(document);
 			}
 		}
 		catch (IOException e) {
@@ -137,12 +154,23 @@ public abstract class AbstractXmlValidationRule implements IValidationRule<IBean
 			BeansCorePlugin.log(e);
 		}
 		finally {
+			// Only release the model after the whole document has been visited
 			if (model != null) {
 				model.releaseFromRead();
 			}
 		}
 	}
 
+	/**
+	 * Returns <code>true</code> if this rule needs the content model of the visited nodes, e.g. to look up tool
+	 * annotations via {@link IXmlValidationContext#getToolAnnotation(Node, String)}. The content model is only
+	 * available for the nodes of WST structured models, so such rules don't get the cheaper parsed dom model of the
+	 * {@link XmlDocumentState}.
+	 */
+	protected boolean requiresContentModel() {
+		return false;
+	}
+
 	/**
 	 * Returns <code>true</code> if given {@link Node n} is supported to be validated.
 	 * @param n the node to validate
@@ -334,10 +362,25 @@ public abstract class AbstractXmlValidationRule implements IValidationRule<IBean
 		}
 
 		private IResourceModelElement getResourceModelElementFromNode(Node n) {
+			int startLine = -1;
+			int endLine = -1;
 			if (n instanceof IDOMNode) {
 				IDOMNode domNode = ((IDOMNode) n);
-				int startLine = domNode.getStructuredDocument().getLineOfOffset(domNode.getStartOffset()) + 1;
-				int endLine = domNode.getStructuredDocument().getLineOfOffset(domNode.getStartOffset()) + 1;
+				startLine = domNode.getStructuredDocument().getLineOfOffset(domNode.getStartOffset()) + 1;
+				endLine = domNode.getStructuredDocument().getLineOfOffset(domNode.getStartOffset()) + 1;
+			}
+			else if (n != null) {
+				// Parsed by the XmlDocumentState; only elements carry line numbers
+				Node element = n.getNodeType() == Node.ATTRIBUTE_NODE ? ((Attr) n).getOwnerElement() : n;
+				while (element != null && element.getNodeType() != Node.ELEMENT_NODE) {
+					element = element.getParentNode();
+				}
+				if (element != null) {
+					startLine = LineNumberPreservingDOMParser.getStartLineNumber(element);
+					endLine = startLine;
+				}
+			}
+			if (startLine > 0) {
 				IModelElement modelElement = BeansModelUtils.getMostSpecificModelElement(startLine, endLine,
 						(IFile) beansConfig.getElementResource(), null);
 				if (modelElement instanceof IResourceModelElement) {
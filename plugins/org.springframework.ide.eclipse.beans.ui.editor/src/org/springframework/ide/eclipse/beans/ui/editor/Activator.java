@@ -34,6 +34,7 @@ import org.eclipse.wst.sse.ui.internal.provisional.registry.AdapterFactoryRegist
 import org.eclipse.wst.sse.ui.internal.provisional.registry.AdapterFactoryRegistryImpl;
 import org.osgi.framework.BundleContext;
 import org.springframework.ide.eclipse.beans.ui.editor.templates.BeansTemplateContextTypeIds;
+import org.springframework.ide.eclipse.beans.ui.editor.util.BeansContentAssistIndex;
 
 /**
  * The main plugin class.
@@ -100,6 +101,7 @@ public class Activator extends AbstractUIPlugin {
 	 */
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		BeansContentAssistIndex.shutdown();
 		super.stop(context);
 		plugin = null;
 		resourceBundle = null;
@@ -11,10 +11,8 @@
 package org.springframework.ide.eclipse.beans.ui.editor.util;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
 import org.springframework.ide.eclipse.beans.core.model.IBean;
@@ -52,10 +50,7 @@ public class BeansCompletionUtils {
 				requestor.acceptSearchMatch(node.getKey(), beanNode, file, prefix);
 			}
 			if (showExternal) {
-				Set<IBean> beansList = BeansEditorUtils.getBeansFromConfigSets(file);
-				Iterator<IBean> iterator = beansList.iterator();
-				while (iterator.hasNext()) {
-					IBean bean = iterator.next();
+				for (IBean bean : BeansContentAssistIndex.getInstance().getExternalBeans(file, prefix)) {
 					requestor.acceptSearchMatch(bean, file, prefix);
 				}
 			}
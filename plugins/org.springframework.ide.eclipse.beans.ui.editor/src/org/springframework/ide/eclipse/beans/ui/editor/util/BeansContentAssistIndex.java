@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.editor.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.model.IModelChangeListener;
+import org.springframework.ide.eclipse.core.model.ModelChangeEvent;
+
+/**
+ * Index shared by the content assist calculators of the XML config editors.
+ * <p>
+ * It holds the beans that are visible to a config file from its config sets, indexed by bean name, and the sub types
+ * of the types used for class hierarchy proposals. The beans are dropped when the beans model changes, the sub types
+ * when types are added or removed, super types change or a classpath changes.
+ * <p>
+ * Type hierarchies are computed in a background job, so that concurrent requests for the same type share one
+ * computation. If the job hasn't started within the latency budget of a request, the request computes the hierarchy
+ * itself; if it is running, the request waits for it to finish.
+ * @author agent
+ * @since 3.9.8
+ */
+public class BeansContentAssistIndex {
+
+	/** Time in milliseconds content assist waits for a type hierarchy that is being computed */
+	public static final long HIERARCHY_LATENCY_BUDGET = 500;
+
+	private static BeansContentAssistIndex instance;
+
+	private final Map<IFile, SortedMap<String, List<IBean>>> externalBeans = new HashMap<IFile, SortedMap<String, List<IBean>>>();
+
+	private final Map<String, SubtypesJob> subtypes = new HashMap<String, SubtypesJob>();
+
+	private final IModelChangeListener modelListener = new IModelChangeListener() {
+
+		public void elementChanged(ModelChangeEvent event) {
+			synchronized (externalBeans) {
+				externalBeans.clear();
+			}
+		}
+	};
+
+	private final IElementChangedListener javaListener = new IElementChangedListener() {
+
+		public void elementChanged(ElementChangedEvent event) {
+			if (affectsTypeHierarchies(event.getDelta())) {
+				synchronized (subtypes) {
+					subtypes.clear();
+				}
+			}
+		}
+	};
+
+	public static synchronized BeansContentAssistIndex getInstance() {
+		if (instance == null) {
+			instance = new BeansContentAssistIndex();
+		}
+		return instance;
+	}
+
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			instance.dispose();
+			instance = null;
+		}
+	}
+
+	private BeansContentAssistIndex() {
+		BeansCorePlugin.getModel().addChangeListener(modelListener);
+		JavaCore.addElementChangedListener(javaListener, ElementChangedEvent.POST_CHANGE);
+	}
+
+	private void dispose() {
+		BeansCorePlugin.getModel().removeChangeListener(modelListener);
+		JavaCore.removeElementChangedListener(javaListener);
+		synchronized (externalBeans) {
+			externalBeans.clear();
+		}
+		synchronized (subtypes) {
+			for (SubtypesJob job : subtypes.values()) {
+				job.cancel();
+			}
+			subtypes.clear();
+		}
+	}
+
+	/**
+	 * Returns the beans from the config sets of the given file that are defined in other files and whose name starts
+	 * with the given prefix, ignoring case.
+	 * @see BeansEditorUtils#getBeansFromConfigSets(IFile)
+	 */
+	public List<IBean> getExternalBeans(IFile file, String prefix) {
+		SortedMap<String, List<IBean>> beansByName;
+		synchronized (externalBeans) {
+			beansByName = externalBeans.get(file);
+		}
+		if (beansByName == null) {
+			beansByName = indexBeans(BeansEditorUtils.getBeansFromConfigSets(file));
+			synchronized (externalBeans) {
+				externalBeans.put(file, beansByName);
+			}
+		}
+
+		String key = prefix.toLowerCase();
+		List<IBean> beans = new ArrayList<IBean>();
+		for (List<IBean> matches : beansByName.subMap(key, key + Character.MAX_VALUE).values()) {
+			beans.addAll(matches);
+		}
+		return beans;
+	}
+
+	/**
+	 * Returns all sub types of the given type on the classpath of the given project, or <code>null</code> if the
+	 * calling thread is interrupted while waiting for them.
+	 * @param budget the number of milliseconds to wait for the background job before computing the sub types in the
+	 * calling thread
+	 */
+	public IType[] getSubtypes(IProject project, String typeName, long budget) {
+		SubtypesJob job;
+		synchronized (subtypes) {
+			String key = project.getName() + '|' + typeName;
+			job = subtypes.get(key);
+			if (job == null) {
+				job = new SubtypesJob(project, typeName);
+				subtypes.put(key, job);
+				job.schedule();
+			}
+		}
+		return job.getSubtypes(budget);
+	}
+
+	/**
+	 * Returns <code>true</code> if the given delta adds or removes types, changes super types or changes a classpath.
+	 * Changed compilation units without a fine grained delta are assumed to change their types.
+	 */
+	private static boolean affectsTypeHierarchies(IJavaElementDelta delta) {
+		int type = delta.getElement().getElementType();
+		int flags = delta.getFlags();
+		if (delta.getKind() != IJavaElementDelta.CHANGED) {
+			return type <= IJavaElement.TYPE;
+		}
+		if ((flags & (IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_CLASSPATH_CHANGED
+				| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+				| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+				| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0) {
+			return true;
+		}
+		if (type == IJavaElement.CLASS_FILE
+				|| (type == IJavaElement.COMPILATION_UNIT && (flags & IJavaElementDelta.F_CONTENT) != 0
+						&& (flags & IJavaElementDelta.F_FINE_GRAINED) == 0)) {
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (affectsTypeHierarchies(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static SortedMap<String, List<IBean>> indexBeans(Set<IBean> beans) {
+		SortedMap<String, List<IBean>> beansByName = new TreeMap<String, List<IBean>>();
+		for (IBean bean : beans) {
+			if (bean.getElementName() != null) {
+				String key = bean.getElementName().toLowerCase();
+				List<IBean> beansWithName = beansByName.get(key);
+				if (beansWithName == null) {
+					beansWithName = new ArrayList<IBean>(1);
+					beansByName.put(key, beansWithName);
+				}
+				beansWithName.add(bean);
+			}
+		}
+		return Collections.unmodifiableSortedMap(beansByName);
+	}
+
+	/**
+	 * Computes the sub types of a type once and hands them out to all waiting content assist requests.
+	 */
+	private static class SubtypesJob extends Job {
+
+		private final IProject project;
+
+		private final String typeName;
+
+		private final AtomicBoolean started = new AtomicBoolean();
+
+		private final CountDownLatch done = new CountDownLatch(1);
+
+		private volatile IType[] result = new IType[0];
+
+		public SubtypesJob(IProject project, String typeName) {
+			super("Computing sub types of " + typeName);
+			this.project = project;
+			this.typeName = typeName;
+			setSystem(true);
+			setPriority(INTERACTIVE);
+		}
+
+		public IType[] getSubtypes(long budget) {
+			try {
+				if (!done.await(budget, TimeUnit.MILLISECONDS)) {
+					// Rather than answering without proposals, compute the sub types here unless the job is running
+					if (cancel()) {
+						compute(new NullProgressMonitor());
+					}
+					done.await();
+				}
+				return result;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			compute(monitor);
+			return Status.OK_STATUS;
+		}
+
+		private void compute(IProgressMonitor monitor) {
+			if (!started.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				IType type = JdtUtils.getJavaType(project, typeName);
+				if (type != null) {
+					ITypeHierarchy hierarchy = type.newTypeHierarchy(JavaCore.create(project), monitor);
+					result = hierarchy.getAllSubtypes(type);
+				}
+			}
+			catch (JavaModelException e) {
+				// no sub types then
+			}
+			finally {
+				done.countDown();
+			}
+		}
+	}
+
+}
@@ -17,7 +17,6 @@ import java.util.Map;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -25,7 +24,6 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.DefaultWorkingCopyOwner;
@@ -156,7 +154,7 @@ public class BeansJavaCompletionUtils {
 
 	/**
 	 * Add class assist proposals that match the given <code>prefix</code> and are part of the sub class hierarchy of
-	 * the given <code>typeName</code>.
+	 * the given <code>typeName</code>. The sub types are taken from the {@link BeansContentAssistIndex}.
 	 * @param request the {@link ContentAssistRequest} to add the proposals
 	 * @param prefix the prefix
 	 * @param typeName the super class of the request proposals
@@ -175,10 +173,12 @@ public class BeansJavaCompletionUtils {
 				if (type != null && file.getProject().hasNature(JavaCore.NATURE_ID)) {
 	
 					// Make sure that JDT's type filter preferences are applied
+					IType[] types = null;
 					if (!TypeFilter.isFiltered(type)) {
-						ITypeHierarchy hierachy = type.newTypeHierarchy(JavaCore.create(file.getProject()),
-								new NullProgressMonitor());
-						IType[] types = hierachy.getAllSubtypes(type);
+						types = BeansContentAssistIndex.getInstance().getSubtypes(file.getProject(), typeName,
+								BeansContentAssistIndex.HIERARCHY_LATENCY_BUDGET);
+					}
+					if (types != null) {
 						Map<String, IType> sortMap = new HashMap<String, IType>();
 						for (IType foundType : types) {
 							if ((foundType.getFullyQualifiedName().startsWith(prefix) || foundType.getElementName()
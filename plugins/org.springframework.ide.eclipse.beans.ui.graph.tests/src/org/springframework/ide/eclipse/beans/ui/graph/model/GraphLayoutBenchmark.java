@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.graph.model;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Benchmark for laying out synthetic graphs of 100, 1,000 and 5,000 beans, for the first time, again with all
+ * subgraphs from the {@link GraphLayoutCache} and after a single bean has changed. The timings and cache statistics
+ * are printed to the console; that output is the result of the benchmark, the assertions only check that the layouts
+ * succeed; {@link GraphLayoutTest} asserts that unchanged subgraphs are taken from the cache. Not part of
+ * {@link org.springframework.ide.eclipse.beans.ui.graph.tests.AllBeansGraphTests}; run it on its own.
+ * @author agent
+ * @since 3.9.8
+ */
+public class GraphLayoutBenchmark {
+
+	private static final long SEED = 42;
+
+	@Test
+	public void benchmark100Beans() {
+		benchmark(100);
+	}
+
+	@Test
+	public void benchmark1000Beans() {
+		benchmark(1000);
+	}
+
+	@Test
+	public void benchmark5000Beans() {
+		benchmark(5000);
+	}
+
+	private void benchmark(int beanCount) {
+		// Warm up the JIT on a graph of the same size
+		assertTrue(SyntheticGraphs.createGraph(beanCount, SEED + 1).layout(new GraphLayoutCache(null, null, null)));
+
+		GraphLayoutCache cache = new GraphLayoutCache(null, null, null);
+		GraphLayoutCache.resetStatistics();
+		Graph graph = SyntheticGraphs.createGraph(beanCount, SEED);
+		long start = System.nanoTime();
+		assertTrue(graph.layout(cache));
+		report(beanCount, "first layout", start);
+
+		graph = SyntheticGraphs.createGraph(beanCount, SEED);
+		GraphLayoutCache.resetStatistics();
+		start = System.nanoTime();
+		assertTrue(graph.layout(cache));
+		report(beanCount, "unchanged", start);
+
+		graph = SyntheticGraphs.createGraph(beanCount, SEED);
+		((Bean) graph.getNodes().get(0)).width += 10;
+		GraphLayoutCache.resetStatistics();
+		start = System.nanoTime();
+		assertTrue(graph.layout(cache));
+		report(beanCount, "one bean changed", start);
+	}
+
+	private static void report(int beanCount, String run, long start) {
+		long millis = (System.nanoTime() - start) / 1000000;
+		System.out.println(String.format("%,d beans, %s: %,d ms (%d subgraphs laid out, %d from cache)", beanCount,
+				run, millis, GraphLayoutCache.getMissCount(), GraphLayoutCache.getHitCount()));
+	}
+
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.graph.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for the laying out of graphs with the {@link GraphLayoutCache}.
+ * @author agent
+ * @since 3.9.8
+ */
+public class GraphLayoutTest {
+
+	private File folder;
+
+	@Before
+	public void setUp() throws IOException {
+		GraphLayoutCache.resetStatistics();
+		folder = File.createTempFile("layouts", "");
+		folder.delete();
+		folder.mkdirs();
+	}
+
+	@After
+	public void tearDown() {
+		for (File file : folder.listFiles()) {
+			file.delete();
+		}
+		folder.delete();
+	}
+
+	@Test
+	public void testLayoutIsReusedForUnchangedSubgraphs() {
+		GraphLayoutCache cache = new GraphLayoutCache(null, null, null);
+		Graph graph = SyntheticGraphs.createGraph(100, 42);
+		assertTrue(graph.layout(cache));
+		long subgraphs = GraphLayoutCache.getMissCount();
+		assertTrue(subgraphs > 1);
+		assertEquals(0, GraphLayoutCache.getHitCount());
+
+		Graph sameGraph = SyntheticGraphs.createGraph(100, 42);
+		assertTrue(sameGraph.layout(cache));
+		assertEquals(subgraphs, GraphLayoutCache.getMissCount());
+		assertEquals(subgraphs, GraphLayoutCache.getHitCount());
+		for (int i = 0; i < graph.getNodes().size(); i++) {
+			assertEquals(getBounds(graph, i), getBounds(sameGraph, i));
+		}
+	}
+
+	@Test
+	public void testChangedSubgraphIsLaidOutAgain() {
+		GraphLayoutCache cache = new GraphLayoutCache(null, null, null);
+		assertTrue(SyntheticGraphs.createGraph(100, 42).layout(cache));
+		long subgraphs = GraphLayoutCache.getMissCount();
+
+		Graph changedGraph = SyntheticGraphs.createGraph(100, 42);
+		((Bean) changedGraph.getNodes().get(0)).width += 10;
+		assertTrue(changedGraph.layout(cache));
+		assertEquals(subgraphs + 1, GraphLayoutCache.getMissCount());
+		assertEquals(subgraphs - 1, GraphLayoutCache.getHitCount());
+	}
+
+	@Test
+	public void testBeansDontOverlap() {
+		Graph graph = SyntheticGraphs.createGraph(300, 7);
+		assertTrue(graph.layout(new GraphLayoutCache(null, null, null)));
+		List<?> nodes = graph.getNodes();
+		for (int i = 0; i < nodes.size(); i++) {
+			for (int j = i + 1; j < nodes.size(); j++) {
+				assertFalse(i + " overlaps " + j, getBounds(graph, i).intersects(getBounds(graph, j)));
+			}
+		}
+	}
+
+	@Test
+	public void testLayoutFilesOfRemovedInputsArePruned() throws IOException {
+		File staleFile = new File(folder, "stale.layout");
+		assertTrue(SyntheticGraphs.createGraph(20, 42).layout(
+				new GraphLayoutCache(staleFile, "1|no-such-project", null)));
+		assertTrue(staleFile.isFile());
+
+		File brokenFile = new File(folder, "broken.layout");
+		FileOutputStream out = new FileOutputStream(brokenFile);
+		out.write("subgraph".getBytes("UTF-8"));
+		out.close();
+		File otherFile = new File(folder, "other.txt");
+		otherFile.createNewFile();
+
+		GraphLayoutCache.prune(folder);
+		assertFalse(staleFile.exists());
+		assertFalse(brokenFile.exists());
+		assertTrue(otherFile.exists());
+	}
+
+	private static Rectangle getBounds(Graph graph, int index) {
+		Bean bean = (Bean) graph.getNodes().get(index);
+		return new Rectangle(bean.x, bean.y, bean.width, bean.height);
+	}
+
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.graph.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConnection.BeanType;
+
+/**
+ * Creates graphs of measured beans that are not backed by the beans model. Graphs created with the same number of
+ * beans and seed are equal. Every tenth bean is unconnected, the other beans form connected subgraphs of up to
+ * {@link #SUBGRAPH_SIZE} beans in which every bean references one or two of the beans created before it.
+ * @author agent
+ * @since 3.9.8
+ */
+class SyntheticGraphs {
+
+	static final int SUBGRAPH_SIZE = 25;
+
+	static Graph createGraph(int beanCount, long seed) {
+		Random random = new Random(seed);
+		Map<String, Bean> beans = new LinkedHashMap<String, Bean>();
+		List<Reference> references = new ArrayList<Reference>();
+		List<Bean> subgraph = new ArrayList<Bean>();
+		for (int i = 0; i < beanCount; i++) {
+			Bean bean = new Bean();
+			bean.width = 80 + random.nextInt(120);
+			bean.height = 24 + 16 * random.nextInt(4);
+			bean.preferredHeight = bean.height;
+			beans.put("bean" + i, bean);
+			if (i % 10 == 9) {
+				continue;
+			}
+			if (subgraph.size() == SUBGRAPH_SIZE) {
+				subgraph.clear();
+			}
+			if (!subgraph.isEmpty()) {
+				Bean target = subgraph.get(random.nextInt(subgraph.size()));
+				references.add(new Reference(BeanType.STANDARD, bean, target, false));
+				Bean otherTarget = subgraph.get(random.nextInt(subgraph.size()));
+				if (otherTarget != target && random.nextInt(3) == 0) {
+					references.add(new Reference(BeanType.STANDARD, bean, otherTarget, false));
+				}
+			}
+			subgraph.add(bean);
+		}
+		return new Graph(beans, references);
+	}
+
+}
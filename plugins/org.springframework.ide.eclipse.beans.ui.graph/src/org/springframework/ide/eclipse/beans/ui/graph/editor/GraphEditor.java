@@ -256,14 +256,35 @@ public class GraphEditor extends EditorPart implements ISelectionListener {
 							final Graph graph = new Graph(input);
 							graph.init();
 
-							Display.getDefault().asyncExec(new Runnable() {
+							// Only the bean figures need to be measured in the UI thread, the
+							// layout itself is calculated in this job
+							final boolean[] isMeasured = new boolean[1];
+							Display.getDefault().syncExec(new Runnable() {
 
 								public void run() {
-									if (getGraphicalViewer() != null && getGraphicalViewer().getControl() != null) {
+									if (getGraphicalViewer() != null && getGraphicalViewer().getControl() != null
+											&& !getGraphicalViewer().getControl().isDisposed()) {
 										setPartName(input.getName());
 										setContentDescription(input.getToolTipText());
 
-										graph.layout(getGraphicalViewer().getControl().getFont());
+										graph.measure(getGraphicalViewer().getControl().getFont());
+										isMeasured[0] = true;
+									}
+								}
+							});
+							if (!isMeasured[0] || monitor.isCanceled()) {
+								return Status.OK_STATUS;
+							}
+							final boolean isLaidOut = graph.layout();
+
+							Display.getDefault().asyncExec(new Runnable() {
+
+								public void run() {
+									if (getGraphicalViewer() != null && getGraphicalViewer().getControl() != null
+											&& !getGraphicalViewer().getControl().isDisposed()) {
+										if (!isLaidOut) {
+											graph.showLayoutError();
+										}
 										getGraphicalViewer().setContents(graph);
 									}
 								}
@@ -17,6 +17,7 @@ import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.Label;
 import org.eclipse.draw2d.MarginBorder;
 import org.eclipse.draw2d.ToolbarLayout;
+import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Insets;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.swt.SWT;
@@ -41,6 +42,11 @@ public class BeanFigure extends Figure {
 
 	public static final int MAX_NAME_LENGTH = 20;
 
+	/**
+	 * Zoom level below which beans are painted as placeholders without labels, icons and compartments
+	 */
+	public static final double LEVEL_OF_DETAIL_SCALE = 0.5;
+
 	protected Bean bean;
 
 	private IFigure contents;
@@ -146,8 +152,7 @@ public class BeanFigure extends Figure {
 			// }
 			// else {
 			label.setText(name);
-			Object value = carg.getBeanConstructorArgument().getValue();
-			label.setToolTip(new Label(createToolTipForValue(value)));
+			label.setToolTip(new ValueToolTip(carg.getBeanConstructorArgument().getValue()));
 			// }
 			label.setIcon(BeansUIPlugin.getLabelProvider().getImage(
 					carg.getBeanConstructorArgument()));
@@ -162,14 +167,13 @@ public class BeanFigure extends Figure {
 		for (Property prop : props) {
 			Label label = new Label(prop.getName());
 			label.setIcon(BeansUIPlugin.getLabelProvider().getImage(prop.getBeanProperty()));
-			Object value = prop.getBeanProperty().getValue();
-			label.setToolTip(new Label(createToolTipForValue(value)));
+			label.setToolTip(new ValueToolTip(prop.getBeanProperty().getValue()));
 			properties.add(label);
 		}
 		return properties;
 	}
 
-	private String createToolTipForValue(Object value) {
+	private static String createToolTipForValue(Object value) {
 		StringBuffer toolTip = new StringBuffer("Value: ");
 		if (value == null) {
 			toolTip.append("NULL");
@@ -206,6 +210,28 @@ public class BeanFigure extends Figure {
 		g.fillRectangle(r.right() - 9, r.y, 5, r.height - 5);
 		g.fillRectangle(r.x, r.bottom() - 9, r.width - 5, 5);
 		g.fillRectangle(r.x, r.y, r.width - 5, getBeanSize());
+
+		if (isPlaceholder(g)) {
+			// Fill the compartments and mark the name instead of painting the child figures
+			g.fillRectangle(r.x, r.y, r.width - 5, r.height - 5);
+			Rectangle name = label.getBounds().getCopy().shrink(4, 4);
+			g.setBackgroundColor(ColorConstants.lightGray);
+			g.fillRectangle(name.x, name.y, name.width, name.height);
+		}
+	}
+
+	@Override
+	protected void paintChildren(Graphics g) {
+		if (!isPlaceholder(g)) {
+			super.paintChildren(g);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the graph is zoomed out too far to read the labels of this figure.
+	 */
+	protected boolean isPlaceholder(Graphics g) {
+		return g.getAbsoluteScale() < LEVEL_OF_DETAIL_SCALE;
 	}
 
 	public int getBeanSize() {
@@ -223,4 +249,39 @@ public class BeanFigure extends Figure {
 		return contents;
 	}
 
+	/**
+	 * Tooltip for the value of a constructor argument or property, whose text is only created when the tooltip is
+	 * shown for the first time.
+	 */
+	private static class ValueToolTip extends Label {
+
+		private Object value;
+
+		private boolean hasText;
+
+		public ValueToolTip(Object value) {
+			this.value = value;
+		}
+
+		@Override
+		public Dimension getPreferredSize(int wHint, int hHint) {
+			initText();
+			return super.getPreferredSize(wHint, hHint);
+		}
+
+		@Override
+		protected void paintFigure(Graphics graphics) {
+			initText();
+			super.paintFigure(graphics);
+		}
+
+		private void initText() {
+			if (!hasText) {
+				hasText = true;
+				setText(createToolTipForValue(value));
+				value = null;
+			}
+		}
+	}
+
 }
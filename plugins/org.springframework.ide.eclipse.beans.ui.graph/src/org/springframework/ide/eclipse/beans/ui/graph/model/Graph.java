@@ -12,10 +12,14 @@ package org.springframework.ide.eclipse.beans.ui.graph.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,11 +32,12 @@ import org.eclipse.core.runtime.IExtensionPoint;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Insets;
+import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.graph.DirectedGraph;
 import org.eclipse.draw2d.graph.DirectedGraphLayout;
 import org.eclipse.draw2d.graph.Edge;
-import org.eclipse.draw2d.graph.EdgeList;
 import org.eclipse.draw2d.graph.Node;
+import org.eclipse.draw2d.graph.NodeList;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.swt.graphics.Font;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
@@ -48,6 +53,7 @@ import org.springframework.ide.eclipse.beans.ui.BeansUIPlugin;
 import org.springframework.ide.eclipse.beans.ui.graph.BeansGraphPlugin;
 import org.springframework.ide.eclipse.beans.ui.graph.editor.GraphEditorInput;
 import org.springframework.ide.eclipse.beans.ui.graph.figures.BeanFigure;
+import org.springframework.ide.eclipse.beans.ui.graph.model.GraphLayoutCache.SubgraphLayout;
 import org.springframework.ide.eclipse.core.SpringCoreUtils;
 import org.springframework.ide.eclipse.core.model.IModelElement;
 
@@ -86,6 +92,8 @@ public class Graph implements IAdaptable {
 
 	private String contextId;
 
+	private String layoutError;
+
 	public Graph() {
 		graph = new DirectedGraph();
 	}
@@ -96,6 +104,19 @@ public class Graph implements IAdaptable {
 		this.contextId = input.getContextId();
 	}
 
+	/**
+	 * Creates a graph of the given measured beans and references between them, which is not backed by the beans
+	 * model.
+	 */
+	@SuppressWarnings("unchecked")
+	Graph(Map<String, Bean> beans, List<Reference> beanReferences) {
+		this.beans = beans;
+		this.beanReferences = beanReferences;
+		graph = new DirectedGraph();
+		graph.nodes.addAll(beans.values());
+		graph.edges.addAll(beanReferences);
+	}
+
 	/**
 	 * Initializes the embedded graph with nodes from GraphEditorInput's beans and edges from GraphEditorInput's bean
 	 * references.
@@ -134,10 +155,22 @@ public class Graph implements IAdaptable {
 		return graph.nodes;
 	}
 
-	@SuppressWarnings({ "unchecked", "deprecation" })
+	/**
+	 * Calculates the dimensions and positions of all beans and displays an error message if the graph can't be laid
+	 * out. Needs to be called from the UI thread.
+	 */
 	public void layout(Font font) {
+		measure(font);
+		if (!layout()) {
+			showLayoutError();
+		}
+	}
 
-		// Iterate through all graph nodes (beans) to calculate label width
+	/**
+	 * Calculates the dimensions of all beans with temporary bean figures. Needs to be called from the UI thread before
+	 * {@link #layout()}.
+	 */
+	public void measure(Font font) {
 		Iterator beans = graph.nodes.iterator();
 		while (beans.hasNext()) {
 			Bean bean = (Bean) beans.next();
@@ -150,87 +183,82 @@ public class Graph implements IAdaptable {
 			bean.height = size.height;
 			bean.preferredHeight = size.height;
 		}
+	}
 
-		// Remove all unreferenced single beans and connect all unreferenced
-		// subgraphs with a temporary root bean
-		Bean root = new Bean();
-		graph.nodes.add(root);
+	/**
+	 * Calculates the positions of all measured beans. Connected subgraphs are placed side by side and get their
+	 * positions from the {@link GraphLayoutCache} if they have been laid out before with the same beans and references,
+	 * so that only new or changed subgraphs are laid out via {@link DirectedGraphLayout}. Unconnected beans are placed
+	 * in rows below. As no widgets are involved this can be called from a background thread.
+	 * @return <code>false</code> if the graph can't be laid out, which is reported by {@link #showLayoutError()}
+	 */
+	public boolean layout() {
+		return layout(input != null ? GraphLayoutCache.getCache(elementId, contextId) : new GraphLayoutCache(null,
+				null, null));
+	}
 
-		EdgeList rootEdges = new EdgeList();
-		List<Bean> orphanBeans = new ArrayList<Bean>();
-		beans = getBeans().iterator();
-		while (beans.hasNext()) {
-			Bean bean = (Bean) beans.next();
-			if (bean.incoming.isEmpty() && bean.outgoing.isEmpty()) {
-				orphanBeans.add(bean);
-				graph.nodes.remove(bean);
-			}
-			else {
-				Reference reference = new Reference(BeanType.STANDARD, root, bean, false);
-				reference.weight = 0;
-				rootEdges.add(reference);
-				graph.edges.add(reference);
+	/**
+	 * Calculates the positions of all measured beans with the given cache.
+	 * @see #layout()
+	 */
+	boolean layout(GraphLayoutCache cache) {
+		try {
+			final Map<Bean, String> names = new HashMap<Bean, String>();
+			for (Map.Entry<String, Bean> entry : beans.entrySet()) {
+				names.put(entry.getValue(), entry.getKey());
 			}
-		}
+			final Comparator<Bean> beanComparator = new Comparator<Bean>() {
 
-		// Calculate position of all beans in graph
-		try {
-			new DirectedGraphLayout().visit(graph);
-
-			// Re-invert edges inverted while breaking cycles; this only seems to be required on earlier GEF versions
-			if (!SpringCoreUtils.isEclipseSameOrNewer(3, 6)) {
-				for (int i = 0; i < graph.edges.size(); i++) {
-					Edge e = graph.edges.getEdge(i);
-					if (e.isFeedback()) {
-						e.invert();
-					}
+				public int compare(Bean bean1, Bean bean2) {
+					return getName(bean1).compareTo(getName(bean2));
 				}
-			}
 
-			// Remove temporary root and root edges
-			for (int i = 0; i < rootEdges.size(); i++) {
-				Edge e = rootEdges.getEdge(i);
-				e.source.outgoing.remove(e);
-				e.target.incoming.remove(e);
-				graph.edges.remove(e);
-			}
-			graph.nodes.remove(root);
+				private String getName(Bean bean) {
+					String name = names.get(bean);
+					return (name != null ? name : "");
+				}
+			};
+			Comparator<Reference> referenceComparator = new Comparator<Reference>() {
+
+				public int compare(Reference reference1, Reference reference2) {
+					int result = beanComparator.compare(reference1.getSourceBean(), reference2.getSourceBean());
+					return (result != 0 ? result : beanComparator.compare(reference1.getTargetBean(),
+							reference2.getTargetBean()));
+				}
+			};
 
-			// Re-align nodes and edges' bend points topmost vertical position
+			// Place all connected subgraphs side by side
+			List<Bean> orphanBeans = new ArrayList<Bean>();
+			List<String> digests = new ArrayList<String>();
 			int maxY = 0; // max height of graph
 			int maxX = 0; // max width of graph
-			int ranks = graph.ranks.size();
-			if (ranks > 1) {
-				int deltaY = graph.ranks.getRank(1).getNode(0).y;
-				Iterator nodes = graph.nodes.iterator();
-				while (nodes.hasNext()) {
-					Bean node = (Bean) nodes.next();
-
-					// Move node vertically and update max height
-					node.y -= deltaY;
-					if ((node.y + node.height) > maxY) {
-						maxY = node.y + node.height;
-					}
-
-					// Update max width
-					if ((node.x + node.width) > maxX) {
-						maxX = node.x + node.width;
+			for (List<Bean> subgraphBeans : getSubgraphs(orphanBeans)) {
+				Collections.sort(subgraphBeans, beanComparator);
+				List<Reference> references = new ArrayList<Reference>();
+				for (Bean bean : subgraphBeans) {
+					for (int i = 0; i < bean.outgoing.size(); i++) {
+						references.add((Reference) bean.outgoing.getEdge(i));
 					}
 				}
-				Iterator edges = graph.edges.iterator();
-				while (edges.hasNext()) {
-					Edge edge = (Edge) edges.next();
-					if (edge.vNodes != null) {
-						Iterator points = edge.vNodes.iterator();
-						while (points.hasNext()) {
-							Node node = (Node) points.next();
-							node.y -= deltaY;
-						}
-					}
+				Collections.sort(references, referenceComparator);
+
+				String digest = getDigest(subgraphBeans, references, names);
+				SubgraphLayout layout = cache.get(digest);
+				if (layout == null) {
+					layout = layoutSubgraph(subgraphBeans, references);
+					cache.put(digest, layout);
 				}
+				digests.add(digest);
+
+				int x = (maxX > 0 ? maxX + DEFAULT_PADDING.getWidth() : 0);
+				applyLayout(layout, subgraphBeans, references, x);
+				maxX = x + layout.getWidth();
+				maxY = Math.max(maxY, layout.getHeight());
 			}
+			cache.retain(digests);
+			cache.save();
 
-			// Re-add all unconnected beans to the bottom of the graph
+			// Add all unconnected beans to the bottom of the graph
 			int x = 0; // current horizontal position in current row
 			int y = maxY; // current row
 			if (maxY > 0) {
@@ -240,9 +268,7 @@ public class Graph implements IAdaptable {
 				maxX = MAX_ORPHAN_ROW_WIDTH;
 			}
 			maxY = 0; // max height of all figures in current row
-			beans = orphanBeans.iterator();
-			while (beans.hasNext()) {
-				Bean bean = (Bean) beans.next();
+			for (Bean bean : orphanBeans) {
 
 				// If current row is filled then start new row
 				if ((x + bean.width) > maxX) {
@@ -258,20 +284,159 @@ public class Graph implements IAdaptable {
 					}
 				}
 				x += bean.width + DEFAULT_PADDING.getWidth();
-				graph.nodes.add(bean);
 			}
+			return true;
 		}
 		catch (RuntimeException e) {
 
 			// If an error occured during layouting (graph contains cylces,
 			// graph not fully connected, ...) then clear graph, invalidate
-			// editor input (not saved when Eclipse is closed) and display an
-			// error message
+			// editor input (not saved when Eclipse is closed) and remember
+			// the error message
 			graph = new DirectedGraph();
-			input.setHasError(true);
+			layoutError = (e.getMessage() != null ? e.getMessage() : e.toString());
+			if (input != null) {
+				input.setHasError(true);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Displays the reason why the last call of {@link #layout()} failed. Needs to be called from the UI thread.
+	 */
+	public void showLayoutError() {
+		if (layoutError != null) {
 			MessageDialog.openError(BeansGraphPlugin.getActiveWorkbenchWindow().getShell(),
-					BeansGraphPlugin.getResourceString(ERROR_TITLE), e.getMessage());
+					BeansGraphPlugin.getResourceString(ERROR_TITLE), layoutError);
+		}
+	}
+
+	/**
+	 * Returns the connected subgraphs in the order of their first bean and adds all unreferenced single beans to the
+	 * given list.
+	 */
+	private List<List<Bean>> getSubgraphs(List<Bean> orphanBeans) {
+		List<List<Bean>> subgraphs = new ArrayList<List<Bean>>();
+		Set<Bean> visited = new HashSet<Bean>();
+		for (Bean bean : beans.values()) {
+			if (bean.incoming.isEmpty() && bean.outgoing.isEmpty()) {
+				orphanBeans.add(bean);
+			}
+			else if (visited.add(bean)) {
+				List<Bean> subgraph = new ArrayList<Bean>();
+				LinkedList<Bean> queue = new LinkedList<Bean>();
+				queue.add(bean);
+				while (!queue.isEmpty()) {
+					Bean current = queue.removeFirst();
+					subgraph.add(current);
+					for (int i = 0; i < current.outgoing.size(); i++) {
+						Bean target = (Bean) current.outgoing.getEdge(i).target;
+						if (visited.add(target)) {
+							queue.add(target);
+						}
+					}
+					for (int i = 0; i < current.incoming.size(); i++) {
+						Bean source = (Bean) current.incoming.getEdge(i).source;
+						if (visited.add(source)) {
+							queue.add(source);
+						}
+					}
+				}
+				subgraphs.add(subgraph);
+			}
+		}
+		return subgraphs;
+	}
 
+	/**
+	 * Returns the digest of the names and dimensions of the given beans and of the references between them.
+	 */
+	private String getDigest(List<Bean> subgraphBeans, List<Reference> references, Map<Bean, String> names) {
+		StringBuilder text = new StringBuilder();
+		for (Bean bean : subgraphBeans) {
+			text.append(names.get(bean)).append('\t').append(bean.width).append('\t').append(bean.height)
+					.append('\n');
+		}
+		for (Reference reference : references) {
+			text.append(names.get(reference.getSourceBean())).append("\t->\t")
+					.append(names.get(reference.getTargetBean())).append('\n');
+		}
+		return GraphLayoutCache.digest(text.toString());
+	}
+
+	/**
+	 * Lays out the given connected subgraph and returns the positions relative to its top left corner.
+	 */
+	@SuppressWarnings({ "unchecked", "deprecation" })
+	private SubgraphLayout layoutSubgraph(List<Bean> subgraphBeans, List<Reference> references) {
+		DirectedGraph subgraph = new DirectedGraph();
+		subgraph.nodes.addAll(subgraphBeans);
+		subgraph.edges.addAll(references);
+		new DirectedGraphLayout().visit(subgraph);
+
+		// Re-invert edges inverted while breaking cycles; this only seems to be required on earlier GEF versions
+		if (!SpringCoreUtils.isEclipseSameOrNewer(3, 6)) {
+			for (int i = 0; i < subgraph.edges.size(); i++) {
+				Edge e = subgraph.edges.getEdge(i);
+				if (e.isFeedback()) {
+					e.invert();
+				}
+			}
+		}
+
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		for (Bean bean : subgraphBeans) {
+			minX = Math.min(minX, bean.x);
+			minY = Math.min(minY, bean.y);
+		}
+
+		SubgraphLayout layout = new SubgraphLayout(subgraphBeans.size(), references.size());
+		for (int i = 0; i < subgraphBeans.size(); i++) {
+			Bean bean = subgraphBeans.get(i);
+			layout.setBeanBounds(i, new int[] { bean.x - minX, bean.y - minY, bean.width, bean.height });
+		}
+		for (int i = 0; i < references.size(); i++) {
+			Reference reference = references.get(i);
+			NodeList nodes = reference.vNodes;
+			int[] points = new int[(nodes != null ? nodes.size() * 4 : 0)];
+			for (int j = 0; nodes != null && j < nodes.size(); j++) {
+				Node node = nodes.getNode(j);
+
+				// Connect the virtual nodes from top to bottom, unless the edge was inverted to break a cycle
+				int top = (reference.isFeedback() ? node.y + node.height : node.y) - minY;
+				int bottom = (reference.isFeedback() ? node.y : node.y + node.height) - minY;
+				points[j * 4] = node.x - minX;
+				points[j * 4 + 1] = top;
+				points[j * 4 + 2] = node.x - minX;
+				points[j * 4 + 3] = bottom;
+			}
+			layout.setBendpoints(i, points);
+		}
+		return layout;
+	}
+
+	/**
+	 * Moves the beans and references of a subgraph to the given positions, with the subgraph's left side at the given
+	 * horizontal position.
+	 */
+	private void applyLayout(SubgraphLayout layout, List<Bean> subgraphBeans, List<Reference> references, int x) {
+		for (int i = 0; i < subgraphBeans.size(); i++) {
+			Bean bean = subgraphBeans.get(i);
+			int[] bounds = layout.getBeanBounds(i);
+			bean.x = x + bounds[0];
+			bean.y = bounds[1];
+			bean.width = bounds[2];
+			bean.height = bounds[3];
+		}
+		for (int i = 0; i < references.size(); i++) {
+			int[] points = layout.getBendpoints(i);
+			List<Point> bendpoints = new ArrayList<Point>(points.length / 2);
+			for (int j = 0; j < points.length; j += 2) {
+				bendpoints.add(new Point(x + points[j], points[j + 1]));
+			}
+			references.get(i).setBendpoints(bendpoints);
 		}
 	}
 
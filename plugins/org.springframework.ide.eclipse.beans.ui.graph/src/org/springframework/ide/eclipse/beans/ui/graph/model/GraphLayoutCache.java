@@ -0,0 +1,450 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.ui.graph.model;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.ui.graph.BeansGraphPlugin;
+
+/**
+ * Positions of the beans of laid out graphs, so that the beans graph editor only needs to run the
+ * {@link DirectedGraphLayout} for the parts of a graph that have changed since it was last opened.
+ * <p>
+ * Positions are kept per connected subgraph of an editor input and are identified by a digest of the names and sizes
+ * of the beans and of the references between them. The positions of an editor input are written to the state location
+ * of this plugin, so that they survive restarts of the workspace. The files of editor inputs whose model elements no
+ * longer exist are deleted when the first cache is requested.
+ * @author agent
+ * @since 3.9.8
+ */
+public class GraphLayoutCache {
+
+	/** Number of editor inputs whose positions are kept in memory */
+	private static final int MAX_INPUTS = 20;
+
+	private static final String LAYOUTS_FOLDER = "layouts";
+
+	private static final String LAYOUT_FILE_EXTENSION = ".layout";
+
+	private static final String ELEMENT = "element ";
+
+	private static final String CONTEXT = "context ";
+
+	private static final String SUBGRAPH = "subgraph";
+
+	private static final String ENCODING = "UTF-8";
+
+	private static final Map<String, GraphLayoutCache> CACHES = new LinkedHashMap<String, GraphLayoutCache>(16, 0.75f,
+			true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, GraphLayoutCache> eldest) {
+			return size() > MAX_INPUTS;
+		}
+	};
+
+	private static final AtomicLong HITS = new AtomicLong();
+
+	private static final AtomicLong MISSES = new AtomicLong();
+
+	private static boolean isPruned;
+
+	private final File file;
+
+	private final String elementId;
+
+	private final String contextId;
+
+	private final Map<String, SubgraphLayout> layouts = new LinkedHashMap<String, SubgraphLayout>();
+
+	private boolean isDirty;
+
+	/**
+	 * Returns the cache for the editor input with the given element and context ids.
+	 */
+	public static GraphLayoutCache getCache(String elementId, String contextId) {
+		String key = digest(elementId + '\n' + contextId);
+		synchronized (CACHES) {
+			if (!isPruned) {
+				isPruned = true;
+				File folder = getLayoutFolder();
+				if (folder != null) {
+					prune(folder);
+				}
+			}
+			GraphLayoutCache cache = CACHES.get(key);
+			if (cache == null) {
+				File folder = getLayoutFolder();
+				cache = new GraphLayoutCache(folder != null ? new File(folder, key + LAYOUT_FILE_EXTENSION) : null,
+						elementId, contextId);
+				cache.load();
+				CACHES.put(key, cache);
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * Removes all caches from memory. Persisted positions are kept.
+	 */
+	public static void clear() {
+		synchronized (CACHES) {
+			CACHES.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of subgraphs whose positions have been answered from the cache.
+	 */
+	public static long getHitCount() {
+		return HITS.get();
+	}
+
+	/**
+	 * Returns the number of subgraphs that had to be laid out.
+	 */
+	public static long getMissCount() {
+		return MISSES.get();
+	}
+
+	public static void resetStatistics() {
+		HITS.set(0);
+		MISSES.set(0);
+	}
+
+	/**
+	 * Returns the hex encoded SHA-1 digest of the given text.
+	 */
+	public static String digest(String text) {
+		try {
+			byte[] bytes = MessageDigest.getInstance("SHA-1").digest(text.getBytes(ENCODING));
+			StringBuilder digest = new StringBuilder(bytes.length * 2);
+			for (byte b : bytes) {
+				digest.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return digest.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static File getLayoutFolder() {
+		BeansGraphPlugin plugin = BeansGraphPlugin.getDefault();
+		return (plugin != null ? new File(plugin.getStateLocation().toFile(), LAYOUTS_FOLDER) : null);
+	}
+
+	/**
+	 * Deletes the layout files in the given folder whose editor input elements no longer exist in the beans model,
+	 * e.g. because the config, config set or bean has been removed or its project has been deleted or closed. Files
+	 * that can't be read are deleted as well.
+	 */
+	static void prune(File folder) {
+		File[] files = folder.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			if (file.getName().endsWith(LAYOUT_FILE_EXTENSION)) {
+				String[] ids = readInput(file);
+				if (ids == null || !exists(ids[0]) || (ids[1] != null && !exists(ids[1]))) {
+					file.delete();
+				}
+			}
+		}
+	}
+
+	private static boolean exists(String id) {
+		return BeansCorePlugin.getModel().getElement(id) != null;
+	}
+
+	/**
+	 * Returns the element and context id of the editor input the given layout file belongs to, or <code>null</code>
+	 * if the file can't be read.
+	 */
+	private static String[] readInput(File file) {
+		BufferedReader reader = null;
+		try {
+			reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), ENCODING));
+			return readInput(reader);
+		}
+		catch (IOException e) {
+			return null;
+		}
+		finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				}
+				catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	private static String[] readInput(BufferedReader reader) throws IOException {
+		String element = reader.readLine();
+		String context = reader.readLine();
+		if (element == null || !element.startsWith(ELEMENT) || context == null || !context.startsWith(CONTEXT)) {
+			throw new IOException("Invalid graph layout header");
+		}
+		String contextId = context.substring(CONTEXT.length());
+		return new String[] { element.substring(ELEMENT.length()), (contextId.length() > 0 ? contextId : null) };
+	}
+
+	/**
+	 * Creates a cache for the editor input with the given element and context ids that is kept in memory only if the
+	 * given file is <code>null</code>.
+	 */
+	GraphLayoutCache(File file, String elementId, String contextId) {
+		this.file = file;
+		this.elementId = elementId;
+		this.contextId = contextId;
+	}
+
+	/**
+	 * Returns the positions of the subgraph with the given digest or <code>null</code> if it needs to be laid out.
+	 */
+	public synchronized SubgraphLayout get(String digest) {
+		SubgraphLayout layout = layouts.get(digest);
+		if (layout != null) {
+			HITS.incrementAndGet();
+		}
+		else {
+			MISSES.incrementAndGet();
+		}
+		return layout;
+	}
+
+	public synchronized void put(String digest, SubgraphLayout layout) {
+		layouts.put(digest, layout);
+		isDirty = true;
+	}
+
+	/**
+	 * Removes the positions of all subgraphs except the ones with the given digests, so that the cache doesn't grow
+	 * with every change of the graph.
+	 */
+	public synchronized void retain(Collection<String> digests) {
+		if (layouts.keySet().retainAll(digests)) {
+			isDirty = true;
+		}
+	}
+
+	/**
+	 * Writes the positions to the state location if they have changed since they were loaded.
+	 */
+	public synchronized void save() {
+		if (!isDirty || file == null) {
+			return;
+		}
+		isDirty = false;
+		file.getParentFile().mkdirs();
+		BufferedWriter writer = null;
+		try {
+			writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), ENCODING));
+			writer.write(ELEMENT + elementId);
+			writer.newLine();
+			writer.write(CONTEXT + (contextId != null ? contextId : ""));
+			writer.newLine();
+			for (Map.Entry<String, SubgraphLayout> entry : layouts.entrySet()) {
+				SubgraphLayout layout = entry.getValue();
+				writer.write(SUBGRAPH + ' ' + entry.getKey() + ' ' + layout.getBeanCount() + ' '
+						+ layout.getReferenceCount());
+				writer.newLine();
+				for (int i = 0; i < layout.getBeanCount(); i++) {
+					writeLine(writer, layout.getBeanBounds(i));
+				}
+				for (int i = 0; i < layout.getReferenceCount(); i++) {
+					writeLine(writer, layout.getBendpoints(i));
+				}
+			}
+		}
+		catch (IOException e) {
+			BeansGraphPlugin.log("Failed to save graph layout to '" + file + "'", e);
+		}
+		finally {
+			if (writer != null) {
+				try {
+					writer.close();
+				}
+				catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	private void load() {
+		if (file == null || !file.isFile()) {
+			return;
+		}
+		BufferedReader reader = null;
+		try {
+			reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), ENCODING));
+			readInput(reader);
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] header = line.split(" ");
+				if (header.length != 4 || !SUBGRAPH.equals(header[0])) {
+					throw new IOException("Invalid subgraph header '" + line + "'");
+				}
+				int beanCount = Integer.parseInt(header[2]);
+				int referenceCount = Integer.parseInt(header[3]);
+				SubgraphLayout layout = new SubgraphLayout(beanCount, referenceCount);
+				for (int i = 0; i < beanCount; i++) {
+					layout.setBeanBounds(i, readLine(reader));
+				}
+				for (int i = 0; i < referenceCount; i++) {
+					layout.setBendpoints(i, readLine(reader));
+				}
+				layouts.put(header[1], layout);
+			}
+		}
+		catch (IOException e) {
+			// outdated or broken, so the graph just needs to be laid out again
+			layouts.clear();
+		}
+		catch (RuntimeException e) {
+			layouts.clear();
+		}
+		finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				}
+				catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	private static void writeLine(BufferedWriter writer, int[] values) throws IOException {
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				writer.write(' ');
+			}
+			writer.write(Integer.toString(values[i]));
+		}
+		writer.newLine();
+	}
+
+	private static int[] readLine(BufferedReader reader) throws IOException {
+		String line = reader.readLine();
+		if (line == null) {
+			throw new IOException("Unexpected end of graph layout");
+		}
+		if (line.length() == 0) {
+			return new int[0];
+		}
+		String[] tokens = line.split(" ");
+		int[] values = new int[tokens.length];
+		for (int i = 0; i < tokens.length; i++) {
+			values[i] = Integer.parseInt(tokens[i]);
+		}
+		return values;
+	}
+
+	/**
+	 * Positions of the beans and bendpoints of the references of a connected subgraph, relative to the top left corner
+	 * of the subgraph. Beans and references are kept in the order of their names, which is determined by the digest
+	 * of the subgraph.
+	 */
+	public static class SubgraphLayout {
+
+		/** x, y, width and height per bean */
+		private final int[][] beanBounds;
+
+		/** x and y per bendpoint per reference */
+		private final int[][] bendpoints;
+
+		public SubgraphLayout(int beanCount, int referenceCount) {
+			this.beanBounds = new int[beanCount][];
+			this.bendpoints = new int[referenceCount][];
+		}
+
+		public int getBeanCount() {
+			return beanBounds.length;
+		}
+
+		public int getReferenceCount() {
+			return bendpoints.length;
+		}
+
+		public int[] getBeanBounds(int index) {
+			return beanBounds[index];
+		}
+
+		public void setBeanBounds(int index, int[] bounds) {
+			if (bounds.length != 4) {
+				throw new IllegalArgumentException("Invalid bean bounds");
+			}
+			beanBounds[index] = bounds;
+		}
+
+		public int[] getBendpoints(int index) {
+			return bendpoints[index];
+		}
+
+		public void setBendpoints(int index, int[] points) {
+			if (points.length % 2 != 0) {
+				throw new IllegalArgumentException("Invalid bendpoints");
+			}
+			bendpoints[index] = points;
+		}
+
+		/**
+		 * Returns the width of the subgraph.
+		 */
+		public int getWidth() {
+			int width = 0;
+			for (int[] bounds : beanBounds) {
+				width = Math.max(width, bounds[0] + bounds[2]);
+			}
+			return width;
+		}
+
+		/**
+		 * Returns the height of the subgraph.
+		 */
+		public int getHeight() {
+			int height = 0;
+			for (int[] bounds : beanBounds) {
+				height = Math.max(height, bounds[1] + bounds[3]);
+			}
+			return height;
+		}
+	}
+
+}
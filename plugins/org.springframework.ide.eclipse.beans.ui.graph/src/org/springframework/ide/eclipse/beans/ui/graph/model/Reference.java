@@ -10,7 +10,10 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.beans.ui.graph.model;
 
+import java.util.List;
+
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.graph.Edge;
 import org.eclipse.draw2d.graph.Node;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansConnection.BeanType;
@@ -34,6 +37,8 @@ public class Reference extends Edge implements IAdaptable {
 	
 	private IResourceModelElement sourceLocation;
 
+	private List<Point> bendpoints;
+
 	public Reference(BeanType type, Bean source, Bean target, boolean isInner) {
 		this(type, source, target, null, isInner);
 	}
@@ -89,6 +94,18 @@ public class Reference extends Edge implements IAdaptable {
 		return getSourceBean().getBean();
 	}
 
+	/**
+	 * Returns the bendpoints calculated by {@link Graph#layout()} or <code>null</code> if the bendpoints are given by
+	 * the virtual nodes of this edge.
+	 */
+	public List<Point> getBendpoints() {
+		return bendpoints;
+	}
+
+	public void setBendpoints(List<Point> bendpoints) {
+		this.bendpoints = bendpoints;
+	}
+
 	public int getStartLine() {
 		if (node instanceof Property) {
 			return ((Property) node).getBeanProperty().getElementStartLine();
@@ -20,6 +20,7 @@ import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.Label;
 import org.eclipse.draw2d.PolylineConnection;
 import org.eclipse.draw2d.PolylineDecoration;
+import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.graph.Edge;
 import org.eclipse.draw2d.graph.Node;
@@ -100,9 +101,17 @@ public class ReferencePart extends AbstractConnectionEditPart {
 			bends.add(new AbsoluteBendpoint(rect.getBottom()));
 		}
 
-		// Create bend points for edge's virtual nodes (if any)
+		// Create bend points for the bendpoints calculated by the graph or
+		// edge's virtual nodes (if any)
 		NodeList nodes = edge.vNodes;
-		if (nodes != null) {
+		List<Point> bendpoints = getReference().getBendpoints();
+		if (bendpoints != null) {
+			for (Point point : bendpoints) {
+				bends.add(new AbsoluteBendpoint(point.x + GraphPart.MARGIN_SIZE,
+						point.y + GraphPart.MARGIN_SIZE));
+			}
+		}
+		else if (nodes != null) {
 			for (int i = 0; i < nodes.size(); i++) {
 				Node node = nodes.getNode(i);
 
@@ -10,34 +10,78 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.internal.bestpractices.springiderules;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
 import org.springframework.ide.eclipse.beans.core.model.IBean;
 import org.springframework.ide.eclipse.core.model.IModelElement;
 
 /**
+ * Beans and {@link SimilarBeansIndex}es of the configs and config sets validated in one validation run. The cache
+ * is held by the project contributor state of the run and keeps the entries of the last
+ * {@link #MAX_ROOT_ELEMENTS} root elements only, as rules ask for the same root element while its beans are
+ * validated.
  * @author Martin Lippert
  */
 public class AllBeansCache {
 
-	private final Map<IModelElement, IBean[]> allBeansCache;
+	private static final int MAX_ROOT_ELEMENTS = 16;
+
+	private final Map<IModelElement, Entry> allBeansCache;
 
 	public AllBeansCache() {
-		allBeansCache = new ConcurrentHashMap<IModelElement, IBean[]>();
+		allBeansCache = new LinkedHashMap<IModelElement, Entry>(MAX_ROOT_ELEMENTS, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<IModelElement, Entry> eldest) {
+				return size() > MAX_ROOT_ELEMENTS;
+			}
+		};
 	}
 
 	public IBean[] getAllBeans(IModelElement rootElement) {
-		IBean[] allBeans = allBeansCache.get(rootElement);
-		if (allBeans == null) {
-			Set<IBean> beans = BeansModelUtils.getBeans(rootElement);
-			allBeans = beans.toArray(new IBean[beans.size()]);
-			allBeansCache.put(rootElement, allBeans);
+		return getEntry(rootElement).allBeans;
+	}
+
+	/**
+	 * Returns the index of similar beans of the given root element.
+	 * @since 3.9.8
+	 */
+	public SimilarBeansIndex getSimilarBeansIndex(IModelElement rootElement) {
+		Entry entry = getEntry(rootElement);
+		synchronized (entry) {
+			if (entry.similarBeansIndex == null) {
+				entry.similarBeansIndex = new SimilarBeansIndex(entry.allBeans);
+			}
+			return entry.similarBeansIndex;
 		}
+	}
 
-		return allBeans;
+	private Entry getEntry(IModelElement rootElement) {
+		synchronized (allBeansCache) {
+			Entry entry = allBeansCache.get(rootElement);
+			if (entry == null) {
+				Set<IBean> beans = BeansModelUtils.getBeans(rootElement);
+				entry = new Entry(beans.toArray(new IBean[beans.size()]));
+				allBeansCache.put(rootElement, entry);
+			}
+			return entry;
+		}
+	}
+
+	private static class Entry {
+
+		private final IBean[] allBeans;
+
+		private SimilarBeansIndex similarBeansIndex;
+
+		public Entry(IBean[] allBeans) {
+			this.allBeans = allBeans;
+		}
 	}
 
 }
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Pivotal Software, Inc.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.internal.bestpractices.springiderules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.ide.eclipse.beans.core.internal.model.Bean;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeanReference;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansTypedString;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.beans.core.model.IBeanConstructorArgument;
+import org.springframework.ide.eclipse.beans.core.model.IBeanProperty;
+
+/**
+ * Index of the beans of a config or config set for the {@link UseBeanInheritance} rule.
+ * <p>
+ * Beans are bucketed by their signature, that is their init method and constructor arguments, which similar beans
+ * must share. Within a bucket, the beans are indexed by their property name and value pairs, so that the number of
+ * properties a bean shares with the other beans of its bucket is counted without comparing it to every other bean.
+ * @author agent
+ * @since 3.9.8
+ */
+public class SimilarBeansIndex {
+
+	private final Map<String, Bucket> buckets = new HashMap<String, Bucket>();
+
+	public SimilarBeansIndex(IBean[] beans) {
+		for (IBean bean : beans) {
+			if (!UseBeanInheritance.isBeanSupported(bean)) {
+				continue;
+			}
+			String signature = getSignature(bean);
+			if (signature == null) {
+				continue;
+			}
+			Bucket bucket = buckets.get(signature);
+			if (bucket == null) {
+				bucket = new Bucket();
+				buckets.put(signature, bucket);
+			}
+			bucket.add(bean);
+		}
+	}
+
+	/**
+	 * Returns the beans that have the same signature as the given bean and share at least
+	 * <code>minNumSharedProperties</code> property values with it, in the order they were given to this index. The
+	 * given bean itself is included if it is part of this index.
+	 */
+	public List<IBean> getSimilarBeans(IBean bean, int minNumSharedProperties) {
+		String signature = getSignature(bean);
+		Bucket bucket = (signature != null ? buckets.get(signature) : null);
+		if (bucket == null) {
+			return Collections.emptyList();
+		}
+
+		Map<IBean, Integer> sharedProperties = new HashMap<IBean, Integer>();
+		for (IBeanProperty property : bean.getProperties()) {
+			String key = getPropertyKey(property.getElementName(), property.getValue());
+			List<IBean> beansWithProperty = (key != null ? bucket.beansByProperty.get(key) : null);
+			if (beansWithProperty != null) {
+				for (IBean beanWithProperty : beansWithProperty) {
+					Integer count = sharedProperties.get(beanWithProperty);
+					sharedProperties.put(beanWithProperty, count != null ? count + 1 : 1);
+				}
+			}
+		}
+
+		List<IBean> similarBeans = new ArrayList<IBean>();
+		for (IBean candidate : bucket.beans) {
+			Integer count = sharedProperties.get(candidate);
+			if ((count != null ? count : 0) >= minNumSharedProperties) {
+				similarBeans.add(candidate);
+			}
+		}
+		return similarBeans;
+	}
+
+	/**
+	 * Returns the init method and constructor arguments of the given bean as a string or <code>null</code> if a
+	 * constructor argument has a value that can't be compared.
+	 */
+	private static String getSignature(IBean bean) {
+		StringBuilder signature = new StringBuilder();
+		if (bean instanceof Bean) {
+			String initMethod = ((AbstractBeanDefinition) ((Bean) bean).getBeanDefinition()).getInitMethodName();
+			signature.append(initMethod != null ? initMethod : "");
+		}
+		TreeSet<String> arguments = new TreeSet<String>();
+		for (IBeanConstructorArgument argument : bean.getConstructorArguments()) {
+			String key = getPropertyKey(argument.getElementName(), argument.getValue());
+			if (key == null) {
+				return null;
+			}
+			arguments.add(key);
+		}
+		for (String argument : arguments) {
+			signature.append('\n').append(argument);
+		}
+		return signature.toString();
+	}
+
+	/**
+	 * Returns a key for the given name and value or <code>null</code> if the value is neither a string nor a bean
+	 * reference; such values are never considered equal.
+	 */
+	private static String getPropertyKey(String name, Object value) {
+		if (value instanceof BeansTypedString) {
+			return name + "\u0000s:" + ((BeansTypedString) value).getString();
+		}
+		else if (value instanceof BeanReference) {
+			return name + "\u0000r:" + ((BeanReference) value).getBeanName();
+		}
+		return null;
+	}
+
+	private static class Bucket {
+
+		private final List<IBean> beans = new ArrayList<IBean>();
+
+		private final Map<String, List<IBean>> beansByProperty = new HashMap<String, List<IBean>>();
+
+		public void add(IBean bean) {
+			beans.add(bean);
+			for (IBeanProperty property : bean.getProperties()) {
+				String key = getPropertyKey(property.getElementName(), property.getValue());
+				if (key != null) {
+					List<IBean> beansWithProperty = beansByProperty.get(key);
+					if (beansWithProperty == null) {
+						beansWithProperty = new ArrayList<IBean>();
+						beansByProperty.put(key, beansWithProperty);
+					}
+					beansWithProperty.add(bean);
+				}
+			}
+		}
+	}
+
+}
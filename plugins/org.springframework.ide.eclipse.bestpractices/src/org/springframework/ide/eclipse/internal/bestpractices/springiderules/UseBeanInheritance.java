@@ -10,19 +10,12 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.internal.bestpractices.springiderules;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.springframework.beans.factory.support.AbstractBeanDefinition;
-import org.springframework.ide.eclipse.beans.core.internal.model.Bean;
-import org.springframework.ide.eclipse.beans.core.internal.model.BeanReference;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
-import org.springframework.ide.eclipse.beans.core.internal.model.BeansTypedString;
 import org.springframework.ide.eclipse.beans.core.model.IBean;
-import org.springframework.ide.eclipse.beans.core.model.IBeanConstructorArgument;
-import org.springframework.ide.eclipse.beans.core.model.IBeanProperty;
 import org.springframework.ide.eclipse.beans.core.model.validation.IBeansValidationContext;
 import org.springframework.ide.eclipse.beans.core.namespaces.NamespaceUtils;
 import org.springframework.ide.eclipse.core.model.IModelElement;
@@ -36,7 +29,9 @@ import org.springframework.ide.eclipse.core.project.IProjectContributorState;
  * configuration by using bean inheritance. Using bean inheritance is suggested
  * when there are more than <code>DEFAULT_MIN_NUM_SIMILAR_BEAN_DEFS</code> beans
  * with <code>DEFAULT_MIN_NUM_SHARED_PROPERTIES</code> properties in common
- * where the values of the properties are the same.
+ * where the values of the properties are the same and the beans share their
+ * init method and constructor arguments. Similar beans are looked up in a
+ * {@link SimilarBeansIndex}.
  * @author Wesley Coelho
  * @author Christian Dupuis
  * @author Terry Denney
@@ -75,7 +70,7 @@ public class UseBeanInheritance implements IValidationRule<IBean, IBeansValidati
 	 */
 	public void validate(IBean bean, IBeansValidationContext validationContext, IProgressMonitor progressMonitor) {
 
-		IBean[] allBeans = null;
+		SimilarBeansIndex similarBeansIndex = null;
 		if (validationContext instanceof IProjectContributorState) {
 			AllBeansCache allBeansCache = ((IProjectContributorState) validationContext).get(AllBeansCache.class);
 			if (allBeansCache == null) {
@@ -83,19 +78,14 @@ public class UseBeanInheritance implements IValidationRule<IBean, IBeansValidati
 				((IProjectContributorState) validationContext).hold(allBeansCache);
 			}
 
-			allBeans = allBeansCache.getAllBeans(validationContext.getRootElement());
+			similarBeansIndex = allBeansCache.getSimilarBeansIndex(validationContext.getRootElement());
 		}
 		else {
 			Set<IBean> beans = BeansModelUtils.getBeans(validationContext.getRootElement());
-			allBeans = beans.toArray(new IBean[beans.size()]);
+			similarBeansIndex = new SimilarBeansIndex(beans.toArray(new IBean[beans.size()]));
 		}
 
-		List<IBean> similarBeanList = new ArrayList<IBean>();
-		for (IBean currBean : allBeans) {
-			if (isSimilar(bean, currBean)) {
-				similarBeanList.add(currBean);
-			}
-		}
+		List<IBean> similarBeanList = similarBeansIndex.getSimilarBeans(bean, minNumSharedProperties);
 
 		// Add one to the similar bean count because the current bean counts as
 		// one of the similar ones
@@ -111,39 +101,6 @@ public class UseBeanInheritance implements IValidationRule<IBean, IBeansValidati
 		}
 	}
 
-	private boolean constructorArgumentsEqual(IBean bean1, IBean bean2) {
-
-		Set<IBeanConstructorArgument> bean1args = bean1.getConstructorArguments();
-		Set<IBeanConstructorArgument> bean2args = bean2.getConstructorArguments();
-		if (bean1args.size() != bean2args.size()) {
-			return false;
-		}
-
-		for (IBeanConstructorArgument currBean1ConstructorArgument : bean1args) {
-			boolean matchFound = false;
-			for (IBeanConstructorArgument currBean2ConstructorArgument : bean2args) {
-				if (constructorArgumentsEqual(currBean1ConstructorArgument, currBean2ConstructorArgument)) {
-					matchFound = true;
-					break;
-				}
-			}
-			if (!matchFound) {
-				return false;
-			}
-		}
-
-		return true;
-	}
-
-	private boolean constructorArgumentsEqual(IBeanConstructorArgument argument1, IBeanConstructorArgument argument2) {
-		if (argument1.getElementName().equals(argument2.getElementName())) {
-			if (propertyValuesEqual(argument1.getValue(), argument2.getValue())) {
-				return true;
-			}
-		}
-		return false;
-	}
-
 	private String getBeanNamesString(List<IBean> similarBeanList) {
 		String beanNames = "";
 		for (IBean bean : similarBeanList) {
@@ -152,27 +109,7 @@ public class UseBeanInheritance implements IValidationRule<IBean, IBeansValidati
 		return beanNames;
 	}
 
-	private boolean initMethodsEqual(IBean bean1, IBean bean2) {
-
-		if (bean1 instanceof Bean && bean2 instanceof Bean) {
-			AbstractBeanDefinition definition1 = (AbstractBeanDefinition) ((Bean) bean1).getBeanDefinition();
-			AbstractBeanDefinition definition2 = (AbstractBeanDefinition) ((Bean) bean2).getBeanDefinition();
-			String initMethod1 = definition1.getInitMethodName();
-			String initMethod2 = definition2.getInitMethodName();
-			if (initMethod1 == null) {
-				initMethod1 = "";
-			}
-			if (initMethod2 == null) {
-				initMethod2 = "";
-			}
-			if (!initMethod1.equals(initMethod2)) {
-				return false;
-			}
-		}
-		return true;
-	}
-
-	private boolean isBeanSupported(IBean bean) {
+	static boolean isBeanSupported(IBean bean) {
 		if (bean.getElementSourceLocation() instanceof XmlSourceLocation
 				&& !NamespaceUtils.DEFAULT_NAMESPACE_URI.equals(((XmlSourceLocation) bean.getElementSourceLocation())
 						.getNamespaceURI())) {
@@ -180,73 +117,4 @@ public class UseBeanInheritance implements IValidationRule<IBean, IBeansValidati
 		}
 		return true;
 	}
-
-	/**
-	 * Returns true if two beans are similar in the sense that some common
-	 * configuration can be factored out into a parent bean configuration.
-	 *
-	 * Beans are considered similar if they don't have different constructor
-	 * arguments or init methods and there are more than
-	 * <code>DEFAULT_MIN_NUM_SHARED_PROPERTIES</code> property-value pairs in
-	 * common
-	 */
-	private boolean isSimilar(IBean bean1, IBean bean2) {
-
-		if (!isBeanSupported(bean2)) {
-			return false;
-		}
-
-		if (!constructorArgumentsEqual(bean1, bean2)) {
-			return false;
-		}
-
-		if (!initMethodsEqual(bean1, bean2)) {
-			return false;
-		}
-
-		// Count the number of matching properties
-		int matchingPropertyCount = 0;
-		for (IBeanProperty currProperty1 : bean1.getProperties()) {
-			for (IBeanProperty currProperty2 : bean2.getProperties()) {
-				if (propertiesEqual(currProperty1, currProperty2)) {
-					matchingPropertyCount++;
-				}
-			}
-		}
-
-		return matchingPropertyCount >= minNumSharedProperties;
-	}
-
-	/**
-	 * Two properties are considered equal if they have they refer to the same
-	 * property of the bean (element name) and their values are the same.
-	 * @return true if the two properties are the same
-	 */
-	private boolean propertiesEqual(IBeanProperty beanProperty1, IBeanProperty beanProperty2) {
-		if (beanProperty1.getElementName().equals(beanProperty2.getElementName())) {
-			if (propertyValuesEqual(beanProperty1.getValue(), beanProperty2.getValue())) {
-				return true;
-			}
-		}
-		return false;
-	}
-
-	private boolean propertyValuesEqual(Object value1, Object value2) {
-		if (value1 instanceof BeansTypedString && value2 instanceof BeansTypedString) {
-			BeansTypedString beansTypedString1 = (BeansTypedString) value1;
-			BeansTypedString beansTypedString2 = (BeansTypedString) value2;
-
-			if (beansTypedString1.getString().equals(beansTypedString2.getString())) {
-				return true;
-			}
-		}
-		else if (value1 instanceof BeanReference && value2 instanceof BeanReference) {
-			BeanReference beanReference1 = (BeanReference) value1;
-			BeanReference beanReference2 = (BeanReference) value2;
-			if (beanReference1.getBeanName().equals(beanReference2.getBeanName())) {
-				return true;
-			}
-		}
-		return false;
-	}
 }
@@ -15,6 +15,7 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 import org.springframework.ide.eclipse.boot.dash.test.actuator.ActuatorClientTest;
 import org.springframework.ide.eclipse.boot.dash.test.actuator.ActuatorDataTest;
+import org.springframework.ide.eclipse.boot.dash.test.actuator.StartupProfileTest;
 import org.springframework.ide.eclipse.boot.dash.test.yaml.AppNameReconcilerTest;
 import org.springframework.ide.eclipse.boot.dash.test.yaml.CFRouteTests;
 import org.springframework.ide.eclipse.boot.dash.test.yaml.DeploymentProperties2YamlTest;
@@ -40,6 +41,7 @@ import org.springframework.ide.eclipse.boot.dash.test.yaml.Yaml2DeploymentProper
 	//Really short (less than 2 seconds per suite):
 	JLRMethodParserTest.class,
 	OrderBasedComparatorTest.class,
+	StartedMessageDetectorTest.class,
 	ManifestCompareMergeTests.class,
 	ManifestYmlSchemaTest.class,
 	ManifestYamlEditorTest.class,
@@ -47,6 +49,7 @@ import org.springframework.ide.eclipse.boot.dash.test.yaml.Yaml2DeploymentProper
 	BootDashElementTagsTests.class,
 	ActuatorClientTest.class,
 	ActuatorDataTest.class,
+	StartupProfileTest.class,
 	ToggleFiltersModelTest.class,
 
 	//Medium length (less than 30 seconds):
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.boot.dash.util.StartedMessageDetector;
+
+public class StartedMessageDetectorTest {
+
+	private AtomicInteger started = new AtomicInteger();
+	private StartedMessageDetector detector = new StartedMessageDetector(() -> started.incrementAndGet());
+
+	private void append(String text) {
+		detector.streamAppended(text, null);
+	}
+
+	@Test
+	public void detectsStartedMessage() throws Exception {
+		append("2017-06-01 INFO 1234 --- [main] com.example.DemoApplication : Starting DemoApplication\n");
+		assertEquals(0, started.get());
+		append("2017-06-01 INFO 1234 --- [main] com.example.DemoApplication : Started DemoApplication in 2.345 seconds (JVM running for 3.012)\n");
+		assertEquals(1, started.get());
+	}
+
+	@Test
+	public void messageSplitAcrossChunks() throws Exception {
+		append("INFO : Started DemoAppl");
+		append("ication in 12 sec");
+		assertEquals(0, started.get());
+		append("onds (JVM running for 13.1)\nmore output\n");
+		assertEquals(1, started.get());
+	}
+
+	@Test
+	public void firesOnlyOnce() throws Exception {
+		append("Started DemoApplication in 2.345 seconds\n");
+		append("Started DemoApplication in 1.5 seconds\n");
+		assertEquals(1, started.get());
+	}
+
+	@Test
+	public void ignoresOtherMessages() throws Exception {
+		append("Started DemoApplication\n");
+		append("Tomcat started on port(s): 8080 (http)\n");
+		append("Starting DemoApplication in 2 seconds\n");
+		assertEquals(0, started.get());
+	}
+
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.test.actuator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.boot.dash.model.actuator.StartupProfile;
+import org.springframework.ide.eclipse.boot.dash.model.actuator.StartupProfile.Category;
+import org.springframework.ide.eclipse.boot.dash.model.actuator.StartupProfile.Entry;
+
+public class StartupProfileTest {
+
+	private static List<Entry> entries(StartupProfile profile, Category category) {
+		return profile.getEntries().stream()
+				.filter(e -> e.getCategory() == category)
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	public void startupSteps() throws Exception {
+		String json = "{\"timeline\":{\"events\":["
+				+ "{\"duration\":\"PT0.25S\",\"startupStep\":{\"name\":\"spring.beans.instantiate\",\"tags\":[{\"key\":\"beanName\",\"value\":\"dataSource\"}]}},"
+				+ "{\"duration\":\"PT0.010S\",\"startupStep\":{\"name\":\"spring.context.config-classes.parse\",\"tags\":[]}},"
+				+ "{\"duration\":\"PT0.015S\",\"startupStep\":{\"name\":\"spring.context.config-classes.parse\",\"tags\":[]}}"
+				+ "]}}";
+		StartupProfile profile = StartupProfile.builder().addStartupSteps(json).build();
+
+		List<Entry> beans = entries(profile, Category.BEAN);
+		assertEquals(1, beans.size());
+		assertEquals("dataSource", beans.get(0).getName());
+		assertEquals(250, beans.get(0).getMillis());
+
+		List<Entry> steps = entries(profile, Category.STARTUP_STEP);
+		assertEquals(1, steps.size());
+		assertEquals("spring.context.config-classes.parse", steps.get(0).getName());
+		assertEquals(25, steps.get(0).getMillis());
+		assertEquals(2, steps.get(0).getCount());
+	}
+
+	@Test
+	public void boot2Conditions() throws Exception {
+		String json = "{\"contexts\":{\"application\":{"
+				+ "\"positiveMatches\":{\"JmxAutoConfiguration\":[{\"condition\":\"OnClassCondition\"},{\"condition\":\"OnPropertyCondition\"}]},"
+				+ "\"negativeMatches\":{\"RabbitAutoConfiguration\":{\"notMatched\":[{\"condition\":\"OnClassCondition\"}],\"matched\":[]}}"
+				+ "}}}";
+		List<Entry> conditions = entries(StartupProfile.builder().addConditions(json).build(), Category.AUTO_CONFIGURATION);
+		assertEquals(2, conditions.size());
+		assertEquals("JmxAutoConfiguration", conditions.get(0).getName());
+		assertEquals(2, conditions.get(0).getCount());
+		assertEquals("matched", conditions.get(0).getDetail());
+		assertEquals("RabbitAutoConfiguration", conditions.get(1).getName());
+		assertEquals(1, conditions.get(1).getCount());
+		assertEquals("not matched", conditions.get(1).getDetail());
+		assertEquals(-1, conditions.get(1).getMillis());
+	}
+
+	@Test
+	public void boot1Conditions() throws Exception {
+		String json = "{\"positiveMatches\":{},\"negativeMatches\":{\"RabbitAutoConfiguration\":[{\"condition\":\"OnClassCondition\"}]}}";
+		List<Entry> conditions = entries(StartupProfile.builder().addConditions(json).build(), Category.AUTO_CONFIGURATION);
+		assertEquals(1, conditions.size());
+		assertEquals(1, conditions.get(0).getCount());
+	}
+
+}
@@ -35,6 +35,10 @@ public abstract class ElementwiseListener<T> implements ValueListener<ImmutableS
 		Set<T> removed;
 		Set<T> added;
 		synchronized (this) {
+			if (newState==lastState) {
+				//Nothing changed. Happens when a set is refreshed but its contents is the same.
+				return;
+			}
 			//compute the 'diffs' inside synch block
 			//newState = new LinkedHashSet<T>(newState); //use a 'snapshot' because the set may change.
 			added = minus(newState, lastState);
@@ -56,10 +60,21 @@ public abstract class ElementwiseListener<T> implements ValueListener<ImmutableS
 	protected abstract void added(LiveExpression<ImmutableSet<T>> exp, T e);
 	protected abstract void removed(LiveExpression<ImmutableSet<T>> exp, T e);
 
+	/**
+	 * Computes the elements of 'set' that are not in 'subtract'. Typically sets change by only a few elements
+	 * at a time, so this avoids copying the (possibly large) set and only allocates when there's a difference.
+	 */
 	private Set<T> minus(Set<T> set, Set<T> subtract) {
-		LinkedHashSet<T> diff = new LinkedHashSet<>(set);
-		diff.removeAll(subtract);
-		return diff;
+		Set<T> diff = null;
+		for (T e : set) {
+			if (!subtract.contains(e)) {
+				if (diff==null) {
+					diff = new LinkedHashSet<>();
+				}
+				diff.add(e);
+			}
+		}
+		return diff==null ? Collections.<T>emptySet() : diff;
 	}
 
 }
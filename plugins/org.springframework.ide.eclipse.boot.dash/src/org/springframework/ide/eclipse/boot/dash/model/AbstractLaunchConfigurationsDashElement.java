@@ -41,6 +41,7 @@ import org.springframework.ide.eclipse.boot.dash.livexp.PollingLiveExp;
 import org.springframework.ide.eclipse.boot.dash.model.actuator.ActuatorClient;
 import org.springframework.ide.eclipse.boot.dash.model.actuator.JMXActuatorClient;
 import org.springframework.ide.eclipse.boot.dash.model.actuator.RequestMapping;
+import org.springframework.ide.eclipse.boot.dash.model.actuator.StartupProfile;
 import org.springframework.ide.eclipse.boot.dash.model.actuator.env.LiveEnvModel;
 import org.springframework.ide.eclipse.boot.dash.ngrok.NGROKClient;
 import org.springframework.ide.eclipse.boot.dash.ngrok.NGROKLaunchTracker;
@@ -102,6 +103,7 @@ public abstract class AbstractLaunchConfigurationsDashElement<T> extends Wrappin
 	private PollingLiveExp<List<RequestMapping>> liveRequestMappings;
 	private PollingLiveExp<LiveBeansModel> liveBeans;
 	private PollingLiveExp<LiveEnvModel> liveEnv;
+	private PollingLiveExp<StartupProfile> startupProfile;
 
 	public AbstractLaunchConfigurationsDashElement(LocalBootDashModel bootDashModel, T delegate) {
 		super(bootDashModel, delegate);
@@ -579,6 +581,34 @@ public abstract class AbstractLaunchConfigurationsDashElement<T> extends Wrappin
 		}
 	}
 
+	/**
+	 * Startup profile of the running app. Only collected for apps launched with the
+	 * 'Profile startup' option. The data is fetched once, right after the app reaches
+	 * ready state, and is kept around after the app is stopped.
+	 */
+	public StartupProfile getStartupProfile() {
+		synchronized (this) {
+			if (startupProfile == null) {
+				JMXActuatorClient client = new JMXActuatorClient(getTypeLookup(), this::getJmxPort);
+				startupProfile = PollingLiveExp.create(() -> {
+					ILaunchConfiguration conf = getActiveConfig();
+					if (conf!=null && BootLaunchConfigurationDelegate.getProfileStartup(conf)) {
+						return client.getStartupProfile();
+					}
+					return null;
+				});
+				addElementState(startupProfile);
+				addDisposableChild(startupProfile);
+				runState.addListener((e, runstate) -> {
+					if (READY_STATES.contains(runstate)) {
+						startupProfile.refreshOnce();
+					}
+				});
+			}
+			return startupProfile.getValue();
+		}
+	}
+
 	private int getJmxPort() {
 		for (ILaunchConfiguration c : getLaunchConfigs()) {
 			for (ILaunch l : LaunchUtils.getLaunches(c)) {
@@ -17,8 +17,10 @@ import javax.management.InstanceNotFoundException;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.springframework.ide.eclipse.beans.ui.live.model.TypeLookup;
+import org.springframework.ide.eclipse.boot.dash.model.actuator.StartupProfile.Category;
 import org.springframework.ide.eclipse.boot.launch.util.JMXClient;
 import org.springsource.ide.eclipse.commons.livexp.util.ExceptionUtil;
+import org.springsource.ide.eclipse.commons.livexp.util.Log;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableSet;
@@ -59,6 +61,15 @@ public class JMXActuatorClient extends ActuatorClient {
 			new OperationInfo("org.springframework.boot:type=Endpoint,name=environmentEndpoint", "getData", "1") //Boot 1.x
 	};
 
+	private static final OperationInfo[] STARTUP_OPERATIONS = {
+			new OperationInfo("org.springframework.boot:type=Endpoint,name=Startup", "startupSnapshot", "2") //Boot 2.4 and later
+	};
+
+	private static final OperationInfo[] CONDITIONS_OPERATIONS = {
+			new OperationInfo("org.springframework.boot:type=Endpoint,name=Conditions", "applicationConditionEvaluation", "2"), //Boot 2.x
+			new OperationInfo("org.springframework.boot:type=Endpoint,name=autoConfigurationReportEndpoint", "getData", "1") //Boot 1.x
+	};
+
 	private JMXClient client = null;
 	private Integer port = null;
 
@@ -82,6 +93,48 @@ public class JMXActuatorClient extends ActuatorClient {
 		return getDataFrom(ENV_OPERATIONS);
 	}
 
+	/**
+	 * Collects startup profile data from the app. Meant to be called right after the app
+	 * has entered the 'ready' state, so that JVM uptime and class loading counts reflect
+	 * what it took to start the app.
+	 */
+	public StartupProfile getStartupProfile() {
+		try {
+			JMXClient client = getClient();
+			if (client!=null) {
+				StartupProfile.Builder profile = StartupProfile.builder();
+				Long uptime = client.getAttribute(Long.class, "java.lang:type=Runtime", "Uptime");
+				if (uptime!=null) {
+					profile.add(Category.JVM, "Uptime when ready", uptime, -1, null);
+				}
+				Integer loaded = client.getAttribute(Integer.class, "java.lang:type=ClassLoading", "LoadedClassCount");
+				Long totalLoaded = client.getAttribute(Long.class, "java.lang:type=ClassLoading", "TotalLoadedClassCount");
+				if (loaded!=null && totalLoaded!=null) {
+					profile.add(Category.JVM, "Loaded classes", -1, totalLoaded, loaded+" currently loaded");
+				}
+				Long compilationTime = client.getAttribute(Long.class, "java.lang:type=Compilation", "TotalCompilationTime");
+				if (compilationTime!=null) {
+					profile.add(Category.JVM, "JIT compilation", compilationTime, -1, null);
+				}
+				ImmutablePair<String, String> startup = getDataFrom(STARTUP_OPERATIONS);
+				if (startup!=null) {
+					profile.addStartupSteps(startup.left);
+				}
+				ImmutablePair<String, String> conditions = getDataFrom(CONDITIONS_OPERATIONS);
+				if (conditions!=null) {
+					profile.addConditions(conditions.left);
+				}
+				return profile.build();
+			}
+		} catch (Exception e) {
+			disposeClient();
+			if (!isExpectedException(e)) {
+				Log.log(e);
+			}
+		}
+		return null;
+	}
+
 	protected ImmutablePair<String, String> getDataFrom(OperationInfo[] infos) throws Exception {
 		try {
 			JMXClient client = getClient();
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.model.actuator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Startup profile of a Spring Boot app. Collected from the app (over JMX)
+ * once it has reached the 'ready' state.
+ * <p>
+ * A profile is a flat list of {@link Entry}s, each entry belonging to one of
+ * the {@link Category}s. Entries for which a given measurement doesn't apply
+ * have a value of -1 for that measurement.
+ *
+ * @author agent
+ */
+public class StartupProfile {
+
+	public enum Category {
+		JVM("JVM"),
+		STARTUP_STEP("Startup Step"),
+		BEAN("Bean"),
+		AUTO_CONFIGURATION("Auto-configuration");
+
+		private final String label;
+
+		Category(String label) {
+			this.label = label;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	public static class Entry {
+
+		private final Category category;
+		private final String name;
+		private final long millis;
+		private final long count;
+		private final String detail;
+
+		public Entry(Category category, String name, long millis, long count, String detail) {
+			this.category = category;
+			this.name = name;
+			this.millis = millis;
+			this.count = count;
+			this.detail = detail;
+		}
+
+		public Category getCategory() {
+			return category;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return time spent in milliseconds or -1 if not applicable.
+		 */
+		public long getMillis() {
+			return millis;
+		}
+
+		/**
+		 * @return count (e.g. number of classes, conditions...) or -1 if not applicable.
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		public String getDetail() {
+			return detail;
+		}
+
+		@Override
+		public String toString() {
+			return category.getLabel() + ": " + name + " " + millis + "ms " + count + " " + detail;
+		}
+	}
+
+	private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+	private static final String BEAN_NAME_TAG = "beanName";
+
+	private final List<Entry> entries;
+
+	private StartupProfile(List<Entry> entries) {
+		this.entries = ImmutableList.copyOf(entries);
+	}
+
+	public List<Entry> getEntries() {
+		return entries;
+	}
+
+	public static class Builder {
+
+		private final List<Entry> entries = new ArrayList<>();
+
+		public Builder add(Category category, String name, long millis, long count, String detail) {
+			entries.add(new Entry(category, name, millis, count, detail));
+			return this;
+		}
+
+		/**
+		 * Adds entries from the json data of the actuator 'startup' endpoint (Boot 2.4 and later,
+		 * only available when the app is configured with a 'BufferingApplicationStartup').
+		 * Bean instantiation steps are reported as {@link Category#BEAN} entries, all other steps
+		 * are aggregated per step name.
+		 */
+		public Builder addStartupSteps(String json) throws JSONException {
+			JSONObject timeline = new JSONObject(json).optJSONObject("timeline");
+			JSONArray events = timeline == null ? null : timeline.optJSONArray("events");
+			if (events != null) {
+				Map<String, long[]> stepTotals = new HashMap<>();
+				for (int i = 0; i < events.length(); i++) {
+					JSONObject event = events.getJSONObject(i);
+					JSONObject step = event.optJSONObject("startupStep");
+					if (step != null) {
+						String name = step.optString("name");
+						long millis = parseDurationMillis(event.opt("duration"));
+						if (BEAN_INSTANTIATE_STEP.equals(name)) {
+							String beanName = findTag(step, BEAN_NAME_TAG);
+							add(Category.BEAN, beanName == null ? name : beanName, millis, -1, null);
+						} else {
+							long[] total = stepTotals.computeIfAbsent(name, n -> new long[2]);
+							total[0] += Math.max(0, millis);
+							total[1]++;
+						}
+					}
+				}
+				for (Map.Entry<String, long[]> e : stepTotals.entrySet()) {
+					add(Category.STARTUP_STEP, e.getKey(), e.getValue()[0], e.getValue()[1], null);
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * Adds entries from the json data of the actuator 'conditions' endpoint (Boot 2.x) or
+		 * 'autoconfig' endpoint (Boot 1.x). Boot doesn't record how long condition evaluation
+		 * takes, so the entries only carry the outcome and the number of conditions evaluated.
+		 */
+		public Builder addConditions(String json) throws JSONException {
+			JSONObject obj = new JSONObject(json);
+			JSONObject contexts = obj.optJSONObject("contexts");
+			if (contexts != null) {
+				//Boot 2.x
+				for (Iterator<?> keys = contexts.keys(); keys.hasNext();) {
+					JSONObject context = contexts.optJSONObject((String) keys.next());
+					if (context != null) {
+						addConditionsReport(context);
+					}
+				}
+			} else {
+				//Boot 1.x
+				addConditionsReport(obj);
+			}
+			return this;
+		}
+
+		private void addConditionsReport(JSONObject report) {
+			JSONObject positive = report.optJSONObject("positiveMatches");
+			if (positive != null) {
+				for (Iterator<?> keys = positive.keys(); keys.hasNext();) {
+					String name = (String) keys.next();
+					JSONArray conditions = positive.optJSONArray(name);
+					add(Category.AUTO_CONFIGURATION, name, -1, conditions == null ? 0 : conditions.length(), "matched");
+				}
+			}
+			JSONObject negative = report.optJSONObject("negativeMatches");
+			if (negative != null) {
+				for (Iterator<?> keys = negative.keys(); keys.hasNext();) {
+					String name = (String) keys.next();
+					Object outcome = negative.opt(name);
+					int count = 0;
+					if (outcome instanceof JSONArray) {
+						//Boot 1.x
+						count = ((JSONArray) outcome).length();
+					} else if (outcome instanceof JSONObject) {
+						JSONArray matched = ((JSONObject) outcome).optJSONArray("matched");
+						JSONArray notMatched = ((JSONObject) outcome).optJSONArray("notMatched");
+						count = (matched == null ? 0 : matched.length()) + (notMatched == null ? 0 : notMatched.length());
+					}
+					add(Category.AUTO_CONFIGURATION, name, -1, count, "not matched");
+				}
+			}
+		}
+
+		public StartupProfile build() {
+			return new StartupProfile(entries);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	private static String findTag(JSONObject step, String key) {
+		JSONArray tags = step.optJSONArray("tags");
+		if (tags != null) {
+			for (int i = 0; i < tags.length(); i++) {
+				JSONObject tag = tags.optJSONObject(i);
+				if (tag != null && key.equals(tag.optString("key"))) {
+					return tag.optString("value", null);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Durations in the 'startup' endpoint are serialized as ISO-8601 (e.g. "PT0.0032S").
+	 */
+	private static long parseDurationMillis(Object duration) {
+		if (duration instanceof String) {
+			try {
+				return Duration.parse((String) duration).toMillis();
+			} catch (Exception e) {
+				//Ignore, not a duration we understand
+			}
+		} else if (duration instanceof Number) {
+			return ((Number) duration).longValue();
+		}
+		return -1;
+	}
+
+}
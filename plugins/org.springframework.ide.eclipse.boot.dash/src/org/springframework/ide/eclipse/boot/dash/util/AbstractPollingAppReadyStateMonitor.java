@@ -21,8 +21,14 @@ import org.springsource.ide.eclipse.commons.livexp.core.LiveVariable;
  * Polling ready state monitor.
  *
  * An instance of this class starts checking an application's lifecyle
- * repeatedly with a short delay between polls. This continues until either the
- * monitor object is disposed, or the application enters the 'ready' state.
+ * repeatedly with a delay between polls. The delay starts out short and is
+ * doubled after each unsuccesful poll (up to {@link #MAX_POLLING_INTERVAL}).
+ * This continues until either the monitor object is disposed, or the
+ * application enters the 'ready' state.
+ * <p>
+ * Subclasses that are able to detect the ready state by other means (i.e. some kind
+ * of notification) can call {@link #readyDetected()} to flip the ready state
+ * immediately and stop the polling.
  * <p>
  * When the application reaches ready state then its 'ready' LiveExp will change
  * value from false to true. Clients who wish to respond to this 'event' can
@@ -35,11 +41,22 @@ import org.springsource.ide.eclipse.commons.livexp.core.LiveVariable;
 public abstract class AbstractPollingAppReadyStateMonitor implements ReadyStateMonitor {
 
 	public static final long POLLING_INTERVAL = 500/*ms*/;
+	public static final long MAX_POLLING_INTERVAL = 8000/*ms*/;
 
 	private Job job;
 	private LiveVariable<Boolean> ready = new LiveVariable<>(false);
+	private long pollingInterval = POLLING_INTERVAL;
 
 	final public void startPolling() {
+		startPolling(POLLING_INTERVAL);
+	}
+
+	/**
+	 * Start polling, using a given delay between the first two polls. The delay is
+	 * doubled after each poll that does not find the application to be ready.
+	 */
+	final public void startPolling(long initialInterval) {
+		pollingInterval = Math.max(POLLING_INTERVAL, Math.min(initialInterval, MAX_POLLING_INTERVAL));
 		initPollingJob();
 	}
 
@@ -47,12 +64,12 @@ public abstract class AbstractPollingAppReadyStateMonitor implements ReadyStateM
 		this.job = new Job("Ready state poller") {
 			protected IStatus run(IProgressMonitor monitor) {
 				LiveVariable<Boolean> r = ready;
-				if (r!=null) { //null means disposed. Job may be lagging behind
-					r.setValue(checkReady());
-					if (!r.getValue()) {
-						this.schedule(POLLING_INTERVAL);
-					} else {
+				if (r!=null && !r.getValue()) { //null means disposed. Job may be lagging behind
+					if (checkReady()) {
+						r.setValue(true);
 						// don't reschedule
+					} else {
+						this.schedule(nextPollingInterval());
 					}
 				}
 				return Status.OK_STATUS;
@@ -62,6 +79,28 @@ public abstract class AbstractPollingAppReadyStateMonitor implements ReadyStateM
 		job.schedule();
 	}
 
+	private long nextPollingInterval() {
+		long delay = pollingInterval;
+		pollingInterval = Math.min(pollingInterval * 2, MAX_POLLING_INTERVAL);
+		return delay;
+	}
+
+	/**
+	 * Called by subclasses when they have been notified that the application
+	 * has entered the 'ready' state. Sets the ready state right away, without
+	 * waiting for the next poll.
+	 */
+	protected final void readyDetected() {
+		LiveVariable<Boolean> r = ready;
+		if (r!=null) {
+			r.setValue(true);
+			Job j = job;
+			if (j!=null) {
+				j.cancel();
+			}
+		}
+	}
+
 	final public LiveExpression<Boolean> getReady() {
 		return ready;
 	}
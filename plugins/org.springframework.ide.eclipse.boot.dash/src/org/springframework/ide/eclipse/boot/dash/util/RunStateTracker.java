@@ -159,7 +159,7 @@ public abstract class RunStateTracker<T> extends ProcessListenerAdapter implemen
 			Boolean canUseLifeCycle=null, cliCanUseLifeCycle=null, isSingleProcessServiceLaunch = null;
 			if ((canUseLifeCycle = BootLaunchConfigurationDelegate.canUseLifeCycle(l)) || (cliCanUseLifeCycle = CloudCliServiceLaunchConfigurationDelegate.canUseLifeCycle(l))) {
 				SpringApplicationReadyStateMonitor readyStateMonitor = new SpringApplicationReadyStateMonitor(l);
-				readyStateMonitor.startPolling();
+				readyStateMonitor.start();
 				debug("createReadyStateTracker"+"["+l+"] "+BootLaunchUtils.getProject(l)+" OK!");
 				return readyStateMonitor;
 			} else if (isSingleProcessServiceLaunch  = CloudCliServiceLaunchConfigurationDelegate.isSingleProcessServiceConfig(l.getLaunchConfiguration())) {
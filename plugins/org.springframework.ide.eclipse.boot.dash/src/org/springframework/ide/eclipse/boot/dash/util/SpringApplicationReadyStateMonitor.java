@@ -16,10 +16,16 @@ import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifecyc
 
 /**
  * An instance of this class starts checking a spring application's lifecyle using
- * a JMX bean protocol. Checks are performed repeatedly with a short delay between
+ * a JMX bean protocol. Checks are performed repeatedly with an increasing delay between
  * polls. This continues until either the  SpringApplicationReadyStateMonitor is disposed,
  * or the application enters the 'ready' state.
  * <p>
+ * In addition the console output of the launch is watched for the 'Started ...' message
+ * Spring Boot logs when the app is ready. When that message is seen, the ready state
+ * flips right away. As long as the output can be watched, JMX is only polled at a slow
+ * rate, as a safety net for apps where that message is not logged (e.g. because of
+ * customized logging levels).
+ * <p>
  * When the application reaches ready state then its 'ready' LiveExp will change value from
  * false to true. Clients who wish to respond to this 'event' can attach a listener to
  * the livexp.
@@ -29,13 +35,33 @@ import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifecyc
 public class SpringApplicationReadyStateMonitor extends AbstractPollingAppReadyStateMonitor {
 
 	private SpringApplicationLifeCycleClientManager clientManager;
+	private ILaunch launch;
+	private StartedMessageDetector startedMessageDetector;
 
 	public SpringApplicationReadyStateMonitor(ILaunch launch) {
 		super();
+		this.launch = launch;
 		clientManager = new SpringApplicationLifeCycleClientManager(launch);
 	}
 
+	/**
+	 * Start monitoring the app. Prefers watching the console output and falls back
+	 * to (exponential back-off) polling when the output is not available.
+	 */
+	public void start() {
+		startedMessageDetector = StartedMessageDetector.attach(launch, this::readyDetected);
+		if (startedMessageDetector!=null) {
+			startPolling(MAX_POLLING_INTERVAL);
+		} else {
+			startPolling();
+		}
+	}
+
 	public void dispose() {
+		if (startedMessageDetector != null) {
+			startedMessageDetector.dispose();
+			startedMessageDetector = null;
+		}
 		if (clientManager != null) {
 			clientManager.disposeClient();
 		}
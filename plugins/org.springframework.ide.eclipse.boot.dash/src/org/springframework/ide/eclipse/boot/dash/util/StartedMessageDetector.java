@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.IStreamListener;
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.core.model.IStreamMonitor;
+import org.eclipse.debug.core.model.IStreamsProxy;
+
+/**
+ * Watches the console output of a launch for the 'Started ... in N seconds' message
+ * that a Spring Boot app logs once it has finished starting up. This allows detecting
+ * the ready state of an app as soon as it happens, without having to poll it.
+ *
+ * @author agent
+ */
+public class StartedMessageDetector implements IStreamListener {
+
+	/**
+	 * Matches the message logged by Spring Boot's 'StartupInfoLogger'. E.g.
+	 * <pre>
+	 * Started DemoApplication in 2.345 seconds (JVM running for 3.012)
+	 * </pre>
+	 */
+	public static final Pattern STARTED_MESSAGE = Pattern.compile("Started \\S+ in \\d+(\\.\\d+)? seconds");
+
+	/**
+	 * Limit on the length of a partial line we are willing to keep around while waiting
+	 * for the rest of the line to arrive.
+	 */
+	private static final int MAX_PENDING = 1024;
+
+	private final Runnable onStarted;
+	private final List<IStreamMonitor> monitors = new ArrayList<>();
+	private final StringBuilder pending = new StringBuilder();
+	private boolean started = false;
+
+	public StartedMessageDetector(Runnable onStarted) {
+		this.onStarted = onStarted;
+	}
+
+	/**
+	 * Attach a detector to the output streams of all the processes of a given launch.
+	 *
+	 * @return The attached detector or null if the launch has no process output we can watch.
+	 */
+	public static StartedMessageDetector attach(ILaunch launch, Runnable onStarted) {
+		StartedMessageDetector detector = new StartedMessageDetector(onStarted);
+		for (IProcess process : launch.getProcesses()) {
+			IStreamsProxy streams = process.getStreamsProxy();
+			if (streams!=null) {
+				IStreamMonitor out = streams.getOutputStreamMonitor();
+				if (out!=null) {
+					detector.watch(out);
+				}
+			}
+		}
+		if (detector.isWatching()) {
+			return detector;
+		}
+		return null;
+	}
+
+	private synchronized void watch(IStreamMonitor monitor) {
+		monitors.add(monitor);
+		monitor.addListener(this);
+		//Output may have been produced before we attached the listener.
+		String contents = monitor.getContents();
+		if (contents!=null && !contents.isEmpty()) {
+			streamAppended(contents, monitor);
+		}
+	}
+
+	private synchronized boolean isWatching() {
+		return !monitors.isEmpty();
+	}
+
+	@Override
+	public void streamAppended(String text, IStreamMonitor monitor) {
+		boolean fire = false;
+		synchronized (this) {
+			if (started) {
+				return;
+			}
+			pending.append(text);
+			int lineEnd = Math.max(pending.lastIndexOf("\n"), pending.lastIndexOf("\r"));
+			if (lineEnd>=0) {
+				String lines = pending.substring(0, lineEnd);
+				pending.delete(0, lineEnd + 1);
+				fire = started = STARTED_MESSAGE.matcher(lines).find();
+			}
+			if (pending.length() > MAX_PENDING) {
+				pending.delete(0, pending.length() - MAX_PENDING);
+			}
+		}
+		if (fire) {
+			dispose();
+			onStarted.run();
+		}
+	}
+
+	public void dispose() {
+		IStreamMonitor[] toRemove;
+		synchronized (this) {
+			toRemove = monitors.toArray(new IStreamMonitor[monitors.size()]);
+			monitors.clear();
+			pending.setLength(0);
+		}
+		for (IStreamMonitor m : toRemove) {
+			m.removeListener(this);
+		}
+	}
+
+}
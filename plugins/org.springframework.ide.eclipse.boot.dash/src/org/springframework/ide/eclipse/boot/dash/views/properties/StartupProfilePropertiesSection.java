@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.views.properties;
+
+import java.util.Comparator;
+
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredContentProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StackLayout;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.ui.IWorkbenchPart;
+import org.eclipse.ui.views.properties.tabbed.ITabbedPropertyConstants;
+import org.eclipse.ui.views.properties.tabbed.TabbedPropertySheetPage;
+import org.springframework.ide.eclipse.boot.dash.model.AbstractLaunchConfigurationsDashElement;
+import org.springframework.ide.eclipse.boot.dash.model.BootDashElement;
+import org.springframework.ide.eclipse.boot.dash.model.actuator.StartupProfile;
+import org.springframework.ide.eclipse.boot.dash.model.actuator.StartupProfile.Entry;
+
+/**
+ * Tabbed properties view section showing the startup profile of a local app
+ * launched with the 'Profile startup' option. Columns can be sorted by
+ * clicking on their header.
+ *
+ * @author agent
+ */
+public class StartupProfilePropertiesSection extends AbstractBdePropertiesSection {
+
+	private enum Column {
+		CATEGORY("Category", 110, SWT.LEFT, Comparator.comparing((Entry e) -> e.getCategory().getLabel())),
+		NAME("Name", 300, SWT.LEFT, Comparator.comparing(Entry::getName)),
+		TIME("Time (ms)", 80, SWT.RIGHT, Comparator.comparingLong(Entry::getMillis)),
+		COUNT("Count", 70, SWT.RIGHT, Comparator.comparingLong(Entry::getCount)),
+		DETAIL("Detail", 150, SWT.LEFT, Comparator.comparing((Entry e) -> e.getDetail() == null ? "" : e.getDetail()));
+
+		final String label;
+		final int width;
+		final int alignment;
+		final Comparator<Entry> comparator;
+
+		Column(String label, int width, int alignment, Comparator<Entry> comparator) {
+			this.label = label;
+			this.width = width;
+			this.alignment = alignment;
+			this.comparator = comparator;
+		}
+
+		String getText(Entry e) {
+			switch (this) {
+			case CATEGORY:
+				return e.getCategory().getLabel();
+			case NAME:
+				return e.getName();
+			case TIME:
+				return e.getMillis() < 0 ? "" : Long.toString(e.getMillis());
+			case COUNT:
+				return e.getCount() < 0 ? "" : Long.toString(e.getCount());
+			case DETAIL:
+				return e.getDetail() == null ? "" : e.getDetail();
+			default:
+				return "";
+			}
+		}
+	}
+
+	private static final Object[] NO_ELEMENTS = new Object[0];
+
+	private TabbedPropertySheetPage page;
+	private Composite composite;
+	private StackLayout layout;
+	private Label labelText;
+	private TableViewer tv;
+
+	/**
+	 * Sorts by time spent (slowest first) until the user picks another column.
+	 */
+	private Column sortColumn = Column.TIME;
+	private boolean sortDescending = true;
+
+	private ViewerComparator sorter = new ViewerComparator() {
+		@Override
+		public int compare(Viewer viewer, Object e1, Object e2) {
+			if (e1 instanceof Entry && e2 instanceof Entry) {
+				int result = sortColumn.comparator.compare((Entry) e1, (Entry) e2);
+				return sortDescending ? -result : result;
+			}
+			return 0;
+		}
+	};
+
+	@Override
+	public void createControls(Composite parent, TabbedPropertySheetPage aTabbedPropertySheetPage) {
+		super.createControls(parent, aTabbedPropertySheetPage);
+		this.page = aTabbedPropertySheetPage;
+		composite = getWidgetFactory().createComposite(parent, SWT.NONE);
+		composite.setLayout(layout = new SectionStackLayout());
+		layout.marginWidth = ITabbedPropertyConstants.HSPACE + 2;
+		layout.marginHeight = ITabbedPropertyConstants.VSPACE + 4;
+
+		labelText = getWidgetFactory().createLabel(composite, "", SWT.WRAP); //$NON-NLS-1$
+
+		tv = new TableViewer(composite, SWT.BORDER|SWT.FULL_SELECTION);
+		tv.setContentProvider(new ContentProvider());
+		tv.setComparator(sorter);
+		tv.getTable().setHeaderVisible(true);
+
+		for (Column colType : Column.values()) {
+			TableViewerColumn col = new TableViewerColumn(tv, colType.alignment);
+			col.setLabelProvider(new ColumnLabelProvider() {
+				@Override
+				public String getText(Object element) {
+					if (element instanceof Entry) {
+						return colType.getText((Entry) element);
+					}
+					return "";
+				}
+			});
+			TableColumn colWidget = col.getColumn();
+			colWidget.setText(colType.label);
+			colWidget.setWidth(colType.width);
+			colWidget.addSelectionListener(new SelectionAdapter() {
+				@Override
+				public void widgetSelected(SelectionEvent e) {
+					if (sortColumn == colType) {
+						sortDescending = !sortDescending;
+					} else {
+						sortColumn = colType;
+						sortDescending = colType == Column.TIME || colType == Column.COUNT;
+					}
+					updateSortIndicator();
+					tv.refresh();
+				}
+			});
+		}
+		updateSortIndicator();
+		tv.setInput(getBootDashElement());
+		refreshControlsVisibility();
+	}
+
+	private void updateSortIndicator() {
+		tv.getTable().setSortColumn(tv.getTable().getColumn(sortColumn.ordinal()));
+		tv.getTable().setSortDirection(sortDescending ? SWT.DOWN : SWT.UP);
+	}
+
+	@Override
+	public void setInput(IWorkbenchPart part, ISelection selection) {
+		super.setInput(part, selection);
+		tv.setInput(getBootDashElement());
+	}
+
+	@Override
+	public void refresh() {
+		refreshControlsVisibility();
+		BootDashElement bde = getBootDashElement();
+		if (bde == null) {
+			labelText.setText("Select single element in Boot Dashboard to see its startup profile");
+		} else if (getStartupProfile(bde) == null) {
+			labelText.setText("'" + bde.getName() + "' must be launched with the 'Profile startup' option and JMX enabled. "
+					+ "Timings of startup steps and bean creation are only available when the app "
+					+ "uses a 'BufferingApplicationStartup' (Spring Boot 2.4 or later).");
+		} else {
+			labelText.setText("");
+		}
+		tv.refresh();
+		SectionStackLayout.reflow(page);
+	}
+
+	private void refreshControlsVisibility() {
+		BootDashElement bde = getBootDashElement();
+		if (bde == null || getStartupProfile(bde) == null) {
+			layout.topControl = labelText;
+		} else {
+			layout.topControl = tv.getControl();
+		}
+	}
+
+	private static StartupProfile getStartupProfile(Object element) {
+		if (element instanceof AbstractLaunchConfigurationsDashElement) {
+			return ((AbstractLaunchConfigurationsDashElement<?>) element).getStartupProfile();
+		}
+		return null;
+	}
+
+	private static class ContentProvider implements IStructuredContentProvider {
+
+		@Override
+		public void dispose() {
+		}
+
+		@Override
+		public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+			/*
+			 * Nothing. Rely on the section refresh mechanism that should refresh the table
+			 */
+		}
+
+		@Override
+		public Object[] getElements(Object inputElement) {
+			StartupProfile profile = getStartupProfile(inputElement);
+			if (profile != null) {
+				return profile.getEntries().toArray();
+			}
+			return NO_ELEMENTS;
+		}
+	}
+
+}
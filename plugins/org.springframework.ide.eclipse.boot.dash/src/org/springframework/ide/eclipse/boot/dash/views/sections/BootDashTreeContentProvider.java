@@ -74,6 +74,15 @@ public class BootDashTreeContentProvider implements ITreeContentProvider {
 
 	@Override
 	public boolean hasChildren(Object e) {
+		//Called for every element the viewer materializes, so avoid creating the children arrays.
+		if (e instanceof BootDashViewModel) {
+			return !((BootDashViewModel) e).getSectionModels().getValue().isEmpty();
+		} else if (e instanceof BootDashModel) {
+			BootDashModel model = ((BootDashModel) e);
+			return !model.getElements().getValue().isEmpty() || !model.getButtons().getValue().isEmpty();
+		} else if (e instanceof BootDashElement) {
+			return !((BootDashElement)e).getChildren().getValues().isEmpty();
+		}
 		return ArrayUtils.isNotEmpty(getChildren(e));
 	}
 
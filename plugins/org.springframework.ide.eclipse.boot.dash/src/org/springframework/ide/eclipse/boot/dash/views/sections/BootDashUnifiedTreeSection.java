@@ -12,6 +12,7 @@ package org.springframework.ide.eclipse.boot.dash.views.sections;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -176,58 +177,104 @@ public class BootDashUnifiedTreeSection extends PageSection implements MultiSele
 
 	final private ElementStateListener ELEMENT_STATE_LISTENER = new ElementStateListener() {
 		public void stateChanged(final BootDashElement e) {
-			Display.getDefault().asyncExec(new Runnable() {
-				public void run() {
-					if (tv != null && !tv.getControl().isDisposed()) {
-						//tv.update(e, null);
-						tv.refresh(e, true);
-						tv.getControl().redraw();
-					}
-				}
-			});
+			scheduleRefresh(e);
 		}
 	};
 
 	final private ModelStateListener MODEL_STATE_LISTENER = new ModelStateListener() {
 		public void stateChanged(final BootDashModel model) {
-			Display.getDefault().asyncExec(new Runnable() {
-				public void run() {
-					if (tv != null && !tv.getControl().isDisposed()) {
-						tv.refresh();
-						/*
-						 * TODO: ideally the above should do the repaint of
-						 * the control's area where the tree item is
-						 * located, but for some reason repaint doesn't
-						 * happen. #refresh() didn't trigger the repaint either
-						 */
-						tv.getControl().redraw();
-					} else {
-						model.removeModelStateListener(MODEL_STATE_LISTENER);
-					}
-				}
-			});
+			if (!scheduleRefresh(null)) {
+				model.removeModelStateListener(MODEL_STATE_LISTENER);
+			}
+		}
+	};
+
+	final private ValueListener<ImmutableSet<RunTarget>> RUN_TARGET_LISTENER = new ValueListener<ImmutableSet<RunTarget>>() {
+		public void gotValue(LiveExpression<ImmutableSet<RunTarget>> exp, ImmutableSet<RunTarget> value) {
+			scheduleRefresh(null);
 		}
 	};
 
-	final private ValueListener<ImmutableSet<RunTarget>> RUN_TARGET_LISTENER = new UIValueListener<ImmutableSet<RunTarget>>() {
-		protected void uiGotValue(LiveExpression<ImmutableSet<RunTarget>> exp, ImmutableSet<RunTarget> value) {
-			if (tv != null && !tv.getControl().isDisposed()) {
+	/**
+	 * Elements for which a refresh was requested but not yet executed. Model events tend to come
+	 * in bursts (e.g. when the elements of a cloud target are being fetched) so rather than updating
+	 * the viewer for each event, requests are queued here and executed together in a single
+	 * 'asyncExec'.
+	 * <p>
+	 * Every queued element is still refreshed (labels included), whether or not it actually changed.
+	 * What is saved is the number of 'asyncExec' calls and redraws: duplicate requests are merged,
+	 * element requests are dropped when a full refresh is pending and the control is redrawn once
+	 * per batch.
+	 */
+	private final Set<Object> pendingRefreshes = new LinkedHashSet<>();
+	private boolean pendingFullRefresh = false;
+	private boolean refreshScheduled = false;
+
+	/**
+	 * Request a refresh of a given element (including its children), or of the whole tree if the element
+	 * is null. The refresh is executed asynchronously in the UI thread, together with other pending requests.
+	 *
+	 * @return false if the viewer is disposed, true otherwise.
+	 */
+	private boolean scheduleRefresh(Object element) {
+		if (tv != null && tv.getControl().isDisposed()) {
+			return false;
+		}
+		synchronized (pendingRefreshes) {
+			if (element == null) {
+				pendingFullRefresh = true;
+				pendingRefreshes.clear();
+			} else if (!pendingFullRefresh) {
+				pendingRefreshes.add(element);
+			}
+			if (refreshScheduled) {
+				return true;
+			}
+			refreshScheduled = true;
+		}
+		Display.getDefault().asyncExec(new Runnable() {
+			public void run() {
+				executePendingRefreshes();
+			}
+		});
+		return true;
+	}
+
+	private void executePendingRefreshes() {
+		boolean fullRefresh;
+		Object[] elements;
+		synchronized (pendingRefreshes) {
+			fullRefresh = pendingFullRefresh;
+			elements = pendingRefreshes.toArray();
+			pendingFullRefresh = false;
+			pendingRefreshes.clear();
+			refreshScheduled = false;
+		}
+		if (tv != null && !tv.getControl().isDisposed()) {
+			if (fullRefresh) {
 				tv.refresh();
+			} else {
+				tv.refreshElements(elements);
 			}
+			/*
+			 * TODO: ideally the above should do the repaint of
+			 * the control's area where the tree item is
+			 * located, but for some reason repaint doesn't
+			 * happen. #refresh() didn't trigger the repaint either
+			 */
+			tv.getControl().redraw();
 		}
-	};
+	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"}) //Raw types, because the types are getting in the way.
 		//This is fine because we don't really care about the values here, so we don't really care about
 		//their types either.
-	private final ValueListener ELEMENTS_SET_LISTENER = new UIValueListener() {
-		protected void uiGotValue(LiveExpression exp, Object value) {
-			if (tv != null && !tv.getControl().isDisposed()) {
-				//TODO: refreshing the whole table is overkill, but is a bit tricky to figure out which BDM
-				// this set of elements belong to. If we did know then we could just refresh the node representing its section
-				// only.
-				tv.refresh();
-			} else {
+	private final ValueListener ELEMENTS_SET_LISTENER = new ValueListener() {
+		public void gotValue(LiveExpression exp, Object value) {
+			//TODO: refreshing the whole table is overkill, but is a bit tricky to figure out which BDM
+			// this set of elements belong to. If we did know then we could just refresh the node representing its section
+			// only.
+			if (!scheduleRefresh(null)) {
 				//This listener can't easily be removed because of the intermediary adapter that adds it to a numner of different
 				// things. So at least remove it when model remains chatty after view got disposed.
 				exp.removeListener(this);
@@ -269,6 +316,26 @@ public class BootDashUnifiedTreeSection extends PageSection implements MultiSele
 			hiddenElementCount.setValue(totalElements - filteredElements);
 		}
 
+		/**
+		 * Refresh a number of elements (and their children) in one go. Elements that
+		 * don't have a corresponding item in the tree (e.g. because their parent is collapsed)
+		 * are cheap to refresh since there is nothing to update.
+		 */
+		public void refreshElements(Object[] elements) {
+			if (elements.length == 0) {
+				return;
+			}
+			Tree tree = getTree();
+			tree.setRedraw(false);
+			try {
+				for (Object e : elements) {
+					refresh(e, true);
+				}
+			} finally {
+				tree.setRedraw(true);
+			}
+		}
+
 		private int countChildren(Object element) {
 			int count = 0;
 			for (Object o : getRawChildren(element)) {
@@ -166,6 +166,27 @@ public class BootLaunchConfigurationDelegateTest extends BootLaunchTestCase {
 		assertEquals(false, BootLaunchConfigurationDelegate.getFastStartup(wc));
 	}
 
+	public void testSetGetBatchRestarts() throws Exception {
+		ILaunchConfigurationWorkingCopy wc = createWorkingCopy();
+		assertEquals(BootLaunchConfigurationDelegate.DEFAULT_BATCH_RESTARTS,
+				BootLaunchConfigurationDelegate.getBatchRestarts(wc));
+
+		BootLaunchConfigurationDelegate.setBatchRestarts(wc, true);
+		assertEquals(true, BootLaunchConfigurationDelegate.getBatchRestarts(wc));
+
+		BootLaunchConfigurationDelegate.setBatchRestarts(wc, false);
+		assertEquals(false, BootLaunchConfigurationDelegate.getBatchRestarts(wc));
+	}
+
+	public void testBatchRestartsTriggerFileArgument() throws Exception {
+		ILaunchConfigurationWorkingCopy wc = createWorkingCopy();
+		String triggerArg = "--spring.devtools.restart.trigger-file=.reloadtrigger";
+		assertFalse(new BootLaunchConfigurationDelegate().getProgramArguments(wc).contains(triggerArg));
+
+		BootLaunchConfigurationDelegate.setBatchRestarts(wc, true);
+		assertContains(triggerArg, new BootLaunchConfigurationDelegate().getProgramArguments(wc));
+	}
+
 	public void testClearProperties() throws Exception {
 		ILaunchConfigurationWorkingCopy wc = createWorkingCopy();
 		BootLaunchConfigurationDelegate.setRawApplicationProperties(wc,
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.launch.test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+import org.springframework.ide.eclipse.boot.launch.devtools.DevtoolsRestartScheduler;
+import org.springframework.ide.eclipse.boot.launch.devtools.DevtoolsRestartScheduler.BuildChanges;
+
+/**
+ * @author agent
+ */
+public class DevtoolsRestartSchedulerTest extends BootLaunchTestCase {
+
+	private IProject project;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		project = createJavaProject("devtools-app");
+	}
+
+	public void testClassChangesTouchTrigger() throws Exception {
+		BuildChanges changes = writeOutputFiles("demo/App.class");
+		assertEquals(Arrays.asList(project), DevtoolsRestartScheduler.getProjectsToTrigger(apps(project), builds(changes)));
+	}
+
+	public void testExcludedOnlyChangesTouchTrigger() throws Exception {
+		//Devtools won't restart for these, but it only uploads them and triggers LiveReload
+		//once the trigger file changes.
+		BuildChanges changes = writeOutputFiles("templates/index.html", "static/app.css");
+		assertEquals(Arrays.asList(project), DevtoolsRestartScheduler.getProjectsToTrigger(apps(project), builds(changes)));
+	}
+
+	public void testTriggerFileChangesIgnored() throws Exception {
+		BuildChanges changes = writeOutputFiles(DevtoolsRestartScheduler.TRIGGER_FILE);
+		assertEquals(Collections.emptyList(), DevtoolsRestartScheduler.getProjectsToTrigger(apps(project), builds(changes)));
+	}
+
+	public void testUnrelatedAppsNotTriggered() throws Exception {
+		IProject other = createJavaProject("devtools-other");
+		BuildChanges changes = writeOutputFiles("templates/index.html");
+		assertEquals(Collections.emptyList(), DevtoolsRestartScheduler.getProjectsToTrigger(apps(other), builds(changes)));
+	}
+
+	private static IProject createJavaProject(String name) throws Exception {
+		IProject p = createGeneralProject(name);
+		IProjectDescription description = p.getDescription();
+		description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+		p.setDescription(description, new NullProgressMonitor());
+		p.getFolder("src").create(true, true, new NullProgressMonitor());
+		JavaCore.create(p).setRawClasspath(
+				new IClasspathEntry[] { JavaCore.newSourceEntry(p.getFullPath().append("src")) },
+				p.getFullPath().append("bin"),
+				new NullProgressMonitor()
+		);
+		return p;
+	}
+
+	/**
+	 * Writes files to the output folder of the project in a single workspace operation and
+	 * collects the changes from the resulting delta.
+	 */
+	private BuildChanges writeOutputFiles(final String... paths) throws Exception {
+		Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+		final BuildChanges[] changes = new BuildChanges[1];
+		IResourceChangeListener listener = new IResourceChangeListener() {
+			@Override
+			public void resourceChanged(IResourceChangeEvent event) {
+				if (changes[0]==null) {
+					changes[0] = DevtoolsRestartScheduler.collectChanges(event.getDelta());
+				}
+			}
+		};
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		workspace.addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+		try {
+			workspace.run(monitor -> {
+				for (String path : paths) {
+					IFile file = project.getFolder("bin").getFile(path);
+					createParents(file.getParent());
+					file.create(new ByteArrayInputStream(path.getBytes()), true, monitor);
+				}
+			}, new NullProgressMonitor());
+		} finally {
+			workspace.removeResourceChangeListener(listener);
+		}
+		assertNotNull(changes[0]);
+		return changes[0];
+	}
+
+	private static void createParents(IContainer container) throws Exception {
+		if (container instanceof IFolder && !container.exists()) {
+			createParents(container.getParent());
+			((IFolder) container).create(true, true, new NullProgressMonitor());
+		}
+	}
+
+	private static Map<IProject, Set<IProject>> apps(IProject app) {
+		Map<IProject, Set<IProject>> apps = new HashMap<>();
+		apps.put(app, new HashSet<>(Arrays.asList(app)));
+		return apps;
+	}
+
+	private static List<BuildChanges> builds(BuildChanges... builds) {
+		return Arrays.asList(builds);
+	}
+
+}
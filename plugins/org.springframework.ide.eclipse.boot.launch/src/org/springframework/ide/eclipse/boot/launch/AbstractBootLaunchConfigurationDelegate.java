@@ -41,6 +41,7 @@ import org.eclipse.jdt.launching.JavaLaunchDelegate;
 import org.springframework.ide.eclipse.boot.core.BootActivator;
 import org.springframework.ide.eclipse.boot.core.BootPreferences;
 import org.springframework.ide.eclipse.boot.core.SpringBootCore;
+import org.springframework.ide.eclipse.boot.launch.util.LaunchClasspathCache;
 import org.springframework.ide.eclipse.boot.util.ProcessListenerAdapter;
 import org.springframework.ide.eclipse.boot.util.ProcessTracker;
 import org.springsource.ide.eclipse.commons.core.util.StringUtil;
@@ -63,6 +64,17 @@ public abstract class AbstractBootLaunchConfigurationDelegate extends JavaLaunch
 	private static final String BOOT_MAVEN_CLASS_PATH_PROVIDER = "org.springframework.ide.eclipse.boot.launch.BootMavenClassPathProvider";
 	private static final String BUILDSHIP_CLASS_PATH_PROVIDER = "org.eclipse.buildship.core.classpathprovider";
 
+	/**
+	 * JDT launch attribute to pass the classpath to the JVM via an '@argfile' (Java 9 and later) rather
+	 * than as a (potentially very long) '-classpath' argument. JDT ignores the attribute when the JVM
+	 * doesn't support argfiles.
+	 * <p>
+	 * Note: Not using IJavaLaunchConfigurationConstants.ATTR_USE_ARGFILE as it doesn't exist in
+	 * older versions of JDT (which simply ignore the attribute). Its value is
+	 * <code>LaunchingPlugin.getUniqueIdentifier() + ".ATTR_ATTR_USE_ARGFILE"</code>.
+	 */
+	public static final String JDT_USE_ARGFILE = "org.eclipse.jdt.launching.ATTR_ATTR_USE_ARGFILE";
+
 	/**
 	 * Spring boot properties are stored as launch confiuration properties with
 	 * an extra prefix added to property name to avoid name clashes with
@@ -373,17 +385,36 @@ public abstract class AbstractBootLaunchConfigurationDelegate extends JavaLaunch
 		if (project.hasNature(SpringBootCore.M2E_NATURE)) {
 			conf = modify(conf, (ILaunchConfigurationWorkingCopy wc) -> {
 				enableMavenClasspathProviders(wc);
+				enableArgFile(wc);
 			});
 		} else if (project.hasNature(SpringBootCore.BUILDSHIP_NATURE)) {
 			conf = modify(conf, wc -> {
 				enableGradleClasspathProviders(wc);
+				enableArgFile(wc);
 			});
 		}
 		return conf;
 	}
 
+	/**
+	 * Use an argfile to pass the classpath, unless the user has explicitly chosen otherwise.
+	 */
+	public static void enableArgFile(ILaunchConfigurationWorkingCopy wc) {
+		try {
+			if (!wc.hasAttribute(JDT_USE_ARGFILE)) {
+				wc.setAttribute(JDT_USE_ARGFILE, true);
+			}
+		} catch (CoreException e) {
+			Log.log(e);
+		}
+	}
+
 	@Override
 	public String[][] getClasspathAndModulepath(ILaunchConfiguration configuration) throws CoreException {
+		return LaunchClasspathCache.getInstance().getClasspathAndModulepath(configuration, () -> computeClasspathAndModulepath(configuration));
+	}
+
+	private String[][] computeClasspathAndModulepath(ILaunchConfiguration configuration) throws CoreException {
 		if (configuration.hasAttribute(IJavaLaunchConfigurationConstants.ATTR_EXCLUDE_TEST_CODE)) {
 			//TODO: This is a dirty hack. We 'trick' BuildShip to treat our launch config as if it is a plain JDT launch by making
 			// a temporary copy of it.
@@ -397,6 +428,12 @@ public abstract class AbstractBootLaunchConfigurationDelegate extends JavaLaunch
 
 	@Override
 	public String[] getClasspath(ILaunchConfiguration configuration) throws CoreException {
+		return LaunchClasspathCache.getInstance().getClasspath(configuration, () -> new String[][] {
+			computeClasspath(configuration)
+		});
+	}
+
+	private String[] computeClasspath(ILaunchConfiguration configuration) throws CoreException {
 		if (configuration.hasAttribute(IJavaLaunchConfigurationConstants.ATTR_EXCLUDE_TEST_CODE)) {
 			//TODO: This is a dirty hack. We 'trick' BuildShip to treat our launch config as if it is a plain JDT launch by making
 			// a temporary copy of it.
@@ -16,6 +16,8 @@ import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.springframework.ide.eclipse.boot.launch.util.BootLaunchConfDeleter;
+import org.springframework.ide.eclipse.boot.launch.devtools.DevtoolsRestartScheduler;
+import org.springframework.ide.eclipse.boot.launch.util.LaunchClasspathCache;
 
 /**
  * @author Kris De Volder
@@ -42,6 +44,8 @@ public class BootLaunchActivator extends AbstractUIPlugin {
 		if (workspaceListener!=null) {
 			workspaceListener.dispose();
 		}
+		LaunchClasspathCache.disposeInstance();
+		DevtoolsRestartScheduler.disposeInstance();
 		super.stop(context);
 	}
 
@@ -49,6 +49,7 @@ import org.springframework.ide.eclipse.boot.core.BootActivator;
 import org.springframework.ide.eclipse.boot.core.BootPreferences;
 import org.springframework.ide.eclipse.boot.core.BootPropertyTester;
 import org.springframework.ide.eclipse.boot.core.SpringBootCore;
+import org.springframework.ide.eclipse.boot.launch.devtools.DevtoolsRestartScheduler;
 import org.springframework.ide.eclipse.boot.launch.livebean.JmxBeanSupport;
 import org.springframework.ide.eclipse.boot.launch.livebean.JmxBeanSupport.Feature;
 import org.springframework.ide.eclipse.boot.launch.process.BootProcessFactory;
@@ -113,6 +114,12 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 
 	public static final String FAST_STARTUP = "spring.boot.fast.startup";
 
+	public static final String PROFILE_STARTUP = "spring.boot.startup.profile";
+	public static final boolean DEFAULT_PROFILE_STARTUP = false;
+
+	public static final String BATCH_RESTARTS = "spring.boot.devtools.restart.batch";
+	public static final boolean DEFAULT_BATCH_RESTARTS = false;
+
 	private static final String PROFILE = "spring.boot.profile";
 	public static final String DEFAULT_PROFILE = "";
 
@@ -149,6 +156,9 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 		CURRENT_LAUNCH.set(launch);
 		try {
 			profileHistory.updateHistory(getProject(conf), getProfile(conf));
+			if (getBatchRestarts(conf)) {
+				DevtoolsRestartScheduler.getInstance();
+			}
 			super.launch(conf, mode, launch, monitor);
 		} finally {
 			CURRENT_LAUNCH.remove();
@@ -161,7 +171,7 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 		String profile = getProfile(conf);
 		boolean debugOutput = getEnableDebugOutput(conf);
 		boolean enableAnsiConsole = supportsAnsiConsoleOutput() && getEnableAnsiConsoleOutput(conf);
-		if ((props==null || props.isEmpty()) && !debugOutput && !hasText(profile) && !enableAnsiConsole && !useThinWrapper(conf)) {
+		if ((props==null || props.isEmpty()) && !debugOutput && !hasText(profile) && !enableAnsiConsole && !useThinWrapper(conf) && !getBatchRestarts(conf)) {
 			//shortcut for case where no boot-specific customizations are specified.
 			return super.getProgramArguments(conf);
 		}
@@ -182,6 +192,9 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 		if (enableAnsiConsole) {
 			args.add(propertyAssignmentArgument("spring.output.ansi.enabled", "always"));
 		}
+		if (getBatchRestarts(conf)) {
+			args.add(propertyAssignmentArgument(DevtoolsRestartScheduler.TRIGGER_FILE_PROPERTY, DevtoolsRestartScheduler.TRIGGER_FILE));
+		}
 		addPropertiesArguments(args, props);
 		args.addAll(Arrays.asList(DebugPlugin.parseArguments(super.getProgramArguments(conf))));
 		return DebugPlugin.renderArguments(args.toArray(new String[args.size()]), null);
@@ -254,6 +267,13 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 		if (getEnableLifeCycle(conf)) {
 			enabled.add(Feature.LIFE_CYCLE);
 		}
+		if (getProfileStartup(conf)) {
+			//Startup profile data is collected over JMX once the app reaches ready state,
+			// so it needs both jmx and life cycle tracking.
+			enabled.add(Feature.JMX);
+			enabled.add(Feature.LIFE_CYCLE);
+			enabled.add(Feature.STARTUP_PROFILE);
+		}
 		return enabled;
 	}
 
@@ -296,6 +316,42 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 		return defaultValue;
 	}
 
+	public static boolean getProfileStartup(ILaunchConfiguration conf) {
+		try {
+			return conf.getAttribute(PROFILE_STARTUP, DEFAULT_PROFILE_STARTUP);
+		} catch (Exception e) {
+			Log.log(e);
+		}
+		return DEFAULT_PROFILE_STARTUP;
+	}
+
+	public static boolean getProfileStartup(ILaunch launch) {
+		ILaunchConfiguration conf = launch.getLaunchConfiguration();
+		return conf!=null && getProfileStartup(conf);
+	}
+
+	public static void setProfileStartup(ILaunchConfigurationWorkingCopy wc, boolean enable) {
+		wc.setAttribute(PROFILE_STARTUP, enable);
+	}
+
+	/**
+	 * Retrieve the 'Batch devtools restarts' option. When enabled devtools only restarts the app when
+	 * its trigger file changes and {@link DevtoolsRestartScheduler} touches the trigger file once
+	 * a burst of builds has completed.
+	 */
+	public static boolean getBatchRestarts(ILaunchConfiguration conf) {
+		try {
+			return conf.getAttribute(BATCH_RESTARTS, DEFAULT_BATCH_RESTARTS);
+		} catch (Exception e) {
+			Log.log(e);
+		}
+		return DEFAULT_BATCH_RESTARTS;
+	}
+
+	public static void setBatchRestarts(ILaunchConfigurationWorkingCopy wc, boolean enable) {
+		wc.setAttribute(BATCH_RESTARTS, enable);
+	}
+
 	public static void setEnableJMX(ILaunchConfigurationWorkingCopy wc, boolean enable) {
 		wc.setAttribute(ENABLE_JMX, enable);
 	}
@@ -337,8 +393,10 @@ public class BootLaunchConfigurationDelegate extends AbstractBootLaunchConfigura
 		setProject(wc, project);
 		if (project!=null && project.hasNature(SpringBootCore.M2E_NATURE)) {
 			enableMavenClasspathProviders(wc);
+			enableArgFile(wc);
 		} else if (project!=null && project.hasNature(SpringBootCore.BUILDSHIP_NATURE)) {
 			enableGradleClasspathProviders(wc);
+			enableArgFile(wc);
 		}
 		if (mainType!=null) {
 			setMainType(wc, mainType);
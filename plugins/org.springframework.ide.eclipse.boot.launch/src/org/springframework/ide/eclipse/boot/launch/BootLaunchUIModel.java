@@ -73,6 +73,8 @@ public class BootLaunchUIModel {
 	public final LaunchTabSelectionModel<Boolean> hideFromDash;
 	public final LaunchTabSelectionModel<Boolean> ansiConsoleOutput;
 	public final LaunchTabSelectionModel<Boolean> fastStartup;
+	public final LaunchTabSelectionModel<Boolean> profileStartup;
+	public final LaunchTabSelectionModel<Boolean> batchRestarts;
 	public final LaunchTabSelectionModel<Boolean> useThinWrapper;
 
 	public BootLaunchUIModel(IProfileHistory profileHistory) {
@@ -85,6 +87,8 @@ public class BootLaunchUIModel {
 		ansiConsoleOutput = CheckboxLaunchTabModel.create(ANSI_CONSOLE_OUTPUT, BootLaunchConfigurationDelegate.supportsAnsiConsoleOutput());
 		fastStartup = CheckboxLaunchTabModel.create(FAST_STARTUP, BootActivator.getDefault().getPreferenceStore()
 				.getBoolean(BootPreferences.PREF_BOOT_FAST_STARTUP_DEFAULT));
+		profileStartup = CheckboxLaunchTabModel.create(PROFILE_STARTUP, DEFAULT_PROFILE_STARTUP);
+		batchRestarts = CheckboxLaunchTabModel.create(BATCH_RESTARTS, DEFAULT_BATCH_RESTARTS);
 		Validator thinWrapperValidator = new Validator() {
 			@Override
 			protected ValidationResult compute() {
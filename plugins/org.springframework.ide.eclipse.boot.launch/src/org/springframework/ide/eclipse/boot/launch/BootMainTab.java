@@ -54,6 +54,8 @@ public class BootMainTab extends LaunchConfigurationTabWithSections implements I
 		jvmArgsSections.add(new EnableDebugSection(this, model.enableDebug));
 		jvmArgsSections.add(new HideFromBootDashSection(this, model.hideFromDash));
 		jvmArgsSections.add(new FastStartupLaunchTabSection(this, model.fastStartup));
+		jvmArgsSections.add(new DelegatingLaunchConfigurationTabSection(this, model.profileStartup, new CheckboxSection(this, model.profileStartup, "Profile startup")));
+		jvmArgsSections.add(new DelegatingLaunchConfigurationTabSection(this, model.batchRestarts, new CheckboxSection(this, model.batchRestarts, "Batch devtools restarts")));
 		/*
 		 * Show UI for enabling/disabling ANSI console output only if
 		 * IDE supports ANSI console output
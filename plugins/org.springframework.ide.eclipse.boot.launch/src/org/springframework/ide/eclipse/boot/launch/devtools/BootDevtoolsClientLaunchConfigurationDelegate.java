@@ -37,6 +37,7 @@ import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.osgi.util.NLS;
 import org.springframework.ide.eclipse.boot.core.BootActivator;
 import org.springframework.ide.eclipse.boot.launch.AbstractBootLaunchConfigurationDelegate;
+import org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate;
 import org.springframework.ide.eclipse.boot.launch.util.WaitFor;
 import org.springframework.ide.eclipse.boot.util.ProcessListenerAdapter;
 import org.springframework.ide.eclipse.boot.util.ProcessTracker;
@@ -75,6 +76,10 @@ public class BootDevtoolsClientLaunchConfigurationDelegate extends AbstractBootL
 		if (debugPort!=null) {
 			args.add(propertyAssignmentArgument(DEBUG_PORT, ""+debugPort));
 		}
+		if (BootLaunchConfigurationDelegate.getBatchRestarts(conf)) {
+			//The client only uploads changed classes to the remote app when the trigger file changes.
+			args.add(propertyAssignmentArgument(DevtoolsRestartScheduler.TRIGGER_FILE_PROPERTY, DevtoolsRestartScheduler.TRIGGER_FILE));
+		}
 		args.add(getRemoteUrl(conf));
 		return DebugPlugin.renderArguments(args.toArray(new String[args.size()]), null);
 	}
@@ -97,6 +102,9 @@ public class BootDevtoolsClientLaunchConfigurationDelegate extends AbstractBootL
 		if (isDebug) {
 			localDebugPort.set(findFreePort());
 		}
+		if (BootLaunchConfigurationDelegate.getBatchRestarts(conf)) {
+			DevtoolsRestartScheduler.getInstance();
+		}
 		try {
 			//Launch client: Generally we don't wanna debug the client itself so always use 'RUN_MODE'
 
@@ -10,8 +10,13 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.launch.devtools;
 
+import static org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate.BATCH_RESTARTS;
+import static org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate.DEFAULT_BATCH_RESTARTS;
+
 import org.eclipse.core.resources.IProject;
+import org.springframework.ide.eclipse.boot.launch.CheckboxLaunchTabModel;
 import org.springframework.ide.eclipse.boot.launch.ExistingBootProjectSelectionValidator;
+import org.springframework.ide.eclipse.boot.launch.LaunchTabSelectionModel;
 import org.springframework.ide.eclipse.boot.launch.SelectProjectLaunchTabModel;
 import org.springsource.ide.eclipse.commons.livexp.core.CompositeValidator;
 import org.springsource.ide.eclipse.commons.livexp.core.LiveVariable;
@@ -32,11 +37,13 @@ public class BootDevtoolsClientLaunchUIModel {
 	public final SelectProjectLaunchTabModel project;
 	public final StringFieldLaunchTabModel remoteUrl;
 	public final StringFieldLaunchTabModel remoteSecret;
+	public final LaunchTabSelectionModel<Boolean> batchRestarts;
 
 	public BootDevtoolsClientLaunchUIModel() {
 		project = createProjectSelectionModel();
 		remoteUrl = createRemoteUrlModel();
 		remoteSecret = createRemoteSecretModel();
+		batchRestarts = CheckboxLaunchTabModel.create(BATCH_RESTARTS, DEFAULT_BATCH_RESTARTS);
 	}
 
 	private StringFieldLaunchTabModel createRemoteUrlModel() {
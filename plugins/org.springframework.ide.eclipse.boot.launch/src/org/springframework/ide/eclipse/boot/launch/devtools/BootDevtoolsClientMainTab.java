@@ -17,8 +17,10 @@ import java.util.List;
 
 import org.eclipse.swt.graphics.Image;
 import org.springframework.ide.eclipse.boot.launch.SelectProjectLaunchTabSection;
+import org.springframework.ide.eclipse.boot.launch.util.DelegatingLaunchConfigurationTabSection;
 import org.springframework.ide.eclipse.boot.launch.util.LaunchConfigurationTabWithSections;
 import org.springframework.ide.eclipse.boot.ui.BootUIImages;
+import org.springsource.ide.eclipse.commons.livexp.ui.CheckboxSection;
 import org.springsource.ide.eclipse.commons.livexp.ui.IPageSection;
 import org.springsource.ide.eclipse.commons.livexp.ui.IPageWithSections;
 
@@ -44,6 +46,7 @@ public class BootDevtoolsClientMainTab extends LaunchConfigurationTabWithSection
 				SelectProjectLaunchTabSection.create(this, model.project),
 				StringFieldLaunchTabSection.create(this, model.remoteUrl),
 				StringFieldLaunchTabSection.create(this, model.remoteSecret),
+				new DelegatingLaunchConfigurationTabSection(this, model.batchRestarts, new CheckboxSection(this, model.batchRestarts, "Batch devtools restarts")),
 //				new MainTypeLaunchTabSection(this, model.project.selection).readonly(true),
 //				new ProfileLaunchTabSection(this, model.profile),
 //				new HLineSection(this),
@@ -0,0 +1,495 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.launch.devtools;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace.ProjectOrder;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate;
+import org.springframework.ide.eclipse.boot.util.Log;
+import org.springsource.ide.eclipse.commons.livexp.core.LiveExpression;
+import org.springsource.ide.eclipse.commons.livexp.core.LiveVariable;
+import org.springsource.ide.eclipse.commons.livexp.ui.Disposable;
+
+/**
+ * Batches devtools restarts of apps launched with the 'Batch devtools restarts' option.
+ * <p>
+ * Such apps (and the remote devtools clients) are launched with a devtools 'trigger-file'
+ * so devtools itself no longer restarts them on every change to their classpath. Instead,
+ * this scheduler collects the changes to project output folders from workspace builds until
+ * no more builds have come in for {@link #QUIET_PERIOD} milliseconds. It then touches the
+ * trigger file of every affected app exactly once, in project dependency order.
+ * <p>
+ * Changes to files devtools excludes from restarts by default (static resources, templates,
+ * test classes...) and changes to test output folders never cause a restart. Devtools holds
+ * back all classpath changes until the trigger file changes though, including the uploads
+ * of its remote client and LiveReload. So the trigger file is also touched for projects
+ * with changes to excluded files only; devtools then pushes and reloads them without
+ * restarting. The number of restarts that would have happened without batching, but didn't,
+ * is tracked in {@link #getRestartsAvoided()}.
+ *
+ * @author agent
+ */
+public class DevtoolsRestartScheduler implements Disposable {
+
+	public static final String TRIGGER_FILE = ".reloadtrigger";
+
+	/**
+	 * Devtools property that makes it only restart an app when the trigger file changes.
+	 */
+	public static final String TRIGGER_FILE_PROPERTY = "spring.devtools.restart.trigger-file";
+
+	/**
+	 * Time without builds after which pending restarts are executed.
+	 */
+	public static final long QUIET_PERIOD = 1000;
+
+	/**
+	 * Paths (relative to an output folder) that devtools' default 'spring.devtools.restart.exclude'
+	 * setting excludes from triggering a restart.
+	 */
+	private static final String[] EXCLUDED_PREFIXES = {
+			"META-INF/maven/",
+			"META-INF/resources/",
+			"resources/",
+			"static/",
+			"public/",
+			"templates/"
+	};
+
+	private static final String[] EXCLUDED_PATHS = {
+			"git.properties",
+			"META-INF/build-info.properties"
+	};
+
+	private static final String[] EXCLUDED_SUFFIXES = {
+			"Test.class",
+			"Tests.class"
+	};
+
+	private static final int NO_CHANGE = 0;
+	private static final int EXCLUDED = 1;
+	private static final int RESTART = 2;
+
+	private static DevtoolsRestartScheduler instance;
+
+	public static synchronized DevtoolsRestartScheduler getInstance() {
+		if (instance==null) {
+			instance = new DevtoolsRestartScheduler();
+		}
+		return instance;
+	}
+
+	public static synchronized void disposeInstance() {
+		if (instance!=null) {
+			instance.dispose();
+			instance = null;
+		}
+	}
+
+	/**
+	 * The projects touched by a single build.
+	 */
+	public static class BuildChanges {
+		/**
+		 * Projects with changes that devtools would restart an app for (without batching).
+		 */
+		final Set<IProject> touched = new HashSet<>();
+		/**
+		 * Projects with changes that actually require a restart.
+		 */
+		final Set<IProject> needRestart = new HashSet<>();
+		/**
+		 * Projects with changes to excluded files in their main output folders. They don't
+		 * require a restart, but the trigger file must change for devtools to push them.
+		 */
+		final Set<IProject> excluded = new HashSet<>();
+
+		boolean isEmpty() {
+			return touched.isEmpty() && excluded.isEmpty();
+		}
+	}
+
+	private final List<BuildChanges> pending = new ArrayList<>();
+	private final LiveVariable<Integer> restartsAvoided = new LiveVariable<>(0);
+	private IResourceChangeListener resourceListener;
+	private final Job restartJob = new Job("Restart devtools apps") {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			restartPending();
+			return Status.OK_STATUS;
+		}
+	};
+
+	private DevtoolsRestartScheduler() {
+		restartJob.setSystem(true);
+		resourceListener = new IResourceChangeListener() {
+			@Override
+			public void resourceChanged(IResourceChangeEvent event) {
+				IResourceDelta delta = event.getDelta();
+				if (delta!=null && !getBatchedLaunches().isEmpty()) {
+					buildFinished(delta);
+				}
+			}
+		};
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(resourceListener, IResourceChangeEvent.POST_BUILD);
+	}
+
+	/**
+	 * Total number of restarts avoided by batching, since the scheduler was started.
+	 */
+	public LiveExpression<Integer> getRestartsAvoided() {
+		return restartsAvoided;
+	}
+
+	private void buildFinished(IResourceDelta delta) {
+		BuildChanges changes = collectChanges(delta);
+		if (!changes.isEmpty()) {
+			synchronized (pending) {
+				pending.add(changes);
+			}
+			if (restartJob.getState()!=Job.RUNNING) {
+				//Pushes back the pending restart, so that a burst of builds results in a single restart.
+				restartJob.cancel();
+			}
+			restartJob.schedule(QUIET_PERIOD);
+		}
+	}
+
+	/**
+	 * Collects the changes to the output folders of the projects in a workspace delta.
+	 */
+	public static BuildChanges collectChanges(IResourceDelta delta) {
+		BuildChanges changes = new BuildChanges();
+		for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			IResource r = projectDelta.getResource();
+			if (r.getType()==IResource.PROJECT && r.isAccessible()) {
+				collectChanges((IProject) r, projectDelta, changes);
+			}
+		}
+		return changes;
+	}
+
+	private static void collectChanges(IProject project, IResourceDelta projectDelta, BuildChanges changes) {
+		Map<IPath, Boolean> outputFolders = getOutputFolders(project);
+		for (Map.Entry<IPath, Boolean> output : outputFolders.entrySet()) {
+			IResourceDelta outputDelta = projectDelta.findMember(output.getKey());
+			if (outputDelta!=null) {
+				int kind = classifyChanges(outputDelta, outputDelta.getFullPath().segmentCount());
+				if (kind==RESTART) {
+					//Test classes are on the runtime classpath so devtools would restart for them.
+					changes.touched.add(project);
+					if (!output.getValue()) {
+						changes.needRestart.add(project);
+					}
+				} else if (kind==EXCLUDED && !output.getValue()) {
+					changes.excluded.add(project);
+				}
+			}
+		}
+	}
+
+	private static int classifyChanges(IResourceDelta delta, int outputSegments) {
+		if (delta.getResource().getType()==IResource.FILE) {
+			if (delta.getKind()==IResourceDelta.CHANGED && (delta.getFlags() & IResourceDelta.CONTENT)==0) {
+				return NO_CHANGE;
+			}
+			String path = delta.getFullPath().removeFirstSegments(outputSegments).toString();
+			if (TRIGGER_FILE.equals(path)) {
+				return NO_CHANGE;
+			}
+			return isExcluded(path) ? EXCLUDED : RESTART;
+		}
+		int result = NO_CHANGE;
+		for (IResourceDelta child : delta.getAffectedChildren()) {
+			result = Math.max(result, classifyChanges(child, outputSegments));
+			if (result==RESTART) {
+				break;
+			}
+		}
+		return result;
+	}
+
+	static boolean isExcluded(String path) {
+		for (String prefix : EXCLUDED_PREFIXES) {
+			if (path.startsWith(prefix)) {
+				return true;
+			}
+		}
+		for (String excluded : EXCLUDED_PATHS) {
+			if (path.equals(excluded)) {
+				return true;
+			}
+		}
+		for (String suffix : EXCLUDED_SUFFIXES) {
+			if (path.endsWith(suffix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return Project-relative paths of the output folders of a project mapped to whether they are
+	 * test output folders.
+	 */
+	private static Map<IPath, Boolean> getOutputFolders(IProject project) {
+		Map<IPath, Boolean> outputs = new HashMap<>();
+		try {
+			if (project.hasNature(JavaCore.NATURE_ID)) {
+				IJavaProject jp = JavaCore.create(project);
+				IPath defaultOutput = jp.getOutputLocation();
+				for (IClasspathEntry e : jp.getRawClasspath()) {
+					if (e.getEntryKind()==IClasspathEntry.CPE_SOURCE) {
+						IPath output = (e.getOutputLocation()==null ? defaultOutput : e.getOutputLocation()).removeFirstSegments(1);
+						//An output folder shared by test and non-test sources isn't a test folder.
+						Boolean isTest = outputs.get(output);
+						outputs.put(output, e.isTest() && (isTest==null || isTest));
+					}
+				}
+			}
+		} catch (CoreException e) {
+			Log.log(e);
+		}
+		return outputs;
+	}
+
+	private void restartPending() {
+		List<BuildChanges> builds;
+		synchronized (pending) {
+			builds = new ArrayList<>(pending);
+			pending.clear();
+		}
+		if (builds.isEmpty()) {
+			return;
+		}
+		Map<IProject, Set<IProject>> apps = new LinkedHashMap<>();
+		for (ILaunch launch : getBatchedLaunches()) {
+			IProject project = BootLaunchConfigurationDelegate.getProject(launch.getLaunchConfiguration());
+			if (project!=null && !apps.containsKey(project)) {
+				apps.put(project, getDependencyClosure(project));
+			}
+		}
+		int avoided = 0;
+		for (Map.Entry<IProject, Set<IProject>> app : apps.entrySet()) {
+			int touched = 0;
+			boolean needRestart = false;
+			for (BuildChanges build : builds) {
+				if (intersects(build.touched, app.getValue())) {
+					touched++;
+				}
+				needRestart = needRestart || intersects(build.needRestart, app.getValue());
+			}
+			avoided += needRestart ? touched - 1 : touched;
+		}
+		for (IProject project : getProjectsToTrigger(apps, builds)) {
+			if (!triggerRestart(project)) {
+				Log.warn("Couldn't trigger devtools restart for project '"+project.getName()+"'");
+			}
+		}
+		if (avoided>0) {
+			synchronized (restartsAvoided) {
+				restartsAvoided.setValue(restartsAvoided.getValue() + avoided);
+			}
+		}
+	}
+
+	/**
+	 * Determines the apps whose trigger file must be touched for a batch of builds.
+	 *
+	 * @param apps The project of each app mapped to the projects on its classpath.
+	 * @return The projects of the apps that need a restart or have changes to excluded files,
+	 * in project dependency order.
+	 */
+	public static List<IProject> getProjectsToTrigger(Map<IProject, Set<IProject>> apps, List<BuildChanges> builds) {
+		List<IProject> toTrigger = new ArrayList<>();
+		for (Map.Entry<IProject, Set<IProject>> app : apps.entrySet()) {
+			for (BuildChanges build : builds) {
+				if (intersects(build.needRestart, app.getValue()) || intersects(build.excluded, app.getValue())) {
+					toTrigger.add(app.getKey());
+					break;
+				}
+			}
+		}
+		return inDependencyOrder(toTrigger);
+	}
+
+	private static boolean intersects(Set<IProject> a, Collection<IProject> b) {
+		for (IProject p : b) {
+			if (a.contains(p)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Set<IProject> getDependencyClosure(IProject project) {
+		Set<IProject> closure = new HashSet<>();
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		List<IProject> todo = new ArrayList<>();
+		todo.add(project);
+		while (!todo.isEmpty()) {
+			IProject p = todo.remove(todo.size()-1);
+			if (closure.add(p) && p.isAccessible()) {
+				try {
+					if (p.hasNature(JavaCore.NATURE_ID)) {
+						for (String name : JavaCore.create(p).getRequiredProjectNames()) {
+							todo.add(root.getProject(name));
+						}
+					}
+				} catch (CoreException e) {
+					Log.log(e);
+				}
+			}
+		}
+		return closure;
+	}
+
+	/**
+	 * Sorts projects so that projects come after the projects they depend on.
+	 */
+	private static List<IProject> inDependencyOrder(List<IProject> projects) {
+		if (projects.size()<=1) {
+			return projects;
+		}
+		ProjectOrder order = ResourcesPlugin.getWorkspace().computeProjectOrder(projects.toArray(new IProject[projects.size()]));
+		List<IProject> sorted = new ArrayList<>(projects.size());
+		for (IProject p : order.projects) {
+			sorted.add(p);
+		}
+		for (IProject p : projects) {
+			//computeProjectOrder drops inaccessible projects.
+			if (!sorted.contains(p)) {
+				sorted.add(p);
+			}
+		}
+		return sorted;
+	}
+
+	/**
+	 * @return Running launches of apps or devtools clients that have batched restarts enabled.
+	 */
+	private static List<ILaunch> getBatchedLaunches() {
+		List<ILaunch> launches = new ArrayList<>();
+		for (ILaunch l : DebugPlugin.getDefault().getLaunchManager().getLaunches()) {
+			ILaunchConfiguration conf = l.getLaunchConfiguration();
+			if (conf!=null && !l.isTerminated() && BootLaunchConfigurationDelegate.getBatchRestarts(conf)) {
+				launches.add(l);
+			}
+		}
+		return launches;
+	}
+
+	/**
+	 * Folder on the app's classpath where the devtools trigger file for a project's apps is written.
+	 * This is the output folder of the project's main (i.e. non-test) sources. Projects where source
+	 * folders have their own output folder (e.g. Buildship's 'bin/main') often don't have anything
+	 * on the app's classpath in the project's default output folder, so the default output folder
+	 * is only used if no source folder has an output folder of its own.
+	 *
+	 * @return the folder or null if it can not be determined.
+	 */
+	public static File getTriggerFolder(IProject project) {
+		try {
+			if (project!=null && project.isAccessible() && project.hasNature(JavaCore.NATURE_ID)) {
+				IJavaProject jp = JavaCore.create(project);
+				IPath output = null;
+				for (IClasspathEntry e : jp.getRawClasspath()) {
+					if (e.getEntryKind()==IClasspathEntry.CPE_SOURCE && !e.isTest() && e.getOutputLocation()!=null) {
+						output = e.getOutputLocation();
+						break;
+					}
+				}
+				if (output==null) {
+					output = jp.getOutputLocation();
+				}
+				IResource folder = ResourcesPlugin.getWorkspace().getRoot().findMember(output);
+				if (folder!=null && folder.getLocation()!=null) {
+					File file = folder.getLocation().toFile();
+					if (file.isDirectory()) {
+						return file;
+					}
+				}
+			}
+		} catch (CoreException e) {
+			Log.log(e);
+		}
+		return null;
+	}
+
+	/**
+	 * Triggers a devtools restart of the apps of a given project by touching the trigger file in
+	 * its output folder.
+	 *
+	 * @return true if the trigger file was written.
+	 */
+	public static boolean triggerRestart(IProject project) {
+		File folder = getTriggerFolder(project);
+		if (folder!=null) {
+			writeTriggerFile(new File(folder, TRIGGER_FILE));
+			return true;
+		}
+		return false;
+	}
+
+	public static void writeTriggerFile(File file) {
+		try (OutputStream outputStream = new FileOutputStream(file)) {
+			Date date = new Date();
+			String content = date.toString() + " " + date.getTime();
+			outputStream.write(content.getBytes());
+		} catch (IOException ex) {
+			throw new IllegalStateException("Unable to write trigger file", ex);
+		}
+	}
+
+	@Override
+	public void dispose() {
+		if (resourceListener!=null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(resourceListener);
+			resourceListener = null;
+		}
+		restartJob.cancel();
+		synchronized (pending) {
+			pending.clear();
+		}
+	}
+}
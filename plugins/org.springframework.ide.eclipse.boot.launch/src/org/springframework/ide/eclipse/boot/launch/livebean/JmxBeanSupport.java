@@ -24,7 +24,12 @@ public class JmxBeanSupport {
 	public static enum Feature {
 		JMX(null),
 		LIVE_BEAN_GRAPH("-Dspring.liveBeansView.mbeanDomain"),
-		LIFE_CYCLE("-Dspring.application.admin.enabled=true");
+		LIFE_CYCLE("-Dspring.application.admin.enabled=true"),
+		/**
+		 * Makes sure actuator endpoints (i.e. 'conditions' and 'startup') are registered as mbeans
+		 * so that startup profile data can be retrieved from the app.
+		 */
+		STARTUP_PROFILE("-Dspring.jmx.enabled=true");
 
 		public final String vmArg;
 
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.launch.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+import org.springframework.ide.eclipse.boot.util.Log;
+import org.springsource.ide.eclipse.commons.frameworks.core.workspace.ClasspathListenerManager;
+import org.springsource.ide.eclipse.commons.frameworks.core.workspace.ClasspathListenerManager.ClasspathListener;
+import org.springsource.ide.eclipse.commons.livexp.ui.Disposable;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Caches the resolved runtime classpath (and modulepath) of Boot launch configurations.
+ * <p>
+ * Resolving the runtime classpath of a project with many (maven) dependencies is expensive
+ * and the result rarely changes between two launches of the same app. Entries are keyed on the
+ * project and the launch configuration attributes that affect classpath computation. All entries
+ * are discarded when the classpath of any java project changes (as the classpath of a project
+ * also depends on the projects it references), when a build file (e.g. pom.xml) is changed and
+ * when projects are opened or closed (which may change m2e's workspace dependency resolution).
+ *
+ * @author agent
+ */
+public class LaunchClasspathCache implements Disposable {
+
+	/**
+	 * Callback that computes a classpath when it is not found in the cache.
+	 */
+	public interface ClasspathComputer {
+		String[][] compute() throws CoreException;
+	}
+
+	private static final String[] KEY_ATTRIBUTES = {
+			IJavaLaunchConfigurationConstants.ATTR_PROJECT_NAME,
+			IJavaLaunchConfigurationConstants.ATTR_CLASSPATH_PROVIDER,
+			IJavaLaunchConfigurationConstants.ATTR_DEFAULT_CLASSPATH,
+			IJavaLaunchConfigurationConstants.ATTR_CLASSPATH,
+			IJavaLaunchConfigurationConstants.ATTR_JRE_CONTAINER_PATH,
+			IJavaLaunchConfigurationConstants.ATTR_EXCLUDE_TEST_CODE,
+	};
+
+	private static final ImmutableSet<String> BUILD_FILES = ImmutableSet.of(
+			"pom.xml",
+			"build.gradle",
+			"settings.gradle",
+			".classpath"
+	);
+
+	private static LaunchClasspathCache instance;
+
+	public static synchronized LaunchClasspathCache getInstance() {
+		if (instance==null) {
+			instance = new LaunchClasspathCache();
+		}
+		return instance;
+	}
+
+	public static synchronized void disposeInstance() {
+		if (instance!=null) {
+			instance.dispose();
+			instance = null;
+		}
+	}
+
+	private final Map<String, String[][]> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented on every invalidation, so that a classpath computed while the cache is cleared
+	 * is not put back into it.
+	 */
+	private final AtomicInteger generation = new AtomicInteger();
+
+	private ClasspathListenerManager classpathListener;
+	private IResourceChangeListener resourceListener;
+
+	private LaunchClasspathCache() {
+		classpathListener = new ClasspathListenerManager(new ClasspathListener() {
+			@Override
+			public void classpathChanged(IJavaProject jp) {
+				clear();
+			}
+		});
+		resourceListener = new IResourceChangeListener() {
+			@Override
+			public void resourceChanged(IResourceChangeEvent event) {
+				IResourceDelta delta = event.getDelta();
+				if (delta!=null && !cache.isEmpty() && affectsClasspath(delta)) {
+					clear();
+				}
+			}
+		};
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(resourceListener, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Get the cached classpath and modulepath for a given launch config, or compute it (and cache it)
+	 * if there is no cached value for it.
+	 */
+	public String[][] getClasspathAndModulepath(ILaunchConfiguration conf, ClasspathComputer computer) throws CoreException {
+		return get("classpathAndModulepath", conf, computer);
+	}
+
+	/**
+	 * Get the cached classpath for a given launch config, or compute it (and cache it) if there is
+	 * no cached value for it.
+	 */
+	public String[] getClasspath(ILaunchConfiguration conf, ClasspathComputer computer) throws CoreException {
+		return get("classpath", conf, computer)[0];
+	}
+
+	private String[][] get(String kind, ILaunchConfiguration conf, ClasspathComputer computer) throws CoreException {
+		String key = createKey(kind, conf);
+		if (key==null) {
+			return computer.compute();
+		}
+		String[][] cached = cache.get(key);
+		if (cached==null) {
+			int computedGeneration = generation.get();
+			cached = computer.compute();
+			if (cached!=null) {
+				synchronized (cache) {
+					if (computedGeneration==generation.get()) {
+						cache.put(key, copy(cached));
+					}
+				}
+			}
+		} else {
+			cached = copy(cached);
+		}
+		return cached;
+	}
+
+	public void clear() {
+		synchronized (cache) {
+			generation.incrementAndGet();
+			cache.clear();
+		}
+	}
+
+	@Override
+	public void dispose() {
+		if (classpathListener!=null) {
+			classpathListener.dispose();
+			classpathListener = null;
+		}
+		if (resourceListener!=null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(resourceListener);
+			resourceListener = null;
+		}
+		clear();
+	}
+
+	private static String createKey(String kind, ILaunchConfiguration conf) {
+		try {
+			//Note: older eclipse api doesn't use generics for conf.getAttributes
+			Map<?, ?> attributes = conf.getAttributes();
+			StringBuilder key = new StringBuilder(kind);
+			key.append('\n');
+			key.append(conf.getType().getIdentifier());
+			for (String a : KEY_ATTRIBUTES) {
+				key.append('\n');
+				key.append(a);
+				key.append('=');
+				key.append(attributes.get(a));
+			}
+			return key.toString();
+		} catch (Exception e) {
+			Log.log(e);
+			return null;
+		}
+	}
+
+	private static String[][] copy(String[][] paths) {
+		String[][] copy = new String[paths.length][];
+		for (int i = 0; i < paths.length; i++) {
+			copy[i] = paths[i] == null ? null : Arrays.copyOf(paths[i], paths[i].length);
+		}
+		return copy;
+	}
+
+	private static boolean affectsClasspath(IResourceDelta delta) {
+		boolean[] affected = { false };
+		try {
+			delta.accept(new IResourceDeltaVisitor() {
+				@Override
+				public boolean visit(IResourceDelta d) throws CoreException {
+					if (affected[0]) {
+						return false;
+					}
+					IResource r = d.getResource();
+					switch (r.getType()) {
+					case IResource.ROOT:
+						return true;
+					case IResource.PROJECT:
+						if ((d.getFlags() & IResourceDelta.OPEN)!=0 || d.getKind()!=IResourceDelta.CHANGED) {
+							affected[0] = true;
+							return false;
+						}
+						return true;
+					case IResource.FILE:
+						if (BUILD_FILES.contains(r.getName()) && r.getParent().getType()==IResource.PROJECT) {
+							affected[0] = true;
+						}
+						return false;
+					default:
+						//Build files we care about are at the root of the project.
+						return false;
+					}
+				}
+			});
+		} catch (CoreException e) {
+			Log.log(e);
+			return true;
+		}
+		return affected[0];
+	}
+
+}
@@ -18,12 +18,17 @@ import org.springsource.ide.eclipse.commons.frameworks.core.ExceptionUtil;
  * <P>
  * Warning: this is not meant to wrap long blocking operations. Long blocking
  * operation will not be interupted to force the timeout to be obeyed.
+ * <P>
+ * The delay between attempts starts out at the given interval and is doubled
+ * after each failed attempt, up to {@link #MAX_INTERVAL} (or the given interval,
+ * if that is larger).
  *
  * @author Kris De Volder
  */
 public abstract class WaitFor {
 
 	private static final long DEFAULT_INTERVAL = 200 /*ms*/;
+	private static final long MAX_INTERVAL = 1000 /*ms*/;
 
 	public WaitFor(long timeout) throws Exception {
 		this(timeout, DEFAULT_INTERVAL);
@@ -48,7 +53,8 @@ public abstract class WaitFor {
 			if (retry) {
 				try {
 					//System.out.println("Failed: "+e.getMessage());
-					Thread.sleep(DEFAULT_INTERVAL);
+					Thread.sleep(Math.min(interval, Math.max(1, endTime - System.currentTimeMillis())));
+					interval = Math.min(interval * 2, Math.max(MAX_INTERVAL, interval));
 					//System.out.println("Retrying");
 				} catch (InterruptedException ie) {
 				}
@@ -11,10 +11,6 @@
 package org.springframework.ide.eclipse.boot.restart;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
-import java.util.Date;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
@@ -27,6 +23,7 @@ import org.eclipse.jface.action.Action;
 import org.eclipse.ui.texteditor.IUpdate;
 import org.springframework.ide.eclipse.boot.core.BootPropertyTester;
 import org.springframework.ide.eclipse.boot.launch.BootLaunchConfigurationDelegate;
+import org.springframework.ide.eclipse.boot.launch.devtools.DevtoolsRestartScheduler;
 
 @SuppressWarnings("restriction")
 public class RestartAction extends Action implements IUpdate {
@@ -74,18 +71,26 @@ public class RestartAction extends Action implements IUpdate {
 	public void run() {
 		if (!this.console.getProcess().isTerminated()) {
 			IProcess process = this.console.getProcess();
+			ILaunchConfiguration conf = process.getLaunch().getLaunchConfiguration();
+			//Boot launches may pass their classpath in an argument file, so prefer the project's
+			//output folder over parsing the command line.
+			if (conf != null && DevtoolsRestartScheduler.triggerRestart(BootLaunchConfigurationDelegate.getProject(conf))) {
+				return;
+			}
 			String commandLine = process
 					.getAttribute("org.eclipse.debug.core.ATTR_CMDLINE");
 			String classPath = getClassPath(commandLine);
 			File folder = getFolder(classPath);
 			if (folder != null) {
-				writeTriggerFile(new File(folder, ".reloadtrigger"));
-				System.out.println(folder);
+				DevtoolsRestartScheduler.writeTriggerFile(new File(folder, DevtoolsRestartScheduler.TRIGGER_FILE));
 			}
 		}
 	}
 
 	private String getClassPath(String commandLine) {
+		if (commandLine == null) {
+			return null;
+		}
 		for (String prefix : CLASSPATH_PREFIX) {
 			int startIndex = commandLine.indexOf(prefix);
 			if (startIndex != -1) {
@@ -111,23 +116,6 @@ public class RestartAction extends Action implements IUpdate {
 		return (index == -1 ? null : getFolder(classPath.substring(index + 1)));
 	}
 
-	private void writeTriggerFile(File file) {
-		try {
-			OutputStream outputStream = new FileOutputStream(file);
-			try {
-				Date date = new Date();
-				String content = date.toString() + " " + date.getTime();
-				outputStream.write(content.getBytes());
-			}
-			finally {
-				outputStream.close();
-			}
-		}
-		catch (IOException ex) {
-			throw new IllegalStateException("Unable to write trigger file", ex);
-		}
-	}
-
 	public void dispose() {
 		this.console = null;
 	}
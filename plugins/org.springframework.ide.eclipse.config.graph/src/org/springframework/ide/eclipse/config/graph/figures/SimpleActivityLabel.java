@@ -25,6 +25,12 @@ import org.eclipse.draw2d.geometry.Rectangle;
  */
 public class SimpleActivityLabel extends Label {
 
+	/**
+	 * Zoom level below which labels are painted as placeholders without text
+	 * and icon
+	 */
+	public static final double LEVEL_OF_DETAIL_SCALE = 0.5;
+
 	private boolean selected;
 
 	private boolean hasFocus;
@@ -50,6 +56,10 @@ public class SimpleActivityLabel extends Label {
 	 */
 	@Override
 	protected void paintFigure(Graphics graphics) {
+		if (graphics.getAbsoluteScale() < LEVEL_OF_DETAIL_SCALE) {
+			paintPlaceholder(graphics);
+			return;
+		}
 		if (selected) {
 			graphics.pushState();
 			graphics.setBackgroundColor(ColorConstants.menuBackgroundSelected);
@@ -68,6 +78,18 @@ public class SimpleActivityLabel extends Label {
 		super.paintFigure(graphics);
 	}
 
+	/**
+	 * Paints a bar in place of the icon and text, as they can't be read when
+	 * the graph is zoomed out that far.
+	 */
+	protected void paintPlaceholder(Graphics graphics) {
+		Rectangle placeholder = getIconBounds().union(getTextBounds());
+		graphics.pushState();
+		graphics.setBackgroundColor(selected ? ColorConstants.menuBackgroundSelected : ColorConstants.lightGray);
+		graphics.fillRectangle(placeholder);
+		graphics.popState();
+	}
+
 	/**
 	 * Sets the focus state of this SimpleActivityLabel
 	 * @param b true will cause a focus rectangle to be drawn around the text of
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.config.graph.figures;
 
+import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.PositionConstants;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.swt.graphics.Font;
@@ -44,6 +45,14 @@ public class TransitionLabel extends SimpleActivityLabel {
 		return super.getPreferredSize(hint, calculateTextSize().height);
 	}
 
+	/**
+	 * Transitions are recognizable by their connections, so no placeholder is
+	 * painted for their labels.
+	 */
+	@Override
+	protected void paintPlaceholder(Graphics graphics) {
+	}
+
 	public void setMaxLength(int maxLength) {
 		this.maxLength = maxLength;
 	}
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.draw2d.ConnectionLayer;
+import org.eclipse.draw2d.ConnectionRouter;
 import org.eclipse.draw2d.FanRouter;
 import org.eclipse.draw2d.Figure;
 import org.eclipse.draw2d.FreeformLayer;
@@ -46,6 +47,12 @@ import org.springframework.ide.eclipse.config.graph.model.Activity;
  */
 public abstract class ActivityDiagramPart extends StructuredActivityPart implements IPropertyChangeListener {
 
+	/**
+	 * Number of activities above which connections are no longer routed
+	 * around the activities, as finding the shortest paths gets too slow
+	 */
+	public static final int MAX_ROUTED_ACTIVITIES = 200;
+
 	private final AbstractConfigGraphDiagram diagram;
 
 	private DelegatingLayoutManager delegatingLayoutManager;
@@ -58,13 +65,21 @@ public abstract class ActivityDiagramPart extends StructuredActivityPart impleme
 
 	private final IPreferenceStore prefStore;
 
+	private ConnectionRouter shortestPathRouter;
+
+	private ConnectionRouter straightRouter;
+
 	CommandStackListener stackListener = new CommandStackListener() {
 		public void commandStackChanged(EventObject event) {
 			if (delegatingLayoutManager.getActiveLayoutManager() instanceof GraphLayoutManager) {
 				if (GraphAnimation.captureLayout(getFigure())) {
+					// Route the connections around the activities once the
+					// animation has ended instead of for every frame
+					setConnectionRouter(straightRouter);
 					while (GraphAnimation.step()) {
 						getFigure().getUpdateManager().performUpdate();
 					}
+					updateConnectionRouter();
 				}
 				GraphAnimation.end();
 			}
@@ -155,6 +170,11 @@ public abstract class ActivityDiagramPart extends StructuredActivityPart impleme
 		ShortestPathConnectionRouter router = new ShortestPathConnectionRouter(f);
 		fanRouter.setNextRouter(router);
 		cLayer.setConnectionRouter(fanRouter);
+		shortestPathRouter = fanRouter;
+
+		FanRouter straightFanRouter = new FanRouter();
+		straightFanRouter.setSeparation(20);
+		straightRouter = straightFanRouter;
 		return f;
 	}
 
@@ -218,11 +238,37 @@ public abstract class ActivityDiagramPart extends StructuredActivityPart impleme
 		super.refresh();
 	}
 
+	@Override
+	protected void refreshChildren() {
+		super.refreshChildren();
+		updateConnectionRouter();
+	}
+
 	@Override
 	protected void refreshVisuals() {
 		// no-op
 	}
 
+	private void setConnectionRouter(ConnectionRouter router) {
+		ConnectionLayer cLayer = (ConnectionLayer) getLayer(LayerConstants.CONNECTION_LAYER);
+		if (cLayer.getConnectionRouter() != router) {
+			cLayer.setConnectionRouter(router);
+		}
+	}
+
+	/**
+	 * Routes the connections around the activities unless there are too many
+	 * of them, in which case connections are drawn straight.
+	 */
+	private void updateConnectionRouter() {
+		if (getChildren().size() > MAX_ROUTED_ACTIVITIES) {
+			setConnectionRouter(straightRouter);
+		}
+		else {
+			setConnectionRouter(shortestPathRouter);
+		}
+	}
+
 	/**
 	 * Updates the bounds of the figure (without invoking any event handling),
 	 * and sets the layout constraint data
@@ -74,6 +74,9 @@ public class SpringCore extends Plugin {
 	/** Temporally setting to enable or disable the use of XBean's non-locking classloader infrastructure */
 	public static final String USE_NON_LOCKING_CLASSLOADER = PLUGIN_ID + ".useNonLockingClassLoader";
 
+	/** Setting to enable or disable recording of build profiles */
+	public static final String PROFILE_BUILDS = PLUGIN_ID + ".profileBuilds";
+
 	/** The shared instance */
 	private static SpringCore plugin;
 
@@ -121,6 +124,8 @@ public class SpringCore extends Plugin {
 		plugin.getPluginPreferences().setDefault(USE_CHANGE_DETECTION_IN_JAVA_FILES, true);
 		// non.locking classloader is not enabled by default
 		plugin.getPluginPreferences().setDefault(USE_NON_LOCKING_CLASSLOADER, false);
+		// build profiles are only recorded on request
+		plugin.getPluginPreferences().setDefault(PROFILE_BUILDS, false);
 	}
 
 	@Override
@@ -63,6 +63,8 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 
 	private static final String SEVERITY_ATTRIBUTE = "severity";
 
+	private static final String THREAD_SAFE_ATTRIBUTE = "threadSafe";
+
 	private String description;
 
 	private String id;
@@ -87,6 +89,8 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 
 	private boolean rulePropertiesInitialized;
 
+	private boolean threadSafe;
+
 	public ValidationRuleDefinition(String validatorID, IConfigurationElement element) throws CoreException {
 		this.validatorId = validatorID;
 		init(element);
@@ -116,7 +120,7 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 		return ENABLEMENT_PREFIX + id;
 	}
 
-	public IValidationRule getRule() {
+	public synchronized IValidationRule getRule() {
 		if (propertyValues.size() > 0 && !rulePropertiesInitialized) {
 			BeanWrapper wrapper = new BeanWrapperImpl(rule);
 			for (Map.Entry<String, String> entry : propertyValues.entrySet()) {
@@ -136,6 +140,14 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 		return validatorId;
 	}
 
+	/**
+	 * Returns <code>true</code> if the rule declares that it may validate several elements concurrently.
+	 * @since 3.9.8
+	 */
+	public boolean isThreadSafe() {
+		return threadSafe;
+	}
+
 	private void init(IConfigurationElement element) throws CoreException {
 		Object executable = element.createExecutableExtension(CLASS_ATTRIBUTE);
 		if (executable instanceof IValidationRule) {
@@ -151,6 +163,7 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 		else {
 			setEnabledByDefault(true);
 		}
+		threadSafe = Boolean.valueOf(element.getAttribute(THREAD_SAFE_ATTRIBUTE));
 
 		// get configuration data
 		propertyValues = new HashMap<String, String>();
@@ -201,11 +214,11 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 		return new HashMap<String, Integer>(originalMessageSeverities);
 	}
 
-	public Map<String, String> getPropertyValues() {
+	public synchronized Map<String, String> getPropertyValues() {
 		return new HashMap<String, String>(propertyValues);
 	}
 
-	public Map<String, Integer> getMessageSeverities() {
+	public synchronized Map<String, Integer> getMessageSeverities() {
 		return new HashMap<String, Integer>(messageSeverities);
 	}
 
@@ -215,12 +228,12 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 	}
 
 	@Override
-	public boolean isEnabled(IProject project) {
+	public synchronized boolean isEnabled(IProject project) {
 		readSpecificConfiguration(project);
 		return super.isEnabled(project);
 	}
 
-	protected void readSpecificConfiguration(IProject project) {
+	protected synchronized void readSpecificConfiguration(IProject project) {
 		if (project != null && hasProjectSpecificOptions(project)) {
 			for (Map.Entry<String, String> entry : originalPropertyValues.entrySet()) {
 				String value = SpringCorePreferences.getProjectPreferences(project, SpringCore.PLUGIN_ID).getString(
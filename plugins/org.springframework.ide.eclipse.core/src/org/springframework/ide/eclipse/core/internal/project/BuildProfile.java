@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.internal.project;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Time and memory spent by the project builders, validators and validation rules during one run of the
+ * {@link SpringProjectContributionManager} on a project.
+ * <p>
+ * Measurements are taken on the thread that does the work: a {@link Measurement} is started before and
+ * {@link #record(Kind, String, IResource, Measurement) recorded} after the work. Measurements of the same kind, name
+ * and resource are added up. Recording is thread-safe.
+ * @author agent
+ * @since 3.9.8
+ * @see BuildProfiler
+ */
+public class BuildProfile {
+
+	/**
+	 * The kinds of work that are measured.
+	 */
+	public enum Kind {
+
+		/** A project builder, named by its id */
+		BUILDER,
+
+		/** A validator, named by its id */
+		VALIDATOR,
+
+		/** The validation of a resource by a validator, named by the validator id */
+		RESOURCE,
+
+		/** A validation rule, named by its id */
+		RULE
+	}
+
+	private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+	/** <code>com.sun.management.ThreadMXBean.getThreadAllocatedBytes(long)</code> if the VM supports it */
+	private static final Method GET_THREAD_ALLOCATED_BYTES = findAllocatedBytesMethod();
+
+	private final String projectName;
+
+	private final int buildKind;
+
+	private final long startTime;
+
+	private final long startNanos;
+
+	private volatile long wallNanos = -1;
+
+	private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>();
+
+	public BuildProfile(IProject project, int buildKind) {
+		this(project.getName(), buildKind, System.currentTimeMillis());
+	}
+
+	BuildProfile(String projectName, int buildKind, long startTime) {
+		this.projectName = projectName;
+		this.buildKind = buildKind;
+		this.startTime = startTime;
+		this.startNanos = System.nanoTime();
+	}
+
+	public String getProjectName() {
+		return projectName;
+	}
+
+	/**
+	 * Returns the kind of build as defined by {@link org.eclipse.core.resources.IncrementalProjectBuilder}.
+	 */
+	public int getBuildKind() {
+		return buildKind;
+	}
+
+	/**
+	 * Returns the time the build started in milliseconds since the epoch.
+	 */
+	public long getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * Returns the duration of the build in nanoseconds or <code>-1</code> if it is still running.
+	 */
+	public long getWallNanos() {
+		return wallNanos;
+	}
+
+	void finish() {
+		wallNanos = System.nanoTime() - startNanos;
+	}
+
+	/**
+	 * Starts measuring work on the current thread.
+	 */
+	public Measurement start() {
+		return new Measurement();
+	}
+
+	/**
+	 * Adds the time and memory spent on the current thread since the given measurement was started to the entry of
+	 * the given kind, name and resource.
+	 * @param resource the resource the work was done for or <code>null</code>
+	 */
+	public void record(Kind kind, String name, IResource resource, Measurement measurement) {
+		long wall = System.nanoTime() - measurement.wallNanos;
+		long cpu = difference(getCurrentThreadCpuTime(), measurement.cpuNanos);
+		long allocated = difference(getCurrentThreadAllocatedBytes(), measurement.allocatedBytes);
+
+		String path = (resource != null ? resource.getFullPath().toString() : null);
+		String key = kind.name() + '|' + name + '|' + path;
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+			if (entry == null) {
+				entry = new Entry(kind, name, path);
+				entries.put(key, entry);
+			}
+		}
+		entry.add(wall, cpu, allocated);
+	}
+
+	/**
+	 * Returns a snapshot of the entries recorded so far in the order they were first recorded.
+	 */
+	public List<Entry> getEntries() {
+		synchronized (entries) {
+			return new ArrayList<Entry>(entries.values());
+		}
+	}
+
+	private static long difference(long end, long start) {
+		return (end >= 0 && start >= 0 ? end - start : 0);
+	}
+
+	private static long getCurrentThreadCpuTime() {
+		if (THREAD_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_BEAN.isThreadCpuTimeEnabled()) {
+			return THREAD_BEAN.getCurrentThreadCpuTime();
+		}
+		return -1;
+	}
+
+	private static long getCurrentThreadAllocatedBytes() {
+		if (GET_THREAD_ALLOCATED_BYTES != null) {
+			try {
+				return (Long) GET_THREAD_ALLOCATED_BYTES.invoke(THREAD_BEAN, Thread.currentThread().getId());
+			}
+			catch (Exception e) {
+				// not supported by this VM
+			}
+		}
+		return -1;
+	}
+
+	private static Method findAllocatedBytesMethod() {
+		for (Class<?> type = THREAD_BEAN.getClass(); type != null; type = type.getSuperclass()) {
+			for (Class<?> iface : type.getInterfaces()) {
+				if ("com.sun.management.ThreadMXBean".equals(iface.getName())) {
+					try {
+						return iface.getMethod("getThreadAllocatedBytes", long.class);
+					}
+					catch (NoSuchMethodException e) {
+						return null;
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The start of a measurement on a thread.
+	 */
+	public static class Measurement {
+
+		private final long wallNanos = System.nanoTime();
+
+		private final long cpuNanos = getCurrentThreadCpuTime();
+
+		private final long allocatedBytes = getCurrentThreadAllocatedBytes();
+	}
+
+	/**
+	 * The time and memory spent on one kind, name and resource. CPU time and allocated bytes are <code>0</code> if
+	 * the VM does not measure them.
+	 */
+	public static class Entry {
+
+		private final Kind kind;
+
+		private final String name;
+
+		private final String resourcePath;
+
+		private int invocations;
+
+		private long wallNanos;
+
+		private long cpuNanos;
+
+		private long allocatedBytes;
+
+		Entry(Kind kind, String name, String resourcePath) {
+			this.kind = kind;
+			this.name = name;
+			this.resourcePath = resourcePath;
+		}
+
+		synchronized void add(long wall, long cpu, long allocated) {
+			invocations++;
+			wallNanos += wall;
+			cpuNanos += cpu;
+			allocatedBytes += allocated;
+		}
+
+		public Kind getKind() {
+			return kind;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the full path of the resource or <code>null</code> if the entry is not specific to a resource.
+		 */
+		public String getResourcePath() {
+			return resourcePath;
+		}
+
+		public synchronized int getInvocations() {
+			return invocations;
+		}
+
+		public synchronized long getWallNanos() {
+			return wallNanos;
+		}
+
+		public synchronized long getCpuNanos() {
+			return cpuNanos;
+		}
+
+		public synchronized long getAllocatedBytes() {
+			return allocatedBytes;
+		}
+	}
+
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.internal.project;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.springframework.ide.eclipse.core.SpringCore;
+
+/**
+ * Records a {@link BuildProfile} for every run of the {@link SpringProjectContributionManager} while profiling is
+ * enabled and keeps the profiles of the last {@link #HISTORY_SIZE} builds.
+ * <p>
+ * The profile of the build that is running on the current thread is available from {@link #getCurrentProfile()};
+ * project builders and validators use it to record the time spent on resources and validation rules.
+ * @author agent
+ * @since 3.9.8
+ */
+public class BuildProfiler {
+
+	/** Number of builds whose profiles are kept */
+	public static final int HISTORY_SIZE = 20;
+
+	private static final ThreadLocal<BuildProfile> CURRENT_PROFILE = new ThreadLocal<BuildProfile>();
+
+	private static final LinkedList<BuildProfile> PROFILES = new LinkedList<BuildProfile>();
+
+	private static final List<IBuildProfileListener> LISTENERS = new CopyOnWriteArrayList<IBuildProfileListener>();
+
+	/**
+	 * Listener that is notified when a profile is added to or removed from the history.
+	 */
+	public interface IBuildProfileListener {
+
+		void profilesChanged();
+
+	}
+
+	public static boolean isEnabled() {
+		return SpringCore.getDefault().getPluginPreferences().getBoolean(SpringCore.PROFILE_BUILDS);
+	}
+
+	public static void setEnabled(boolean enabled) {
+		SpringCore.getDefault().getPluginPreferences().setValue(SpringCore.PROFILE_BUILDS, enabled);
+		SpringCore.getDefault().savePluginPreferences();
+	}
+
+	/**
+	 * Returns the profile of the build running on the current thread or <code>null</code> if no build is running or
+	 * profiling is disabled.
+	 */
+	public static BuildProfile getCurrentProfile() {
+		return CURRENT_PROFILE.get();
+	}
+
+	/**
+	 * Returns the profiles of the last builds, the most recent one first.
+	 */
+	public static List<BuildProfile> getProfiles() {
+		synchronized (PROFILES) {
+			return new ArrayList<BuildProfile>(PROFILES);
+		}
+	}
+
+	public static void clear() {
+		synchronized (PROFILES) {
+			PROFILES.clear();
+		}
+		fireProfilesChanged();
+	}
+
+	public static void addListener(IBuildProfileListener listener) {
+		LISTENERS.add(listener);
+	}
+
+	public static void removeListener(IBuildProfileListener listener) {
+		LISTENERS.remove(listener);
+	}
+
+	/**
+	 * Starts the profile of a build of the given project on the current thread.
+	 * @return the new profile or <code>null</code> if profiling is disabled
+	 */
+	static BuildProfile startBuild(IProject project, int kind) {
+		if (!isEnabled()) {
+			return null;
+		}
+		BuildProfile profile = new BuildProfile(project, kind);
+		CURRENT_PROFILE.set(profile);
+		return profile;
+	}
+
+	/**
+	 * Finishes the given profile and adds it to the history.
+	 */
+	static void finishBuild(BuildProfile profile) {
+		if (profile == null) {
+			return;
+		}
+		CURRENT_PROFILE.remove();
+		profile.finish();
+		synchronized (PROFILES) {
+			PROFILES.addFirst(profile);
+			while (PROFILES.size() > HISTORY_SIZE) {
+				PROFILES.removeLast();
+			}
+		}
+		fireProfilesChanged();
+	}
+
+	private static void fireProfilesChanged() {
+		for (IBuildProfileListener listener : LISTENERS) {
+			try {
+				listener.profilesChanged();
+			}
+			catch (RuntimeException e) {
+				SpringCore.log(e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the given profiles as a JSON document.
+	 */
+	public static String toJson(List<BuildProfile> profiles) {
+		StringBuilder json = new StringBuilder("{\n  \"builds\": [");
+		for (int i = 0; i < profiles.size(); i++) {
+			BuildProfile profile = profiles.get(i);
+			json.append(i > 0 ? ",\n" : "\n").append("    {\n");
+			json.append("      \"project\": ").append(quote(profile.getProjectName())).append(",\n");
+			json.append("      \"kind\": ").append(quote(getBuildKindName(profile.getBuildKind()))).append(",\n");
+			json.append("      \"startTime\": ").append(profile.getStartTime()).append(",\n");
+			json.append("      \"wallNanos\": ").append(profile.getWallNanos()).append(",\n");
+			json.append("      \"entries\": [");
+			List<BuildProfile.Entry> entries = profile.getEntries();
+			for (int j = 0; j < entries.size(); j++) {
+				BuildProfile.Entry entry = entries.get(j);
+				json.append(j > 0 ? "," : "").append("\n        {");
+				json.append("\"kind\": ").append(quote(entry.getKind().name()));
+				json.append(", \"name\": ").append(quote(entry.getName()));
+				json.append(", \"resource\": ").append(quote(entry.getResourcePath()));
+				json.append(", \"invocations\": ").append(entry.getInvocations());
+				json.append(", \"wallNanos\": ").append(entry.getWallNanos());
+				json.append(", \"cpuNanos\": ").append(entry.getCpuNanos());
+				json.append(", \"allocatedBytes\": ").append(entry.getAllocatedBytes());
+				json.append('}');
+			}
+			json.append(entries.isEmpty() ? "]\n" : "\n      ]\n").append("    }");
+		}
+		json.append(profiles.isEmpty() ? "]\n}\n" : "\n  ]\n}\n");
+		return json.toString();
+	}
+
+	public static String getBuildKindName(int kind) {
+		switch (kind) {
+		case IncrementalProjectBuilder.FULL_BUILD:
+			return "FULL";
+		case IncrementalProjectBuilder.CLEAN_BUILD:
+			return "CLEAN";
+		case IncrementalProjectBuilder.AUTO_BUILD:
+			return "AUTO";
+		default:
+			return "INCREMENTAL";
+		}
+	}
+
+	private static String quote(String value) {
+		if (value == null) {
+			return "null";
+		}
+		StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"':
+				quoted.append("\\\"");
+				break;
+			case '\\':
+				quoted.append("\\\\");
+				break;
+			case '\n':
+				quoted.append("\\n");
+				break;
+			case '\r':
+				quoted.append("\\r");
+				break;
+			case '\t':
+				quoted.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					quoted.append(String.format("\\u%04x", (int) c));
+				}
+				else {
+					quoted.append(c);
+				}
+			}
+		}
+		return quoted.append('"').toString();
+	}
+
+}
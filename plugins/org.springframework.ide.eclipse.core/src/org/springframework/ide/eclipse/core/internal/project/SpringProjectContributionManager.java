@@ -105,40 +105,55 @@ public class SpringProjectContributionManager extends IncrementalProjectBuilder
 		Object removed = classpathChanged.remove(project.getName());
 		final int buildKind = removed != null ? IncrementalProjectBuilder.FULL_BUILD : kind;
 		
-		// Fire start event on listeners
-		for (final IProjectContributionEventListener listener : listeners) {
-			execute(new SafeExecutableWithMonitor() {
-				public void execute(IProgressMonitor subMonitor) throws Exception {
-					listener.start(buildKind, delta, builderDefinitions, validatorDefinitions, state, project, subMonitor);
-				}
-			}, monitor);
+		// Record the time spent by builders, validators and rules if requested
+		final BuildProfile profile = BuildProfiler.startBuild(project, buildKind);
+		try {
+			// Fire start event on listeners
+			for (final IProjectContributionEventListener listener : listeners) {
+				execute(new SafeExecutableWithMonitor() {
+					public void execute(IProgressMonitor subMonitor) throws Exception {
+						listener.start(buildKind, delta, builderDefinitions, validatorDefinitions, state, project, subMonitor);
+					}
+				}, monitor);
 
-		}
-
-		// At first run all builders
-		for (ProjectBuilderDefinition builderDefinition : builderDefinitions) {
-			if (builderDefinition.isEnabled(project)) {
-				Set<IResource> affectedResources = getAffectedResources(builderDefinition.getProjectBuilder(), project,
-						buildKind, delta);
-				runBuilder(builderDefinition, affectedResources, buildKind, monitor, listeners);
 			}
-		}
 
-		// Finally run all validators
-		for (ValidatorDefinition validatorDefinition : validatorDefinitions) {
-			if (validatorDefinition.isEnabled(project)) {
-				Set<IResource> affectedResources = getAffectedResources(validatorDefinition.getValidator(), project, buildKind, delta);
-				runValidator(validatorDefinition, affectedResources, buildKind, monitor, listeners);
+			// At first run all builders
+			for (ProjectBuilderDefinition builderDefinition : builderDefinitions) {
+				if (builderDefinition.isEnabled(project)) {
+					BuildProfile.Measurement measurement = (profile != null ? profile.start() : null);
+					Set<IResource> affectedResources = getAffectedResources(builderDefinition.getProjectBuilder(), project,
+							buildKind, delta);
+					runBuilder(builderDefinition, affectedResources, buildKind, monitor, listeners);
+					if (profile != null) {
+						profile.record(BuildProfile.Kind.BUILDER, builderDefinition.getId(), null, measurement);
+					}
+				}
 			}
-		}
 
-		// Fire end event on listeners
-		for (final IProjectContributionEventListener listener : listeners) {
-			execute(new SafeExecutableWithMonitor() {
-				public void execute(IProgressMonitor subMonitor) throws Exception {
-					listener.finish(buildKind, delta, builderDefinitions, validatorDefinitions, state, project, subMonitor);
+			// Finally run all validators
+			for (ValidatorDefinition validatorDefinition : validatorDefinitions) {
+				if (validatorDefinition.isEnabled(project)) {
+					BuildProfile.Measurement measurement = (profile != null ? profile.start() : null);
+					Set<IResource> affectedResources = getAffectedResources(validatorDefinition.getValidator(), project, buildKind, delta);
+					runValidator(validatorDefinition, affectedResources, buildKind, monitor, listeners);
+					if (profile != null) {
+						profile.record(BuildProfile.Kind.VALIDATOR, validatorDefinition.getID(), null, measurement);
+					}
 				}
-			}, monitor);
+			}
+
+			// Fire end event on listeners
+			for (final IProjectContributionEventListener listener : listeners) {
+				execute(new SafeExecutableWithMonitor() {
+					public void execute(IProgressMonitor subMonitor) throws Exception {
+						listener.finish(buildKind, delta, builderDefinitions, validatorDefinitions, state, project, subMonitor);
+					}
+				}, monitor);
+			}
+		}
+		finally {
+			BuildProfiler.finishBuild(profile);
 		}
 
 		return null;
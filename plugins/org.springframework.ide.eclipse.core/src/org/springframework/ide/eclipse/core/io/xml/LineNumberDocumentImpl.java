@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.io.xml;
+
+import org.apache.xerces.dom.CoreDocumentImpl;
+import org.apache.xerces.dom.DocumentImpl;
+import org.apache.xerces.dom.ElementImpl;
+import org.apache.xerces.dom.ElementNSImpl;
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Element;
+
+/**
+ * Xerces {@link DocumentImpl} that creates elements which carry their own start and end line numbers. This
+ * allows the {@link LineNumberPreservingDOMParser} to record line numbers without any side table, and allows
+ * them to be read from any thread.
+ * @author agent
+ * @since 3.9.8
+ */
+@SuppressWarnings("serial")
+class LineNumberDocumentImpl extends DocumentImpl implements LineNumbered {
+
+	private int startLine = -1;
+
+	private int startColumn = -1;
+
+	private int endLine = -1;
+
+	public LineNumberDocumentImpl() {
+		super();
+	}
+
+	@Override
+	public Element createElement(String tagName) throws DOMException {
+		return new LineNumberElementImpl(this, tagName);
+	}
+
+	@Override
+	public Element createElementNS(String namespaceURI, String qualifiedName) throws DOMException {
+		return new LineNumberElementNSImpl(this, namespaceURI, qualifiedName);
+	}
+
+	@Override
+	public Element createElementNS(String namespaceURI, String qualifiedName, String localpart) throws DOMException {
+		return new LineNumberElementNSImpl(this, namespaceURI, qualifiedName, localpart);
+	}
+
+	public void setStartLine(int line, int column) {
+		this.startLine = line;
+		this.startColumn = column;
+	}
+
+	public void setEndLine(int line) {
+		this.endLine = line;
+	}
+
+	public int getStartLine() {
+		return startLine;
+	}
+
+	public int getStartColumn() {
+		return startColumn;
+	}
+
+	public int getEndLine() {
+		return endLine;
+	}
+
+	private static class LineNumberElementImpl extends ElementImpl implements LineNumbered {
+
+		private int startLine = -1;
+
+		private int startColumn = -1;
+
+		private int endLine = -1;
+
+		public LineNumberElementImpl(CoreDocumentImpl ownerDocument, String name) {
+			super(ownerDocument, name);
+		}
+
+		public void setStartLine(int line, int column) {
+			this.startLine = line;
+			this.startColumn = column;
+		}
+
+		public void setEndLine(int line) {
+			this.endLine = line;
+		}
+
+		public int getStartLine() {
+			return startLine;
+		}
+
+		public int getStartColumn() {
+			return startColumn;
+		}
+
+		public int getEndLine() {
+			return endLine;
+		}
+	}
+
+	private static class LineNumberElementNSImpl extends ElementNSImpl implements LineNumbered {
+
+		private int startLine = -1;
+
+		private int startColumn = -1;
+
+		private int endLine = -1;
+
+		public LineNumberElementNSImpl(CoreDocumentImpl ownerDocument, String namespaceURI, String qualifiedName) {
+			super(ownerDocument, namespaceURI, qualifiedName);
+		}
+
+		public LineNumberElementNSImpl(CoreDocumentImpl ownerDocument, String namespaceURI, String qualifiedName,
+				String localName) {
+			super(ownerDocument, namespaceURI, qualifiedName, localName);
+		}
+
+		public void setStartLine(int line, int column) {
+			this.startLine = line;
+			this.startColumn = column;
+		}
+
+		public void setEndLine(int line) {
+			this.endLine = line;
+		}
+
+		public int getStartLine() {
+			return startLine;
+		}
+
+		public int getStartColumn() {
+			return startColumn;
+		}
+
+		public int getEndLine() {
+			return endLine;
+		}
+	}
+
+}
@@ -13,6 +13,7 @@ package org.springframework.ide.eclipse.core.io.xml;
 import java.util.Map;
 import java.util.WeakHashMap;
 
+import org.apache.xerces.dom.DocumentImpl;
 import org.apache.xerces.parsers.DOMParser;
 import org.apache.xerces.xni.Augmentations;
 import org.apache.xerces.xni.NamespaceContext;
@@ -21,11 +22,14 @@ import org.apache.xerces.xni.XMLAttributes;
 import org.apache.xerces.xni.XMLLocator;
 import org.apache.xerces.xni.XNIException;
 import org.w3c.dom.Node;
+import org.xml.sax.EntityResolver;
 import org.xml.sax.SAXException;
 
 /**
- * Extended version of Xerces' DOM parser which adds line numbers to an internal structure that can be queried in the
- * same thread.
+ * Extended version of Xerces' DOM parser which records the line numbers of elements. The parsed document is a
+ * {@link LineNumberDocumentImpl} whose elements store their line numbers in fields, so line numbers can be queried
+ * from any thread. Line numbers of nodes that don't belong to such a document (e.g. if a custom document class is
+ * configured) are kept in an internal structure that can only be queried in the same thread.
  * @author Torsten Juergeleit
  * @author Christian Dupuis
  */
@@ -42,6 +46,15 @@ public class LineNumberPreservingDOMParser extends DOMParser {
 		setFeature(DEFER_NODE_EXPANSION, false);
 	}
 
+	/**
+	 * Lets this parser share compiled XML schemas with all other parsers that use a {@link SharedSchemaGrammarPool}.
+	 * @param entityResolver the entity resolver that this parser uses to resolve schemas
+	 * @since 3.9.8
+	 */
+	public void setSharedGrammarPool(EntityResolver entityResolver) throws SAXException {
+		setProperty(XMLGRAMMAR_POOL, new SharedSchemaGrammarPool(entityResolver));
+	}
+
 	public static final int getStartLineNumber(Node node) {
 		return getLineNumberFromUserData(node, START_LINE);
 	}
@@ -50,7 +63,21 @@ public class LineNumberPreservingDOMParser extends DOMParser {
 		return getLineNumberFromUserData(node, END_LINE);
 	}
 
+	/**
+	 * Returns the column of the end of the start tag of the given node, or -1 if not known.
+	 * @since 3.9.8
+	 */
+	public static final int getStartColumnNumber(Node node) {
+		if (node instanceof LineNumbered) {
+			return ((LineNumbered) node).getStartColumn();
+		}
+		return -1;
+	}
+
 	private static int getLineNumberFromUserData(Node node, String key) {
+		if (node instanceof LineNumbered) {
+			return START_LINE.equals(key) ? ((LineNumbered) node).getStartLine() : ((LineNumbered) node).getEndLine();
+		}
 		return NodeLineNumberAccessor.getLineNumber(node, key);
 	}
 
@@ -59,6 +86,16 @@ public class LineNumberPreservingDOMParser extends DOMParser {
 			throws XNIException {
 		this.locator = locator;
 		super.startDocument(locator, encoding, namespaceContext, augs);
+		if (fDocumentImpl != null && fDocumentImpl.getClass() == DocumentImpl.class) {
+			// Replace the default document with one that creates elements which can hold line numbers
+			LineNumberDocumentImpl document = new LineNumberDocumentImpl();
+			document.setStrictErrorChecking(false);
+			document.setInputEncoding(encoding);
+			document.setDocumentURI(locator.getExpandedSystemId());
+			fDocument = document;
+			fDocumentImpl = document;
+			fCurrentNode = document;
+		}
 		addLineNumberToCurrentNode(START_LINE);
 	}
 
@@ -83,7 +120,15 @@ public class LineNumberPreservingDOMParser extends DOMParser {
 	private void addLineNumberToCurrentNode(String key) throws XNIException {
 		try {
 			Node node = (Node) getProperty(CURRENT_ELEMENT_NODE);
-			if (node != null) {
+			if (node instanceof LineNumbered) {
+				if (START_LINE.equals(key)) {
+					((LineNumbered) node).setStartLine(locator.getLineNumber(), locator.getColumnNumber());
+				}
+				else {
+					((LineNumbered) node).setEndLine(locator.getLineNumber());
+				}
+			}
+			else if (node != null) {
 				int line = locator.getLineNumber();
 				NodeLineNumberAccessor.setLineNumber(node, line, key);
 			}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.io.xml;
+
+/**
+ * Implemented by the DOM nodes created by a {@link LineNumberDocumentImpl}; these nodes store the line
+ * numbers recorded by the {@link LineNumberPreservingDOMParser} in fields.
+ * @author agent
+ * @since 3.9.8
+ */
+interface LineNumbered {
+
+	void setStartLine(int line, int column);
+
+	void setEndLine(int line);
+
+	int getStartLine();
+
+	int getStartColumn();
+
+	int getEndLine();
+
+}
@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.io.xml;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.apache.xerces.xni.grammars.Grammar;
+import org.apache.xerces.xni.grammars.XMLGrammarDescription;
+import org.apache.xerces.xni.grammars.XMLGrammarPool;
+import org.apache.xerces.xni.grammars.XMLSchemaDescription;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+
+/**
+ * Xerces {@link XMLGrammarPool} that shares compiled XML schema grammars between all parsers, so that the XSDs of
+ * the used namespaces are compiled once instead of once per parsed file.
+ * <p>
+ * Which XSD a schema location resolves to depends on the {@link EntityResolver} of the parser (e.g. on the Spring
+ * version on the classpath of a project). Grammars are therefore keyed on their namespace, their schema location
+ * and a checksum of the XSD that the parser's entity resolver returns for that location. A parser gets its own
+ * instance of this pool; the grammars themselves are kept in a bounded, synchronized map shared by all instances.
+ * DTD grammars are not shared.
+ * <p>
+ * Thread-safety: a grammar that is being compiled lives in the grammar bucket of the parser that compiles it; Xerces
+ * only hands it to {@link #cacheGrammars(String, Grammar[])} once the parser is done with it. Only such complete
+ * grammars are shared, and a grammar that is already shared under a key is never replaced. Shared grammars are
+ * assumed to be read-only: Xerces only modifies grammars retrieved from a pool when the
+ * <code>namespace-growth</code> feature is enabled, which the parsers of this plugin never do. While a pool is
+ * locked it does not share any grammars.
+ * <p>
+ * The checksums of XSDs that resolve to files or jars are kept in a second static map, keyed on the resolved system
+ * id and validated against the time stamp of the file or jar, so that each XSD is only read once.
+ * @author agent
+ * @since 3.9.8
+ */
+public class SharedSchemaGrammarPool implements XMLGrammarPool {
+
+	private static final int MAX_GRAMMARS = 256;
+
+	private static final Map<String, Grammar> GRAMMARS = Collections.synchronizedMap(
+			new LinkedHashMap<String, Grammar>(MAX_GRAMMARS, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Grammar> eldest) {
+					return size() > MAX_GRAMMARS;
+				}
+			});
+
+	private static final int MAX_CHECKSUMS = 1024;
+
+	private static final Map<String, Checksum> CHECKSUMS = Collections.synchronizedMap(
+			new LinkedHashMap<String, Checksum>(MAX_CHECKSUMS, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Checksum> eldest) {
+					return size() > MAX_CHECKSUMS;
+				}
+			});
+
+	private static final Grammar[] NO_GRAMMARS = new Grammar[0];
+
+	private final EntityResolver entityResolver;
+
+	/** Keys per schema location; only valid for the lifetime of this pool */
+	private final Map<String, String> keys = new HashMap<String, String>();
+
+	private boolean locked = false;
+
+	public SharedSchemaGrammarPool(EntityResolver entityResolver) {
+		this.entityResolver = entityResolver;
+	}
+
+	/**
+	 * Removes all shared grammars and cached checksums.
+	 */
+	public static void clearAll() {
+		GRAMMARS.clear();
+		CHECKSUMS.clear();
+	}
+
+	public Grammar[] retrieveInitialGrammarSet(String grammarType) {
+		return NO_GRAMMARS;
+	}
+
+	public Grammar retrieveGrammar(XMLGrammarDescription description) {
+		String key = getKey(description);
+		return key != null ? GRAMMARS.get(key) : null;
+	}
+
+	public void cacheGrammars(String grammarType, Grammar[] grammars) {
+		if (locked || !XMLGrammarDescription.XML_SCHEMA.equals(grammarType)) {
+			return;
+		}
+		for (Grammar grammar : grammars) {
+			String key = getKey(grammar.getGrammarDescription());
+			if (key != null) {
+				synchronized (GRAMMARS) {
+					if (!GRAMMARS.containsKey(key)) {
+						GRAMMARS.put(key, grammar);
+					}
+				}
+			}
+		}
+	}
+
+	public void lockPool() {
+		locked = true;
+	}
+
+	public void unlockPool() {
+		locked = false;
+	}
+
+	public void clear() {
+		if (!locked) {
+			keys.clear();
+		}
+	}
+
+	private String getKey(XMLGrammarDescription description) {
+		if (entityResolver == null || !(description instanceof XMLSchemaDescription)) {
+			return null;
+		}
+		String location = getSchemaLocation((XMLSchemaDescription) description);
+		if (location == null) {
+			return null;
+		}
+		String namespace = description.getNamespace();
+		String cacheKey = namespace + ' ' + location;
+		if (!keys.containsKey(cacheKey)) {
+			keys.put(cacheKey, resolveKey(namespace, location));
+		}
+		return keys.get(cacheKey);
+	}
+
+	/**
+	 * Returns the absolute schema location of the given description; relative locations depend on the location of
+	 * the referencing document and are not shared.
+	 */
+	private static String getSchemaLocation(XMLSchemaDescription description) {
+		String location = null;
+		String[] hints = description.getLocationHints();
+		if (hints != null && hints.length > 0) {
+			location = hints[0];
+		}
+		else {
+			location = description.getLiteralSystemId();
+		}
+		return location != null && location.indexOf(':') > 0 ? location : null;
+	}
+
+	private String resolveKey(String namespace, String location) {
+		InputSource inputSource = null;
+		try {
+			inputSource = entityResolver.resolveEntity(null, location);
+			if (inputSource == null) {
+				// Xerces would go out to the network
+				return null;
+			}
+			String checksum = getCachedChecksum(inputSource);
+			if (checksum == null) {
+				return null;
+			}
+			return namespace + '\n' + location + '\n' + inputSource.getSystemId() + '\n' + checksum;
+		}
+		catch (Exception e) {
+			return null;
+		}
+		finally {
+			close(inputSource);
+		}
+	}
+
+	/**
+	 * Returns the checksum of the given XSD, reading it only if its file or jar changed since the last time it was read.
+	 */
+	private static String getCachedChecksum(InputSource inputSource) throws Exception {
+		String systemId = inputSource.getSystemId();
+		long timestamp = getTimestamp(systemId);
+		if (timestamp == 0) {
+			return getChecksum(inputSource);
+		}
+		Checksum cached = CHECKSUMS.get(systemId);
+		if (cached != null && cached.timestamp == timestamp) {
+			return cached.value;
+		}
+		String checksum = getChecksum(inputSource);
+		if (checksum != null) {
+			CHECKSUMS.put(systemId, new Checksum(timestamp, checksum));
+		}
+		return checksum;
+	}
+
+	/**
+	 * Returns the time stamp of the file or jar the given system id points into, or <code>0</code> if it doesn't point
+	 * into a local file.
+	 */
+	private static long getTimestamp(String systemId) {
+		if (systemId == null) {
+			return 0;
+		}
+		String location = systemId;
+		if (location.startsWith("jar:")) {
+			int separator = location.indexOf("!/");
+			if (separator < 0) {
+				return 0;
+			}
+			location = location.substring("jar:".length(), separator);
+		}
+		if (!location.startsWith("file:")) {
+			return 0;
+		}
+		try {
+			return new File(new URI(location)).lastModified();
+		}
+		catch (Exception e) {
+			return 0;
+		}
+	}
+
+	private static String getChecksum(InputSource inputSource) throws Exception {
+		CRC32 crc = new CRC32();
+		long length = 0;
+		if (inputSource.getByteStream() != null) {
+			length = update(crc, inputSource.getByteStream());
+		}
+		else if (inputSource.getCharacterStream() != null) {
+			Reader reader = inputSource.getCharacterStream();
+			char[] buffer = new char[4096];
+			int read;
+			while ((read = reader.read(buffer)) != -1) {
+				for (int i = 0; i < read; i++) {
+					crc.update(buffer[i]);
+				}
+				length += read;
+			}
+		}
+		else if (inputSource.getSystemId() != null) {
+			InputStream stream = new URL(inputSource.getSystemId()).openStream();
+			try {
+				length = update(crc, stream);
+			}
+			finally {
+				stream.close();
+			}
+		}
+		else {
+			return null;
+		}
+		return length + ":" + Long.toHexString(crc.getValue());
+	}
+
+	private static long update(CRC32 crc, InputStream stream) throws Exception {
+		byte[] buffer = new byte[8192];
+		long length = 0;
+		int read;
+		while ((read = stream.read(buffer)) != -1) {
+			crc.update(buffer, 0, read);
+			length += read;
+		}
+		return length;
+	}
+
+	private static class Checksum {
+
+		private final long timestamp;
+
+		private final String value;
+
+		public Checksum(long timestamp, String value) {
+			this.timestamp = timestamp;
+			this.value = value;
+		}
+	}
+
+	private static void close(InputSource inputSource) {
+		if (inputSource == null) {
+			return;
+		}
+		try {
+			if (inputSource.getByteStream() != null) {
+				inputSource.getByteStream().close();
+			}
+			if (inputSource.getCharacterStream() != null) {
+				inputSource.getCharacterStream().close();
+			}
+		}
+		catch (Exception e) {
+			// ignore
+		}
+	}
+
+}
@@ -43,6 +43,10 @@ public class XercesDocumentLoader implements DocumentLoader {
 				parser.setFeature("http://apache.org/xml/features/validation/dynamic", false);
 				if (validationMode == XmlBeanDefinitionReader.VALIDATION_XSD) {
 					parser.setFeature("http://apache.org/xml/features/validation/schema", true);
+					// Don't compile the same XSDs again for every config file
+					if (entityResolver != null) {
+						parser.setSharedGrammarPool(entityResolver);
+					}
 				}
 			}
 			parser.parse(inputSource);
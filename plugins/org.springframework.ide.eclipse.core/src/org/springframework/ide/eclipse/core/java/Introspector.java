@@ -24,6 +24,8 @@ import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.java.MemberTableCache.MethodInfo;
+import org.springframework.ide.eclipse.core.java.MemberTableCache.TypeMembers;
 import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyEngine;
 
 /**
@@ -94,14 +96,12 @@ public final class Introspector {
 	 */
 	public static Set<IMethod> findAllConstructors(IType type) throws JavaModelException {
 		Map<String, IMethod> allConstructors = new HashMap<String, IMethod>();
-		while (type != null) {
-			for (IMethod method : getMethods(type)) {
-				String key = method.getElementName() + method.getSignature();
-				if (!allConstructors.containsKey(key) && method.isConstructor()) {
-					allConstructors.put(key, method);
+		for (TypeMembers members : MemberTableCache.getMemberTable(type).getHierarchy()) {
+			for (MethodInfo method : members.getMethods()) {
+				if (!allConstructors.containsKey(method.getKey()) && method.isConstructor()) {
+					allConstructors.put(method.getKey(), method.getMethod());
 				}
 			}
-			type = getSuperType(type);
 		}
 		return new HashSet<IMethod>(allConstructors.values());
 	}
@@ -136,13 +136,12 @@ public final class Introspector {
 					methods.addAll(findAllMethods(interfaceType, prefix, filter));
 				}
 			}
-			while (type != null) {
-				for (IMethod method : getMethods(type)) {
-					if (!method.isConstructor() && filter.matches(method, prefix)) {
-						methods.add(method);
+			for (TypeMembers members : MemberTableCache.getMemberTable(type).getHierarchy()) {
+				for (MethodInfo method : members.getMethods()) {
+					if (!method.isConstructor() && filter.matches(method.getMethod(), prefix)) {
+						methods.add(method.getMethod());
 					}
 				}
-				type = getSuperType(type);
 			}
 		}
 		catch (JavaModelException e) {
@@ -174,36 +173,36 @@ public final class Introspector {
 	public static Set<IMethod> findAllMethods(IType type, String methodPrefix, int argCount, Public publics,
 			Static statics, boolean ignoreCase) throws JavaModelException {
 		Map<String, IMethod> allMethods = new HashMap<String, IMethod>();
-		while (type != null) {
-			for (IMethod method : getMethods(type)) {
-				checkMethod(type, methodPrefix, argCount, publics, statics, ignoreCase, allMethods, method);
+		String lowerCaseMethodPrefix = (ignoreCase ? methodPrefix.toLowerCase() : null);
+		for (TypeMembers members : MemberTableCache.getMemberTable(type).getHierarchy()) {
+			for (MethodInfo method : members.getMethods()) {
+				checkMethod(members, methodPrefix, lowerCaseMethodPrefix, argCount, publics, statics, allMethods,
+						method);
 			}
-
-			type = getSuperType(type);
 		}
 		return new HashSet<IMethod>(allMethods.values());
 	}
 
-	private static void checkMethod(IType type, String methodPrefix, int argCount, Public publics, Static statics,
-			boolean ignoreCase, Map<String, IMethod> allMethods, IMethod method) throws JavaModelException {
+	private static void checkMethod(TypeMembers members, String methodPrefix, String lowerCaseMethodPrefix,
+			int argCount, Public publics, Static statics, Map<String, IMethod> allMethods, MethodInfo method) {
 		int flags = method.getFlags();
-		String key = method.getElementName() + method.getSignature();
+		String key = method.getKey();
 		if (!allMethods.containsKey(key)
 				&& !method.isConstructor()
 				&& (publics == Public.DONT_CARE
-						|| (publics == Public.YES && (Flags.isPublic(flags) || Flags.isInterface(type.getFlags()))) || (publics == Public.NO && (!Flags
-						.isPublic(flags) && !Flags.isInterface(type.getFlags()))))
+						|| (publics == Public.YES && (Flags.isPublic(flags) || members.isInterface())) || (publics == Public.NO && (!Flags
+						.isPublic(flags) && !members.isInterface())))
 				&& (statics == Static.DONT_CARE || (statics == Static.YES && Flags.isStatic(flags)) || (statics == Static.NO && !Flags
 						.isStatic(flags))) && (argCount == -1 || method.getNumberOfParameters() == argCount)
-				&& checkMethodNamePrefix(method, type, methodPrefix, ignoreCase)) {
-			allMethods.put(key, method);
+				&& checkMethodNamePrefix(method, methodPrefix, lowerCaseMethodPrefix)) {
+			allMethods.put(key, method.getMethod());
 		}
 	}
 
-	private static boolean checkMethodNamePrefix(IMethod method, IType type, String methodPrefix, boolean ignoreCase) {
-		String methodName = JdtUtils.getMethodName(method);
-		return ((!ignoreCase && methodName.startsWith(methodPrefix)))
-				|| (ignoreCase && methodName.toLowerCase().startsWith(methodPrefix.toLowerCase()));
+	private static boolean checkMethodNamePrefix(MethodInfo method, String methodPrefix, String lowerCaseMethodPrefix) {
+		String methodName = method.getName();
+		return ((lowerCaseMethodPrefix == null && methodName.startsWith(methodPrefix)))
+				|| (lowerCaseMethodPrefix != null && methodName.toLowerCase().startsWith(lowerCaseMethodPrefix));
 	}
 
 	private static boolean checkMethodName(IMethod method, IType type, String methodName, boolean ignoreCase) {
@@ -391,15 +390,13 @@ public final class Introspector {
 	 */
 	public static Set<IMethod> getAllMethods(IType type, boolean includeHierarchy) throws JavaModelException {
 		Map<String, IMethod> allMethods = new HashMap<String, IMethod>();
-		while (type != null) {
-			for (IMethod method : getMethods(type)) {
-				String key = method.getElementName() + method.getSignature();
-				if (!allMethods.containsKey(key) && !method.isConstructor()) {
-					allMethods.put(key, method);
+		for (TypeMembers members : MemberTableCache.getMemberTable(type).getHierarchy()) {
+			for (MethodInfo method : members.getMethods()) {
+				if (!allMethods.containsKey(method.getKey()) && !method.isConstructor()) {
+					allMethods.put(method.getKey(), method.getMethod());
 				}
 			}
 			if (!includeHierarchy) break;
-			type = getSuperType(type);
 		}
 		return new HashSet<IMethod>(allMethods.values());
 	}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Cache of the types resolved by {@link JdtUtils#getJavaType(IProject, String)} per project, including the class
+ * names that could not be resolved.
+ * <p>
+ * Entries stay valid as long as no types appear or disappear: the whole cache is cleared when a Java element delta
+ * adds or removes types, compilation units, packages, source folders or projects, or changes a classpath. Changes to
+ * the members of existing types don't affect it.
+ * @author agent
+ * @since 3.9.8
+ */
+public class JavaTypeCache {
+
+	/** Number of class names per project after which the entries of the project are dropped */
+	private static final int MAX_ENTRIES_PER_PROJECT = 10000;
+
+	/** Stands for class names that could not be resolved */
+	private static final Object NOT_FOUND = new Object();
+
+	private static final int CLASSPATH_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_DESCRIPTION;
+
+	private static final ConcurrentMap<IProject, ConcurrentMap<String, Object>> TYPES = new ConcurrentHashMap<IProject, ConcurrentMap<String, Object>>();
+
+	/** Incremented on every invalidation, so that lookups that overlap with it are not cached */
+	private static final AtomicInteger GENERATION = new AtomicInteger();
+
+	private static final AtomicLong HITS = new AtomicLong();
+
+	private static final AtomicLong NEGATIVE_HITS = new AtomicLong();
+
+	private static final AtomicLong MISSES = new AtomicLong();
+
+	private static IElementChangedListener changedListener;
+
+	/**
+	 * Returns the type with the given name that is visible to the given project, or <code>null</code> if there is
+	 * none.
+	 */
+	static IType getJavaType(IProject project, String className) {
+		installListener();
+
+		ConcurrentMap<String, Object> types = TYPES.get(project);
+		if (types != null) {
+			Object type = types.get(className);
+			if (type == NOT_FOUND) {
+				NEGATIVE_HITS.incrementAndGet();
+				return null;
+			}
+			else if (type != null && ((IType) type).exists()) {
+				HITS.incrementAndGet();
+				return (IType) type;
+			}
+		}
+
+		MISSES.incrementAndGet();
+		int generation = GENERATION.get();
+		IType type = JdtUtils.findJavaType(project, className);
+		if (generation == GENERATION.get()) {
+			if (types == null) {
+				types = new ConcurrentHashMap<String, Object>();
+				ConcurrentMap<String, Object> existingTypes = TYPES.putIfAbsent(project, types);
+				if (existingTypes != null) {
+					types = existingTypes;
+				}
+			}
+			if (types.size() >= MAX_ENTRIES_PER_PROJECT) {
+				types.clear();
+			}
+			types.put(className, (type != null ? type : NOT_FOUND));
+		}
+		return type;
+	}
+
+	/**
+	 * Removes all cached types.
+	 */
+	public static void clear() {
+		GENERATION.incrementAndGet();
+		TYPES.clear();
+	}
+
+	/**
+	 * Returns the number of lookups answered with a cached type.
+	 */
+	public static long getHitCount() {
+		return HITS.get();
+	}
+
+	/**
+	 * Returns the number of lookups answered with a cached miss.
+	 */
+	public static long getNegativeHitCount() {
+		return NEGATIVE_HITS.get();
+	}
+
+	/**
+	 * Returns the number of lookups that had to search the classpath.
+	 */
+	public static long getMissCount() {
+		return MISSES.get();
+	}
+
+	private static synchronized void installListener() {
+		if (changedListener == null) {
+			changedListener = new TypeCacheClearingJavaElementChangeListener();
+			JavaCore.addElementChangedListener(changedListener, ElementChangedEvent.POST_CHANGE
+					| ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the given delta or one of its children adds or removes types.
+	 */
+	private static boolean affectsTypes(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		if (element.getElementType() > IJavaElement.TYPE) {
+			// members of types
+			return false;
+		}
+		if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS) != 0) {
+			return true;
+		}
+		if (element instanceof ICompilationUnit && (delta.getFlags() & IJavaElementDelta.F_CONTENT) != 0
+				&& (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+			// without fine grained deltas the types in the compilation unit are unknown
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (affectsTypes(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Clears the cache when types appear or disappear.
+	 */
+	private static class TypeCacheClearingJavaElementChangeListener implements IElementChangedListener {
+
+		public void elementChanged(ElementChangedEvent event) {
+			if (affectsTypes(event.getDelta())) {
+				clear();
+			}
+		}
+	}
+
+}
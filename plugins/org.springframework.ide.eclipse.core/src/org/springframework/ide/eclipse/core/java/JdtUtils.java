@@ -40,7 +40,9 @@ import org.eclipse.jdt.core.IImportDeclaration;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaModel;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeParameter;
 import org.eclipse.jdt.core.JavaCore;
@@ -376,6 +378,17 @@ public class JdtUtils {
 	 * @return the requested Java type or null if the class is not defined or the project is not accessible
 	 */
 	public static IType getJavaType(IProject project, String className) {
+		if (project == null || className == null) {
+			return findJavaType(project, className);
+		}
+		return JavaTypeCache.getJavaType(project, className);
+	}
+
+	/**
+	 * Searches the type with the given name in the given project, its referenced projects and AJDT, bypassing the
+	 * {@link JavaTypeCache}.
+	 */
+	static IType findJavaType(IProject project, String className) {
 		IJavaProject javaProject = JdtUtils.getJavaProject(project);
 
 		if (className != null) {
@@ -500,76 +513,27 @@ public class JdtUtils {
 		return JavaRuntime.getDefaultJREContainerEntry();
 	}
 
+	/**
+	 * Returns the number of the line, starting at 1, that contains the name of the given method, type or field, or
+	 * <code>-1</code> if the element has no source.
+	 * @see LineOffsetCache
+	 */
 	public static int getLineNumber(IJavaElement element) {
-		if (element != null && element instanceof IMethod) {
-			try {
-				IMethod method = (IMethod) element;
-				int lines = 0;
-				if (method.getDeclaringType() != null && method.getDeclaringType().getCompilationUnit() != null) {
-					String targetsource = method.getDeclaringType().getCompilationUnit().getSource();
-					if (targetsource != null) {
-						String sourceuptomethod = targetsource.substring(0, method.getNameRange().getOffset());
-
-						char[] chars = new char[sourceuptomethod.length()];
-						sourceuptomethod.getChars(0, sourceuptomethod.length(), chars, 0);
-						for (char element0 : chars) {
-							if (element0 == '\n') {
-								lines++;
-							}
-						}
-						return new Integer(lines + 1);
-					}
-				}
-			}
-			catch (JavaModelException e) {
-			}
-		}
-		else if (element != null && element instanceof IType && ((IType) element).getCompilationUnit() != null) {
-			try {
-				IType type = (IType) element;
-				int lines = 0;
-				String targetsource = type.getCompilationUnit().getSource();
-				if (targetsource != null) {
-					String sourceuptomethod = targetsource.substring(0, type.getNameRange().getOffset());
-
-					char[] chars = new char[sourceuptomethod.length()];
-					sourceuptomethod.getChars(0, sourceuptomethod.length(), chars, 0);
-					for (char element0 : chars) {
-						if (element0 == '\n') {
-							lines++;
-						}
+		if (element instanceof IMethod || element instanceof IType || element instanceof IField) {
+			IMember member = (IMember) element;
+			ICompilationUnit compilationUnit = member.getCompilationUnit();
+			if (compilationUnit != null) {
+				try {
+					ISourceRange nameRange = member.getNameRange();
+					if (nameRange != null) {
+						return LineOffsetCache.getLineNumber(compilationUnit, nameRange.getOffset());
 					}
-					return new Integer(lines + 1);
 				}
-			}
-			catch (JavaModelException e) {
-			}
-		}
-		else if (element != null && element instanceof IField) {
-			try {
-				IField type = (IField) element;
-				int lines = 0;
-				ICompilationUnit cu = type.getCompilationUnit();
-				if (cu != null) {
-					String targetsource = cu.getSource();
-					if (targetsource != null) {
-						String sourceuptomethod = targetsource.substring(0, type.getNameRange().getOffset());
-	
-						char[] chars = new char[sourceuptomethod.length()];
-						sourceuptomethod.getChars(0, sourceuptomethod.length(), chars, 0);
-						for (char element0 : chars) {
-							if (element0 == '\n') {
-								lines++;
-							}
-						}
-						return new Integer(lines + 1);
-					}
+				catch (JavaModelException e) {
 				}
 			}
-			catch (JavaModelException e) {
-			}
 		}
-		return new Integer(-1);
+		return -1;
 	}
 
 	public static IMethod getMethod(IType type, String methodName, Class[] parameterTypes) {
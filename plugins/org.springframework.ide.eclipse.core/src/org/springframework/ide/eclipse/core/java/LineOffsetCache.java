@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Cache of the offsets at which the lines of a compilation unit start, used to map source offsets to line numbers
+ * without copying and scanning the source for every lookup.
+ * <p>
+ * The offsets of a compilation unit are computed on the first lookup and kept until a Java element delta for the
+ * compilation unit arrives, either after a change of the file or a reconcile of its working copy. The offsets of the
+ * {@link #CACHE_SIZE} most recently used compilation units are kept.
+ * @author agent
+ * @since 3.9.8
+ */
+public class LineOffsetCache {
+
+	private static final int CACHE_SIZE = 100;
+
+	private static final Map<ICompilationUnit, LineOffsets> LINE_OFFSETS = new LinkedHashMap<ICompilationUnit, LineOffsets>(
+			16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ICompilationUnit, LineOffsets> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private static IElementChangedListener changedListener;
+
+	/** Incremented whenever offsets are removed, so that offsets computed from outdated source are not cached */
+	private static int generation;
+
+	/**
+	 * Returns the number of the line, starting at 1, that contains the given offset of the source of the given
+	 * compilation unit, or <code>-1</code> if the compilation unit has no source or the offset is outside of it.
+	 */
+	public static int getLineNumber(ICompilationUnit compilationUnit, int offset) throws JavaModelException {
+		if (offset < 0) {
+			return -1;
+		}
+		LineOffsets lineOffsets = getLineOffsets(compilationUnit);
+		if (lineOffsets == null || offset > lineOffsets.length) {
+			return -1;
+		}
+		return getLineNumber(lineOffsets.offsets, offset);
+	}
+
+	/**
+	 * Removes all cached offsets.
+	 */
+	public static void clear() {
+		synchronized (LINE_OFFSETS) {
+			LINE_OFFSETS.clear();
+			generation++;
+		}
+	}
+
+	private static LineOffsets getLineOffsets(ICompilationUnit compilationUnit) throws JavaModelException {
+		long modificationStamp = getModificationStamp(compilationUnit);
+		int lookupGeneration;
+		synchronized (LINE_OFFSETS) {
+			installListener();
+			LineOffsets lineOffsets = LINE_OFFSETS.get(compilationUnit);
+			if (lineOffsets != null && lineOffsets.modificationStamp == modificationStamp) {
+				return lineOffsets;
+			}
+			lookupGeneration = generation;
+		}
+
+		String source = compilationUnit.getSource();
+		if (source == null) {
+			return null;
+		}
+		LineOffsets lineOffsets = new LineOffsets(computeLineOffsets(source), source.length(), modificationStamp);
+		synchronized (LINE_OFFSETS) {
+			if (lookupGeneration == generation) {
+				LINE_OFFSETS.put(compilationUnit, lineOffsets);
+			}
+		}
+		return lineOffsets;
+	}
+
+	/**
+	 * Returns the modification stamp of the file of the given compilation unit. Working copies are covered by the
+	 * reconcile deltas only, as their contents change without touching the file.
+	 */
+	private static long getModificationStamp(ICompilationUnit compilationUnit) {
+		if (!compilationUnit.isWorkingCopy()) {
+			IResource resource = compilationUnit.getResource();
+			if (resource != null) {
+				return resource.getModificationStamp();
+			}
+		}
+		return IResource.NULL_STAMP;
+	}
+
+	/**
+	 * Returns the offsets at which the lines of the given source start; the first line starts at offset
+	 * <code>0</code>, every other line after a <code>'\n'</code>.
+	 */
+	public static int[] computeLineOffsets(String source) {
+		int[] offsets = new int[64];
+		int lines = 1;
+		int length = source.length();
+		for (int i = 0; i < length; i++) {
+			if (source.charAt(i) == '\n') {
+				if (lines == offsets.length) {
+					offsets = Arrays.copyOf(offsets, lines * 2);
+				}
+				offsets[lines++] = i + 1;
+			}
+		}
+		return Arrays.copyOf(offsets, lines);
+	}
+
+	/**
+	 * Returns the number of the line, starting at 1, that contains the given offset.
+	 */
+	public static int getLineNumber(int[] lineOffsets, int offset) {
+		int index = Arrays.binarySearch(lineOffsets, offset);
+		// the offset is either the start of a line or after the start of the line before the insertion point
+		return (index >= 0 ? index + 1 : -(index + 1));
+	}
+
+	private static void installListener() {
+		if (changedListener == null) {
+			changedListener = new LineOffsetsRemovingJavaElementChangeListener();
+			JavaCore.addElementChangedListener(changedListener, ElementChangedEvent.POST_CHANGE
+					| ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	private static void removeLineOffsets(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		if (element instanceof ICompilationUnit) {
+			ICompilationUnit primary = ((ICompilationUnit) element).getPrimary();
+			synchronized (LINE_OFFSETS) {
+				generation++;
+				Iterator<ICompilationUnit> compilationUnits = LINE_OFFSETS.keySet().iterator();
+				while (compilationUnits.hasNext()) {
+					if (primary.equals(compilationUnits.next().getPrimary())) {
+						compilationUnits.remove();
+					}
+				}
+			}
+		}
+		else if (delta.getKind() == IJavaElementDelta.REMOVED
+				|| (delta.getFlags() & (IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH)) != 0) {
+			// whole projects or source folders are gone
+			clear();
+		}
+		else {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				removeLineOffsets(child);
+			}
+		}
+	}
+
+	private static class LineOffsets {
+
+		private final int[] offsets;
+
+		private final int length;
+
+		private final long modificationStamp;
+
+		public LineOffsets(int[] offsets, int length, long modificationStamp) {
+			this.offsets = offsets;
+			this.length = length;
+			this.modificationStamp = modificationStamp;
+		}
+	}
+
+	/**
+	 * Drops the offsets of compilation units that have changed.
+	 */
+	private static class LineOffsetsRemovingJavaElementChangeListener implements IElementChangedListener {
+
+		public void elementChanged(ElementChangedEvent event) {
+			removeLineOffsets(event.getDelta());
+		}
+	}
+
+}
@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Cache of the methods of types and their super classes, used by the {@link Introspector} to answer method queries
+ * without walking the type hierarchy through JDT again.
+ * <p>
+ * A {@link MemberTable} holds a type and its super classes together with the properties of their methods that the
+ * queries look at. Tables are dropped when a Java element delta changes types or methods, e.g. adds, removes or
+ * renames them, changes their modifiers or super types, or changes a classpath. Changes to method bodies keep the
+ * tables. The tables of the {@link #CACHE_SIZE} most recently used types are kept.
+ * @author agent
+ * @since 3.9.8
+ */
+public class MemberTableCache {
+
+	private static final int CACHE_SIZE = 500;
+
+	private static final int CLASSPATH_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+	private static final Map<IType, MemberTable> TABLES = new LinkedHashMap<IType, MemberTable>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IType, MemberTable> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private static final MemberTable EMPTY_TABLE = new MemberTable(Collections.<TypeMembers> emptyList());
+
+	/** Incremented on every invalidation, so that tables built from outdated types are not cached */
+	private static final AtomicInteger GENERATION = new AtomicInteger();
+
+	private static final AtomicLong HITS = new AtomicLong();
+
+	private static final AtomicLong MISSES = new AtomicLong();
+
+	private static IElementChangedListener changedListener;
+
+	/**
+	 * Returns the member table of the given type and its super classes as returned by
+	 * {@link Introspector#getSuperType(IType)}.
+	 */
+	public static MemberTable getMemberTable(IType type) throws JavaModelException {
+		if (type == null) {
+			return EMPTY_TABLE;
+		}
+		synchronized (TABLES) {
+			installListener();
+			MemberTable table = TABLES.get(type);
+			if (table != null) {
+				HITS.incrementAndGet();
+				return table;
+			}
+		}
+
+		MISSES.incrementAndGet();
+		int generation = GENERATION.get();
+		List<TypeMembers> hierarchy = new ArrayList<TypeMembers>();
+		Set<IType> visitedTypes = new HashSet<IType>();
+		for (IType superType = type; superType != null && visitedTypes.add(superType); superType = Introspector
+				.getSuperType(superType)) {
+			hierarchy.add(new TypeMembers(superType));
+		}
+		MemberTable table = new MemberTable(hierarchy);
+		synchronized (TABLES) {
+			if (generation == GENERATION.get()) {
+				TABLES.put(type, table);
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Removes all cached tables.
+	 */
+	public static void clear() {
+		synchronized (TABLES) {
+			GENERATION.incrementAndGet();
+			TABLES.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of tables answered from the cache.
+	 */
+	public static long getHitCount() {
+		return HITS.get();
+	}
+
+	/**
+	 * Returns the number of tables that had to be built.
+	 */
+	public static long getMissCount() {
+		return MISSES.get();
+	}
+
+	public static void resetStatistics() {
+		HITS.set(0);
+		MISSES.set(0);
+	}
+
+	private static void installListener() {
+		if (changedListener == null) {
+			changedListener = new MemberTableClearingJavaElementChangeListener();
+			JavaCore.addElementChangedListener(changedListener, ElementChangedEvent.POST_CHANGE
+					| ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the given delta or one of its children changes types or their methods.
+	 */
+	private static boolean isStructuralChange(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		int elementType = element.getElementType();
+		if (elementType == IJavaElement.FIELD || elementType > IJavaElement.METHOD) {
+			return false;
+		}
+		if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS) != 0) {
+			return true;
+		}
+		if (elementType >= IJavaElement.TYPE
+				&& (delta.getFlags() & (IJavaElementDelta.F_MODIFIERS | IJavaElementDelta.F_SUPER_TYPES)) != 0) {
+			return true;
+		}
+		if (element instanceof ICompilationUnit && (delta.getFlags() & IJavaElementDelta.F_CONTENT) != 0
+				&& (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+			// without fine grained deltas the changed members are unknown
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isStructuralChange(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The methods of a type and its super classes, starting with the type itself.
+	 */
+	public static class MemberTable {
+
+		private final List<TypeMembers> hierarchy;
+
+		MemberTable(List<TypeMembers> hierarchy) {
+			this.hierarchy = hierarchy;
+		}
+
+		public List<TypeMembers> getHierarchy() {
+			return hierarchy;
+		}
+	}
+
+	/**
+	 * The methods of a single type as returned by {@link Introspector#getMethods(IType)}.
+	 */
+	public static class TypeMembers {
+
+		private final IType type;
+
+		private final boolean isInterface;
+
+		private final MethodInfo[] methods;
+
+		TypeMembers(IType type) throws JavaModelException {
+			this.type = type;
+			this.isInterface = Flags.isInterface(type.getFlags());
+			IMethod[] typeMethods = Introspector.getMethods(type);
+			this.methods = new MethodInfo[typeMethods.length];
+			for (int i = 0; i < typeMethods.length; i++) {
+				methods[i] = new MethodInfo(typeMethods[i]);
+			}
+		}
+
+		public IType getType() {
+			return type;
+		}
+
+		public boolean isInterface() {
+			return isInterface;
+		}
+
+		public MethodInfo[] getMethods() {
+			return methods;
+		}
+	}
+
+	/**
+	 * A method together with the properties the {@link Introspector} queries look at.
+	 */
+	public static class MethodInfo {
+
+		private final IMethod method;
+
+		private final String name;
+
+		private final String key;
+
+		private final int flags;
+
+		private final int numberOfParameters;
+
+		private final boolean isConstructor;
+
+		MethodInfo(IMethod method) throws JavaModelException {
+			this.method = method;
+			this.name = JdtUtils.getMethodName(method);
+			this.key = method.getElementName() + method.getSignature();
+			this.flags = method.getFlags();
+			this.numberOfParameters = method.getNumberOfParameters();
+			this.isConstructor = method.isConstructor();
+		}
+
+		public IMethod getMethod() {
+			return method;
+		}
+
+		/**
+		 * Returns the name of the method without the target type of AJDT inter-type declarations.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the element name and signature that identify overridden methods.
+		 */
+		public String getKey() {
+			return key;
+		}
+
+		public int getFlags() {
+			return flags;
+		}
+
+		public int getNumberOfParameters() {
+			return numberOfParameters;
+		}
+
+		public boolean isConstructor() {
+			return isConstructor;
+		}
+	}
+
+	/**
+	 * Drops all tables when types or methods change.
+	 */
+	private static class MemberTableClearingJavaElementChangeListener implements IElementChangedListener {
+
+		public void elementChanged(ElementChangedEvent event) {
+			if (isStructuralChange(event.getDelta())) {
+				clear();
+			}
+		}
+	}
+
+}
@@ -40,7 +40,11 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 
 	private IProjectContributorState contributorState;
 
-	private ValidationRuleDefinition currentRuleDefinition;
+	/** The rule definition that is currently run on a thread */
+	private final ThreadLocal<ValidationRuleDefinition> currentRuleDefinition = new ThreadLocal<ValidationRuleDefinition>();
+
+	/** Problems of the thread are collected here instead of being added to the problems of this context */
+	private final ThreadLocal<Set<ValidationProblem>> collectedProblems = new ThreadLocal<Set<ValidationProblem>>();
 
 	private Set<ValidationProblem> problems;
 
@@ -130,7 +134,34 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 	 * {@inheritDoc}
 	 */
 	public void setCurrentRuleDefinition(ValidationRuleDefinition ruleDefinition) {
-		currentRuleDefinition = ruleDefinition;
+		currentRuleDefinition.set(ruleDefinition);
+	}
+
+	/**
+	 * Collects the problems reported on the current thread until {@link #endCollectingProblems()} is called, instead
+	 * of adding them to this context.
+	 */
+	void beginCollectingProblems() {
+		collectedProblems.set(new LinkedHashSet<ValidationProblem>());
+	}
+
+	/**
+	 * Returns the problems reported on the current thread since {@link #beginCollectingProblems()}.
+	 */
+	Set<ValidationProblem> endCollectingProblems() {
+		Set<ValidationProblem> problems = collectedProblems.get();
+		collectedProblems.remove();
+		currentRuleDefinition.remove();
+		return problems;
+	}
+
+	/**
+	 * Adds problems that have been collected on some thread to this context.
+	 */
+	void addCollectedProblems(Set<ValidationProblem> problems) {
+		if (problems != null) {
+			this.problems.addAll(problems);
+		}
 	}
 
 	/**
@@ -166,17 +197,21 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 	 */
 	private void addProblems(Collection<ValidationProblem> problems) {
 		if (problems != null) {
+			Set<ValidationProblem> target = collectedProblems.get();
+			if (target == null) {
+				target = this.problems;
+			}
 			for (ValidationProblem problem : problems) {
 				if (problem.getSeverity() == IValidationProblemMarker.SEVERITY_ERROR) {
-					this.problems.add(problem);
+					target.add(problem);
 					getProgressReportingState().incrementErrorCount();
 				}
 				else if (problem.getSeverity() == IValidationProblemMarker.SEVERITY_WARNING) {
-					this.problems.add(problem);
+					target.add(problem);
 					getProgressReportingState().incrementWarningCount();
 				}
 				else if (problem.getSeverity() == IValidationProblemMarker.SEVERITY_INFO) {
-					this.problems.add(problem);
+					target.add(problem);
 					getProgressReportingState().incrementInfoCount();
 				}
 				// IValidationProblemMarker.SEVERITY_UNKOWN falls through
@@ -210,7 +245,8 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 				.asList(attributes));
 		attributeList.add(new ValidationProblemAttribute(MarkerUtils.ELEMENT_ID_KEY, elementId));
 
-		return new ValidationProblem((currentRuleDefinition != null ? currentRuleDefinition.getId() : "UNKOWN"),
+		ValidationRuleDefinition ruleDefinition = currentRuleDefinition.get();
+		return new ValidationProblem((ruleDefinition != null ? ruleDefinition.getId() : "UNKOWN"),
 				problemId, getSeverity(problemId, severity), message, element.getElementResource(), line, attributeList
 						.toArray(new ValidationProblemAttribute[attributeList.size()]));
 	}
@@ -267,9 +303,10 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 	 * @since 2.3.1
 	 */
 	protected int getSeverity(String messageId, int defaultSeverity) {
-		if (currentRuleDefinition != null
-				&& currentRuleDefinition.isEnabled(getRootElement().getElementResource().getProject())) {
-			Integer severity = currentRuleDefinition.getMessageSeverities().get(messageId);
+		ValidationRuleDefinition ruleDefinition = currentRuleDefinition.get();
+		if (ruleDefinition != null
+				&& ruleDefinition.isEnabled(getRootElement().getElementResource().getProject())) {
+			Integer severity = ruleDefinition.getMessageSeverities().get(messageId);
 			if (severity != null) {
 				return severity;
 			}
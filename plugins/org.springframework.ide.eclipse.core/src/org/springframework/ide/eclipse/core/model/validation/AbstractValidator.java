@@ -10,18 +10,28 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.model.validation;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubProgressMonitor;
 import org.springframework.ide.eclipse.core.MarkerUtils;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinition;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinitionFactory;
+import org.springframework.ide.eclipse.core.internal.project.BuildProfile;
+import org.springframework.ide.eclipse.core.internal.project.BuildProfiler;
 import org.springframework.ide.eclipse.core.model.IModelElement;
 import org.springframework.ide.eclipse.core.model.IModelElementVisitor;
 import org.springframework.ide.eclipse.core.model.IResourceModelElement;
@@ -39,6 +49,12 @@ import org.springframework.ide.eclipse.core.project.IProjectContributorStateAwar
  */
 public abstract class AbstractValidator implements IValidator, IProjectContributorStateAware {
 
+	/** Number of threads that run thread-safe validation rules */
+	private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	/** Pool shared by all validators to run thread-safe validation rules */
+	private static ForkJoinPool pool;
+
 	/** Internal state object */
 	private IProjectContributorState contributorState;
 
@@ -79,8 +95,10 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 	public final void validate(Set<IResource> affectedResources, int kind, IProgressMonitor monitor)
 			throws CoreException {
 		SubProgressMonitor subMonitor = new SubProgressMonitor(monitor, affectedResources.size());
+		BuildProfile profile = BuildProfiler.getCurrentProfile();
 		try {
 			for (IResource resource : affectedResources) {
+				BuildProfile.Measurement measurement = (profile != null ? profile.start() : null);
 				String progressMessage = "Validating '" + resource.getFullPath().toString().substring(1) + "'";
 				reportProgress(progressMessage, subMonitor);
 
@@ -108,6 +126,10 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 				// call close on callback to execute any required resource cleanup in template
 				callback.destroy();
 
+				if (profile != null) {
+					profile.record(BuildProfile.Kind.RESOURCE, validatorId, resource, measurement);
+				}
+
 				subMonitor.worked(1);
 				if (subMonitor.isCanceled()) {
 					throw new OperationCanceledException();
@@ -138,8 +160,14 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 			}
 
 			if (context != null) {
-				IModelElementVisitor visitor = new ValidationVisitor(context, ruleDefinitions);
-				callback.getRootElement().accept(visitor, subMonitor);
+				if (context instanceof AbstractValidationContext && hasThreadSafeRules(ruleDefinitions)) {
+					validateConcurrently(callback.getRootElement(), (AbstractValidationContext) context,
+							ruleDefinitions, subMonitor);
+				}
+				else {
+					IModelElementVisitor visitor = new ValidationVisitor(context, ruleDefinitions);
+					callback.getRootElement().accept(visitor, subMonitor);
+				}
 				problems.addAll(context.getProblems());
 			}
 			if (subMonitor.isCanceled()) {
@@ -149,6 +177,150 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 		return problems;
 	}
 
+	private boolean hasThreadSafeRules(Set<ValidationRuleDefinition> ruleDefinitions) {
+		if (PARALLELISM < 2) {
+			return false;
+		}
+		for (ValidationRuleDefinition ruleDefinition : ruleDefinitions) {
+			if (ruleDefinition.isThreadSafe()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Validates the elements of the given root element with the given rules like the {@link ValidationVisitor} does,
+	 * but runs the {@link ValidationRuleDefinition#isThreadSafe() thread-safe} rules on a pool of threads.
+	 * <p>
+	 * The other rules are run on the calling thread in the usual order while the thread-safe rules are running. The
+	 * problems are collected per element and added to the context in the order of the elements afterwards, so the
+	 * result does not depend on the scheduling of the threads.
+	 */
+	private void validateConcurrently(IResourceModelElement rootElement, final AbstractValidationContext context,
+			Set<ValidationRuleDefinition> ruleDefinitions, final IProgressMonitor monitor) {
+		final List<IModelElement> elements = new ArrayList<IModelElement>();
+		rootElement.accept(new IModelElementVisitor() {
+
+			public boolean visit(IModelElement element, IProgressMonitor monitor) {
+				if (supports(element) && shouldValidate(element, context)) {
+					elements.add(element);
+					return true;
+				}
+				return false;
+			}
+		}, monitor);
+
+		final Map<ValidationRuleDefinition, IValidationRule> threadSafeRules = new LinkedHashMap<ValidationRuleDefinition, IValidationRule>();
+		Map<ValidationRuleDefinition, IValidationRule> otherRules = new LinkedHashMap<ValidationRuleDefinition, IValidationRule>();
+		for (ValidationRuleDefinition ruleDefinition : ruleDefinitions) {
+			// initialize the rules here as this configures them
+			if (ruleDefinition.isThreadSafe()) {
+				threadSafeRules.put(ruleDefinition, ruleDefinition.getRule());
+			}
+			else {
+				otherRules.put(ruleDefinition, ruleDefinition.getRule());
+			}
+		}
+
+		final BuildProfile profile = BuildProfiler.getCurrentProfile();
+		@SuppressWarnings("unchecked")
+		final Set<ValidationProblem>[] threadSafeProblems = new Set[elements.size()];
+		ForkJoinTask<Void> task = getPool().submit(new RecursiveAction() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void compute() {
+				validate(0, elements.size());
+			}
+
+			private void validate(final int from, final int to) {
+				if (to - from > 1) {
+					final int middle = (from + to) >>> 1;
+					invokeAll(new RecursiveAction() {
+
+						private static final long serialVersionUID = 1L;
+
+						@Override
+						protected void compute() {
+							validate(from, middle);
+						}
+					}, new RecursiveAction() {
+
+						private static final long serialVersionUID = 1L;
+
+						@Override
+						protected void compute() {
+							validate(middle, to);
+						}
+					});
+				}
+				else if (to > from && !monitor.isCanceled()) {
+					threadSafeProblems[from] = validate(elements.get(from), context, threadSafeRules, profile,
+							new NullProgressMonitor());
+				}
+			}
+		});
+
+		@SuppressWarnings("unchecked")
+		Set<ValidationProblem>[] otherProblems = new Set[elements.size()];
+		try {
+			for (int i = 0; i < elements.size(); i++) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				reportProgress("Validating element '" + elements.get(i).getElementName() + "'", monitor);
+				otherProblems[i] = validate(elements.get(i), context, otherRules, profile, monitor);
+			}
+			task.join();
+		}
+		finally {
+			task.cancel(false);
+		}
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+
+		for (int i = 0; i < elements.size(); i++) {
+			context.addCollectedProblems(otherProblems[i]);
+			context.addCollectedProblems(threadSafeProblems[i]);
+		}
+	}
+
+	/**
+	 * Validates the given element with the given rules on the current thread and returns the reported problems.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Set<ValidationProblem> validate(IModelElement element, AbstractValidationContext context,
+			Map<ValidationRuleDefinition, IValidationRule> rules, BuildProfile profile, IProgressMonitor monitor) {
+		Set<ValidationProblem> problems;
+		context.beginCollectingProblems();
+		try {
+			for (Map.Entry<ValidationRuleDefinition, IValidationRule> rule : rules.entrySet()) {
+				if (rule.getValue().supports(element, context)) {
+					BuildProfile.Measurement measurement = (profile != null ? profile.start() : null);
+					context.setCurrentRuleDefinition(rule.getKey());
+					rule.getValue().validate(element, context, monitor);
+					if (profile != null) {
+						profile.record(BuildProfile.Kind.RULE, rule.getKey().getId(), null, measurement);
+					}
+				}
+			}
+		}
+		finally {
+			problems = context.endCollectingProblems();
+		}
+		return problems;
+	}
+
+	private static synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			pool = new ForkJoinPool(PARALLELISM);
+		}
+		return pool;
+	}
+
 	/**
 	 * Returns a newly created {@link IValidationContext} for the given {@link IResourceModelElement root element} and
 	 * it's {@link IResourceModelElement context element}.
@@ -257,9 +429,12 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 
 		private Set<ValidationRuleDefinition> ruleDefinitions;
 
+		private BuildProfile profile;
+
 		public ValidationVisitor(IValidationContext context, Set<ValidationRuleDefinition> ruleDefinitions) {
 			this.ruleDefinitions = ruleDefinitions;
 			this.context = context;
+			this.profile = BuildProfiler.getCurrentProfile();
 		}
 
 		@SuppressWarnings("unchecked")
@@ -276,8 +451,12 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 
 						IValidationRule rule = ruleDefinition.getRule();
 						if (rule.supports(element, context)) {
+							BuildProfile.Measurement measurement = (profile != null ? profile.start() : null);
 							context.setCurrentRuleDefinition(ruleDefinition);
 							rule.validate(element, context, monitor);
+							if (profile != null) {
+								profile.record(BuildProfile.Kind.RULE, ruleDefinition.getId(), null, measurement);
+							}
 						}
 						subMonitor.worked(1);
 					}
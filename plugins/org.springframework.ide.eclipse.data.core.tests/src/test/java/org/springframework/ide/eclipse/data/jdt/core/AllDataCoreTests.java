@@ -19,6 +19,7 @@ import org.junit.runners.Suite.SuiteClasses;
  */
 @RunWith(Suite.class)
 @SuiteClasses({ KeywordProviderSupportUnitTests.class, //
+		DerivedQueryValidatorTest.class, //
 		QueryMethodCandidateUnitTests.class, //
 		QueryMethodPartUnitTests.class, //
 		RepositoryInformationTest.class //
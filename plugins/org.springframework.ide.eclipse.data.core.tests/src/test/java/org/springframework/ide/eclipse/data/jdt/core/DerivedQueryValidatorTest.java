@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.data.jdt.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
+
+/**
+ * @author agent
+ * @since 3.9.8
+ */
+public class DerivedQueryValidatorTest {
+
+	private IProject project;
+	private IJavaProject javaProject;
+
+	@Before
+	public void createProject() throws Exception {
+		project = StsTestUtil.createPredefinedProject("spring-data-testdata", "org.springframework.ide.eclipse.data.core.tests");
+		javaProject = JdtUtils.getJavaProject(project);
+		DerivedQueryValidator.clear();
+		DerivedQueryValidator.resetStatistics();
+	}
+
+	@After
+	public void deleteProject() throws Exception {
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testManagedDomainTypeThroughGenericInterface() throws Exception {
+		IType type = javaProject.findType("org.PersonRepository");
+		IType domainType = RepositoryInformation.getManagedDomainType(type);
+		assertNotNull(domainType);
+		assertEquals("org.Person", domainType.getFullyQualifiedName());
+	}
+
+	@Test
+	public void testInvalidQueryMethods() throws Exception {
+		IType type = javaProject.findType("org.PersonRepository");
+		Map<String, String> problems = getProblems(DerivedQueryValidator.validate(type));
+
+		assertEquals(2, problems.size());
+		assertEquals("No property nickname found for type Person!", problems.get("findByNickname"));
+		assertEquals("No property street found for type Address! Traversed path: Person.address.",
+				problems.get("findByAddressStreet"));
+	}
+
+	@Test
+	public void testValidQueryMethods() throws Exception {
+		DomainPropertyModel model = new DomainPropertyModel(javaProject.findType("org.Person"));
+		assertNull(DerivedQueryValidator.validate("findByFirstnameAndLastname", model));
+		assertNull(DerivedQueryValidator.validate("findByAddress_City", model));
+		assertNull(DerivedQueryValidator.validate("findByFormerAddressesZipCodeIgnoreCase", model));
+		assertNull(DerivedQueryValidator.validate("findByFullName", model));
+		assertNull(DerivedQueryValidator.validate("countByAgeBetween", model));
+		assertEquals("No property foo found for type int! Traversed path: Person.age.",
+				DerivedQueryValidator.validate("findByAgeFoo", model));
+		assertEquals("Invalid order syntax for part Lastname!",
+				DerivedQueryValidator.validate("findByAgeOrderByLastname", model));
+	}
+
+	@Test
+	public void testSearchByQueryMethods() throws Exception {
+		DomainPropertyModel model = new DomainPropertyModel(javaProject.findType("org.Person"));
+		assertNull(DerivedQueryValidator.validate("searchByLastname", model));
+		assertNull(DerivedQueryValidator.validate("searchDistinctByAddressCity", model));
+		assertEquals("No property lastnam found for type Person! Did you mean 'lastname'?",
+				DerivedQueryValidator.validate("searchByLastnam", model));
+	}
+
+	@Test
+	public void testResultsAreCachedPerMethodName() throws Exception {
+		IType type = javaProject.findType("org.PersonRepository");
+		DerivedQueryValidator.validate(type);
+		assertEquals(7, DerivedQueryValidator.getMissCount());
+		assertEquals(0, DerivedQueryValidator.getHitCount());
+
+		Map<String, String> problems = getProblems(DerivedQueryValidator.validate(type));
+		assertEquals(2, problems.size());
+		assertEquals(7, DerivedQueryValidator.getMissCount());
+		assertEquals(7, DerivedQueryValidator.getHitCount());
+	}
+
+	@Test
+	public void testResultsAreDroppedWhenDomainTypeChanges() throws Exception {
+		IType type = javaProject.findType("org.PersonRepository");
+		assertEquals(2, DerivedQueryValidator.validate(type).size());
+
+		javaProject.findType("org.Person").createField("private String nickname;", null, false, null);
+
+		Map<String, String> problems = getProblems(DerivedQueryValidator.validate(type));
+		assertEquals(1, problems.size());
+		assertNotNull(problems.get("findByAddressStreet"));
+		assertEquals(14, DerivedQueryValidator.getMissCount());
+	}
+
+	private static Map<String, String> getProblems(Map<IMethod, String> problems) {
+		Map<String, String> result = new HashMap<String, String>();
+		for (Map.Entry<IMethod, String> problem : problems.entrySet()) {
+			result.put(problem.getKey().getElementName(), problem.getValue());
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,9 @@
+package org;
+
+public class Address {
+
+	private String city;
+
+	private String zipCode;
+
+}
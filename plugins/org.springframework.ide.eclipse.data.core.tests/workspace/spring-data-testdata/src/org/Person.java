@@ -0,0 +1,21 @@
+package org;
+
+import java.util.List;
+
+public class Person {
+
+	private String firstname;
+
+	private String lastname;
+
+	private int age;
+
+	private Address address;
+
+	private List<Address> formerAddresses;
+
+	public String getFullName() {
+		return firstname + " " + lastname;
+	}
+
+}
@@ -0,0 +1,21 @@
+package org;
+
+import java.util.List;
+
+public interface PersonRepository extends BaseRepository<Person, Long> {
+
+	List<Person> findByFirstnameAndLastname(String firstname, String lastname);
+
+	List<Person> findByAddressCity(String city);
+
+	List<Person> findByFormerAddressesZipCode(String zipCode);
+
+	List<Person> findByFullName(String fullName);
+
+	List<Person> findByAgeGreaterThanOrderByLastnameAsc(int age);
+
+	List<Person> findByNickname(String nickname);
+
+	List<Person> findByAddressStreet(String street);
+
+}
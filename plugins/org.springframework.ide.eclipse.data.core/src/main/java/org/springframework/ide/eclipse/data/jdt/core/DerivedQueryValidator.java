@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.data.jdt.core;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.StringUtils;
+
+/**
+ * Validates the derived query methods of Spring Data repositories against a {@link DomainPropertyModel} of the
+ * managed domain type, splitting method names into property paths like {@link PartTree} does.
+ * <p>
+ * Domain models and results are cached per domain type and method name and stay valid until one of the source files
+ * of the domain model changes, so reconciling a repository neither reads the domain types again nor validates more
+ * than the methods that have been added or renamed since. Changes to classpaths and added or removed compilation units
+ * drop all results, as they may change the types of the models.
+ * @author agent
+ * @since 3.9.8
+ */
+public class DerivedQueryValidator {
+
+	/** Number of domain types after which all results are dropped */
+	private static final int MAX_DOMAIN_TYPES = 500;
+
+	/** Same subject prefixes as {@link PartTree} */
+	private static final Pattern PREFIX_TEMPLATE = Pattern
+			.compile("^(find|read|get|query|search|stream|count|exists|delete|remove)((\\p{Lu}.*?))??By");
+
+	private static final String KEYWORD_TEMPLATE = "(%s)(?=\\p{Lu})";
+
+	private static final Pattern ALL_IGNORE_CASE = Pattern.compile("AllIgnor(ing|e)Case");
+
+	private static final Pattern IGNORE_CASE = Pattern.compile("Ignor(ing|e)Case");
+
+	private static final Pattern ORDER_BY_PARTS = Pattern.compile("(?<=Asc|Desc)(?=\\p{Lu})");
+
+	private static final Pattern ORDER_BY_PART = Pattern.compile("(.+)(Asc|Desc)$");
+
+	/** Stands for valid method names in the cached results */
+	private static final String VALID = "";
+
+	private static final int CLASSPATH_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_CLOSED;
+
+	private static final ConcurrentMap<String, ValidationResults> RESULTS = new ConcurrentHashMap<String, ValidationResults>();
+
+	/** Incremented whenever results are dropped, so that models read from outdated sources are not cached */
+	private static final AtomicInteger GENERATION = new AtomicInteger();
+
+	private static final AtomicLong HITS = new AtomicLong();
+
+	private static final AtomicLong MISSES = new AtomicLong();
+
+	private static IElementChangedListener changedListener;
+
+	/**
+	 * Validates the derived query methods of the given repository interface.
+	 * @return the problem messages of the invalid query methods, or an empty map if the managed domain type of the
+	 * repository can't be determined
+	 */
+	public static Map<IMethod, String> validate(IType repositoryType) throws JavaModelException {
+		Map<IMethod, String> problems = new LinkedHashMap<IMethod, String>();
+		IType domainType = RepositoryInformation.getManagedDomainType(repositoryType);
+		if (domainType == null) {
+			return problems;
+		}
+		installListener();
+
+		ValidationResults results = getResults(domainType);
+		DomainPropertyModel model = results.model;
+		for (IMethod method : RepositoryInformation.getMethodsToValidate(repositoryType)) {
+			String methodName = method.getElementName();
+			String message = results.messages.get(methodName);
+			if (message != null) {
+				HITS.incrementAndGet();
+			}
+			else {
+				MISSES.incrementAndGet();
+				message = validate(methodName, model);
+				results.messages.put(methodName, (message != null ? message : VALID));
+			}
+			if (message != null && message != VALID) {
+				problems.put(method, message);
+			}
+		}
+		return problems;
+	}
+
+	/**
+	 * Validates the property paths of the given query method name.
+	 * @return <code>null</code> if the method name is valid, otherwise the reason why it is not
+	 */
+	public static String validate(String methodName, DomainPropertyModel model) throws JavaModelException {
+		Matcher matcher = PREFIX_TEMPLATE.matcher(methodName);
+		String predicate = (matcher.find() ? methodName.substring(matcher.group().length()) : methodName);
+
+		Matcher allIgnoreCase = ALL_IGNORE_CASE.matcher(predicate);
+		if (allIgnoreCase.find()) {
+			predicate = predicate.substring(0, allIgnoreCase.start()) + predicate.substring(allIgnoreCase.end());
+		}
+
+		String[] parts = split(predicate, "OrderBy");
+		if (parts.length > 2) {
+			return "OrderBy must not be used more than once in a method name!";
+		}
+		for (String orPart : split(parts[0], "Or")) {
+			for (String part : split(orPart, "And")) {
+				if (StringUtils.hasText(part)) {
+					String message = validatePart(part, model);
+					if (message != null) {
+						return message;
+					}
+				}
+			}
+		}
+		if (parts.length == 2) {
+			for (String orderPart : ORDER_BY_PARTS.split(parts[1])) {
+				Matcher orderMatcher = ORDER_BY_PART.matcher(orderPart);
+				if (!orderMatcher.find()) {
+					return String.format("Invalid order syntax for part %s!", orderPart);
+				}
+				String message = model.validatePropertyPath(orderMatcher.group(1));
+				if (message != null) {
+					return message;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public static void clear() {
+		synchronized (RESULTS) {
+			GENERATION.incrementAndGet();
+			RESULTS.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of query methods answered from the cache.
+	 */
+	public static long getHitCount() {
+		return HITS.get();
+	}
+
+	/**
+	 * Returns the number of query methods that had to be validated.
+	 */
+	public static long getMissCount() {
+		return MISSES.get();
+	}
+
+	public static void resetStatistics() {
+		HITS.set(0);
+		MISSES.set(0);
+	}
+
+	private static String validatePart(String part, DomainPropertyModel model) throws JavaModelException {
+		Matcher ignoreCase = IGNORE_CASE.matcher(part);
+		if (ignoreCase.find()) {
+			part = part.substring(0, ignoreCase.start()) + part.substring(ignoreCase.end());
+		}
+		String property = Part.Type.fromProperty(part).extractProperty(part);
+		return (StringUtils.hasText(property) ? model.validatePropertyPath(property) : null);
+	}
+
+	private static String[] split(String text, String keyword) {
+		return Pattern.compile(String.format(KEYWORD_TEMPLATE, keyword)).split(text);
+	}
+
+	/**
+	 * Returns the results for the given domain type, reading its model if there are none.
+	 */
+	private static ValidationResults getResults(IType domainType) throws JavaModelException {
+		String key = domainType.getJavaProject().getElementName() + '/' + domainType.getFullyQualifiedName();
+		ValidationResults results = RESULTS.get(key);
+		if (results == null) {
+			int generation = GENERATION.get();
+			results = new ValidationResults(new DomainPropertyModel(domainType));
+			synchronized (RESULTS) {
+				if (generation == GENERATION.get()) {
+					if (RESULTS.size() >= MAX_DOMAIN_TYPES) {
+						RESULTS.clear();
+					}
+					RESULTS.put(key, results);
+				}
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Removes the results whose domain models have been read from one of the given files.
+	 */
+	private static void clear(Set<IPath> changedFiles) {
+		synchronized (RESULTS) {
+			GENERATION.incrementAndGet();
+			for (Iterator<ValidationResults> iterator = RESULTS.values().iterator(); iterator.hasNext();) {
+				for (IPath sourceFile : iterator.next().model.getSourceFiles()) {
+					if (changedFiles.contains(sourceFile)) {
+						iterator.remove();
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	private static synchronized void installListener() {
+		if (changedListener == null) {
+			changedListener = new ResultsClearingJavaElementChangeListener();
+			JavaCore.addElementChangedListener(changedListener, ElementChangedEvent.POST_CHANGE
+					| ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the given delta changes the classpath or removes a project.
+	 */
+	private static boolean isClasspathChange(IJavaElementDelta delta) {
+		if (delta.getElement().getElementType() > IJavaElement.PACKAGE_FRAGMENT_ROOT) {
+			return false;
+		}
+		if (delta.getKind() == IJavaElementDelta.REMOVED || (delta.getFlags() & CLASSPATH_FLAGS) != 0) {
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isClasspathChange(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Collects the paths of the compilation units changed by the given delta.
+	 * @return <code>false</code> if compilation units have been added or removed
+	 */
+	private static boolean collectChangedFiles(IJavaElementDelta delta, Set<IPath> changedFiles) {
+		IJavaElement element = delta.getElement();
+		if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+			if (delta.getKind() != IJavaElementDelta.CHANGED) {
+				return false;
+			}
+			changedFiles.add(element.getPath());
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!collectChangedFiles(child, changedFiles)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static class ValidationResults {
+
+		private final DomainPropertyModel model;
+
+		/** Problem message per method name, {@link DerivedQueryValidator#VALID} for valid ones */
+		private final ConcurrentMap<String, String> messages = new ConcurrentHashMap<String, String>();
+
+		public ValidationResults(DomainPropertyModel model) {
+			this.model = model;
+		}
+	}
+
+	/**
+	 * Drops the results of changed domain types, and all results when classpaths change or compilation units are
+	 * added or removed.
+	 */
+	private static class ResultsClearingJavaElementChangeListener implements IElementChangedListener {
+
+		public void elementChanged(ElementChangedEvent event) {
+			if (RESULTS.isEmpty()) {
+				return;
+			}
+			Set<IPath> changedFiles = new HashSet<IPath>();
+			if (isClasspathChange(event.getDelta()) || !collectChangedFiles(event.getDelta(), changedFiles)) {
+				clear();
+			}
+			else if (!changedFiles.isEmpty()) {
+				clear(changedFiles);
+			}
+		}
+	}
+
+}
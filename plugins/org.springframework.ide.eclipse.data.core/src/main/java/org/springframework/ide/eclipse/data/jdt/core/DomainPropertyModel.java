@@ -0,0 +1,414 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.data.jdt.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.ide.eclipse.core.java.Introspector;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * The properties of a domain type and of the types they refer to, read from the Java model instead of from loaded
+ * classes. Resolves property paths the way {@link PropertyPath} does on a domain class, so derived queries can be
+ * validated without loading the domain classes through a project class loader.
+ * <p>
+ * The properties of source types reachable from the domain type are read up front; they are the only part of the
+ * model that changes while editing, so the model stays valid until one of its {@link #getSourceFiles() source files}
+ * changes. Binary types are read on demand. Properties whose type can't be resolved, e.g. because it is a type variable, accept any nested path, so
+ * that the model reports no problems a loaded class would not report.
+ * @author agent
+ * @since 3.9.8
+ */
+public class DomainPropertyModel {
+
+	/** Upper bound for the number of source types read up front */
+	private static final int MAX_SOURCE_TYPES = 200;
+
+	/** Message templates of {@link PropertyReferenceException} */
+	private static final String ERROR_TEMPLATE = "No property %s found for type %s!";
+
+	private static final String HINTS_TEMPLATE = " Did you mean %s?";
+
+	private static final String TRAVERSED_PATH_TEMPLATE = " Traversed path: %s.";
+
+	/** Maximum distance of the property names suggested in messages, as in Spring's PropertyMatches */
+	private static final int MAX_HINT_DISTANCE = 2;
+
+	private static final Pattern SPLITTER = Pattern.compile("(?:[_\\.]?([_\\.]*?[^_\\.]+))");
+
+	private static final Pattern LAST_CAMEL_CASE_WORD = Pattern.compile("\\p{Lu}+\\p{Ll}*$");
+
+	private static final String ALL_UPPERCASE = "[A-Z0-9._$]+";
+
+	private static final Set<String> PRIMITIVES = new HashSet<String>(Arrays.asList("boolean", "byte", "char",
+			"short", "int", "long", "float", "double"));
+
+	private static final String COLLECTION = "java.util.Collection";
+
+	private static final String MAP = "java.util.Map";
+
+	private final IProject project;
+
+	private final String domainTypeName;
+
+	/** Property name to actual property type per type name; a <code>null</code> type stands for unknown types */
+	private final Map<String, Map<String, String>> properties = new HashMap<String, Map<String, String>>();
+
+	private final Set<IPath> sourceFiles = new HashSet<IPath>();
+
+	public DomainPropertyModel(IType domainType) throws JavaModelException {
+		this.project = domainType.getJavaProject().getProject();
+		this.domainTypeName = domainType.getFullyQualifiedName();
+
+		Deque<String> typeNames = new ArrayDeque<String>();
+		typeNames.add(domainTypeName);
+		Set<String> visitedTypeNames = new HashSet<String>(typeNames);
+		int sourceTypes = 0;
+		while (!typeNames.isEmpty() && sourceTypes < MAX_SOURCE_TYPES) {
+			String typeName = typeNames.poll();
+			IType type = JdtUtils.getJavaType(project, typeName);
+			if (type != null && !type.isBinary()) {
+				Map<String, String> typeProperties = getProperties(typeName);
+				sourceFiles.add(type.getPath());
+				sourceTypes++;
+				for (String propertyTypeName : typeProperties.values()) {
+					if (propertyTypeName != null && visitedTypeNames.add(propertyTypeName)) {
+						typeNames.add(propertyTypeName);
+					}
+				}
+			}
+		}
+	}
+
+	public String getDomainTypeName() {
+		return domainTypeName;
+	}
+
+	/**
+	 * Returns the workspace paths of the compilation units of the source types of this model. The model resolves
+	 * property paths the same way as a newly created one as long as none of these files changes.
+	 */
+	public Set<IPath> getSourceFiles() {
+		return sourceFiles;
+	}
+
+	/**
+	 * Resolves the given property path, e.g. <code>addressZipCode</code> or <code>address_zipCode</code>, against
+	 * the domain type.
+	 * @return <code>null</code> if the path can be resolved, otherwise the reason why it can't
+	 */
+	public synchronized String validatePropertyPath(String source) throws JavaModelException {
+		Matcher matcher = SPLITTER.matcher("_" + source);
+		String typeName = domainTypeName;
+		List<String> path = new ArrayList<String>();
+		while (matcher.find()) {
+			try {
+				typeName = resolve(matcher.group(1), typeName, "", path);
+			}
+			catch (UnresolvablePropertyException e) {
+				return e.getMessage();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Resolves the given camel case source, preferring the longest property name that exists and splitting off the
+	 * last word of it otherwise, as {@link PropertyPath} does.
+	 * @param path the names of the properties resolved so far; the resolved properties are added to it
+	 */
+	private String resolve(String source, String typeName, String tail, List<String> path)
+			throws JavaModelException, UnresolvablePropertyException {
+		UnresolvablePropertyException exception;
+		String propertyTypeName = null;
+		boolean resolved = false;
+		try {
+			propertyTypeName = getPropertyType(source, typeName, path);
+			resolved = true;
+			if (StringUtils.hasText(tail)) {
+				return resolve(tail, propertyTypeName, "", path);
+			}
+			return propertyTypeName;
+		}
+		catch (UnresolvablePropertyException e) {
+			if (resolved) {
+				throw e;
+			}
+			exception = e;
+		}
+
+		Matcher matcher = LAST_CAMEL_CASE_WORD.matcher(source);
+		if (matcher.find() && matcher.start() != 0) {
+			int position = matcher.start();
+			try {
+				return resolve(source.substring(0, position), typeName, source.substring(position) + tail, path);
+			}
+			catch (UnresolvablePropertyException e) {
+				throw (e.depth > exception.depth ? e : exception);
+			}
+		}
+		throw exception;
+	}
+
+	private String getPropertyType(String name, String typeName, List<String> path) throws JavaModelException,
+			UnresolvablePropertyException {
+		if (typeName == null) {
+			// nothing known about the type, so accept any property
+			return null;
+		}
+		String propertyName = (name.matches(ALL_UPPERCASE) ? name : StringUtils.uncapitalize(name));
+		Map<String, String> typeProperties = getProperties(typeName);
+		if (typeProperties == null) {
+			return null;
+		}
+		if (!typeProperties.containsKey(propertyName)) {
+			throw new UnresolvablePropertyException(getErrorMessage(propertyName, typeName, path), path.size());
+		}
+		path.add(propertyName);
+		return typeProperties.get(propertyName);
+	}
+
+	/**
+	 * Returns the message {@link PropertyReferenceException} has for the given property.
+	 */
+	private String getErrorMessage(String propertyName, String typeName, List<String> path)
+			throws JavaModelException {
+		StringBuilder message = new StringBuilder(String.format(ERROR_TEMPLATE, propertyName, getSimpleName(typeName)));
+		List<String> matches = getPropertyMatches(propertyName, typeName);
+		if (!matches.isEmpty()) {
+			message.append(String.format(HINTS_TEMPLATE, StringUtils.collectionToDelimitedString(matches, ",", "'",
+					"'")));
+		}
+		if (!path.isEmpty()) {
+			message.append(String.format(TRAVERSED_PATH_TEMPLATE, getSimpleName(domainTypeName) + '.'
+					+ StringUtils.collectionToDelimitedString(path, ".")));
+		}
+		return message.toString();
+	}
+
+	/**
+	 * Returns the sorted names of the fields of the given type and its super classes that are similar to the given
+	 * property name.
+	 */
+	private List<String> getPropertyMatches(String propertyName, String typeName) throws JavaModelException {
+		List<String> matches = new ArrayList<String>();
+		IType type = (PRIMITIVES.contains(typeName) ? null : JdtUtils.getJavaType(project, typeName));
+		for (IType current = type; current != null; current = Introspector.getSuperType(current)) {
+			for (IField field : current.getFields()) {
+				if (getDistance(propertyName, field.getElementName()) <= MAX_HINT_DISTANCE) {
+					matches.add(field.getElementName());
+				}
+			}
+		}
+		Collections.sort(matches);
+		return matches;
+	}
+
+	/**
+	 * Returns the Levenshtein distance of the given strings.
+	 */
+	private static int getDistance(String s1, String s2) {
+		int[] previous = new int[s2.length() + 1];
+		int[] current = new int[s2.length() + 1];
+		for (int j = 0; j <= s2.length(); j++) {
+			previous[j] = j;
+		}
+		for (int i = 1; i <= s1.length(); i++) {
+			current[0] = i;
+			for (int j = 1; j <= s2.length(); j++) {
+				int cost = (s1.charAt(i - 1) == s2.charAt(j - 1) ? 0 : 1);
+				current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+			}
+			int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+		return previous[s2.length()];
+	}
+
+	/**
+	 * Returns the properties of the given type, or <code>null</code> if the type can't be found.
+	 */
+	private Map<String, String> getProperties(String typeName) throws JavaModelException {
+		if (PRIMITIVES.contains(typeName)) {
+			return Collections.emptyMap();
+		}
+		if (properties.containsKey(typeName)) {
+			return properties.get(typeName);
+		}
+		IType type = JdtUtils.getJavaType(project, typeName);
+		Map<String, String> typeProperties = null;
+		if (type != null) {
+			typeProperties = new HashMap<String, String>();
+			addFieldProperties(type, typeProperties);
+			addBeanProperties(type, typeProperties);
+		}
+		properties.put(typeName, typeProperties);
+		return typeProperties;
+	}
+
+	/**
+	 * Fields of the type and its super classes, including non-public ones, take precedence over bean properties.
+	 */
+	private void addFieldProperties(IType type, Map<String, String> typeProperties) throws JavaModelException {
+		for (IType current = type; current != null; current = Introspector.getSuperType(current)) {
+			for (IField field : current.getFields()) {
+				if (!typeProperties.containsKey(field.getElementName())) {
+					typeProperties.put(field.getElementName(), getActualType(field.getTypeSignature(), current));
+				}
+			}
+		}
+	}
+
+	private void addBeanProperties(IType type, Map<String, String> typeProperties) throws JavaModelException {
+		for (IType current = type; current != null; current = Introspector.getSuperType(current)) {
+			for (IMethod method : current.getMethods()) {
+				if (method.isConstructor() || Flags.isStatic(method.getFlags())
+						|| (!Flags.isPublic(method.getFlags()) && !current.isInterface())) {
+					continue;
+				}
+				String propertyName = getPropertyName(method);
+				if (propertyName != null && !typeProperties.containsKey(propertyName)) {
+					String signature = (method.getNumberOfParameters() == 0 ? method.getReturnType() : method
+							.getParameterTypes()[0]);
+					typeProperties.put(propertyName, getActualType(signature, current));
+				}
+			}
+		}
+	}
+
+	private static String getPropertyName(IMethod method) {
+		String name = method.getElementName();
+		int parameters = method.getNumberOfParameters();
+		String propertyName = null;
+		try {
+			if (parameters == 0 && name.startsWith("get") && !Signature.SIG_VOID.equals(method.getReturnType())) {
+				propertyName = name.substring(3);
+			}
+			else if (parameters == 0 && name.startsWith("is") && Signature.SIG_BOOLEAN.equals(method.getReturnType())) {
+				propertyName = name.substring(2);
+			}
+			else if (parameters == 1 && name.startsWith("set")) {
+				propertyName = name.substring(3);
+			}
+		}
+		catch (JavaModelException e) {
+			return null;
+		}
+		return (StringUtils.hasLength(propertyName) ? java.beans.Introspector.decapitalize(propertyName) : null);
+	}
+
+	/**
+	 * Returns the name of the type a property of the given type signature resolves nested paths against: the element
+	 * type of arrays and collections, the value type of maps and the type itself otherwise. Returns <code>null</code>
+	 * if the type can't be resolved.
+	 */
+	private String getActualType(String signature, IType declaringType) throws JavaModelException {
+		boolean isArray = Signature.getArrayCount(signature) > 0;
+		String elementSignature = Signature.getElementType(signature);
+		switch (Signature.getTypeSignatureKind(elementSignature)) {
+		case Signature.BASE_TYPE_SIGNATURE:
+			return Signature.toString(elementSignature);
+		case Signature.CLASS_TYPE_SIGNATURE:
+			String typeName = resolveTypeName(elementSignature, declaringType);
+			if (typeName == null || isArray) {
+				return typeName;
+			}
+			String[] typeArguments = Signature.getTypeArguments(elementSignature);
+			if (isSubtypeOf(typeName, COLLECTION) || "java.lang.Iterable".equals(typeName)) {
+				return (typeArguments.length == 1 ? getTypeArgument(typeArguments[0], declaringType) : null);
+			}
+			else if (isSubtypeOf(typeName, MAP)) {
+				return (typeArguments.length == 2 ? getTypeArgument(typeArguments[1], declaringType) : null);
+			}
+			return typeName;
+		default:
+			return null;
+		}
+	}
+
+	private String getTypeArgument(String signature, IType declaringType) throws JavaModelException {
+		if (Signature.getTypeSignatureKind(signature) == Signature.WILDCARD_TYPE_SIGNATURE) {
+			if (signature.charAt(0) != Signature.C_EXTENDS) {
+				return null;
+			}
+			signature = signature.substring(1);
+		}
+		return getActualType(signature, declaringType);
+	}
+
+	/**
+	 * Resolves the erasure of the given class type signature, returning <code>null</code> for type variables of the
+	 * declaring type and for types that don't exist.
+	 */
+	private String resolveTypeName(String signature, IType declaringType) throws JavaModelException {
+		String erasure = Signature.getTypeErasure(signature);
+		String simpleName = Signature.toString(erasure);
+		if (declaringType.getTypeParameter(simpleName).exists()) {
+			return null;
+		}
+		String typeName = JdtUtils.resolveClassNameBySignature(erasure, declaringType);
+		return (typeName != null && JdtUtils.getJavaType(project, typeName) != null ? typeName : null);
+	}
+
+	private boolean isSubtypeOf(String typeName, String superTypeName) {
+		if (typeName.equals(superTypeName)) {
+			return true;
+		}
+		if (typeName.startsWith("java.lang.")) {
+			return false;
+		}
+		IType type = JdtUtils.getJavaType(project, typeName);
+		return (type != null && Introspector.doesImplement(type, superTypeName));
+	}
+
+	private static String getSimpleName(String typeName) {
+		return typeName.substring(typeName.lastIndexOf('.') + 1);
+	}
+
+	/**
+	 * Thrown if a property can't be found; keeps the number of segments of the path resolved before.
+	 */
+	private static class UnresolvablePropertyException extends Exception {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int depth;
+
+		public UnresolvablePropertyException(String message, int depth) {
+			super(message);
+			this.depth = depth;
+		}
+	}
+
+}
@@ -17,9 +17,12 @@ import java.util.Set;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMemberValuePair;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeParameter;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.Repository;
@@ -234,12 +237,108 @@ public class RepositoryInformation {
 		return null;
 	}
 
+	/**
+	 * Returns the domain type managed by the given repository interface, resolved through the Java model instead of
+	 * loading the repository interface. Looks at the {@code domainClass} of {@code @RepositoryDefinition} and at the
+	 * first type argument of {@link Repository} as bound through the extended interfaces.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return the domain type or {@literal null} if it can't be resolved.
+	 */
+	public static IType getManagedDomainType(IType type) {
+		try {
+			String domainTypeName = getManagedDomainTypeName(type, new String[0], new HashSet<String>());
+			return (domainTypeName != null ? JdtUtils.getJavaType(type.getJavaProject().getProject(), domainTypeName)
+					: null);
+		} catch (JavaModelException e) {
+			SpringCore.log(e);
+			return null;
+		}
+	}
+
+	private static String getManagedDomainTypeName(IType type, String[] typeArguments, Set<String> visitedTypes)
+			throws JavaModelException {
+
+		String fullyQualifiedName = type.getFullyQualifiedName();
+		if (Repository.class.getName().equals(fullyQualifiedName)) {
+			return typeArguments.length > 0 ? typeArguments[0] : null;
+		}
+		if (!visitedTypes.add(fullyQualifiedName)) {
+			return null;
+		}
+
+		for (IAnnotation annotation : type.getAnnotations()) {
+			if (annotation.getElementName().equals("org.springframework.data.repository.RepositoryDefinition")
+					|| annotation.getElementName().equals("RepositoryDefinition")) {
+				for (IMemberValuePair pair : annotation.getMemberValuePairs()) {
+					if ("domainClass".equals(pair.getMemberName()) && pair.getValueKind() == IMemberValuePair.K_CLASS
+							&& pair.getValue() instanceof String) {
+						return JdtUtils.resolveClassName((String) pair.getValue(), type);
+					}
+				}
+			}
+		}
+
+		for (String superInterface : type.getSuperInterfaceTypeSignatures()) {
+			String superInterfaceName = JdtUtils.resolveClassNameBySignature(Signature.getTypeErasure(superInterface),
+					type);
+			IType superInterfaceType = JdtUtils.getJavaType(type.getJavaProject().getProject(), superInterfaceName);
+			if (superInterfaceType == null) {
+				continue;
+			}
+
+			String[] arguments = Signature.getTypeArguments(superInterface);
+			String[] resolvedArguments = new String[arguments.length];
+			for (int i = 0; i < arguments.length; i++) {
+				resolvedArguments[i] = resolveTypeArgument(arguments[i], type, typeArguments);
+			}
+
+			String domainTypeName = getManagedDomainTypeName(superInterfaceType, resolvedArguments, visitedTypes);
+			if (domainTypeName != null) {
+				return domainTypeName;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Resolves the given type argument of a super interface, replacing type variables of the given type with the type
+	 * arguments it is used with.
+	 */
+	private static String resolveTypeArgument(String argument, IType type, String[] typeArguments)
+			throws JavaModelException {
+
+		if (Signature.getTypeSignatureKind(argument) != Signature.CLASS_TYPE_SIGNATURE
+				&& Signature.getTypeSignatureKind(argument) != Signature.TYPE_VARIABLE_SIGNATURE) {
+			return null;
+		}
+
+		String erasure = Signature.getTypeErasure(argument);
+		ITypeParameter[] typeParameters = type.getTypeParameters();
+		for (int i = 0; i < typeParameters.length; i++) {
+			if (typeParameters[i].getElementName().equals(Signature.toString(erasure))) {
+				return i < typeArguments.length ? typeArguments[i] : null;
+			}
+		}
+		return JdtUtils.resolveClassNameBySignature(erasure, type);
+	}
+
 	/**
 	 * Returns all {@link IMethod}s that shall be considered query methods (which need to be validated).
 	 * 
 	 * @return
 	 */
 	public Iterable<IMethod> getMethodsToValidate() {
+		return getMethodsToValidate(type);
+	}
+
+	/**
+	 * Returns all {@link IMethod}s of the given repository interface that shall be considered query methods.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public static Iterable<IMethod> getMethodsToValidate(IType type) {
 
 		Set<IMethod> result = new HashSet<IMethod>();
 
@@ -256,7 +355,7 @@ public class RepositoryInformation {
 		return result;
 	}
 
-	public boolean isMethodToValidate(IMethod method) throws JavaModelException {
+	public static boolean isMethodToValidate(IMethod method) throws JavaModelException {
 		if (isCrudMethod(method)) return false;
 		if (hasAnnotation(method, "Query")) return false;
 		if (hasAnnotation(method, "Procedure")) return false;
@@ -273,11 +372,11 @@ public class RepositoryInformation {
 		return false;
 	}
 
-	private boolean isCrudMethod(IMethod method) {
+	private static boolean isCrudMethod(IMethod method) {
 		return METHOD_NAMES.contains(method.getElementName());
 	}
 	
-	private boolean hasAnnotation(IMethod method, String annotationName) throws JavaModelException {
+	private static boolean hasAnnotation(IMethod method, String annotationName) throws JavaModelException {
 		for (IAnnotation annotation : method.getAnnotations()) {
 			if (annotation.getElementName().equals(annotationName)) {
 				return true;
@@ -12,6 +12,7 @@ package org.springframework.ide.eclipse.data.jdt.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
@@ -22,8 +23,6 @@ import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.compiler.CompilationParticipant;
 import org.eclipse.jdt.core.compiler.ReconcileContext;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.springframework.data.mapping.PropertyReferenceException;
-import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.ide.eclipse.core.SpringCore;
 import org.springframework.ide.eclipse.data.internal.validation.InvalidDerivedQueryRule;
 import org.springsource.ide.eclipse.commons.core.SpringCoreUtils;
@@ -66,26 +65,11 @@ public class SpringDataCompilationParticipant extends CompilationParticipant {
 				return;
 			}
 
-			// resolve repository information and generate problem markers
-			RepositoryInformation information = new RepositoryInformation(type);
-
-			Class<?> domainClass = information.getManagedDomainClass();
-			if (domainClass == null) {
-				super.reconcile(context);
-				return;
-			}
-
+			// validate the query methods and generate problem markers
 			List<CategorizedProblem> problems = new ArrayList<CategorizedProblem>();
 
-			for (IMethod method : information.getMethodsToValidate()) {
-
-				String methodName = method.getElementName();
-
-				try {
-					new PartTree(methodName, domainClass);
-				} catch (PropertyReferenceException e) {
-					problems.add(new InvalidDerivedQueryProblem(method, e.getMessage()));
-				}
+			for (Map.Entry<IMethod, String> problem : DerivedQueryValidator.validate(type).entrySet()) {
+				problems.add(new InvalidDerivedQueryProblem(problem.getKey(), problem.getValue()));
 			}
 
 			context.putProblems("org.eclipse.jdt.core.problem", problems.toArray(new CategorizedProblem[problems.size()]));
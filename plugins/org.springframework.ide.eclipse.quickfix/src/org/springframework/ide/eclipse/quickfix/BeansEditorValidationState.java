@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.quickfix;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.JavaCore;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.validation.BeansValidationContext;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.model.IModelChangeListener;
+import org.springframework.ide.eclipse.core.model.IResourceModelElement;
+import org.springframework.ide.eclipse.core.model.ModelChangeEvent;
+import org.springframework.ide.eclipse.core.type.asm.CachingClassReaderFactory;
+import org.springframework.ide.eclipse.core.type.asm.ClassReaderFactory;
+
+/**
+ * Lookups of the {@link BeansEditorValidator} that stay valid across reconciles of the same editor: the configs and
+ * context elements of the edited file, the complete bean definition registries of these contexts and the class
+ * readers used to look up classes and methods.
+ * <p>
+ * The beans model is not updated while a file is being edited, so the model derived lookups are kept until the
+ * beans model changes. Class lookups are kept until a Java change event arrives.
+ * @author agent
+ * @since 3.9.8
+ */
+public class BeansEditorValidationState {
+
+	private final Map<IBeansConfig, Set<IResourceModelElement>> contextElements = new HashMap<IBeansConfig, Set<IResourceModelElement>>();
+
+	private final Map<String, BeanDefinitionRegistry> completeRegistries = new HashMap<String, BeanDefinitionRegistry>();
+
+	private final Map<IProject, ClassReaderFactory> classReaderFactories = new HashMap<IProject, ClassReaderFactory>();
+
+	private Set<IBeansConfig> configs;
+
+	private final IModelChangeListener modelListener = new IModelChangeListener() {
+
+		public void elementChanged(ModelChangeEvent event) {
+			clearModelLookups();
+		}
+	};
+
+	private final IElementChangedListener javaListener = new IElementChangedListener() {
+
+		public void elementChanged(ElementChangedEvent event) {
+			clearClassLookups();
+		}
+	};
+
+	public BeansEditorValidationState() {
+		BeansCorePlugin.getModel().addChangeListener(modelListener);
+		JavaCore.addElementChangedListener(javaListener, ElementChangedEvent.POST_CHANGE);
+	}
+
+	public void dispose() {
+		BeansCorePlugin.getModel().removeChangeListener(modelListener);
+		JavaCore.removeElementChangedListener(javaListener);
+		clearModelLookups();
+		clearClassLookups();
+	}
+
+	/**
+	 * Returns the configs that the given file belongs to.
+	 */
+	public synchronized Set<IBeansConfig> getConfigs(IFile file) {
+		if (configs == null) {
+			configs = BeansCorePlugin.getModel().getConfigs(file, true);
+		}
+		return configs;
+	}
+
+	/**
+	 * Returns the cached context elements of the given config or <code>null</code> if they are not known yet.
+	 */
+	public synchronized Set<IResourceModelElement> getContextElements(IBeansConfig config) {
+		return contextElements.get(config);
+	}
+
+	public synchronized void setContextElements(IBeansConfig config, Set<IResourceModelElement> elements) {
+		contextElements.put(config, elements);
+	}
+
+	/**
+	 * Returns the registry with all bean definitions visible to the given config in the given context.
+	 */
+	public synchronized BeanDefinitionRegistry getCompleteRegistry(IBeansConfig config,
+			IResourceModelElement contextElement) {
+		String key = config.getElementID() + '|' + contextElement.getElementID();
+		BeanDefinitionRegistry registry = completeRegistries.get(key);
+		if (registry == null) {
+			registry = BeansValidationContext.createCompleteRegistry(config, contextElement);
+			completeRegistries.put(key, registry);
+		}
+		return registry;
+	}
+
+	/**
+	 * Returns a caching class reader factory for the classpath of the given project.
+	 */
+	public synchronized ClassReaderFactory getClassReaderFactory(IProject project) {
+		ClassReaderFactory factory = classReaderFactories.get(project);
+		if (factory == null) {
+			factory = new CachingClassReaderFactory(JdtUtils.getClassLoader(project, null));
+			classReaderFactories.put(project, factory);
+		}
+		return factory;
+	}
+
+	private synchronized void clearModelLookups() {
+		configs = null;
+		contextElements.clear();
+		completeRegistries.clear();
+	}
+
+	private synchronized void clearClassLookups() {
+		classReaderFactories.clear();
+	}
+
+}
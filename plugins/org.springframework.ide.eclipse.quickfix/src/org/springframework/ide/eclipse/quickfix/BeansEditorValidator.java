@@ -10,8 +10,10 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.quickfix;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
@@ -26,8 +28,12 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.quickassist.IQuickAssistProcessor;
 import org.eclipse.wst.sse.core.StructuredModelManager;
 import org.eclipse.wst.sse.core.internal.provisional.IStructuredModel;
@@ -187,6 +193,12 @@ public class BeansEditorValidator implements ISourceValidator, IValidator {
 		}
 	}
 
+	/**
+	 * Regions are not validated if the document was changed less than this many milliseconds ago, as the reconcile
+	 * of that change follows anyway
+	 */
+	private static final long DEBOUNCE_DELAY = 200;
+
 	private IDocument document = null;
 
 	private IFile file = null;
@@ -195,6 +207,26 @@ public class BeansEditorValidator implements ISourceValidator, IValidator {
 
 	private IProject project;
 
+	private BeansEditorValidationState validationState;
+
+	/** Regions whose validation was deferred or cancelled; kept up to date with document changes */
+	private final List<Position> pendingRegions = new ArrayList<Position>();
+
+	private volatile long lastModification = 0;
+
+	private volatile int modificationCount = 0;
+
+	private final IDocumentListener documentListener = new IDocumentListener() {
+
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+
+		public void documentChanged(DocumentEvent event) {
+			modificationCount++;
+			lastModification = System.currentTimeMillis();
+		}
+	};
+
 	// add node and all children node to checked nodes
 	private void addCheckedNodes(IDOMNode node, Set<IDOMNode> checkedNodes) {
 		checkedNodes.add(node);
@@ -227,6 +259,10 @@ public class BeansEditorValidator implements ISourceValidator, IValidator {
 			else {
 				file = root.getFile(filePath);
 				project = file.getProject();
+				if (validationState == null) {
+					validationState = new BeansEditorValidationState();
+				}
+				document.addDocumentListener(documentListener);
 			}
 		}
 	}
@@ -389,10 +425,68 @@ public class BeansEditorValidator implements ISourceValidator, IValidator {
 			model.releaseFromRead();
 			model = null;
 		}
+		if (validationState != null) {
+			validationState.dispose();
+			validationState = null;
+		}
+		if (document != null) {
+			document.removeDocumentListener(documentListener);
+			takePendingRegions(document);
+		}
 		this.document = null;
 	}
 
+	/**
+	 * Defers the validation of the given range to the next reconcile.
+	 */
+	private void deferRegion(IDocument document, int start, int end) {
+		start = Math.max(0, Math.min(start, document.getLength()));
+		end = Math.max(start, Math.min(end, document.getLength()));
+		Position position = new Position(start, end - start);
+		try {
+			document.addPosition(position);
+			synchronized (pendingRegions) {
+				pendingRegions.add(position);
+			}
+		}
+		catch (BadLocationException e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * Returns and forgets the regions whose validation was deferred.
+	 */
+	private List<IRegion> takePendingRegions(IDocument document) {
+		List<Position> positions;
+		synchronized (pendingRegions) {
+			positions = new ArrayList<Position>(pendingRegions);
+			pendingRegions.clear();
+		}
+		List<IRegion> regions = new ArrayList<IRegion>(positions.size());
+		for (Position position : positions) {
+			document.removePosition(position);
+			if (!position.isDeleted()) {
+				regions.add(new Region(position.getOffset(), position.getLength()));
+			}
+		}
+		return regions;
+	}
+
 	private final Set<IResourceModelElement> getContextElements(IBeansConfig config) {
+		BeansEditorValidationState state = validationState;
+		if (state != null) {
+			Set<IResourceModelElement> contextElements = state.getContextElements(config);
+			if (contextElements == null) {
+				contextElements = computeContextElements(config);
+				state.setContextElements(config, contextElements);
+			}
+			return contextElements;
+		}
+		return computeContextElements(config);
+	}
+
+	private Set<IResourceModelElement> computeContextElements(IBeansConfig config) {
 		Set<IResourceModelElement> contextElements = new LinkedHashSet<IResourceModelElement>();
 
 		BeansCorePlugin.getModel().accept(new ContextElementVisitor(config.getElementResource(), contextElements),
@@ -444,7 +538,16 @@ public class BeansEditorValidator implements ISourceValidator, IValidator {
 		return project;
 	}
 
+	/**
+	 * Returns the lookups that are shared by the validations of this editor, or <code>null</code> if not connected.
+	 * @since 3.9.8
+	 */
+	public BeansEditorValidationState getValidationState() {
+		return validationState;
+	}
+
 	public void validate(IRegion dirtyRegion, IValidationContext context, IReporter reporter) {
+		IDocument document = this.document;
 		if (document == null || !BeansCoreUtils.isBeansConfig(file)) {
 			return;
 		}
@@ -453,18 +556,42 @@ public class BeansEditorValidator implements ISourceValidator, IValidator {
 			return;
 		}
 
-		IStructuredDocumentRegion[] regions = ((IStructuredDocument) document).getStructuredDocumentRegions(
-				dirtyRegion.getOffset(), dirtyRegion.getLength());
+		List<IRegion> regions = takePendingRegions(document);
+		regions.add(dirtyRegion);
+
+		if (System.currentTimeMillis() - lastModification < DEBOUNCE_DELAY) {
+			// Still typing; the reconcile of the latest change validates these regions as well
+			for (IRegion region : regions) {
+				deferRegion(document, region.getOffset(), region.getOffset() + region.getLength());
+			}
+			return;
+		}
 
+		int modificationCount = this.modificationCount;
 		Set<IDOMNode> checkedNodes = new HashSet<IDOMNode>();
 
 		// long start = System.currentTimeMillis();
 
-		for (IStructuredDocumentRegion region : regions) {
-			IDOMNode node = getNodeAt(region.getStartOffset(), region.getLength());
-			if (node != null && !checkedNodes.contains(node)) {
-				validateNode(node, reporter);
-				addCheckedNodes(node, checkedNodes);
+		for (int i = 0; i < regions.size(); i++) {
+			IRegion dirty = regions.get(i);
+			IStructuredDocumentRegion[] documentRegions = ((IStructuredDocument) document)
+					.getStructuredDocumentRegions(dirty.getOffset(), dirty.getLength());
+
+			for (IStructuredDocumentRegion region : documentRegions) {
+				if (reporter.isCancelled() || modificationCount != this.modificationCount) {
+					// The document changed again; the remaining nodes are validated with the next reconcile
+					deferRegion(document, region.getStartOffset(), dirty.getOffset() + dirty.getLength());
+					for (int j = i + 1; j < regions.size(); j++) {
+						IRegion remaining = regions.get(j);
+						deferRegion(document, remaining.getOffset(), remaining.getOffset() + remaining.getLength());
+					}
+					return;
+				}
+				IDOMNode node = getNodeAt(region.getStartOffset(), region.getLength());
+				if (node != null && !checkedNodes.contains(node)) {
+					validateNode(node, reporter);
+					addCheckedNodes(node, checkedNodes);
+				}
 			}
 		}
 		// System.out.println(String.format("%s, reconiling region %s:%s on %s",
@@ -477,8 +604,9 @@ public class BeansEditorValidator implements ISourceValidator, IValidator {
 	}
 
 	private void validateNode(IDOMNode node, IReporter reporter) {
-		IBeansModel model = BeansCorePlugin.getModel();
-		Set<IBeansConfig> configs = model.getConfigs(file, true);
+		BeansEditorValidationState state = validationState;
+		Set<IBeansConfig> configs = state != null ? state.getConfigs(file) : BeansCorePlugin.getModel().getConfigs(
+				file, true);
 		for (IBeansConfig config : configs) {
 			Set<IResourceModelElement> contextElements = getContextElements(config);
 			for (IResourceModelElement contextElement : contextElements) {
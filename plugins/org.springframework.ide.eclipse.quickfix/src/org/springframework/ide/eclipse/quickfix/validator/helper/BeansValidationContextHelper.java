@@ -19,11 +19,14 @@ import org.eclipse.wst.validation.internal.provisional.core.IReporter;
 import org.eclipse.wst.xml.core.internal.document.AttrImpl;
 import org.eclipse.wst.xml.core.internal.provisional.document.IDOMNode;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.ide.eclipse.beans.core.internal.model.validation.BeansValidationContext;
 import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
 import org.springframework.ide.eclipse.core.model.IResourceModelElement;
 import org.springframework.ide.eclipse.core.model.validation.IValidationProblemMarker;
 import org.springframework.ide.eclipse.core.model.validation.ValidationProblemAttribute;
+import org.springframework.ide.eclipse.core.type.asm.ClassReaderFactory;
+import org.springframework.ide.eclipse.quickfix.BeansEditorValidationState;
 import org.springframework.ide.eclipse.quickfix.BeansEditorValidator;
 import org.springframework.ide.eclipse.quickfix.processors.QuickfixProcessorFactory;
 
@@ -65,7 +68,8 @@ public class BeansValidationContextHelper extends BeansValidationContext {
 			IProject project, IReporter reporter, BeansEditorValidator validator,
 			QuickfixProcessorFactory quickfixFactory, boolean affectsWholeBean, boolean reportError,
 			IBeansConfig config, Set<String> problemIdToIgnore) {
-		super(config, rootElement);
+		super(config, rootElement, getCompleteRegistry(validator, config, rootElement), getClassReaderFactory(
+				validator, rootElement));
 		this.attribute = attribute;
 		this.node = node;
 		this.project = project;
@@ -80,6 +84,21 @@ public class BeansValidationContextHelper extends BeansValidationContext {
 		this.errorFound = false;
 	}
 
+	private static BeanDefinitionRegistry getCompleteRegistry(BeansEditorValidator validator, IBeansConfig config,
+			IResourceModelElement rootElement) {
+		BeansEditorValidationState state = validator != null ? validator.getValidationState() : null;
+		return state != null ? state.getCompleteRegistry(config, rootElement) : null;
+	}
+
+	private static ClassReaderFactory getClassReaderFactory(BeansEditorValidator validator,
+			IResourceModelElement rootElement) {
+		BeansEditorValidationState state = validator != null ? validator.getValidationState() : null;
+		if (state != null && rootElement.getElementResource() != null) {
+			return state.getClassReaderFactory(rootElement.getElementResource().getProject());
+		}
+		return null;
+	}
+
 	@Override
 	public void error(IResourceModelElement element, String problemId, String message,
 			ValidationProblemAttribute... attributes) {
@@ -15,16 +15,12 @@ import java.io.IOException;
 import java.net.URI;
 
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IResource;
-import org.eclipse.core.resources.ResourcesPlugin;
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.Path;
 import org.springframework.ide.eclipse.core.SpringCoreUtils;
 
 /**
- * Command implementation that refreshes a project resource tree.
+ * Command implementation that refreshes a project resource tree. Refreshes of changed files are coalesced through a
+ * {@link RefreshCoalescer}.
  * @author Christian Dupuis
  * @since 2.1.0
  */
@@ -33,17 +29,17 @@ public class ProjectRefresher {
 	// private static final String TEST_FOLDER_PATH_SEGMENT = File.separator +
 	// "test" + File.separator;
 
-	private final IProject project;
-
 	private String projectDirectoryPath;
 
+	private RefreshCoalescer coalescer;
+
 	public ProjectRefresher(IProject project) {
-		this.project = project;
 		if (project != null) {
 			URI uri = SpringCoreUtils.getResourceURI(project);
 			if (uri != null) {
 				try {
 					this.projectDirectoryPath = new File(uri).getCanonicalPath();
+					this.coalescer = new RefreshCoalescer(project, new Path(projectDirectoryPath));
 				}
 				catch (IOException e) {
 				}
@@ -52,34 +48,27 @@ public class ProjectRefresher {
 	}
 
 	public void refresh(final File file, final Boolean isNewFile) {
-		Job job = new Job("refresh project") {
-
-			@Override
-			protected IStatus run(IProgressMonitor monitor) {
-
-				if (projectDirectoryPath != null && file != null) {
-					try {
-						String path = file.getCanonicalPath();
+		if (coalescer != null && file != null) {
+			try {
+				String path = file.getCanonicalPath();
 
-						if (projectDirectoryPath.equals(path) || file.getName().endsWith(".log")
-								|| file.getName().endsWith(".roo")) {
-							return Status.OK_STATUS;
-						}
-						project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
-					}
-					catch (Exception e) {
-						// We ignore this here
-					}
+				if (projectDirectoryPath.equals(path) || file.getName().endsWith(".log")
+						|| file.getName().endsWith(".roo")) {
+					return;
 				}
-				return Status.OK_STATUS;
+				coalescer.add(new Path(path));
 			}
+			catch (IOException e) {
+				// We ignore this here
+			}
+		}
+	}
 
-		};
-		job.setSystem(true);
-		job.setRule(ResourcesPlugin.getWorkspace().getRuleFactory().buildRule());
-		job.setPriority(Job.INTERACTIVE);
-		job.schedule();
-
+	/**
+	 * Returns the number of project refreshes saved by batching the refreshes of changed files.
+	 */
+	public long getSavedRefreshCount() {
+		return (coalescer != null ? coalescer.getSavedRefreshCount() : 0);
 	}
 
 	// private boolean shouldOpenFile(File file) {
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Pivotal Software, Inc.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v10.html
+ *
+ *  Contributors:
+ *      Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.roo.shell.eclipse;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Collects the files reported as changed by the Roo shell for a short time and refreshes them in one batch, instead of
+ * refreshing the whole project once per file.
+ * <p>
+ * The batch refreshes the smallest set of resources that covers the collected files: changed files that the
+ * workspace already knows at depth zero, the parent folders of new and deleted files at depth one, and the nearest
+ * existing folder of files in new folders at infinite depth.
+ * @author agent
+ * @since 3.9.8
+ */
+public class RefreshCoalescer {
+
+	/** Time in milliseconds during which file events are collected before they get refreshed */
+	private static final long COALESCE_DELAY = 250;
+
+	private final IProject project;
+
+	private final IPath projectLocation;
+
+	private final Set<IPath> pendingLocations = new LinkedHashSet<IPath>();
+
+	private final AtomicLong requestedRefreshes = new AtomicLong();
+
+	private final AtomicLong performedRefreshes = new AtomicLong();
+
+	private final Job job;
+
+	public RefreshCoalescer(IProject project, IPath projectLocation) {
+		this.project = project;
+		this.projectLocation = projectLocation;
+		this.job = new Job("refresh project") {
+
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				refreshPendingLocations(monitor);
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.setRule(ResourcesPlugin.getWorkspace().getRuleFactory().buildRule());
+		job.setPriority(Job.INTERACTIVE);
+	}
+
+	/**
+	 * Adds the file or folder at the given location in the local file system to the next batch.
+	 */
+	public void add(IPath location) {
+		synchronized (pendingLocations) {
+			pendingLocations.add(location);
+		}
+		requestedRefreshes.incrementAndGet();
+		// has no effect while the job is waiting, so the first event opens the window
+		job.schedule(COALESCE_DELAY);
+	}
+
+	/**
+	 * Returns the number of files and folders that have been added.
+	 */
+	public long getRequestedRefreshCount() {
+		return requestedRefreshes.get();
+	}
+
+	/**
+	 * Returns the number of batched refreshes.
+	 */
+	public long getPerformedRefreshCount() {
+		return performedRefreshes.get();
+	}
+
+	/**
+	 * Returns the number of project refreshes saved by batching, compared to refreshing once per added file.
+	 */
+	public long getSavedRefreshCount() {
+		return Math.max(0, getRequestedRefreshCount() - getPerformedRefreshCount());
+	}
+
+	private void refreshPendingLocations(IProgressMonitor monitor) {
+		List<IPath> locations;
+		synchronized (pendingLocations) {
+			locations = new ArrayList<IPath>(pendingLocations);
+			pendingLocations.clear();
+		}
+		if (locations.isEmpty() || !project.isAccessible()) {
+			return;
+		}
+
+		final Map<IResource, Integer> refreshes = getResourcesToRefresh(locations);
+		IWorkspaceRunnable runnable = new IWorkspaceRunnable() {
+
+			public void run(IProgressMonitor monitor) throws CoreException {
+				for (Map.Entry<IResource, Integer> refresh : refreshes.entrySet()) {
+					refresh.getKey().refreshLocal(refresh.getValue(), monitor);
+				}
+			}
+		};
+		try {
+			ISchedulingRule rule = ResourcesPlugin.getWorkspace().getRuleFactory().buildRule();
+			ResourcesPlugin.getWorkspace().run(runnable, rule, IWorkspace.AVOID_UPDATE, monitor);
+			performedRefreshes.incrementAndGet();
+		}
+		catch (CoreException e) {
+			// We ignore this here
+		}
+	}
+
+	/**
+	 * Returns the resources to refresh for the given locations together with the depth to refresh them at, leaving
+	 * out resources that are covered by the refresh of one of their parents.
+	 */
+	private Map<IResource, Integer> getResourcesToRefresh(List<IPath> locations) {
+		Map<IResource, Integer> candidates = new HashMap<IResource, Integer>();
+		for (IPath location : locations) {
+			if (!projectLocation.isPrefixOf(location)) {
+				// e.g. linked resources
+				return Collections.<IResource, Integer> singletonMap(project, IResource.DEPTH_INFINITE);
+			}
+			IPath path = location.removeFirstSegments(projectLocation.segmentCount()).setDevice(null);
+			File file = location.toFile();
+			IResource resource = project.findMember(path);
+
+			if (resource != null && resource.getType() == IResource.FILE && file.isFile()) {
+				addCandidate(candidates, resource, IResource.DEPTH_ZERO);
+			}
+			else if (resource instanceof IContainer && file.isDirectory()) {
+				addCandidate(candidates, resource, IResource.DEPTH_ONE);
+			}
+			else {
+				// new or deleted, so refresh the nearest container the workspace knows about
+				IPath parentPath = path.removeLastSegments(1);
+				IResource parent = project.findMember(parentPath);
+				while (!(parent instanceof IContainer) && !parentPath.isEmpty()) {
+					parentPath = parentPath.removeLastSegments(1);
+					parent = project.findMember(parentPath);
+				}
+				if (parent == null) {
+					parent = project;
+				}
+				boolean isDirectParent = parent.getProjectRelativePath().segmentCount() == path.segmentCount() - 1;
+				addCandidate(candidates, parent, (isDirectParent ? IResource.DEPTH_ONE : IResource.DEPTH_INFINITE));
+			}
+		}
+
+		Map<IResource, Integer> refreshes = new HashMap<IResource, Integer>();
+		for (Map.Entry<IResource, Integer> candidate : candidates.entrySet()) {
+			if (!isCovered(candidate.getKey(), candidate.getValue(), candidates)) {
+				refreshes.put(candidate.getKey(), candidate.getValue());
+			}
+		}
+		return refreshes;
+	}
+
+	private static void addCandidate(Map<IResource, Integer> candidates, IResource resource, int depth) {
+		Integer existingDepth = candidates.get(resource);
+		if (existingDepth == null || existingDepth < depth) {
+			candidates.put(resource, depth);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if refreshing another candidate refreshes the given resource at the given depth too.
+	 */
+	private static boolean isCovered(IResource resource, int depth, Map<IResource, Integer> candidates) {
+		for (IContainer parent = resource.getParent(); parent != null; parent = parent.getParent()) {
+			Integer parentDepth = candidates.get(parent);
+			if (parentDepth != null
+					&& (parentDepth == IResource.DEPTH_INFINITE || (parentDepth == IResource.DEPTH_ONE
+							&& depth == IResource.DEPTH_ZERO && parent.equals(resource.getParent())))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.roo.test;
 
+import java.util.List;
+import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,6 +19,7 @@ import junit.framework.TestCase;
 
 import org.junit.Test;
 import org.springframework.ide.eclipse.roo.ui.internal.StyledTextAppender;
+import org.springframework.ide.eclipse.roo.ui.internal.StyledTextAppender.StyledSegment;
 
 
 /**
@@ -176,4 +179,49 @@ public class StyledTextAppenderTest extends TestCase {
 		assertFalse(matcher.matches());
 	}
 
+	@Test
+	public void testSegmentWithLinkAndAppendix() {
+		StyledTextAppender appender = new StyledTextAppender(null);
+		int level = Level.INFO.intValue();
+
+		StyledSegment segment = appender.createSegment("Updated ROOT/pom.xml [added dependencies]", level);
+		assertEquals("Updated ROOT/pom.xml [added dependencies]", segment.getText());
+		List<StyledSegment.Range> ranges = segment.getRanges();
+		assertEquals(3, ranges.size());
+		assertRange(ranges.get(0), 0, 8, level, null);
+		assertRange(ranges.get(1), 8, 12, null, "ROOT/pom.xml");
+		assertRange(ranges.get(2), 20, 21, level, null);
+	}
+
+	@Test
+	public void testSegmentWithPrompt() {
+		StyledTextAppender appender = new StyledTextAppender(null);
+
+		StyledSegment segment = appender.createSegment("project roo> " + StyledTextAppender.NL, null);
+		assertEquals("project roo> ", segment.getText());
+		List<StyledSegment.Range> ranges = segment.getRanges();
+		assertEquals(2, ranges.size());
+		assertRange(ranges.get(0), 0, 8, Level.WARNING.intValue(), null);
+		assertRange(ranges.get(1), 8, 5, null, null);
+	}
+
+	@Test
+	public void testRepeatedMessagesAreSkipped() {
+		StyledTextAppender appender = new StyledTextAppender(null);
+		int level = Level.INFO.intValue();
+
+		assertNotNull(appender.createSegment("Created SRC_MAIN_JAVA/com/foo/Bar.java", level));
+		assertNull(appender.createSegment("Created SRC_MAIN_JAVA/com/foo/Bar.java", level));
+		assertNotNull(appender.createSegment("roo> " + StyledTextAppender.NL, level));
+		assertEquals(StyledTextAppender.NL + "roo> ",
+				appender.createSegment("roo> " + StyledTextAppender.NL, level).getText());
+	}
+
+	private void assertRange(StyledSegment.Range range, int start, int length, Integer level, String link) {
+		assertEquals(start, range.getStart());
+		assertEquals(length, range.getLength());
+		assertEquals(level, range.getLevel());
+		assertEquals(link, range.getLink());
+	}
+
 }
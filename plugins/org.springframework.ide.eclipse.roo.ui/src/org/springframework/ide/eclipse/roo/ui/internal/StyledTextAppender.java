@@ -12,6 +12,8 @@
 package org.springframework.ide.eclipse.roo.ui.internal;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -47,25 +49,55 @@ public class StyledTextAppender {
 	// TODO e3.5 replace by SWT.UNDERLINE_LINK
 	protected static final int SWT_UNDERLINE_LINK = 4;
 
+	/** Maximum number of lines kept in the widget; older lines are dropped */
+	public static final int MAX_LINES = 5000;
+
+	/** Number of lines the widget may grow beyond {@link #MAX_LINES} before it gets trimmed */
+	private static final int TRIM_LINES = 500;
+
 	private final StyledText text;
 
 	private boolean messageReceived = false;
 
 	private String lastMessage = "";
 
-	private static final Object LOCK = new Object();
+	/** Segments waiting to be appended to the widget, guards {@link #lastMessage} and {@link #flushScheduled} too */
+	private final List<StyledSegment> pendingSegments = new ArrayList<StyledSegment>();
+
+	private boolean flushScheduled = false;
 
 	private boolean hasPresentation = false;
 
+	private final Runnable flushRunnable = new Runnable() {
+
+		public void run() {
+			flush();
+		}
+	};
+
 	public StyledTextAppender(final StyledText text) {
 		this.text = text;
 	}
 
+	/**
+	 * Returns <code>true</code> if the shell output, including the messages that are not yet shown, ends with the
+	 * Roo prompt. Needs to be called from the UI thread.
+	 */
 	public boolean hasPrompt() {
-		synchronized (LOCK) {
-			String msg = text.getText();
-			return msg.endsWith(ROO_PROMPT) || msg.endsWith(ROO_PROMPT + NL);
+		int tailLength = ROO_PROMPT.length() + NL.length();
+		StringBuilder tail = new StringBuilder();
+		synchronized (pendingSegments) {
+			for (int i = pendingSegments.size() - 1; i >= 0 && tail.length() < tailLength; i--) {
+				tail.insert(0, pendingSegments.get(i).getText());
+			}
+		}
+		if (tail.length() < tailLength && !text.isDisposed()) {
+			int charCount = text.getCharCount();
+			int length = Math.min(charCount, tailLength - tail.length());
+			tail.insert(0, text.getTextRange(charCount - length, length));
 		}
+		String msg = tail.toString();
+		return msg.endsWith(ROO_PROMPT) || msg.endsWith(ROO_PROMPT + NL);
 	}
 
 	private void initializePresentation() {
@@ -97,130 +129,183 @@ public class StyledTextAppender {
 		}
 	}
 
+	/**
+	 * Appends the given message to the widget. Can be called from any thread.
+	 * <p>
+	 * The message is matched and its styles are computed on the calling thread. Messages that arrive before the UI
+	 * thread gets to show them are appended together, with a single update of the widget.
+	 */
 	public void append(final String message, final Integer level) {
-		Display.getDefault().asyncExec(new Runnable() {
-
-			public void run() {
-				synchronized (LOCK) {
-
-					if (text.isDisposed() || message == null) {
-						return;
-					}
-
-					// Set initial font and colours and add listener to
-					// registries - only needs to be done once
-					if (!hasPresentation) {
-						initializePresentation();
-					}
-
-					// Clear out the text buffer before first Roo message will
-					// be presented
-					if (!messageReceived) {
-						messageReceived = true;
-						text.setText("");
-					}
-
-					boolean isPrompt = message.endsWith(ROO_PROMPT + NL);
-
-					// Check that we that don't display messages that have just
-					// been displayed
-					if (lastMessage.equals(message) && !isPrompt) {
-						return;
-					}
-
-					String trimmedMessage = message;
-					if (isPrompt) {
-						trimmedMessage = message.substring(0, message.length() - NL.length());
-						// If we previously had a prompt as well add a line
-						// break to move to next line
-						if (lastMessage.equals(message)) {
-							trimmedMessage = NL + trimmedMessage;
-						}
-					}
-
-					// Remove leading line break
-					if (trimmedMessage.startsWith(NL) && !lastMessage.endsWith(ROO_PROMPT + NL)) {
-						trimmedMessage = trimmedMessage.substring(1);
-					}
-
-					// Keep track of last message
-					lastMessage = message;
-
-					text.setRedraw(false);
-					int startIndex = text.getCharCount();
-					text.append(trimmedMessage);
-					int endIndex = text.getCharCount();
-
-					// Install hyperlink if message has the appropriate
-					// structure
-					Matcher matcher = getHyperlinkPattern().matcher(StringUtils.replace(trimmedMessage, NL, "").replace('\\',
-							'/'));
-          // If matches and some file has been created, updated or deleted,
-          // decorate the new file with Hyperlink style.
-					if (matcher.matches() && (trimmedMessage.startsWith("Created") 
-                        || trimmedMessage.startsWith("Updated")
-                        || trimmedMessage.startsWith("Deleted"))) {
-						String prefix = matcher.group(1);
-						String file = matcher.group(2);
-						String appendix = matcher.group(5);
-
-						StyleRange style = new StyleRange();
-						style.start = startIndex;
-						style.length = prefix.length();
-						style.foreground = RooUiColors.getColor(level);
-						text.setStyleRange(style);
-
-						StyleRange link = new StyleRange();
-						link.start = startIndex + prefix.length();
-						link.length = file.length();
-						link.underlineColor = null;
-						link.underlineStyle = SWT_UNDERLINE_LINK;
-						link.underline = true;
-						setData(link, file);
-						text.setStyleRange(link);
-						
-						if (appendix != null && appendix.length() > 0) {
-							StyleRange ending = new StyleRange();
-							ending.start = startIndex + prefix.length() + file.length();
-							ending.length = appendix.length();
-							ending.foreground = RooUiColors.getColor(level);
-							text.setStyleRange(style);
-						}
-					}
-					else {
-						// Get a different shell coloring for the roo shell
-						// prompt and path
-						if (!isPrompt && trimmedMessage.length() > 0) {
-							StyleRange style = new StyleRange();
-							style.start = startIndex;
-							style.length = endIndex - startIndex;
-							style.foreground = RooUiColors.getColor(level);
-							text.setStyleRange(style);
-						}
-						else {
-							int length = trimmedMessage.length() - ROO_PROMPT.length();
-							if (length > 0) {
-								StyleRange style = new StyleRange();
-								style.start = startIndex;
-								style.length = length;
-								style.foreground = RooUiColors.getColor(Level.WARNING.intValue());
-								text.setStyleRange(style);
-							}
-							StyleRange style = new StyleRange();
-							style.start = startIndex + length;
-							style.length = endIndex - (startIndex + length);
-							style.foreground = RooUiColors.getPromptColor();
-							text.setStyleRange(style);
-						}
-					}
-					text.setRedraw(true);
-					text.setTopIndex(text.getLineCount() - 1);
+		if (message == null || text == null) {
+			return;
+		}
+		synchronized (pendingSegments) {
+			StyledSegment segment = createSegment(message, level);
+			if (segment == null) {
+				return;
+			}
+			pendingSegments.add(segment);
+			if (flushScheduled) {
+				return;
+			}
+			flushScheduled = true;
+		}
+		Display.getDefault().asyncExec(flushRunnable);
+	}
+
+	/**
+	 * Returns the text and styles to append for the given message, or <code>null</code> if the message has just
+	 * been appended already. Keeps track of the last message, so messages need to be passed in the order they are
+	 * shown.
+	 */
+	public StyledSegment createSegment(String message, Integer level) {
+		synchronized (pendingSegments) {
+			boolean isPrompt = message.endsWith(ROO_PROMPT + NL);
+
+			// Check that we that don't display messages that have just
+			// been displayed
+			if (lastMessage.equals(message) && !isPrompt) {
+				return null;
+			}
+
+			String trimmedMessage = message;
+			if (isPrompt) {
+				trimmedMessage = message.substring(0, message.length() - NL.length());
+				// If we previously had a prompt as well add a line
+				// break to move to next line
+				if (lastMessage.equals(message)) {
+					trimmedMessage = NL + trimmedMessage;
 				}
 			}
 
-		});
+			// Remove leading line break
+			if (trimmedMessage.startsWith(NL) && !lastMessage.endsWith(ROO_PROMPT + NL)) {
+				trimmedMessage = trimmedMessage.substring(1);
+			}
+
+			// Keep track of last message
+			lastMessage = message;
+
+			StyledSegment segment = new StyledSegment(trimmedMessage);
+
+			// Install hyperlink if message has the appropriate
+			// structure
+			Matcher matcher = getHyperlinkPattern().matcher(StringUtils.replace(trimmedMessage, NL, "").replace('\\',
+					'/'));
+			// If matches and some file has been created, updated or deleted,
+			// decorate the new file with Hyperlink style.
+			if (matcher.matches() && (trimmedMessage.startsWith("Created")
+					|| trimmedMessage.startsWith("Updated")
+					|| trimmedMessage.startsWith("Deleted"))) {
+				String prefix = matcher.group(1);
+				String file = matcher.group(2);
+				String appendix = matcher.group(5);
+
+				segment.addRange(0, prefix.length(), level, null);
+				segment.addRange(prefix.length(), file.length(), null, file);
+				if (appendix != null && appendix.length() > 0) {
+					segment.addRange(prefix.length() + file.length(), appendix.length(), level, null);
+				}
+			}
+			else {
+				// Get a different shell coloring for the roo shell
+				// prompt and path
+				if (!isPrompt && trimmedMessage.length() > 0) {
+					segment.addRange(0, trimmedMessage.length(), level, null);
+				}
+				else {
+					int length = Math.max(0, trimmedMessage.length() - ROO_PROMPT.length());
+					segment.addRange(0, length, Level.WARNING.intValue(), null);
+					segment.addRange(length, trimmedMessage.length() - length, null, null);
+				}
+			}
+			return segment;
+		}
 	}
-	
+
+	/**
+	 * Appends all pending segments to the widget at once and drops the oldest lines if the widget holds more than
+	 * {@link #MAX_LINES}. Runs on the UI thread.
+	 */
+	private void flush() {
+		List<StyledSegment> segments;
+		synchronized (pendingSegments) {
+			segments = new ArrayList<StyledSegment>(pendingSegments);
+			pendingSegments.clear();
+			flushScheduled = false;
+		}
+		if (text.isDisposed() || segments.isEmpty()) {
+			return;
+		}
+
+		// Set initial font and colours and add listener to
+		// registries - only needs to be done once
+		if (!hasPresentation) {
+			initializePresentation();
+		}
+
+		// Clear out the text buffer before first Roo message will
+		// be presented
+		if (!messageReceived) {
+			messageReceived = true;
+			text.setText("");
+		}
+
+		StringBuilder builder = new StringBuilder();
+		List<StyleRange> styles = new ArrayList<StyleRange>();
+		int startIndex = text.getCharCount();
+		for (StyledSegment segment : segments) {
+			int segmentStart = startIndex + builder.length();
+			for (StyledSegment.Range range : segment.getRanges()) {
+				styles.add(createStyleRange(segmentStart, range));
+			}
+			builder.append(segment.getText());
+		}
+
+		text.setRedraw(false);
+		try {
+			text.append(builder.toString());
+			if (!styles.isEmpty()) {
+				text.replaceStyleRanges(startIndex, builder.length(), styles.toArray(new StyleRange[styles.size()]));
+			}
+			trimLines();
+		}
+		finally {
+			text.setRedraw(true);
+		}
+		text.setTopIndex(text.getLineCount() - 1);
+	}
+
+	private StyleRange createStyleRange(int offset, StyledSegment.Range range) {
+		StyleRange style = new StyleRange();
+		style.start = offset + range.getStart();
+		style.length = range.getLength();
+		if (range.getLink() != null) {
+			style.underlineColor = null;
+			style.underlineStyle = SWT_UNDERLINE_LINK;
+			style.underline = true;
+			setData(style, range.getLink());
+		}
+		else if (range.getLevel() != null) {
+			style.foreground = RooUiColors.getColor(range.getLevel());
+		}
+		else {
+			style.foreground = RooUiColors.getPromptColor();
+		}
+		return style;
+	}
+
+	/**
+	 * Drops the oldest lines once the widget holds {@link #TRIM_LINES} more lines than {@link #MAX_LINES}, so that
+	 * the text doesn't need to be shifted on every append.
+	 */
+	private void trimLines() {
+		int lineCount = text.getLineCount();
+		if (lineCount > MAX_LINES + TRIM_LINES) {
+			text.replaceTextRange(0, text.getOffsetAtLine(lineCount - MAX_LINES), "");
+		}
+	}
+
 	public Pattern getHyperlinkPattern() {
 		return FILE_PATTERN;
 	}
@@ -269,4 +354,71 @@ public class StyledTextAppender {
 
 	};
 
+	/**
+	 * Text to append to the widget together with its styles, relative to the start of the text.
+	 */
+	public static class StyledSegment {
+
+		private final String text;
+
+		private final List<Range> ranges = new ArrayList<Range>(3);
+
+		StyledSegment(String text) {
+			this.text = text;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public List<Range> getRanges() {
+			return ranges;
+		}
+
+		/**
+		 * Adds a range colored for the given level, a link to the given file, or the prompt if both are
+		 * <code>null</code>. Ranges outside of the text are cut off.
+		 */
+		void addRange(int start, int length, Integer level, String link) {
+			int end = Math.min(text.length(), start + length);
+			if (start >= 0 && end > start) {
+				ranges.add(new Range(start, end - start, level, link));
+			}
+		}
+
+		public static class Range {
+
+			private final int start;
+
+			private final int length;
+
+			private final Integer level;
+
+			private final String link;
+
+			Range(int start, int length, Integer level, String link) {
+				this.start = start;
+				this.length = length;
+				this.level = level;
+				this.link = link;
+			}
+
+			public int getStart() {
+				return start;
+			}
+
+			public int getLength() {
+				return length;
+			}
+
+			public Integer getLevel() {
+				return level;
+			}
+
+			public String getLink() {
+				return link;
+			}
+		}
+	}
+
 }
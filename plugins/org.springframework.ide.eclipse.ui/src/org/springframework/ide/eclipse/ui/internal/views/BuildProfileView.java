@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.ui.internal.views;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.DateFormat;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.action.IAction;
+import org.eclipse.jface.action.IToolBarManager;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ISelectionChangedListener;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.SelectionChangedEvent;
+import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.SashForm;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.ui.part.ViewPart;
+import org.springframework.ide.eclipse.core.internal.project.BuildProfile;
+import org.springframework.ide.eclipse.core.internal.project.BuildProfiler;
+import org.springframework.ide.eclipse.ui.SpringUIPlugin;
+
+/**
+ * View that shows the {@link BuildProfile}s of the last builds of Spring projects: the builds in the upper table and
+ * the time and memory spent by the builders, validators, resources and validation rules of the selected build in the
+ * lower table.
+ * @author agent
+ * @since 3.9.8
+ */
+public class BuildProfileView extends ViewPart {
+
+	public static final String VIEW_ID = SpringUIPlugin.PLUGIN_ID + ".views.buildProfile";
+
+	private static final String[] BUILD_COLUMNS = { "Started", "Project", "Kind", "Time (ms)" };
+
+	private static final String[] ENTRY_COLUMNS = { "Kind", "Name", "Resource", "Invocations", "Time (ms)",
+			"CPU (ms)", "Allocated (KB)" };
+
+	private TableViewer buildsViewer;
+
+	private TableViewer entriesViewer;
+
+	private final BuildProfiler.IBuildProfileListener listener = new BuildProfiler.IBuildProfileListener() {
+
+		public void profilesChanged() {
+			if (buildsViewer != null && !buildsViewer.getControl().isDisposed()) {
+				buildsViewer.getControl().getDisplay().asyncExec(new Runnable() {
+
+					public void run() {
+						refresh();
+					}
+				});
+			}
+		}
+	};
+
+	@Override
+	public void createPartControl(Composite parent) {
+		SashForm sash = new SashForm(parent, SWT.VERTICAL);
+
+		buildsViewer = createTable(sash, BUILD_COLUMNS, new int[] { 150, 200, 100, 80 });
+		buildsViewer.setLabelProvider(new BuildLabelProvider());
+		buildsViewer.addSelectionChangedListener(new ISelectionChangedListener() {
+
+			public void selectionChanged(SelectionChangedEvent event) {
+				Object selected = ((IStructuredSelection) event.getSelection()).getFirstElement();
+				entriesViewer.setInput(selected instanceof BuildProfile ? ((BuildProfile) selected).getEntries()
+						.toArray() : new Object[0]);
+			}
+		});
+
+		entriesViewer = createTable(sash, ENTRY_COLUMNS, new int[] { 80, 300, 250, 80, 80, 80, 100 });
+		entriesViewer.setLabelProvider(new EntryLabelProvider());
+		final EntryComparator comparator = new EntryComparator();
+		entriesViewer.setComparator(comparator);
+		TableColumn[] columns = entriesViewer.getTable().getColumns();
+		for (int i = 0; i < columns.length; i++) {
+			final int column = i;
+			columns[i].addSelectionListener(new SelectionAdapter() {
+
+				@Override
+				public void widgetSelected(SelectionEvent e) {
+					comparator.setColumn(column);
+					entriesViewer.refresh();
+				}
+			});
+		}
+
+		sash.setWeights(new int[] { 1, 3 });
+		contributeToActionBars();
+
+		BuildProfiler.addListener(listener);
+		refresh();
+	}
+
+	@Override
+	public void dispose() {
+		BuildProfiler.removeListener(listener);
+		super.dispose();
+	}
+
+	@Override
+	public void setFocus() {
+		buildsViewer.getControl().setFocus();
+	}
+
+	private void refresh() {
+		if (buildsViewer.getControl().isDisposed()) {
+			return;
+		}
+		Object selected = ((IStructuredSelection) buildsViewer.getSelection()).getFirstElement();
+		List<BuildProfile> profiles = BuildProfiler.getProfiles();
+		buildsViewer.setInput(profiles.toArray());
+		if (selected == null || !profiles.contains(selected)) {
+			selected = (profiles.isEmpty() ? null : profiles.get(0));
+		}
+		buildsViewer.setSelection(selected != null ? new StructuredSelection(selected) : StructuredSelection.EMPTY);
+	}
+
+	private TableViewer createTable(Composite parent, String[] columnNames, int[] widths) {
+		TableViewer viewer = new TableViewer(parent, SWT.SINGLE | SWT.FULL_SELECTION | SWT.H_SCROLL | SWT.V_SCROLL);
+		Table table = viewer.getTable();
+		table.setHeaderVisible(true);
+		table.setLinesVisible(true);
+		for (int i = 0; i < columnNames.length; i++) {
+			TableColumn column = new TableColumn(table, (i < 3 ? SWT.LEFT : SWT.RIGHT));
+			column.setText(columnNames[i]);
+			column.setWidth(widths[i]);
+		}
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+		return viewer;
+	}
+
+	private void contributeToActionBars() {
+		IToolBarManager toolBar = getViewSite().getActionBars().getToolBarManager();
+
+		final Action recordAction = new Action("Record Build Profiles", IAction.AS_CHECK_BOX) {
+
+			@Override
+			public void run() {
+				BuildProfiler.setEnabled(isChecked());
+			}
+		};
+		recordAction.setChecked(BuildProfiler.isEnabled());
+		toolBar.add(recordAction);
+
+		toolBar.add(new Action("Export as JSON...") {
+
+			@Override
+			public void run() {
+				exportProfiles();
+			}
+		});
+
+		toolBar.add(new Action("Clear") {
+
+			@Override
+			public void run() {
+				BuildProfiler.clear();
+			}
+		});
+	}
+
+	private void exportProfiles() {
+		FileDialog dialog = new FileDialog(getSite().getShell(), SWT.SAVE);
+		dialog.setFilterExtensions(new String[] { "*.json" });
+		dialog.setFileName("spring-build-profile.json");
+		dialog.setOverwrite(true);
+		String path = dialog.open();
+		if (path == null) {
+			return;
+		}
+		OutputStream out = null;
+		try {
+			out = new FileOutputStream(path);
+			out.write(BuildProfiler.toJson(BuildProfiler.getProfiles()).getBytes("UTF-8"));
+		}
+		catch (IOException e) {
+			SpringUIPlugin.log(e);
+			MessageDialog.openError(getSite().getShell(), "Export Build Profiles", "Could not write '" + path + "': "
+					+ e.getMessage());
+		}
+		finally {
+			if (out != null) {
+				try {
+					out.close();
+				}
+				catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	private static String toMillis(long nanos) {
+		return (nanos < 0 ? "" : Long.toString(nanos / 1000000));
+	}
+
+	private static class BuildLabelProvider extends LabelProvider implements ITableLabelProvider {
+
+		public Image getColumnImage(Object element, int columnIndex) {
+			return null;
+		}
+
+		public String getColumnText(Object element, int columnIndex) {
+			BuildProfile profile = (BuildProfile) element;
+			switch (columnIndex) {
+			case 0:
+				return DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.MEDIUM).format(
+						new Date(profile.getStartTime()));
+			case 1:
+				return profile.getProjectName();
+			case 2:
+				return BuildProfiler.getBuildKindName(profile.getBuildKind());
+			default:
+				return toMillis(profile.getWallNanos());
+			}
+		}
+	}
+
+	private static class EntryLabelProvider extends LabelProvider implements ITableLabelProvider {
+
+		public Image getColumnImage(Object element, int columnIndex) {
+			return null;
+		}
+
+		public String getColumnText(Object element, int columnIndex) {
+			BuildProfile.Entry entry = (BuildProfile.Entry) element;
+			switch (columnIndex) {
+			case 0:
+				return entry.getKind().name();
+			case 1:
+				return entry.getName();
+			case 2:
+				return (entry.getResourcePath() != null ? entry.getResourcePath() : "");
+			case 3:
+				return Integer.toString(entry.getInvocations());
+			case 4:
+				return toMillis(entry.getWallNanos());
+			case 5:
+				return toMillis(entry.getCpuNanos());
+			default:
+				return Long.toString(entry.getAllocatedBytes() / 1024);
+			}
+		}
+	}
+
+	/**
+	 * Sorts text columns ascending and numeric columns descending, by time if no column has been selected.
+	 */
+	private static class EntryComparator extends ViewerComparator {
+
+		private int column = 4;
+
+		public void setColumn(int column) {
+			this.column = column;
+		}
+
+		@Override
+		public int compare(Viewer viewer, Object e1, Object e2) {
+			BuildProfile.Entry entry1 = (BuildProfile.Entry) e1;
+			BuildProfile.Entry entry2 = (BuildProfile.Entry) e2;
+			switch (column) {
+			case 0:
+				return entry1.getKind().compareTo(entry2.getKind());
+			case 1:
+				return compareText(entry1.getName(), entry2.getName());
+			case 2:
+				return compareText(entry1.getResourcePath(), entry2.getResourcePath());
+			case 3:
+				return compareNumbers(entry2.getInvocations(), entry1.getInvocations());
+			case 5:
+				return compareNumbers(entry2.getCpuNanos(), entry1.getCpuNanos());
+			case 6:
+				return compareNumbers(entry2.getAllocatedBytes(), entry1.getAllocatedBytes());
+			default:
+				return compareNumbers(entry2.getWallNanos(), entry1.getWallNanos());
+			}
+		}
+
+		private static int compareText(String text1, String text2) {
+			return (text1 != null ? text1 : "").compareTo(text2 != null ? text2 : "");
+		}
+
+		private static int compareNumbers(long number1, long number2) {
+			return (number1 < number2 ? -1 : (number1 == number2 ? 0 : 1));
+		}
+	}
+
+}
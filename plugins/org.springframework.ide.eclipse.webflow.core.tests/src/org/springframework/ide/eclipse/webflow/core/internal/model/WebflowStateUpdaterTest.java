@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.webflow.core.internal.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.wst.sse.core.StructuredModelManager;
+import org.eclipse.wst.xml.core.internal.provisional.contenttype.ContentTypeIdForXML;
+import org.eclipse.wst.xml.core.internal.provisional.document.IDOMModel;
+import org.eclipse.wst.xml.core.internal.provisional.document.IDOMNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.webflow.core.model.IState;
+import org.springframework.ide.eclipse.webflow.core.model.ITransition;
+import org.springframework.ide.eclipse.webflow.core.model.ITransitionableFrom;
+import org.springframework.ide.eclipse.webflow.core.model.ITransitionableTo;
+import org.springframework.ide.eclipse.webflow.core.model.IWebflowModelElement;
+
+/**
+ * Test case for the {@link WebflowStateUpdater}.
+ * @author agent
+ * @since 3.9.8
+ */
+@SuppressWarnings("restriction")
+public class WebflowStateUpdaterTest {
+
+	private static final String VIEW = "<view-state id=\"view\" view=\"page\">"
+			+ "<transition on=\"next\" to=\"action\"/></view-state>";
+
+	private static final String ACTION = "<action-state id=\"action\"><transition on=\"done\" to=\"end\"/></action-state>";
+
+	private static final String END = "<end-state id=\"end\"/>";
+
+	private WebflowState flow;
+
+	private EventRecorder events;
+
+	@Before
+	public void setUp() {
+		flow = new WebflowState(null);
+		flow.init(parse("<var name=\"order\" class=\"Order\"/>", VIEW, ACTION, END), null);
+		events = new EventRecorder();
+		events.listenTo(flow);
+	}
+
+	@Test
+	public void testUnchangedFlow() {
+		List<IState> states = new ArrayList<IState>(flow.getStates());
+		assertTrue(update("\n\t<var name=\"order\" class=\"Order\"/>\n", VIEW, "\n", ACTION, END));
+		assertEquals(states, flow.getStates());
+		assertTrue(events.received.isEmpty());
+	}
+
+	@Test
+	public void testChangedState() {
+		IState view = state("view");
+		IState action = state("action");
+		IDOMNode actionNode = action.getNode();
+
+		assertTrue(update("<var name=\"order\" class=\"Order\"/>", "<view-state id=\"view\" view=\"other\">"
+				+ "<transition on=\"next\" to=\"action\"/></view-state>", ACTION, END));
+
+		// the changed state is re-initialized in place, the others keep their nodes
+		assertSame(view, state("view"));
+		assertEquals("other", ((ViewState) view).getView());
+		assertSame(action, state("action"));
+		assertSame(actionNode, action.getNode());
+		assertEquals(3, flow.getStates().size());
+
+		assertTrue(events.get(flow, IWebflowModelElement.ADD_CHILDREN).isEmpty());
+		assertTrue(events.get(flow, IWebflowModelElement.REMOVE_CHILDREN).isEmpty());
+		assertEquals(1, events.get(view, IWebflowModelElement.PROPS).size());
+		assertEquals(1, events.get(view, IWebflowModelElement.MOVE_CHILDREN).size());
+		assertTrue(events.get(view, IWebflowModelElement.ADD_CHILDREN).isEmpty());
+
+		// the re-created transition replaces the old one at its target
+		ITransition transition = outgoing(view).get(0);
+		assertSame(action, transition.getToState());
+		assertEquals(1, ((ITransitionableTo) action).getInputTransitions().size());
+		assertTrue(((ITransitionableTo) action).getInputTransitions().contains(transition));
+	}
+
+	@Test
+	public void testChangedTransitionTarget() {
+		IState action = state("action");
+		IState end = state("end");
+		ITransition old = outgoing(action).get(0);
+		assertTrue(((ITransitionableTo) end).getInputTransitions().contains(old));
+
+		assertTrue(update("<var name=\"order\" class=\"Order\"/>", VIEW,
+				"<action-state id=\"action\"><transition on=\"done\" to=\"view\"/></action-state>", END));
+
+		ITransition transition = outgoing(action).get(0);
+		assertNotSame(old, transition);
+		assertSame(state("view"), transition.getToState());
+		assertTrue(((ITransitionableTo) state("view")).getInputTransitions().contains(transition));
+		assertTrue(((ITransitionableTo) end).getInputTransitions().isEmpty());
+	}
+
+	@Test
+	public void testAddedState() {
+		assertTrue(update("<var name=\"order\" class=\"Order\"/>", VIEW, ACTION, END, "<end-state id=\"cancel\"/>"));
+
+		IState cancel = state("cancel");
+		assertTrue(cancel instanceof EndState);
+		assertEquals(4, flow.getStates().size());
+		assertSame(cancel, flow.getStates().get(3));
+		assertSame(flow.getNode(), cancel.getNode().getParentNode());
+		assertEquals(1, events.get(flow, IWebflowModelElement.ADD_CHILDREN).size());
+		assertSame(cancel, events.get(flow, IWebflowModelElement.ADD_CHILDREN).get(0).getNewValue());
+	}
+
+	@Test
+	public void testRemovedState() {
+		IState action = state("action");
+		IState end = state("end");
+
+		assertTrue(update("<var name=\"order\" class=\"Order\"/>", VIEW, ACTION));
+
+		assertEquals(2, flow.getStates().size());
+		assertNull(state("end"));
+		assertSame(action, state("action"));
+		assertEquals(1, events.get(flow, IWebflowModelElement.REMOVE_CHILDREN).size());
+		assertSame(end, events.get(flow, IWebflowModelElement.REMOVE_CHILDREN).get(0).getNewValue());
+
+		// the transition to the removed state is left dangling and announced
+		ITransition transition = outgoing(action).get(0);
+		assertNull(transition.getToState());
+		assertEquals(1, events.get(action, IWebflowModelElement.OUTPUTS).size());
+	}
+
+	@Test
+	public void testTransitionToAddedState() {
+		flow.init(parse(VIEW, "<action-state id=\"action\"><transition on=\"done\" to=\"finish\"/></action-state>"), null);
+		IState action = state("action");
+		events.listenTo(flow);
+		ITransition transition = outgoing(action).get(0);
+		assertNull(transition.getToState());
+
+		assertTrue(update(VIEW, "<action-state id=\"action\"><transition on=\"done\" to=\"finish\"/></action-state>",
+				"<end-state id=\"finish\"/>"));
+
+		IState finish = state("finish");
+		assertSame(action, state("action"));
+		assertSame(transition, outgoing(action).get(0));
+		assertSame(finish, transition.getToState());
+		assertTrue(((ITransitionableTo) finish).getInputTransitions().contains(transition));
+		assertEquals(1, events.get(action, IWebflowModelElement.OUTPUTS).size());
+	}
+
+	@Test
+	public void testReorderedStatesFallBack() {
+		IDOMNode node = flow.getNode();
+		List<IState> states = new ArrayList<IState>(flow.getStates());
+
+		assertFalse(update("<var name=\"order\" class=\"Order\"/>", ACTION, VIEW, END));
+
+		assertSame(node, flow.getNode());
+		assertEquals(states, flow.getStates());
+		assertTrue(events.received.isEmpty());
+	}
+
+	@Test
+	public void testChangedNonStateElementFallsBack() {
+		List<IState> states = new ArrayList<IState>(flow.getStates());
+
+		assertFalse(update("<var name=\"order\" class=\"OtherOrder\"/>", VIEW, ACTION, "<end-state id=\"finish\"/>"));
+
+		assertEquals(states, flow.getStates());
+		assertEquals(4, flow.getNode().getChildNodes().getLength());
+		assertTrue(events.received.isEmpty());
+	}
+
+	private boolean update(String... elements) {
+		return WebflowStateUpdater.update(flow, parse(elements));
+	}
+
+	private IState state(String id) {
+		return WebflowModelXmlUtils.getStateById(flow, id);
+	}
+
+	private static List<ITransition> outgoing(IState state) {
+		return ((ITransitionableFrom) state).getOutputTransitions();
+	}
+
+	/**
+	 * Returns the root element of a flow definition with the given elements.
+	 */
+	private static IDOMNode parse(String... elements) {
+		StringBuilder xml = new StringBuilder("<flow xmlns=\"http://www.springframework.org/schema/webflow\">");
+		for (String element : elements) {
+			xml.append(element);
+		}
+		xml.append("</flow>");
+		IDOMModel model = (IDOMModel) StructuredModelManager.getModelManager().createUnManagedStructuredModelFor(
+				ContentTypeIdForXML.ContentTypeID_XML);
+		model.getStructuredDocument().set(xml.toString());
+		return (IDOMNode) model.getDocument().getDocumentElement();
+	}
+
+	/**
+	 * Records the events of a flow and its states.
+	 */
+	private static class EventRecorder implements PropertyChangeListener {
+
+		private final List<PropertyChangeEvent> received = new ArrayList<PropertyChangeEvent>();
+
+		public void listenTo(WebflowState flow) {
+			received.clear();
+			flow.removePropertyChangeListener(this);
+			flow.addPropertyChangeListener(this);
+			for (IState state : flow.getStates()) {
+				((WebflowModelElement) state).addPropertyChangeListener(this);
+			}
+		}
+
+		public void propertyChange(PropertyChangeEvent event) {
+			received.add(event);
+		}
+
+		public List<PropertyChangeEvent> get(Object source, String property) {
+			List<PropertyChangeEvent> events = new ArrayList<PropertyChangeEvent>();
+			for (PropertyChangeEvent event : received) {
+				if (event.getSource() == source && property.equals(event.getPropertyName())) {
+					events.add(event);
+				}
+			}
+			return events;
+		}
+	}
+
+}
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.webflow.core.tests;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowStateUpdaterTest;
+
+/**
+ * Test suite for the <code>webflow.core</code> plugin.
+ * @author agent
+ * @since 3.9.8
+ */
+@RunWith(Suite.class)
+@SuiteClasses({
+	WebflowStateUpdaterTest.class
+})
+public class AllWebflowCoreTests {
+	// goofy junit4, no class body needed
+}
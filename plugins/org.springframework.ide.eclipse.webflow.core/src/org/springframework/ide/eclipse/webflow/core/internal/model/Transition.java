@@ -57,6 +57,13 @@ public abstract class Transition extends AbstractModelElement implements
 		return targetState;
 	}
 
+	/**
+	 * Drops the resolved target state, so that it gets looked up again by id.
+	 */
+	void resetToState() {
+		this.targetState = null;
+	}
+
 	/**
 	 * Sets the to state.
 	 * @param state the to state
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.webflow.core.internal.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
+import org.springframework.ide.eclipse.beans.core.model.IBean;
+import org.springframework.ide.eclipse.core.java.IMethodFilter;
+import org.springframework.ide.eclipse.core.java.Introspector;
+import org.springframework.ide.eclipse.core.java.MemberTableCache;
+import org.springframework.ide.eclipse.core.java.MemberTableCache.MemberTable;
+import org.springframework.ide.eclipse.core.model.IModelChangeListener;
+import org.springframework.ide.eclipse.core.model.IModelElement;
+import org.springframework.ide.eclipse.core.model.ModelChangeEvent;
+import org.springframework.ide.eclipse.webflow.core.model.IWebflowConfig;
+
+/**
+ * Index of the beans that are visible to an {@link IWebflowConfig}, shared by the validation rules and the editors
+ * through {@link WebflowModelUtils}.
+ * <p>
+ * An index holds the beans of the linked beans configs, the results of bean lookups by name and the action methods
+ * of the bean classes. All indexes are dropped when the beans model changes, and an index is rebuilt when the linked
+ * beans configs of its webflow config change. The action methods of a type are kept as long as the
+ * {@link MemberTableCache} returns the same member table for it, which is the case until types change.
+ * @author agent
+ * @since 3.9.8
+ */
+public class WebflowBeanIndex {
+
+	private static final Map<IWebflowConfig, WebflowBeanIndex> INDEXES = new WeakHashMap<IWebflowConfig, WebflowBeanIndex>();
+
+	/** Stands for bean names that can't be resolved in the cached lookups */
+	private static final Object NO_BEAN = new Object();
+
+	/** Incremented on every invalidation, so that indexes built from an outdated beans model are not cached */
+	private static final AtomicInteger GENERATION = new AtomicInteger();
+
+	private static IModelChangeListener changeListener;
+
+	private final Set<IModelElement> beansConfigs;
+
+	private final Set<IBean> beans;
+
+	private final Map<String, IBean> beansByName;
+
+	private final Map<String, Object> referencedBeans = new HashMap<String, Object>();
+
+	private final Map<String, ActionMethods> actionMethods = new HashMap<String, ActionMethods>();
+
+	/**
+	 * Returns the index of the given config.
+	 */
+	public static WebflowBeanIndex getIndex(IWebflowConfig config) {
+		Set<IModelElement> beansConfigs = config.getBeansConfigs();
+		synchronized (INDEXES) {
+			installListener();
+			WebflowBeanIndex index = INDEXES.get(config);
+			if (index != null && index.beansConfigs.equals(beansConfigs)) {
+				return index;
+			}
+		}
+
+		int generation = GENERATION.get();
+		WebflowBeanIndex index = new WebflowBeanIndex(beansConfigs);
+		synchronized (INDEXES) {
+			if (generation == GENERATION.get()) {
+				INDEXES.put(config, index);
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Removes all indexes.
+	 */
+	public static void clear() {
+		synchronized (INDEXES) {
+			GENERATION.incrementAndGet();
+			INDEXES.clear();
+		}
+	}
+
+	private static synchronized void installListener() {
+		if (changeListener == null) {
+			changeListener = new IndexClearingModelChangeListener();
+			BeansCorePlugin.getModel().addChangeListener(changeListener);
+		}
+	}
+
+	private WebflowBeanIndex(Set<IModelElement> beansConfigs) {
+		this.beansConfigs = beansConfigs;
+		Set<IBean> beans = new HashSet<IBean>();
+		for (IModelElement bc : beansConfigs) {
+			beans.addAll(BeansModelUtils.getBeans(bc, null));
+		}
+		this.beans = Collections.unmodifiableSet(beans);
+		this.beansByName = new HashMap<String, IBean>();
+		for (IBean bean : beans) {
+			if (!beansByName.containsKey(bean.getElementName())) {
+				beansByName.put(bean.getElementName(), bean);
+			}
+		}
+	}
+
+	/**
+	 * Returns all beans of the linked beans configs.
+	 */
+	public Set<IBean> getBeans() {
+		return beans;
+	}
+
+	/**
+	 * Returns the bean with the given name or <code>null</code>. Aliases are not taken into account.
+	 */
+	public IBean getBean(String beanName) {
+		return beansByName.get(beanName);
+	}
+
+	/**
+	 * Returns <code>true</code> if one of the linked beans configs defines a bean or an alias with the given name.
+	 */
+	public synchronized boolean isReferencedBeanFound(String beanName) {
+		Object bean = referencedBeans.get(beanName);
+		if (bean == null) {
+			bean = NO_BEAN;
+			for (IModelElement beansConfig : beansConfigs) {
+				IBean configBean = BeansModelUtils.getBean(beanName, beansConfig);
+				if (configBean != null) {
+					bean = configBean;
+					break;
+				}
+			}
+			referencedBeans.put(beanName, bean);
+		}
+		return bean != NO_BEAN;
+	}
+
+	/**
+	 * Returns the methods of the given type that match the given filter. The methods are cached under the given
+	 * filter name, so equal filters need to be passed under the same name.
+	 */
+	public Set<IMethod> getActionMethods(IType type, String filterName, IMethodFilter filter) {
+		MemberTable table;
+		try {
+			table = MemberTableCache.getMemberTable(type);
+		}
+		catch (JavaModelException e) {
+			return Introspector.findAllMethods(type, filter);
+		}
+
+		String key = filterName + ':' + type.getHandleIdentifier();
+		synchronized (this) {
+			ActionMethods methods = actionMethods.get(key);
+			if (methods != null && methods.table == table) {
+				return methods.methods;
+			}
+		}
+		Set<IMethod> methods = Collections.unmodifiableSet(Introspector.findAllMethods(type, filter));
+		synchronized (this) {
+			actionMethods.put(key, new ActionMethods(table, methods));
+		}
+		return methods;
+	}
+
+	private static class ActionMethods {
+
+		/** The member table the methods have been computed from */
+		private final MemberTable table;
+
+		private final Set<IMethod> methods;
+
+		public ActionMethods(MemberTable table, Set<IMethod> methods) {
+			this.table = table;
+			this.methods = methods;
+		}
+	}
+
+	/**
+	 * Drops all indexes when the beans model changes.
+	 */
+	private static class IndexClearingModelChangeListener implements IModelChangeListener {
+
+		public void elementChanged(ModelChangeEvent event) {
+			clear();
+		}
+	}
+
+}
@@ -30,9 +30,7 @@ import org.springframework.ide.eclipse.beans.core.model.IBean;
 import org.springframework.ide.eclipse.beans.ui.editor.util.BeansEditorUtils;
 import org.springframework.ide.eclipse.core.java.FlagsMethodFilter;
 import org.springframework.ide.eclipse.core.java.IMethodFilter;
-import org.springframework.ide.eclipse.core.java.Introspector;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
-import org.springframework.ide.eclipse.core.model.IModelElement;
 import org.springframework.ide.eclipse.webflow.core.Activator;
 import org.springframework.ide.eclipse.webflow.core.model.IInlineFlowState;
 import org.springframework.ide.eclipse.webflow.core.model.IState;
@@ -70,14 +68,10 @@ public class WebflowModelUtils {
 	}
 	
 	public static IType getActionType(IWebflowConfig config, IDOMNode node) {
-		Set<IBean> beans = getBeans(config);
+		IBean bean = WebflowBeanIndex.getIndex(config).getBean(BeansEditorUtils.getAttribute(node, "bean"));
 		String className = null;
-		for (IBean bean : beans) {
-			if (bean.getElementName().equals(
-					BeansEditorUtils.getAttribute(node, "bean"))) {
-				className = BeansModelUtils.getBeanClass(bean, null);
-				break;
-			}
+		if (bean != null) {
+			className = BeansModelUtils.getBeanClass(bean, null);
 		}
 
 		return JdtUtils.getJavaType(config.getProject().getProject(), className);
@@ -88,26 +82,21 @@ public class WebflowModelUtils {
 		IType type = getActionType(config, node);
 		if (type != null) {
 			if ("bean-action".equals(node.getLocalName())) {
-				return Introspector.findAllMethods(type, getBeanActionMethodFilter());
+				return WebflowBeanIndex.getIndex(config).getActionMethods(type, "bean-action",
+						getBeanActionMethodFilter());
 			}
 			else {
-				return Introspector.findAllMethods(type, getBeanMethodFilter());
+				return WebflowBeanIndex.getIndex(config).getActionMethods(type, "action", getBeanMethodFilter());
 			}
 		}
 		return NO_METHOD_MATCHES;
 	}
 
+	/**
+	 * Returns the beans of the beans configs linked to the given config. The returned set must not be modified.
+	 */
 	public static Set<IBean> getBeans(IWebflowConfig config) {
-		Set<IModelElement> beansConfigs = config.getBeansConfigs();
-		Set<IBean> beans = new HashSet<IBean>();
-
-		if (beansConfigs != null) {
-			for (IModelElement bc : beansConfigs) {
-				beans.addAll(BeansModelUtils.getBeans(bc, null));
-			}
-		}
-
-		return beans;
+		return WebflowBeanIndex.getIndex(config).getBeans();
 	}
 
 	public static List<IFile> getFiles(IProject project) {
@@ -162,13 +151,7 @@ public class WebflowModelUtils {
 
 	public static boolean isReferencedBeanFound(IWebflowConfig config,
 			String beanName) {
-		Set<IModelElement> beansConfigs = config.getBeansConfigs();
-		for (IModelElement beansConfig : beansConfigs) {
-			if (BeansModelUtils.getBean(beanName, beansConfig) != null) {
-				return true;
-			}
-		}
-		return false;
+		return WebflowBeanIndex.getIndex(config).isReferencedBeanFound(beanName);
 	}
 
 	public static IWebflowState getWebflowState(IWebflowModelElement element,
@@ -349,14 +349,25 @@ public class WebflowModelXmlUtils {
 			int line = root.getStructuredDocument().getLineOfOffset(root.getStartOffset()) + 1;
 			nodesToLineNumbers.put(clone, line);
 		}
-		NodeList rootChilds = root.getChildNodes();
-		NodeList cloneChilds = clone.getChildNodes();
-		for (int i = 0; i < rootChilds.getLength(); i++) {
-			calculateNodeLineNumbers((IDOMNode) rootChilds.item(i), (IDOMNode) cloneChilds.item(i),
-					nodesToLineNumbers);
+		// pair up element children only, as the whitespace of an incrementally updated clone may differ
+		List<IDOMNode> rootChilds = getElementChildren(root);
+		List<IDOMNode> cloneChilds = getElementChildren(clone);
+		for (int i = 0; i < rootChilds.size() && i < cloneChilds.size(); i++) {
+			calculateNodeLineNumbers(rootChilds.get(i), cloneChilds.get(i), nodesToLineNumbers);
 		}
 	}
 
+	private static List<IDOMNode> getElementChildren(IDOMNode node) {
+		List<IDOMNode> elements = new ArrayList<IDOMNode>();
+		NodeList children = node.getChildNodes();
+		for (int i = 0; i < children.getLength(); i++) {
+			if (children.item(i).getNodeType() == Node.ELEMENT_NODE) {
+				elements.add((IDOMNode) children.item(i));
+			}
+		}
+		return elements;
+	}
+
 	public static boolean isVersion1Flow(IWebflowModelElement element) {
 		IStructuredModel model = null;
 		try {
@@ -0,0 +1,425 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Pivotal Software, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal Software, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.webflow.core.internal.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.wst.xml.core.internal.provisional.document.IDOMNode;
+import org.springframework.ide.eclipse.webflow.core.model.IDecisionState;
+import org.springframework.ide.eclipse.webflow.core.model.IIf;
+import org.springframework.ide.eclipse.webflow.core.model.IInlineFlowState;
+import org.springframework.ide.eclipse.webflow.core.model.IState;
+import org.springframework.ide.eclipse.webflow.core.model.ITransition;
+import org.springframework.ide.eclipse.webflow.core.model.ITransitionableFrom;
+import org.springframework.ide.eclipse.webflow.core.model.ITransitionableTo;
+import org.springframework.ide.eclipse.webflow.core.model.IWebflowModelElement;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Updates an existing {@link WebflowState} tree to a changed flow definition, re-creating only the states and inline
+ * flows whose XML has changed instead of the whole tree.
+ * <p>
+ * The top-level elements of the flow are compared with the ones of the new definition. Unchanged states keep their
+ * model elements and DOM nodes, changed states are initialized again in place, and added and removed states are
+ * added to and removed from the tree. Listeners receive a {@link IWebflowModelElement#REMOVE_CHILDREN} or
+ * {@link IWebflowModelElement#ADD_CHILDREN} event from the flow for every removed or added state, and a
+ * {@link IWebflowModelElement#MOVE_CHILDREN} and a {@link IWebflowModelElement#PROPS} event from every changed
+ * state; the former makes the edit parts of the state refresh the children that it re-created. Transitions to and
+ * from the affected states are reconnected and announced with {@link IWebflowModelElement#INPUTS} and
+ * {@link IWebflowModelElement#OUTPUTS} events. Whitespace between elements is not taken into account.
+ * <p>
+ * Changes to anything but states and inline flows, as well as reordered states, can't be applied incrementally; the
+ * caller needs to re-create the tree for those.
+ * @author agent
+ * @since 3.9.8
+ */
+@SuppressWarnings("restriction")
+public class WebflowStateUpdater {
+
+	private static final Set<String> STATE_ELEMENTS = new HashSet<String>();
+
+	static {
+		STATE_ELEMENTS.add("action-state");
+		STATE_ELEMENTS.add("view-state");
+		STATE_ELEMENTS.add("decision-state");
+		STATE_ELEMENTS.add("end-state");
+		STATE_ELEMENTS.add("subflow-state");
+		STATE_ELEMENTS.add("inline-flow");
+	}
+
+	private final WebflowState webflowState;
+
+	private final IDOMNode newRoot;
+
+	private final List<IState> addedStates = new ArrayList<IState>();
+
+	private final List<IState> removedStates = new ArrayList<IState>();
+
+	private final List<IState> changedStates = new ArrayList<IState>();
+
+	private WebflowStateUpdater(WebflowState webflowState, IDOMNode newRoot) {
+		this.webflowState = webflowState;
+		this.newRoot = newRoot;
+	}
+
+	/**
+	 * Updates the given flow to the given root element of the changed flow definition.
+	 * @return <code>false</code> if the changes can't be applied incrementally; the flow is left untouched in that
+	 * case
+	 */
+	public static boolean update(WebflowState webflowState, IDOMNode newRoot) {
+		if (webflowState.getNode() == null || newRoot == null) {
+			return false;
+		}
+		if (webflowState.getNode() == newRoot) {
+			return true;
+		}
+		return new WebflowStateUpdater(webflowState, newRoot).update();
+	}
+
+	/**
+	 * Returns <code>true</code> if the given nodes have the same names, attributes and children, not taking
+	 * whitespace between elements into account.
+	 */
+	public static boolean isEquivalent(Node node, Node otherNode) {
+		if (node.getNodeType() != otherNode.getNodeType()
+				|| !ObjectUtils.nullSafeEquals(node.getNodeName(), otherNode.getNodeName())
+				|| !ObjectUtils.nullSafeEquals(node.getNamespaceURI(), otherNode.getNamespaceURI())) {
+			return false;
+		}
+		if (node.getNodeType() != Node.ELEMENT_NODE) {
+			return ObjectUtils.nullSafeEquals(node.getNodeValue(), otherNode.getNodeValue());
+		}
+		if (!hasEquivalentAttributes(node, otherNode)) {
+			return false;
+		}
+		List<Node> children = getSignificantChildren(node);
+		List<Node> otherChildren = getSignificantChildren(otherNode);
+		if (children.size() != otherChildren.size()) {
+			return false;
+		}
+		for (int i = 0; i < children.size(); i++) {
+			if (!isEquivalent(children.get(i), otherChildren.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean update() {
+		IDOMNode oldRoot = webflowState.getNode();
+		if (!ObjectUtils.nullSafeEquals(oldRoot.getNodeName(), newRoot.getNodeName())
+				|| !hasEquivalentAttributes(oldRoot, newRoot)) {
+			return false;
+		}
+
+		// index the existing states and inline flows
+		Map<String, IState> oldStates = new HashMap<String, IState>();
+		List<IState> oldOrder = new ArrayList<IState>();
+		oldOrder.addAll(webflowState.getStates());
+		oldOrder.addAll(webflowState.getInlineFlowStates());
+		for (IState state : oldOrder) {
+			if (state.getNode() == null || oldStates.put(getKey(state.getNode()), state) != null) {
+				return false;
+			}
+		}
+
+		// all other elements need to stay the same
+		List<Node> oldElements = new ArrayList<Node>();
+		for (Node child : getSignificantChildren(oldRoot)) {
+			if (!isState(child)) {
+				oldElements.add(child);
+			}
+		}
+
+		// match the children of the new definition
+		Document document = oldRoot.getOwnerDocument();
+		List<Node> newChildren = new ArrayList<Node>();
+		Map<Node, IState> matchedNodes = new IdentityHashMap<Node, IState>();
+		Map<IState, Node> changedNodes = new IdentityHashMap<IState, Node>();
+		Map<Node, String> addedNodes = new IdentityHashMap<Node, String>();
+		List<IState> matchedStates = new ArrayList<IState>();
+		Set<String> newKeys = new HashSet<String>();
+		int elementIndex = 0;
+		NodeList children = newRoot.getChildNodes();
+		for (int i = 0; i < children.getLength(); i++) {
+			Node child = children.item(i);
+			if (isState(child)) {
+				String key = getKey(child);
+				if (!newKeys.add(key)) {
+					return false;
+				}
+				IState oldState = oldStates.get(key);
+				if (oldState == null) {
+					Node node = importNode(document, child);
+					addedNodes.put(node, child.getLocalName());
+					newChildren.add(node);
+				}
+				else if (isEquivalent(oldState.getNode(), child)) {
+					matchedStates.add(oldState);
+					matchedNodes.put(oldState.getNode(), oldState);
+					newChildren.add(oldState.getNode());
+				}
+				else {
+					Node node = importNode(document, child);
+					matchedStates.add(oldState);
+					matchedNodes.put(node, oldState);
+					changedNodes.put(oldState, node);
+					newChildren.add(node);
+				}
+			}
+			else if (isSignificant(child)) {
+				if (elementIndex >= oldElements.size() || !isEquivalent(oldElements.get(elementIndex), child)) {
+					return false;
+				}
+				newChildren.add(oldElements.get(elementIndex++));
+			}
+			else {
+				newChildren.add(importNode(document, child));
+			}
+		}
+		if (elementIndex != oldElements.size()) {
+			return false;
+		}
+
+		// reordered states can't be patched
+		List<IState> remainingOrder = new ArrayList<IState>(oldOrder);
+		remainingOrder.retainAll(matchedStates);
+		List<IState> matchedStatesOrder = new ArrayList<IState>();
+		for (IState state : matchedStates) {
+			if (!(state instanceof IInlineFlowState)) {
+				matchedStatesOrder.add(state);
+			}
+		}
+		for (IState state : matchedStates) {
+			if (state instanceof IInlineFlowState) {
+				matchedStatesOrder.add(state);
+			}
+		}
+		if (!remainingOrder.equals(matchedStatesOrder)) {
+			return false;
+		}
+
+		// from here on the flow gets modified
+		for (IState state : oldOrder) {
+			if (!matchedStates.contains(state)) {
+				removedStates.add(state);
+			}
+		}
+		changedStates.addAll(changedNodes.keySet());
+
+		Set<ITransition> obsoleteTransitions = new HashSet<ITransition>();
+		for (IState state : removedStates) {
+			obsoleteTransitions.addAll(getOutgoingTransitions(state));
+		}
+		for (IState state : changedStates) {
+			obsoleteTransitions.addAll(getOutgoingTransitions(state));
+		}
+
+		// replace the DOM children of the flow
+		while (oldRoot.getFirstChild() != null) {
+			oldRoot.removeChild(oldRoot.getFirstChild());
+		}
+		for (Node child : newChildren) {
+			oldRoot.appendChild(child);
+		}
+
+		// update the model
+		List<IState> states = new ArrayList<IState>();
+		List<IInlineFlowState> inlineFlows = new ArrayList<IInlineFlowState>();
+		for (Node child : newChildren) {
+			IState state = null;
+			if (addedNodes.containsKey(child)) {
+				state = createState(addedNodes.get(child));
+				state.init((IDOMNode) child, webflowState);
+				addedStates.add(state);
+			}
+			else if (matchedNodes.containsKey(child)) {
+				state = matchedNodes.get(child);
+				if (changedNodes.containsKey(state)) {
+					state.init((IDOMNode) child, webflowState);
+				}
+			}
+			if (state instanceof IInlineFlowState) {
+				inlineFlows.add((IInlineFlowState) state);
+			}
+			else if (state != null) {
+				states.add(state);
+			}
+		}
+		webflowState.getStates().clear();
+		webflowState.getStates().addAll(states);
+		webflowState.getInlineFlowStates().clear();
+		webflowState.getInlineFlowStates().addAll(inlineFlows);
+
+		for (IState state : removedStates) {
+			webflowState.fireStructureChange(IWebflowModelElement.REMOVE_CHILDREN, state);
+		}
+		for (IState state : addedStates) {
+			webflowState.fireStructureChange(IWebflowModelElement.ADD_CHILDREN, state);
+		}
+		for (IState state : changedStates) {
+			state.fireStructureChange(IWebflowModelElement.MOVE_CHILDREN, state);
+			state.fireStructureChange(IWebflowModelElement.PROPS, state);
+		}
+
+		reconnectTransitions(obsoleteTransitions);
+		return true;
+	}
+
+	/**
+	 * Removes the transitions of removed and changed states from their targets and connects the transitions that
+	 * start at or lead to added, removed and changed states.
+	 */
+	private void reconnectTransitions(Set<ITransition> obsoleteTransitions) {
+		Set<String> affectedIds = new HashSet<String>();
+		for (IState state : removedStates) {
+			affectedIds.add(state.getId());
+		}
+		for (IState state : addedStates) {
+			affectedIds.add(state.getId());
+		}
+
+		List<ITransition> transitionsToConnect = new ArrayList<ITransition>();
+		for (IState state : webflowState.getStates()) {
+			if (state instanceof ITransitionableTo) {
+				for (ITransition transition : new ArrayList<ITransition>(((ITransitionableTo) state)
+						.getInputTransitions())) {
+					if (obsoleteTransitions.contains(transition)) {
+						((ITransitionableTo) state).removeInputTransition(transition);
+					}
+				}
+			}
+			if (addedStates.contains(state) || changedStates.contains(state)) {
+				transitionsToConnect.addAll(getOutgoingTransitions(state));
+			}
+			else {
+				for (ITransition transition : getOutgoingTransitions(state)) {
+					if (affectedIds.contains(transition.getToStateId())) {
+						if (transition instanceof Transition) {
+							((Transition) transition).resetToState();
+						}
+						transitionsToConnect.add(transition);
+					}
+				}
+			}
+		}
+
+		for (ITransition transition : transitionsToConnect) {
+			ITransitionableTo target = transition.getToState();
+			if (target != null && !target.getInputTransitions().contains(transition)) {
+				target.addInputTransition(transition);
+			}
+			((IWebflowModelElement) transition.getElementParent()).fireStructureChange(
+					IWebflowModelElement.OUTPUTS, transition);
+		}
+	}
+
+	private static List<ITransition> getOutgoingTransitions(IState state) {
+		List<ITransition> transitions = new ArrayList<ITransition>();
+		if (state instanceof ITransitionableFrom) {
+			transitions.addAll(((ITransitionableFrom) state).getOutputTransitions());
+		}
+		if (state instanceof IDecisionState) {
+			for (IIf i : ((IDecisionState) state).getIfs()) {
+				if (i.getThenTransition() != null) {
+					transitions.add(i.getThenTransition());
+				}
+				if (i.getElseTransition() != null) {
+					transitions.add(i.getElseTransition());
+				}
+			}
+		}
+		return transitions;
+	}
+
+	private static IState createState(String localName) {
+		if ("action-state".equals(localName)) {
+			return new ActionState();
+		}
+		else if ("view-state".equals(localName)) {
+			return new ViewState();
+		}
+		else if ("decision-state".equals(localName)) {
+			return new DecisionState();
+		}
+		else if ("end-state".equals(localName)) {
+			return new EndState();
+		}
+		else if ("subflow-state".equals(localName)) {
+			return new SubflowState();
+		}
+		return new InlineFlowState();
+	}
+
+	private static boolean isState(Node node) {
+		return node.getNodeType() == Node.ELEMENT_NODE && STATE_ELEMENTS.contains(node.getLocalName());
+	}
+
+	private static String getKey(Node node) {
+		String id = (node.getAttributes() != null && node.getAttributes().getNamedItem("id") != null ? node
+				.getAttributes().getNamedItem("id").getNodeValue() : null);
+		return node.getLocalName() + '#' + id;
+	}
+
+	private static Node importNode(Document document, Node node) {
+		if (node.getOwnerDocument() == document) {
+			return node.cloneNode(true);
+		}
+		return document.importNode(node, true);
+	}
+
+	private static boolean isSignificant(Node node) {
+		return node.getNodeType() != Node.TEXT_NODE || StringUtils.hasText(node.getNodeValue());
+	}
+
+	private static List<Node> getSignificantChildren(Node node) {
+		List<Node> children = new ArrayList<Node>();
+		NodeList childNodes = node.getChildNodes();
+		for (int i = 0; i < childNodes.getLength(); i++) {
+			if (isSignificant(childNodes.item(i))) {
+				children.add(childNodes.item(i));
+			}
+		}
+		return children;
+	}
+
+	private static boolean hasEquivalentAttributes(Node node, Node otherNode) {
+		NamedNodeMap attributes = node.getAttributes();
+		NamedNodeMap otherAttributes = otherNode.getAttributes();
+		int length = (attributes != null ? attributes.getLength() : 0);
+		int otherLength = (otherAttributes != null ? otherAttributes.getLength() : 0);
+		if (length != otherLength) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			Node attribute = attributes.item(i);
+			Node otherAttribute = otherAttributes.getNamedItem(attribute.getNodeName());
+			if (otherAttribute == null
+					|| !ObjectUtils.nullSafeEquals(attribute.getNodeValue(), otherAttribute.getNodeValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
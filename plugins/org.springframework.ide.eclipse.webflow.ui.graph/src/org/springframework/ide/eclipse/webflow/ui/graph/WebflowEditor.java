@@ -95,6 +95,7 @@ import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowConfig
 import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowModelUtils;
 import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowModelXmlUtils;
 import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowState;
+import org.springframework.ide.eclipse.webflow.core.internal.model.WebflowStateUpdater;
 import org.springframework.ide.eclipse.webflow.core.model.IWebflowConfig;
 import org.springframework.ide.eclipse.webflow.core.model.IWebflowState;
 import org.springframework.ide.eclipse.webflow.ui.editor.Activator;
@@ -337,6 +338,10 @@ public class WebflowEditor extends GraphicalEditorWithFlyoutPalette implements
 					display.asyncExec(new Runnable() {
 
 						public void run() {
+							if (updateDiagram()) {
+								getCommandStack().flush();
+								return;
+							}
 							IWebflowConfig config = ((WebflowEditorInput) getEditorInput())
 									.getConfig();
 							setInput(new WebflowEditorInput(config));
@@ -559,7 +564,8 @@ public class WebflowEditor extends GraphicalEditorWithFlyoutPalette implements
 			// reattach root node from document
 			IDOMDocument document = ((DOMModelImpl) model).getDocument();
 			Node root = document.getDocumentElement();
-			document.replaceChild(diagram.getNode(), root);
+			// keep the diagram on its own copy, so that it can be updated incrementally afterwards
+			document.replaceChild(diagram.getNode().cloneNode(true), root);
 
 			formatElement(monitor);
 			model.changedModel();
@@ -789,6 +795,22 @@ public class WebflowEditor extends GraphicalEditorWithFlyoutPalette implements
 		}
 	}
 
+	/**
+	 * Updates the diagram to the current content of the file, re-creating only the states that have changed.
+	 * @return <code>false</code> if the diagram needs to be re-created instead
+	 */
+	private boolean updateDiagram() {
+		if (model == null || !(diagram instanceof WebflowState)) {
+			return false;
+		}
+		IDOMNode root = (IDOMNode) ((DOMModelImpl) model).getDocument().getDocumentElement();
+		if (!WebflowStateUpdater.update((WebflowState) diagram, root)) {
+			return false;
+		}
+		((WebflowEditorInput) getEditorInput()).initLineNumbers(root, diagram.getNode());
+		return true;
+	}
+
 	private void setSavePreviouslyNeeded(boolean value) {
 		savePreviouslyNeeded = value;
 	}
@@ -10,7 +10,9 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.webflow.ui.graph.parts;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,9 +23,16 @@ import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.graph.CompoundDirectedGraph;
 import org.eclipse.draw2d.graph.CompoundDirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+import org.eclipse.draw2d.graph.Subgraph;
 
 /**
+ * Lays out the states of a flow with a {@link CompoundDirectedGraphLayout}. The results of the last layout are reused
+ * as long as the nodes and edges contributed by the edit parts don't change, as the figures get laid out again on
+ * every revalidation.
  * @author Christian Dupuis
+ * @author agent
  * @since 2.0 
  */
 class GraphLayoutManager extends AbstractLayout {
@@ -33,6 +42,16 @@ class GraphLayoutManager extends AbstractLayout {
      */
     private FlowPart diagram;
 
+    /**
+     * Nodes and edges of the graph that has been laid out last, see {@link #getSignature(CompoundDirectedGraph)}
+     */
+    private List<Object> lastSignature;
+
+    /**
+     * x, y, width and height per node of the graph that has been laid out last
+     */
+    private int[][] lastResults;
+
     /**
      * 
      * 
@@ -71,8 +90,64 @@ class GraphLayoutManager extends AbstractLayout {
         Map partsToNodes = new HashMap();
         diagram.contributeNodesToGraph(graph, null, partsToNodes);
         diagram.contributeEdgesToGraph(graph, partsToNodes);
-        new CompoundDirectedGraphLayout().visit(graph);
+
+        List<Object> signature = getSignature(graph);
+        if (signature.equals(lastSignature)) {
+            for (int i = 0; i < graph.nodes.size(); i++) {
+                Node node = graph.nodes.getNode(i);
+                int[] result = lastResults[i];
+                node.x = result[0];
+                node.y = result[1];
+                node.width = result[2];
+                node.height = result[3];
+            }
+        }
+        else {
+            new CompoundDirectedGraphLayout().visit(graph);
+            lastResults = new int[graph.nodes.size()][];
+            for (int i = 0; i < graph.nodes.size(); i++) {
+                Node node = graph.nodes.getNode(i);
+                lastResults[i] = new int[] { node.x, node.y, node.width, node.height };
+            }
+            lastSignature = signature;
+        }
         diagram.applyGraphResults(graph, partsToNodes);
     }
 
+    /**
+     * Returns everything the layout of the given graph depends on, with the contributing edit parts compared by
+     * identity.
+     */
+    private List<Object> getSignature(CompoundDirectedGraph graph) {
+        List<Object> signature = new ArrayList<Object>();
+        Map<Node, Integer> indexes = new IdentityHashMap<Node, Integer>();
+        for (int i = 0; i < graph.nodes.size(); i++) {
+            indexes.put(graph.nodes.getNode(i), i);
+        }
+        for (int i = 0; i < graph.nodes.size(); i++) {
+            Node node = graph.nodes.getNode(i);
+            signature.add(node.data);
+            signature.add(node.getParent() != null ? indexes.get(node.getParent()) : null);
+            signature.add(node.width);
+            signature.add(node.height);
+            signature.add(node.getRowConstraint());
+            signature.add(node.getPadding());
+            signature.add(node.incomingOffset);
+            signature.add(node.outgoingOffset);
+            if (node instanceof Subgraph) {
+                signature.add(((Subgraph) node).insets);
+                signature.add(((Subgraph) node).innerPadding);
+            }
+        }
+        for (int i = 0; i < graph.edges.size(); i++) {
+            Edge edge = graph.edges.getEdge(i);
+            signature.add(edge.data);
+            signature.add(indexes.get(edge.source));
+            signature.add(indexes.get(edge.target));
+            signature.add(edge.weight);
+            signature.add(edge.delta);
+        }
+        return signature;
+    }
+
 }